@@ -8,11 +8,15 @@
 package io.camunda.configuration;
 
 import static io.camunda.zeebe.broker.exporter.stream.ExporterDirectorContext.DEFAULT_DISTRIBUTION_INTERVAL;
+import static io.camunda.zeebe.broker.exporter.stream.ExporterDirectorContext.DEFAULT_EXPORT_BATCH_MAX_BYTES;
+import static io.camunda.zeebe.broker.exporter.stream.ExporterDirectorContext.DEFAULT_EXPORT_BATCH_MAX_DURATION;
+import static io.camunda.zeebe.broker.exporter.stream.ExporterDirectorContext.DEFAULT_EXPORT_BATCH_SIZE;
 
 import io.camunda.configuration.UnifiedConfigurationHelper.BackwardsCompatibilityMode;
 import java.time.Duration;
 import java.util.Set;
 import org.springframework.core.ResolvableType;
+import org.springframework.util.unit.DataSize;
 
 public class Export {
   private static final String PREFIX = "camunda.data.export";
@@ -20,6 +24,14 @@ public class Export {
       Set.of("zeebe.broker.exporting.distributionInterval");
   private static final Set<String> LEGACY_SKIP_RECORDS_PROPERTIES =
       Set.of("zeebe.broker.exporting.skipRecords");
+  private static final Set<String> LEGACY_BATCH_SIZE_PROPERTIES =
+      Set.of("zeebe.broker.exporting.batchSize");
+  private static final Set<String> LEGACY_BATCH_MAX_BYTES_PROPERTIES =
+      Set.of("zeebe.broker.exporting.batchMaxBytes");
+  private static final Set<String> LEGACY_BATCH_MAX_DURATION_PROPERTIES =
+      Set.of("zeebe.broker.exporting.batchMaxDuration");
+  private static final Set<String> LEGACY_INDEPENDENT_EXPORTERS_PROPERTIES =
+      Set.of("zeebe.broker.exporting.independentExporters");
 
   /**
    * Configures the rate at which exporter positions are distributed to the followers. This is
@@ -38,6 +50,29 @@ public class Export {
    */
   private Set<Long> skipRecords = Set.of();
 
+  /**
+   * The maximum number of records which are read from the log and passed to the exporters in one
+   * go. With the default of 1, every record is exported on its own. Exporters which implement the
+   * BatchExporter interface receive the whole batch in a single call.
+   */
+  private int batchSize = DEFAULT_EXPORT_BATCH_SIZE;
+
+  /** The maximum size of a batch of records to export. Only used if the batch size is above 1. */
+  private DataSize batchMaxBytes = DataSize.ofBytes(DEFAULT_EXPORT_BATCH_MAX_BYTES);
+
+  /**
+   * The maximum time spent reading a batch of records to export, before the batch is passed to the
+   * exporters. Only used if the batch size is above 1.
+   */
+  private Duration batchMaxDuration = DEFAULT_EXPORT_BATCH_MAX_DURATION;
+
+  /**
+   * When enabled, every exporter reads the log with its own reader and runs at its own pace, so a
+   * slow exporter does not hold back the others. The log is still only compacted up to the lowest
+   * position exported by all exporters.
+   */
+  private boolean independentExporters = false;
+
   public Duration getDistributionInterval() {
     return UnifiedConfigurationHelper.validateLegacyConfiguration(
         PREFIX + ".distribution-interval",
@@ -63,4 +98,56 @@ public class Export {
   public void setSkipRecords(final Set<Long> skipRecords) {
     this.skipRecords = skipRecords;
   }
+
+  public int getBatchSize() {
+    return UnifiedConfigurationHelper.validateLegacyConfiguration(
+        PREFIX + ".batch-size",
+        batchSize,
+        Integer.class,
+        BackwardsCompatibilityMode.SUPPORTED,
+        LEGACY_BATCH_SIZE_PROPERTIES);
+  }
+
+  public void setBatchSize(final int batchSize) {
+    this.batchSize = batchSize;
+  }
+
+  public DataSize getBatchMaxBytes() {
+    return UnifiedConfigurationHelper.validateLegacyConfiguration(
+        PREFIX + ".batch-max-bytes",
+        batchMaxBytes,
+        DataSize.class,
+        BackwardsCompatibilityMode.SUPPORTED,
+        LEGACY_BATCH_MAX_BYTES_PROPERTIES);
+  }
+
+  public void setBatchMaxBytes(final DataSize batchMaxBytes) {
+    this.batchMaxBytes = batchMaxBytes;
+  }
+
+  public Duration getBatchMaxDuration() {
+    return UnifiedConfigurationHelper.validateLegacyConfiguration(
+        PREFIX + ".batch-max-duration",
+        batchMaxDuration,
+        Duration.class,
+        BackwardsCompatibilityMode.SUPPORTED,
+        LEGACY_BATCH_MAX_DURATION_PROPERTIES);
+  }
+
+  public void setBatchMaxDuration(final Duration batchMaxDuration) {
+    this.batchMaxDuration = batchMaxDuration;
+  }
+
+  public boolean isIndependentExporters() {
+    return UnifiedConfigurationHelper.validateLegacyConfiguration(
+        PREFIX + ".independent-exporters",
+        independentExporters,
+        Boolean.class,
+        BackwardsCompatibilityMode.SUPPORTED,
+        LEGACY_INDEPENDENT_EXPORTERS_PROPERTIES);
+  }
+
+  public void setIndependentExporters(final boolean independentExporters) {
+    this.independentExporters = independentExporters;
+  }
 }
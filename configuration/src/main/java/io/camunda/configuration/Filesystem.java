@@ -14,15 +14,29 @@ import java.util.Set;
 public class Filesystem {
   private static final String PREFIX = "camunda.data.primary-storage.backup.filesystem";
   private static final Set<Set<String>> LEGACY_BASE_PATH_PROPERTIES = new LinkedHashSet<>(2);
+  private static final Set<Set<String>> LEGACY_CONTENT_ADDRESSED_PROPERTIES =
+      new LinkedHashSet<>(1);
 
   static {
     LEGACY_BASE_PATH_PROPERTIES.add(Set.of("zeebe.broker.data.backup.filesystem.basePath"));
     LEGACY_BASE_PATH_PROPERTIES.add(Set.of("camunda.data.backup.filesystem.base-path"));
+
+    LEGACY_CONTENT_ADDRESSED_PROPERTIES.add(
+        Set.of("zeebe.broker.data.backup.filesystem.contentAddressed"));
   }
 
   /** Set the base path to store all related backup files in. */
   private String basePath;
 
+  /**
+   * Set to true to store files which are part of several backups of a partition only once, e.g.
+   * the unchanged files of consecutive snapshots. Reduces the required storage space and the time
+   * to take a backup, at the cost of computing a checksum of every file. Backups taken with either
+   * setting can always be restored and deleted. Brokers sharing the base path coordinate through
+   * file locks, so the filesystem must support them, e.g. NFS requires a lock manager.
+   */
+  private boolean contentAddressed = false;
+
   public String getBasePath() {
     return UnifiedConfigurationHelper.validateLegacyConfigurationWithOrdering(
         PREFIX + ".base-path",
@@ -35,4 +49,17 @@ public class Filesystem {
   public void setBasePath(final String basePath) {
     this.basePath = basePath;
   }
+
+  public boolean isContentAddressed() {
+    return UnifiedConfigurationHelper.validateLegacyConfigurationWithOrdering(
+        PREFIX + ".content-addressed",
+        contentAddressed,
+        Boolean.class,
+        BackwardsCompatibilityMode.SUPPORTED,
+        LEGACY_CONTENT_ADDRESSED_PROPERTIES);
+  }
+
+  public void setContentAddressed(final boolean contentAddressed) {
+    this.contentAddressed = contentAddressed;
+  }
 }
@@ -105,6 +105,14 @@ public class Processing {
    */
   private Set<Long> skipPositions;
 
+  /**
+   * Configures the number of helper threads which decode the events ahead of the replay, while the
+   * replay applies the events which are decoded already. The events are still applied in log order.
+   * This speeds up the replay after a restart or fail-over when many events follow the snapshot. By
+   * default, this is 0, which decodes the events on the stream processor itself.
+   */
+  private int replayDecoderThreads = 0;
+
   /**
    * Configures if the basic operations on RocksDB, such as inserting or deleting key-value pairs,
    * should check preconditions, for example that a key does not already exist when inserting.
@@ -219,6 +227,14 @@ public class Processing {
     this.skipPositions = skipPositions;
   }
 
+  public int getReplayDecoderThreads() {
+    return replayDecoderThreads;
+  }
+
+  public void setReplayDecoderThreads(final int replayDecoderThreads) {
+    this.replayDecoderThreads = replayDecoderThreads;
+  }
+
   public Engine getEngine() {
     return engine;
   }
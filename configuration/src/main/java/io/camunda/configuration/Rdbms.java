@@ -29,6 +29,20 @@ public class Rdbms extends SecondaryStorageDatabase<RdbmsHistory> {
    */
   private Integer queueMemoryLimit = RdbmsWriterConfig.DEFAULT_QUEUE_MEMORY_LIMIT;
 
+  /**
+   * If true, consecutive inserts of the same kind are combined into multi-row insert statements
+   * when the exporters execution queue is flushed. This reduces the number of round-trips to the
+   * database. The number of rows per statement is limited depending on the database vendor.
+   */
+  private Boolean insertBatchingEnabled = RdbmsWriterConfig.DEFAULT_INSERT_BATCHING_ENABLED;
+
+  /**
+   * If true, the exporters execution queue is committed to the database on a dedicated thread,
+   * while the exporter continues to collect the next records. The exported position is only
+   * acknowledged once the commit succeeded. This hides the commit latency of remote databases.
+   */
+  private Boolean asyncFlushEnabled = RdbmsWriterConfig.DEFAULT_ASYNC_FLUSH_ENABLED;
+
   /** Process definition cache configuration. Defines the size of the process definition cache. */
   private RdbmsCache processCache = new RdbmsCache();
 
@@ -89,6 +103,22 @@ public class Rdbms extends SecondaryStorageDatabase<RdbmsHistory> {
     this.queueMemoryLimit = queueMemoryLimit;
   }
 
+  public Boolean getInsertBatchingEnabled() {
+    return insertBatchingEnabled;
+  }
+
+  public void setInsertBatchingEnabled(final Boolean insertBatchingEnabled) {
+    this.insertBatchingEnabled = insertBatchingEnabled;
+  }
+
+  public Boolean getAsyncFlushEnabled() {
+    return asyncFlushEnabled;
+  }
+
+  public void setAsyncFlushEnabled(final Boolean asyncFlushEnabled) {
+    this.asyncFlushEnabled = asyncFlushEnabled;
+  }
+
   public RdbmsCache getProcessCache() {
     return processCache;
   }
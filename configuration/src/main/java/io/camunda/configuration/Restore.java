@@ -23,6 +23,16 @@ public class Restore {
   private boolean validateConfig = true;
   private List<String> ignoreFilesInTarget = List.of("lost+found");
 
+  /**
+   * The maximum number of backups of a partition which are downloaded concurrently when restoring
+   * from multiple backups. Each downloaded backup is restored while the following ones are still
+   * being downloaded. A downloaded backup is kept in the partition's data directory until it is
+   * restored, so this requires disk space for up to this many backups per partition in addition to
+   * the restored data. A download is only started next to others if the disk has enough usable
+   * space for it.
+   */
+  private int concurrentDownloads = 4;
+
   public boolean isValidateConfig() {
     return UnifiedConfigurationHelper.validateLegacyConfiguration(
         PREFIX + ".validate-config",
@@ -48,4 +58,12 @@ public class Restore {
   public void setIgnoreFilesInTarget(final List<String> ignoreFilesInTarget) {
     this.ignoreFilesInTarget = ignoreFilesInTarget;
   }
+
+  public int getConcurrentDownloads() {
+    return concurrentDownloads;
+  }
+
+  public void setConcurrentDownloads(final int concurrentDownloads) {
+    this.concurrentDownloads = concurrentDownloads;
+  }
 }
@@ -9,6 +9,8 @@ package io.camunda.configuration;
 
 import io.camunda.configuration.UnifiedConfigurationHelper.BackwardsCompatibilityMode;
 import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration.MemoryAllocationStrategy;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration.TransactionType;
+import java.util.List;
 import java.util.Properties;
 import java.util.Set;
 import org.springframework.boot.context.properties.NestedConfigurationProperty;
@@ -126,6 +128,45 @@ public class RocksDb {
    */
   private boolean sstPartitioningEnabled = true;
 
+  /**
+   * Names of the column families, e.g. ELEMENT_INSTANCE_KEY, VARIABLES, JOBS or JOB_STATES, whose
+   * recently read and written entries are kept in an in-memory overlay. Reading these entries again
+   * is then served from memory, instead of going through JNI into RocksDB. Empty by default, which
+   * disables the overlay.
+   */
+  private List<String> overlayColumnFamilies = List.of();
+
+  /**
+   * The max size of the keys and values kept in the overlay of each column family listed in
+   * overlayColumnFamilies. Once exceeded, the least recently used entries are evicted.
+   */
+  private DataSize overlayMaxSize = DataSize.ofMegabytes(32);
+
+  /**
+   * Configures how the writes of a state transaction are buffered until they are committed. With
+   * OPTIMISTIC, the default, RocksDB transactions track the written keys to detect conflicts on
+   * commit. With WRITE_BATCH, writes are buffered in an indexed write batch which is written to
+   * RocksDB at once on commit, without any per key tracking. This is safe as the state of a
+   * partition is only ever written by its stream processor.
+   */
+  private TransactionType transactionType = TransactionType.OPTIMISTIC;
+
+  /**
+   * Configures how many bytes of the key, following the column family prefix, are part of the
+   * prefix that the prefix bloom filters are built from. Iterations over a key range with at least
+   * that long a prefix, e.g. the children of an element instance, can then skip memtables and SST
+   * files without keys in that range. Set to 0 to only use the column family prefix.
+   */
+  private int prefixFilterKeyLength = 8;
+
+  /**
+   * Configures whether the column families of each tuning profile (queue-like, point lookup heavy
+   * and read mostly column families) are stored in a separate RocksDB column family, which is tuned
+   * for the profile's access pattern. Existing entries are moved to their RocksDB column family when
+   * the state is opened, so this can be changed at any time.
+   */
+  private boolean columnFamilyProfilesEnabled = false;
+
   public Properties getColumnFamilyOptions() {
     return columnFamilyOptions;
   }
@@ -259,6 +300,46 @@ public class RocksDb {
     this.sstPartitioningEnabled = sstPartitioningEnabled;
   }
 
+  public List<String> getOverlayColumnFamilies() {
+    return overlayColumnFamilies;
+  }
+
+  public void setOverlayColumnFamilies(final List<String> overlayColumnFamilies) {
+    this.overlayColumnFamilies = overlayColumnFamilies;
+  }
+
+  public DataSize getOverlayMaxSize() {
+    return overlayMaxSize;
+  }
+
+  public void setOverlayMaxSize(final DataSize overlayMaxSize) {
+    this.overlayMaxSize = overlayMaxSize;
+  }
+
+  public TransactionType getTransactionType() {
+    return transactionType;
+  }
+
+  public void setTransactionType(final TransactionType transactionType) {
+    this.transactionType = transactionType;
+  }
+
+  public int getPrefixFilterKeyLength() {
+    return prefixFilterKeyLength;
+  }
+
+  public void setPrefixFilterKeyLength(final int prefixFilterKeyLength) {
+    this.prefixFilterKeyLength = prefixFilterKeyLength;
+  }
+
+  public boolean isColumnFamilyProfilesEnabled() {
+    return columnFamilyProfilesEnabled;
+  }
+
+  public void setColumnFamilyProfilesEnabled(final boolean columnFamilyProfilesEnabled) {
+    this.columnFamilyProfilesEnabled = columnFamilyProfilesEnabled;
+  }
+
   @Override
   public String toString() {
     return "RocksDb{"
@@ -282,6 +363,16 @@ public class RocksDb {
         + walDisabled
         + ", sstPartitioningEnabled="
         + sstPartitioningEnabled
+        + ", overlayColumnFamilies="
+        + overlayColumnFamilies
+        + ", overlayMaxSize="
+        + overlayMaxSize
+        + ", transactionType="
+        + transactionType
+        + ", prefixFilterKeyLength="
+        + prefixFilterKeyLength
+        + ", columnFamilyProfilesEnabled="
+        + columnFamilyProfilesEnabled
         + '}';
   }
 
@@ -35,6 +35,33 @@ public class System {
    */
   private int ioThreadCount = 2;
 
+  /**
+   * Enables the locality aware scheduling of the CPU threads: threads steal work from the threads
+   * of their own locality group first, idle threads are woken up as soon as work queues up, and
+   * the CPU time of each actor is measured if the actor metrics are enabled.
+   */
+  private boolean localityAwareScheduling = false;
+
+  /**
+   * The number of CPU threads per locality group, for example the number of CPU threads per CPU
+   * socket. The default of 0 puts all CPU threads into a single group. Only used with locality
+   * aware scheduling.
+   */
+  private int localityGroupSize = 0;
+
+  /**
+   * Runs the IO bound actors, e.g. the exporters and the snapshot store, on virtual threads
+   * instead of on the fixed pool of IO threads, such that an actor which blocks for a long time
+   * doesn't starve the others.
+   */
+  private boolean virtualIoThreads = false;
+
+  /**
+   * The maximum number of virtual threads which run the IO bound actors, if virtual threads are
+   * used. Threads are started on demand, whenever all threads are busy.
+   */
+  private int virtualIoThreadCount = 256;
+
   /**
    * Controls whether the system clock or mutable one. When enabled, time progression can be
    * controlled programmatically for testing purposes.
@@ -71,6 +98,38 @@ public class System {
     this.ioThreadCount = ioThreadCount;
   }
 
+  public boolean isLocalityAwareScheduling() {
+    return localityAwareScheduling;
+  }
+
+  public void setLocalityAwareScheduling(final boolean localityAwareScheduling) {
+    this.localityAwareScheduling = localityAwareScheduling;
+  }
+
+  public int getLocalityGroupSize() {
+    return localityGroupSize;
+  }
+
+  public void setLocalityGroupSize(final int localityGroupSize) {
+    this.localityGroupSize = localityGroupSize;
+  }
+
+  public boolean isVirtualIoThreads() {
+    return virtualIoThreads;
+  }
+
+  public void setVirtualIoThreads(final boolean virtualIoThreads) {
+    this.virtualIoThreads = virtualIoThreads;
+  }
+
+  public int getVirtualIoThreadCount() {
+    return virtualIoThreadCount;
+  }
+
+  public void setVirtualIoThreadCount(final int virtualIoThreadCount) {
+    this.virtualIoThreadCount = virtualIoThreadCount;
+  }
+
   public boolean getClockControlled() {
     return UnifiedConfigurationHelper.validateLegacyConfiguration(
         PREFIX + ".clock-controlled",
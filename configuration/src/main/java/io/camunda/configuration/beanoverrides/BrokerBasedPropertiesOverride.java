@@ -180,6 +180,7 @@ public class BrokerBasedPropertiesOverride {
         .getProcessing()
         .setScheduledTaskCheckInterval(processing.getScheduledTasksCheckInterval());
     override.getProcessing().setSkipPositions(processing.getSkipPositions());
+    override.getProcessing().setReplayDecoderThreads(processing.getReplayDecoderThreads());
 
     // consistency checks
     override
@@ -518,6 +519,10 @@ public class BrokerBasedPropertiesOverride {
         .getExperimental()
         .getRaft()
         .setSegmentPreallocationStrategy(raft.getSegmentPreallocationStrategy());
+    override.getExperimental().getRaft().setPrimitiveJournalIndex(raft.isPrimitiveJournalIndex());
+    override.getExperimental().getRaft().setPersistSegmentIndex(raft.isPersistSegmentIndex());
+    override.getExperimental().getRaft().setReaderPrefetchSize(raft.getReaderPrefetchSize());
+    override.getExperimental().getRaft().setGroupCommitWindow(raft.getGroupCommitWindow());
   }
 
   private void populateFromClusterMetadata(final BrokerBasedProperties override) {
@@ -607,6 +612,10 @@ public class BrokerBasedPropertiesOverride {
     final var threadsCfg = new ThreadsCfg();
     threadsCfg.setCpuThreadCount(system.getCpuThreadCount());
     threadsCfg.setIoThreadCount(system.getIoThreadCount());
+    threadsCfg.setEnableLocalityAwareScheduling(system.isLocalityAwareScheduling());
+    threadsCfg.setLocalityGroupSize(system.getLocalityGroupSize());
+    threadsCfg.setEnableVirtualIoThreads(system.isVirtualIoThreads());
+    threadsCfg.setVirtualIoThreadCount(system.getVirtualIoThreadCount());
     override.setThreads(threadsCfg);
 
     final var enableVersionCheck =
@@ -625,7 +634,13 @@ public class BrokerBasedPropertiesOverride {
   private void populateFromExport(final BrokerBasedProperties override) {
     final Export export = unifiedConfiguration.getCamunda().getData().getExport();
     final var exportingCfg =
-        new ExportingCfg(export.getSkipRecords(), export.getDistributionInterval());
+        new ExportingCfg(
+            export.getSkipRecords(),
+            export.getDistributionInterval(),
+            export.getBatchSize(),
+            export.getBatchMaxBytes(),
+            export.getBatchMaxDuration(),
+            export.isIndependentExporters());
     override.setExporting(exportingCfg);
   }
 
@@ -713,6 +728,11 @@ public class BrokerBasedPropertiesOverride {
     brokerRocksDb.setIoRateBytesPerSecond(unifiedRocksDb.getIoRateBytesPerSecond());
     brokerRocksDb.setDisableWal(unifiedRocksDb.isWalDisabled());
     brokerRocksDb.setEnableSstPartitioning(unifiedRocksDb.isSstPartitioningEnabled());
+    brokerRocksDb.setOverlayColumnFamilies(unifiedRocksDb.getOverlayColumnFamilies());
+    brokerRocksDb.setOverlayMaxSize(unifiedRocksDb.getOverlayMaxSize());
+    brokerRocksDb.setTransactionType(unifiedRocksDb.getTransactionType());
+    brokerRocksDb.setPrefixFilterKeyLength(unifiedRocksDb.getPrefixFilterKeyLength());
+    brokerRocksDb.setEnableColumnFamilyProfiles(unifiedRocksDb.isColumnFamilyProfilesEnabled());
   }
 
   private void populateFromGcs(final BrokerBasedProperties override) {
@@ -770,6 +790,7 @@ public class BrokerBasedPropertiesOverride {
     final FilesystemBackupStoreConfig filesystemBackupStoreConfig =
         override.getData().getBackup().getFilesystem();
     filesystemBackupStoreConfig.setBasePath(filesystem.getBasePath());
+    filesystemBackupStoreConfig.setContentAddressed(filesystem.isContentAddressed());
 
     override.getData().getBackup().setFilesystem(filesystemBackupStoreConfig);
   }
@@ -958,6 +979,8 @@ public class BrokerBasedPropertiesOverride {
         exporter.getArgs() == null ? new LinkedHashMap<>() : exporter.getArgs();
     setArgIfNotNull(args, "queueSize", database.getQueueSize());
     setArgIfNotNull(args, "queueMemoryLimit", database.getQueueMemoryLimit());
+    setArgIfNotNull(args, "insertBatchingEnabled", database.getInsertBatchingEnabled());
+    setArgIfNotNull(args, "asyncFlushEnabled", database.getAsyncFlushEnabled());
     setArgIfNotNull(args, "flushInterval", database.getFlushInterval());
 
     if (database.getHistory() != null) {
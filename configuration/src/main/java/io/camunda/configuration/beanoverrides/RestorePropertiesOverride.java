@@ -31,6 +31,8 @@ public class RestorePropertiesOverride {
   public RestoreProperties restoreProperties() {
     final var restoreProps = unifiedConfiguration.getCamunda().getSystem().getRestore();
     return new RestoreProperties(
-        restoreProps.isValidateConfig(), restoreProps.getIgnoreFilesInTarget());
+        restoreProps.isValidateConfig(),
+        restoreProps.getIgnoreFilesInTarget(),
+        restoreProps.getConcurrentDownloads());
   }
 }
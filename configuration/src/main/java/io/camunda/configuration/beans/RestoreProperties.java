@@ -9,4 +9,5 @@ package io.camunda.configuration.beans;
 
 import java.util.List;
 
-public record RestoreProperties(boolean validateConfig, List<String> ignoreFilesInTarget) {}
+public record RestoreProperties(
+    boolean validateConfig, List<String> ignoreFilesInTarget, int concurrentDownloads) {}
@@ -42,12 +42,18 @@ public class DataBackupFilesystemTest {
       assertThat(brokerCfg.getData().getBackup().getFilesystem().getBasePath())
           .isEqualTo("basePathNew");
     }
+
+    @Test
+    void shouldNotBeContentAddressedByDefault() {
+      assertThat(brokerCfg.getData().getBackup().getFilesystem().isContentAddressed()).isFalse();
+    }
   }
 
   @Nested
   @TestPropertySource(
       properties = {
         "zeebe.broker.data.backup.filesystem.basePath=basePathLegacy",
+        "zeebe.broker.data.backup.filesystem.contentAddressed=true",
       })
   class WithOnlyLegacySet {
     final BrokerBasedProperties brokerCfg;
@@ -61,6 +67,11 @@ public class DataBackupFilesystemTest {
       assertThat(brokerCfg.getData().getBackup().getFilesystem().getBasePath())
           .isEqualTo("basePathLegacy");
     }
+
+    @Test
+    void shouldSetContentAddressed() {
+      assertThat(brokerCfg.getData().getBackup().getFilesystem().isContentAddressed()).isTrue();
+    }
   }
 
   @Nested
@@ -89,6 +100,7 @@ public class DataBackupFilesystemTest {
   @TestPropertySource(
       properties = {
         "camunda.data.primary-storage.backup.filesystem.base-path=basePathPrimaryStorage",
+        "camunda.data.primary-storage.backup.filesystem.content-addressed=true",
       })
   class WithOnlyPrimaryStorageConfigSet {
     final BrokerBasedProperties brokerCfg;
@@ -102,6 +114,11 @@ public class DataBackupFilesystemTest {
       assertThat(brokerCfg.getData().getBackup().getFilesystem().getBasePath())
           .isEqualTo("basePathPrimaryStorage");
     }
+
+    @Test
+    void shouldSetContentAddressed() {
+      assertThat(brokerCfg.getData().getBackup().getFilesystem().isContentAddressed()).isTrue();
+    }
   }
 
   @Nested
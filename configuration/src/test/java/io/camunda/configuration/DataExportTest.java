@@ -31,6 +31,8 @@ public class DataExportTest {
       properties = {
         "camunda.data.export.distribution-interval=1m",
         "camunda.data.export.skip-records=10,20",
+        "camunda.data.export.batch-size=100",
+        "camunda.data.export.independent-exporters=true",
       })
   class WithOnlyUnifiedConfigSet {
     final BrokerBasedProperties brokerCfg;
@@ -48,6 +50,16 @@ public class DataExportTest {
     void shouldSetSkipRecords() {
       assertThat(brokerCfg.getExporting().skipRecords()).contains(10L, 20L);
     }
+
+    @Test
+    void shouldSetBatchSize() {
+      assertThat(brokerCfg.getExporting().batchSize()).isEqualTo(100);
+    }
+
+    @Test
+    void shouldSetIndependentExporters() {
+      assertThat(brokerCfg.getExporting().independentExporters()).isTrue();
+    }
   }
 
   @Nested
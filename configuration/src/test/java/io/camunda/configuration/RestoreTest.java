@@ -30,7 +30,8 @@ public class RestoreTest {
   @TestPropertySource(
       properties = {
         "camunda.system.restore.validate-config=false",
-        "camunda.system.restore.ignore-files-in-target=file1,file2,file3"
+        "camunda.system.restore.ignore-files-in-target=file1,file2,file3",
+        "camunda.system.restore.concurrent-downloads=8"
       })
   class WithOnlyUnifiedConfigSet {
     final RestoreProperties restoreCfg;
@@ -48,6 +49,11 @@ public class RestoreTest {
     void shouldSetIgnoreFilesInTarget() {
       assertThat(restoreCfg.ignoreFilesInTarget()).containsExactly("file1", "file2", "file3");
     }
+
+    @Test
+    void shouldSetConcurrentDownloads() {
+      assertThat(restoreCfg.concurrentDownloads()).isEqualTo(8);
+    }
   }
 
   @Nested
@@ -72,6 +78,11 @@ public class RestoreTest {
     void shouldSetIgnoreFilesInTarget() {
       assertThat(restoreCfg.ignoreFilesInTarget()).containsExactly("legacyFile1", "legacyFile2");
     }
+
+    @Test
+    void shouldUseDefaultConcurrentDownloads() {
+      assertThat(restoreCfg.concurrentDownloads()).isEqualTo(4);
+    }
   }
 
   @Nested
@@ -35,6 +35,18 @@ public class VendorDatabaseProperties {
    */
   private static final String USER_CHAR_COLUMN_SIZE = "userCharColumn.size";
 
+  /**
+   * Optional property to specify the maximum number of rows of a multi-row insert statement. If not
+   * set, inserts are executed row by row.
+   */
+  private static final String INSERT_BATCH_MAX_ROWS = "insertBatch.maxRows";
+
+  /**
+   * Optional property to specify the maximum number of bind parameters of a single statement. This
+   * limits the number of rows of a multi-row insert statement, depending on its number of columns.
+   */
+  private static final String INSERT_BATCH_MAX_PARAMETERS = "insertBatch.maxParameters";
+
   private static final String DISABLE_FK_BEFORE_TRUNCATE = "disableFkBeforeTruncate";
 
   private final Properties properties;
@@ -44,6 +56,8 @@ public class VendorDatabaseProperties {
   private final Integer charColumnMaxBytes;
   private final int userCharColumnSize;
   private final int errorMessageSize;
+  private final int insertBatchMaxRows;
+  private final int insertBatchMaxParameters;
 
   public VendorDatabaseProperties(final Properties properties) {
     this.properties = properties;
@@ -71,6 +85,10 @@ public class VendorDatabaseProperties {
       charColumnMaxBytes = Integer.parseInt(properties.getProperty(CHAR_COLUMN_MAX_BYTES));
     }
 
+    insertBatchMaxRows = Integer.parseInt(properties.getProperty(INSERT_BATCH_MAX_ROWS, "1"));
+    insertBatchMaxParameters =
+        Integer.parseInt(properties.getProperty(INSERT_BATCH_MAX_PARAMETERS, "0"));
+
     if (!properties.containsKey(DISABLE_FK_BEFORE_TRUNCATE)) {
       throw new IllegalArgumentException(
           "Property '" + DISABLE_FK_BEFORE_TRUNCATE + "' is missing");
@@ -95,6 +113,14 @@ public class VendorDatabaseProperties {
     return charColumnMaxBytes;
   }
 
+  public int insertBatchMaxRows() {
+    return insertBatchMaxRows;
+  }
+
+  public int insertBatchMaxParameters() {
+    return insertBatchMaxParameters;
+  }
+
   public boolean disableFkBeforeTruncate() {
     return disableFkBeforeTruncate;
   }
@@ -18,6 +18,17 @@ public record RdbmsWriterConfig(
      * 0 or negative value means no memory limit (only count-based limit applies).
      */
     int queueMemoryLimit,
+    /*
+     * If true, consecutive inserts of the same statement are combined into multi-row insert
+     * statements when the execution queue is flushed, limited by the database vendor's batch insert
+     * size.
+     */
+    boolean insertBatchingEnabled,
+    /*
+     * If true, flushes of the execution queue are committed on a dedicated thread, while the queue
+     * already collects the next items. At most one flush is pending at a time.
+     */
+    boolean asyncFlushEnabled,
     /*
      * The number of batch operation items to insert in a single insert statement.
      */
@@ -33,6 +44,8 @@ public record RdbmsWriterConfig(
   public static final int DEFAULT_QUEUE_SIZE = 1000;
   // Default memory limit: 20MB - aligned with CamundaExporter's default
   public static final int DEFAULT_QUEUE_MEMORY_LIMIT = 20;
+  public static final boolean DEFAULT_INSERT_BATCHING_ENABLED = false;
+  public static final boolean DEFAULT_ASYNC_FLUSH_ENABLED = false;
   public static final int DEFAULT_BATCH_OPERATION_ITEM_INSERT_BLOCK_SIZE = 10000;
   public static final boolean DEFAULT_EXPORT_BATCH_OPERATION_ITEMS_ON_CREATION = true;
 
@@ -45,6 +58,8 @@ public record RdbmsWriterConfig(
     private int partitionId;
     private int queueSize = DEFAULT_QUEUE_SIZE;
     private int queueMemoryLimit = DEFAULT_QUEUE_MEMORY_LIMIT;
+    private boolean insertBatchingEnabled = DEFAULT_INSERT_BATCHING_ENABLED;
+    private boolean asyncFlushEnabled = DEFAULT_ASYNC_FLUSH_ENABLED;
     private int batchOperationItemInsertBlockSize = DEFAULT_BATCH_OPERATION_ITEM_INSERT_BLOCK_SIZE;
     private boolean exportBatchOperationItemsOnCreation =
         DEFAULT_EXPORT_BATCH_OPERATION_ITEMS_ON_CREATION;
@@ -65,6 +80,16 @@ public record RdbmsWriterConfig(
       return this;
     }
 
+    public Builder insertBatchingEnabled(final boolean insertBatchingEnabled) {
+      this.insertBatchingEnabled = insertBatchingEnabled;
+      return this;
+    }
+
+    public Builder asyncFlushEnabled(final boolean asyncFlushEnabled) {
+      this.asyncFlushEnabled = asyncFlushEnabled;
+      return this;
+    }
+
     public Builder batchOperationItemInsertBlockSize(final int batchOperationItemInsertBlockSize) {
       this.batchOperationItemInsertBlockSize = batchOperationItemInsertBlockSize;
       return this;
@@ -87,6 +112,8 @@ public record RdbmsWriterConfig(
           partitionId,
           queueSize,
           queueMemoryLimit,
+          insertBatchingEnabled,
+          asyncFlushEnabled,
           batchOperationItemInsertBlockSize,
           exportBatchOperationItemsOnCreation,
           history);
@@ -30,6 +30,8 @@ import io.camunda.db.rdbms.sql.VariableMapper;
 import io.camunda.db.rdbms.write.queue.DefaultExecutionQueue;
 import io.camunda.db.rdbms.write.service.ExporterPositionService;
 import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import org.apache.ibatis.session.SqlSessionFactory;
 
 public class RdbmsWriterFactory {
@@ -112,6 +114,9 @@ public class RdbmsWriterFactory {
             config.partitionId(),
             config.queueSize(),
             config.queueMemoryLimit(),
+            config.insertBatchingEnabled() ? vendorDatabaseProperties.insertBatchMaxRows() : 1,
+            vendorDatabaseProperties.insertBatchMaxParameters(),
+            config.asyncFlushEnabled() ? createFlushExecutor(config.partitionId()) : null,
             metrics);
     return new RdbmsWriters(
         config,
@@ -138,4 +143,9 @@ public class RdbmsWriterFactory {
         clusterVariableMapper,
         historyDeletionMapper);
   }
+
+  private static ExecutorService createFlushExecutor(final int partitionId) {
+    return Executors.newSingleThreadExecutor(
+        Thread.ofPlatform().name("rdbms-exporter-flush-" + partitionId).daemon().factory());
+  }
 }
@@ -0,0 +1,18 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.db.rdbms.write.queue;
+
+import java.util.List;
+
+/**
+ * Parameter of the multi-row insert statements. For an insert statement with the id {@code
+ * <statementId>}, the multi-row variant is registered as {@code
+ * <statementId>}{@value DefaultExecutionQueue#BATCH_INSERT_SUFFIX} and iterates over the {@code
+ * items}, which are the parameters of the single-row statement.
+ */
+public record BatchInsertDto(List<Object> items) {}
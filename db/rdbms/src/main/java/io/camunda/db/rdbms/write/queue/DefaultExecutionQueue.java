@@ -12,12 +12,17 @@ import io.camunda.db.rdbms.write.RdbmsWriterMetrics.FlushTrigger;
 import io.camunda.zeebe.util.ObjectSizeEstimator;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
-import java.util.Iterator;
-import java.util.LinkedList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import org.apache.ibatis.executor.BatchResult;
@@ -29,8 +34,15 @@ import org.slf4j.LoggerFactory;
 
 public class DefaultExecutionQueue implements ExecutionQueue {
 
+  /**
+   * Suffix of the multi-row variant of an insert statement, e.g. {@code
+   * FlowNodeInstanceMapper.insertBatch} for {@code FlowNodeInstanceMapper.insert}.
+   */
+  public static final String BATCH_INSERT_SUFFIX = "Batch";
+
   private static final Logger LOG = LoggerFactory.getLogger(DefaultExecutionQueue.class);
   private static final long BYTES_PER_MB = 1024L * 1024L;
+  private static final int INITIAL_INDEX_CAPACITY = 64;
   private static final Set<Pattern> IGNORE_EMPTY_UPDATES =
       Set.of(
           Pattern.compile(".*updateHistoryCleanupDate$"),
@@ -40,12 +52,27 @@ public class DefaultExecutionQueue implements ExecutionQueue {
   private final List<PreFlushListener> preFlushListeners = new ArrayList<>();
   private final List<PostFlushListener> postFlushListeners = new ArrayList<>();
 
-  private final LinkedList<QueueItem> queue = new LinkedList<>();
+  private final List<QueueItem> queue = new ArrayList<>();
+  // estimated size of every queue item, by position in the queue
+  private long[] queueItemSizes = new long[INITIAL_INDEX_CAPACITY];
+  // positions of the queue items with the same key in ascending order, used to find merge targets
+  private final Map<QueueItemKey, List<Integer>> queueIndex = new HashMap<>();
 
   private final long partitionId; // for addressing the logger
   private final int queueFlushLimit;
   private final long queueMemoryLimitBytes; // stored as bytes for comparison
 
+  private final int batchInsertMaxRows;
+  private final int batchInsertMaxParameters;
+  // number of rows per multi-row insert by statement id, 1 if the statement has no batch variant
+  private final Map<String, Integer> batchInsertSizes = new ConcurrentHashMap<>();
+
+  // executor committing the flushed items asynchronously, null if flushes are synchronous
+  private final Executor flushExecutor;
+  private CompletableFuture<Integer> pendingFlush;
+  // items of the pending flush, put back into the queue if the flush fails
+  private List<QueueItem> pendingFlushItems;
+
   private final RdbmsWriterMetrics metrics;
 
   // Track current memory consumption of the queue
@@ -57,11 +84,35 @@ public class DefaultExecutionQueue implements ExecutionQueue {
       final int queueFlushLimit,
       final int queueMemoryLimitMb,
       final RdbmsWriterMetrics metrics) {
+    this(sessionFactory, partitionId, queueFlushLimit, queueMemoryLimitMb, 1, 0, null, metrics);
+  }
+
+  /**
+   * @param batchInsertMaxRows the maximum number of rows of a multi-row insert statement.
+   *     Consecutive inserts of the same statement are only combined if this is greater than 1.
+   * @param batchInsertMaxParameters the maximum number of bind parameters of a multi-row insert
+   *     statement, as supported by the database vendor
+   * @param flushExecutor if not null, flushes are committed asynchronously on this executor while
+   *     the queue collects the next items, see {@link #flush()}. An {@link ExecutorService} is shut
+   *     down when the queue is closed.
+   */
+  public DefaultExecutionQueue(
+      final SqlSessionFactory sessionFactory,
+      final long partitionId,
+      final int queueFlushLimit,
+      final int queueMemoryLimitMb,
+      final int batchInsertMaxRows,
+      final int batchInsertMaxParameters,
+      final Executor flushExecutor,
+      final RdbmsWriterMetrics metrics) {
     this.sessionFactory = sessionFactory;
     this.partitionId = partitionId;
     this.queueFlushLimit = queueFlushLimit;
     // Convert MB to bytes for internal comparison
     queueMemoryLimitBytes = (long) queueMemoryLimitMb * BYTES_PER_MB;
+    this.batchInsertMaxRows = batchInsertMaxRows;
+    this.batchInsertMaxParameters = batchInsertMaxParameters;
+    this.flushExecutor = flushExecutor;
     this.metrics = metrics;
   }
 
@@ -73,15 +124,21 @@ public class DefaultExecutionQueue implements ExecutionQueue {
         metrics.startFlushLatencyMeasurement();
       }
 
-      queue.add(entry);
-      // Track memory consumption
-      final long entrySize = ObjectSizeEstimator.estimateSize(entry);
-      currentQueueMemoryBytes += entrySize;
-
+      addToQueue(entry);
       metrics.recordEnqueuedStatement(entry.statementId());
     }
   }
 
+  private void addToQueue(final QueueItem entry) {
+    final int position = queue.size();
+    queue.add(entry);
+    indexQueueItem(entry, position);
+    // Track memory consumption
+    final long entrySize = ObjectSizeEstimator.estimateSize(entry);
+    setQueueItemSize(position, entrySize);
+    currentQueueMemoryBytes += entrySize;
+  }
+
   @Override
   public void registerPreFlushListener(final PreFlushListener listener) {
     preFlushListeners.add(listener);
@@ -95,10 +152,21 @@ public class DefaultExecutionQueue implements ExecutionQueue {
   /**
    * Performs flush on the queue.
    *
+   * <p>If a flush executor is configured, the queued items are handed over to the executor to be
+   * committed, and the queue can take new items right away. Only one flush can be pending at a
+   * time: a further flush waits until the pending one is committed. The post flush listeners of a
+   * flush are called on the calling thread, once the commit succeeded and either the next flush or
+   * {@link #checkQueueForFlush()} is called. If the commit failed, its items are put back in front
+   * of the queue, such that they are retried with the next flush, and the error is rethrown.
+   *
    * @return number of flushed items
    */
   @Override
   public int flush() {
+    if (flushExecutor != null) {
+      return flushAsync();
+    }
+
     synchronized (queue) {
       if (queue.isEmpty()) {
         LOG.trace(
@@ -114,8 +182,6 @@ public class DefaultExecutionQueue implements ExecutionQueue {
         final int numFlushedElements = doFLush();
         metrics.stopFlushLatencyMeasurement();
         metrics.recordBulkSize(numFlushedElements);
-        // Reset memory tracking after flush
-        currentQueueMemoryBytes = 0;
 
         return numFlushedElements;
       } catch (final Exception e) {
@@ -127,36 +193,180 @@ public class DefaultExecutionQueue implements ExecutionQueue {
 
   /**
    * Iterate from end over the queue and try to find a last added compatible queueItem. The
-   * queueItem will be replaced with a new, combined queueItem.
+   * queueItem will be replaced with a new, combined queueItem. If the merger provides a {@link
+   * QueueItemMerger#key() key}, only the queue items with this key are checked.
    */
   @Override
   public boolean tryMergeWithExistingQueueItem(final QueueItemMerger merger) {
     synchronized (queue) {
-      int index = queue.size() - 1;
-      for (final Iterator<QueueItem> it = queue.descendingIterator(); it.hasNext(); ) {
-        final QueueItem item = it.next();
-
-        if (merger.canBeMerged(item)) {
-          LOG.trace("Merging new item with item {}, {}", item.contextType(), item.id());
-          final QueueItem oldItem = item;
-          final long oldSize = ObjectSizeEstimator.estimateSize(oldItem);
-          final QueueItem newItem = merger.merge(oldItem);
-          final long newSize = ObjectSizeEstimator.estimateSize(newItem);
-          queue.set(index, newItem);
-          currentQueueMemoryBytes = currentQueueMemoryBytes - oldSize + newSize;
-          metrics.recordMergedQueueItem(item.contextType(), item.statementId());
-          return true;
+      final var key = merger.key();
+      if (key.isPresent()) {
+        final List<Integer> positions = queueIndex.get(key.get());
+        if (positions == null) {
+          return false;
+        }
+
+        for (int i = positions.size() - 1; i >= 0; i--) {
+          final int position = positions.get(i);
+          if (merger.canBeMerged(queue.get(position))) {
+            mergeQueueItem(position, merger);
+            return true;
+          }
         }
 
-        index--;
+        return false;
+      }
+
+      for (int position = queue.size() - 1; position >= 0; position--) {
+        if (merger.canBeMerged(queue.get(position))) {
+          mergeQueueItem(position, merger);
+          return true;
+        }
       }
 
       return false;
     }
   }
 
+  private void mergeQueueItem(final int position, final QueueItemMerger merger) {
+    final QueueItem oldItem = queue.get(position);
+    LOG.trace("Merging new item with item {}, {}", oldItem.contextType(), oldItem.id());
+    final QueueItem newItem = merger.merge(oldItem);
+    final long newSize = ObjectSizeEstimator.estimateSize(newItem);
+    queue.set(position, newItem);
+
+    final var oldKey = QueueItemKey.of(oldItem);
+    final var newKey = QueueItemKey.of(newItem);
+    if (!oldKey.equals(newKey)) {
+      final List<Integer> oldPositions = queueIndex.get(oldKey);
+      oldPositions.remove(Integer.valueOf(position));
+      if (oldPositions.isEmpty()) {
+        queueIndex.remove(oldKey);
+      }
+      final List<Integer> newPositions =
+          queueIndex.computeIfAbsent(newKey, k -> new ArrayList<>(1));
+      final int insertionPoint = Collections.binarySearch(newPositions, position);
+      newPositions.add(-insertionPoint - 1, position);
+    }
+
+    currentQueueMemoryBytes = currentQueueMemoryBytes - queueItemSizes[position] + newSize;
+    queueItemSizes[position] = newSize;
+    metrics.recordMergedQueueItem(oldItem.contextType(), oldItem.statementId());
+  }
+
+  private void indexQueueItem(final QueueItem item, final int position) {
+    queueIndex.computeIfAbsent(QueueItemKey.of(item), k -> new ArrayList<>(1)).add(position);
+  }
+
+  private void setQueueItemSize(final int position, final long size) {
+    if (position >= queueItemSizes.length) {
+      queueItemSizes = Arrays.copyOf(queueItemSizes, queueItemSizes.length * 2);
+    }
+    queueItemSizes[position] = size;
+  }
+
+  private void clearQueue() {
+    queue.clear();
+    queueIndex.clear();
+    currentQueueMemoryBytes = 0;
+  }
+
+  private int flushAsync() {
+    // both buffers are full, wait for the pending flush before the next one can start
+    awaitPendingFlush();
+
+    synchronized (queue) {
+      if (queue.isEmpty()) {
+        LOG.trace(
+            "[RDBMS ExecutionQueue, Partition {}] Skip Flushing because execution queue is empty",
+            partitionId);
+        return 0;
+      }
+
+      LOG.trace("[RDBMS ExecutionQueue, Partition {}] flushing queue asynchronously", partitionId);
+      callPreFlushListeners();
+      metrics.recordQueueMemoryUsage(currentQueueMemoryBytes);
+      final List<QueueItem> items = new ArrayList<>(queue);
+      clearQueue();
+      metrics.stopFlushLatencyMeasurement();
+      metrics.recordBulkSize(items.size());
+
+      pendingFlushItems = items;
+      pendingFlush =
+          CompletableFuture.supplyAsync(
+              () -> {
+                try (final var ignored = metrics.measureFlushDuration()) {
+                  return executeStatements(items);
+                } catch (final Exception e) {
+                  metrics.recordFailedFlush();
+                  throw e;
+                }
+              },
+              flushExecutor);
+      return items.size();
+    }
+  }
+
+  @Override
+  public void close() {
+    try {
+      awaitPendingFlush();
+    } finally {
+      if (flushExecutor instanceof final ExecutorService executorService) {
+        executorService.shutdown();
+      }
+    }
+  }
+
+  /**
+   * Waits until the pending asynchronous flush is committed and calls the post flush listeners. If
+   * the flush failed, its items are put back in front of the queue, its exception is rethrown and
+   * the post flush listeners are not called.
+   */
+  private void awaitPendingFlush() {
+    if (pendingFlush == null) {
+      return;
+    }
+
+    final var flush = pendingFlush;
+    final var items = pendingFlushItems;
+    pendingFlush = null;
+    pendingFlushItems = null;
+    try {
+      flush.join();
+    } catch (final CompletionException e) {
+      requeue(items);
+      if (e.getCause() instanceof final RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+    callPostFlushListeners();
+  }
+
+  /** Puts the items of a failed flush back in front of the items which were queued since. */
+  private void requeue(final List<QueueItem> failedItems) {
+    synchronized (queue) {
+      LOG.debug(
+          "[RDBMS ExecutionQueue, Partition {}] Requeue {} items of failed flush",
+          partitionId,
+          failedItems.size());
+      final List<QueueItem> queuedItems = new ArrayList<>(queue);
+      if (queuedItems.isEmpty()) {
+        metrics.startFlushLatencyMeasurement();
+      }
+      clearQueue();
+      failedItems.forEach(this::addToQueue);
+      queuedItems.forEach(this::addToQueue);
+    }
+  }
+
   @Override
   public boolean checkQueueForFlush() {
+    if (pendingFlush != null && pendingFlush.isDone()) {
+      awaitPendingFlush();
+    }
+
     final boolean hasCountLimit = queueFlushLimit > 0;
     final boolean hasMemoryLimit = queueMemoryLimitBytes > 0;
 
@@ -203,30 +413,68 @@ public class DefaultExecutionQueue implements ExecutionQueue {
   }
 
   private int doFLush() {
-    LOG.debug(
-        "[RDBMS ExecutionQueue, Partition {}] Flushing execution queue with {} items",
-        partitionId,
-        queue.size());
+    callPreFlushListeners();
 
-    final var startMillis = System.currentTimeMillis();
+    // the items are kept if the flush fails, such that they are retried with the next flush
+    final int flushedElements = executeStatements(queue);
+    clearQueue();
+    callPostFlushListeners();
+    return flushedElements;
+  }
 
+  private void callPreFlushListeners() {
     if (!preFlushListeners.isEmpty()) {
       LOG.trace("[RDBMS ExecutionQueue, Partition {}] Call pre flush listeners", partitionId);
       preFlushListeners.forEach(PreFlushListener::onPreFlush);
     }
+  }
+
+  private void callPostFlushListeners() {
+    if (!postFlushListeners.isEmpty()) {
+      LOG.trace("[RDBMS ExecutionQueue, Partition {}] Call post flush listeners", partitionId);
+      postFlushListeners.forEach(PostFlushListener::onPostFlush);
+    }
+  }
+
+  /** Executes the given items in one transaction and commits it. */
+  private int executeStatements(final List<QueueItem> items) {
+    LOG.debug(
+        "[RDBMS ExecutionQueue, Partition {}] Flushing execution queue with {} items",
+        partitionId,
+        items.size());
+
+    final var startMillis = System.currentTimeMillis();
 
     final var session =
         sessionFactory.openSession(ExecutorType.BATCH, TransactionIsolationLevel.READ_UNCOMMITTED);
 
     var flushedElements = 0;
-    final var optimizedItems = optimizeQueueOrder(queue);
+    final var optimizedItems = optimizeQueueOrder(items);
 
     try {
-      for (final var entry : optimizedItems) {
-        LOG.trace("[RDBMS ExecutionQueue, Partition {}] Executing entry: {}", partitionId, entry);
-        session.update(entry.statementId(), entry.parameter());
-        queue.remove();
-        flushedElements++;
+      int position = 0;
+      while (position < optimizedItems.size()) {
+        final var entry = optimizedItems.get(position);
+        final int batchEnd = findBatchInsertEnd(optimizedItems, position);
+        if (batchEnd - position > 1) {
+          LOG.trace(
+              "[RDBMS ExecutionQueue, Partition {}] Executing {} entries as multi-row insert: {}",
+              partitionId,
+              batchEnd - position,
+              entry.statementId());
+          final List<Object> rows = new ArrayList<>(batchEnd - position);
+          for (int i = position; i < batchEnd; i++) {
+            rows.add(optimizedItems.get(i).parameter());
+          }
+          session.update(entry.statementId() + BATCH_INSERT_SUFFIX, new BatchInsertDto(rows));
+          flushedElements += batchEnd - position;
+          position = batchEnd;
+        } else {
+          LOG.trace("[RDBMS ExecutionQueue, Partition {}] Executing entry: {}", partitionId, entry);
+          session.update(entry.statementId(), entry.parameter());
+          flushedElements++;
+          position++;
+        }
       }
 
       final var batchResult = session.flushStatements();
@@ -239,15 +487,10 @@ public class DefaultExecutionQueue implements ExecutionQueue {
               singleBatchResult.getMappedStatement().getId());
         }
         metrics.recordExecutedStatement(
-            singleBatchResult.getMappedStatement().getId(),
-            singleBatchResult.getParameterObjects().size());
+            singleBatchResult.getMappedStatement().getId(), countRows(singleBatchResult));
       }
 
       session.commit();
-      if (!postFlushListeners.isEmpty()) {
-        LOG.trace("[RDBMS ExecutionQueue, Partition {}] Call post flush listeners", partitionId);
-        postFlushListeners.forEach(PostFlushListener::onPostFlush);
-      }
       LOG.debug(
           "[RDBMS ExecutionQueue, Partition {}] Commit queue with {} entries in {}ms",
           partitionId,
@@ -265,6 +508,65 @@ public class DefaultExecutionQueue implements ExecutionQueue {
     }
   }
 
+  /**
+   * Returns the number of queue items executed by the given batch, where a multi-row insert counts
+   * once per row instead of once per statement.
+   */
+  private static int countRows(final BatchResult batchResult) {
+    int rows = 0;
+    for (final Object parameter : batchResult.getParameterObjects()) {
+      rows +=
+          parameter instanceof final BatchInsertDto batchInsert ? batchInsert.items().size() : 1;
+    }
+    return rows;
+  }
+
+  /**
+   * Returns the (exclusive) end position of the consecutive inserts starting at the given
+   * position, that can be combined into one multi-row insert statement. Returns {@code position +
+   * 1} if the item can't be combined with the following ones.
+   */
+  private int findBatchInsertEnd(final List<QueueItem> items, final int position) {
+    final var first = items.get(position);
+    final int maxRows = batchInsertSize(first);
+    int end = position + 1;
+    while (end < items.size() && end - position < maxRows) {
+      final var item = items.get(end);
+      if (item.statementType() != WriteStatementType.INSERT
+          || !first.statementId().equals(item.statementId())) {
+        break;
+      }
+      end++;
+    }
+    return end;
+  }
+
+  private int batchInsertSize(final QueueItem item) {
+    if (batchInsertMaxRows <= 1 || item.statementType() != WriteStatementType.INSERT) {
+      return 1;
+    }
+
+    return batchInsertSizes.computeIfAbsent(
+        item.statementId(),
+        statementId -> {
+          final var configuration = sessionFactory.getConfiguration();
+          if (!configuration.hasStatement(statementId + BATCH_INSERT_SUFFIX)) {
+            return 1;
+          }
+          // the number of rows is limited by the bind parameters the database accepts per statement
+          final int parametersPerRow =
+              configuration
+                  .getMappedStatement(statementId)
+                  .getBoundSql(item.parameter())
+                  .getParameterMappings()
+                  .size();
+          return Math.max(
+              1,
+              Math.min(
+                  batchInsertMaxRows, batchInsertMaxParameters / Math.max(1, parametersPerRow)));
+        });
+  }
+
   /**
    * Optimizes the order of the queue items to minimize the number of executed statements. Primary
    * goal of this optimization is to batch as many statements as possible For this statements with
@@ -302,7 +604,7 @@ public class DefaultExecutionQueue implements ExecutionQueue {
     return resultList;
   }
 
-  LinkedList<QueueItem> getQueue() {
+  List<QueueItem> getQueue() {
     return queue;
   }
 
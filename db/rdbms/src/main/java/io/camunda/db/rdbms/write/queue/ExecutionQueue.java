@@ -7,7 +7,7 @@
  */
 package io.camunda.db.rdbms.write.queue;
 
-public interface ExecutionQueue {
+public interface ExecutionQueue extends AutoCloseable {
 
   /**
    * Enqueues the given entry to be executed later in a batch.
@@ -62,4 +62,11 @@ public interface ExecutionQueue {
    * @return true if the queue was flushed, false otherwise
    */
   boolean checkQueueForFlush();
+
+  /**
+   * Waits until all flushed items are committed and releases the resources of the queue. Items
+   * that have not been flushed yet are not written.
+   */
+  @Override
+  void close();
 }
@@ -0,0 +1,19 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.db.rdbms.write.queue;
+
+/**
+ * Identifies the entity a {@link QueueItem} is written for. Used by the {@link ExecutionQueue} to
+ * look up merge candidates without scanning the whole queue.
+ */
+public record QueueItemKey(ContextType contextType, Object id) {
+
+  public static QueueItemKey of(final QueueItem item) {
+    return new QueueItemKey(item.contextType(), item.id());
+  }
+}
@@ -7,9 +7,22 @@
  */
 package io.camunda.db.rdbms.write.queue;
 
+import java.util.Optional;
+
 public interface QueueItemMerger {
 
   boolean canBeMerged(QueueItem queueItem);
 
   QueueItem merge(QueueItem originalItem);
+
+  /**
+   * Returns the key of the queue items this merger can be applied to. If present, only the queue
+   * items with this key are checked with {@link #canBeMerged(QueueItem)}, otherwise the whole queue
+   * is scanned.
+   *
+   * @return the key of the mergeable queue items, or empty if the merger matches by content
+   */
+  default Optional<QueueItemKey> key() {
+    return Optional.empty();
+  }
 }
@@ -9,6 +9,7 @@ package io.camunda.db.rdbms.write.queue;
 
 import io.camunda.db.rdbms.write.domain.Copyable;
 import io.camunda.util.ObjectBuilder;
+import java.util.Optional;
 import java.util.function.Function;
 
 public class UpsertMerger<T extends Copyable<T>> implements QueueItemMerger {
@@ -41,4 +42,9 @@ public class UpsertMerger<T extends Copyable<T>> implements QueueItemMerger {
     return originalItem.copy(
         b -> b.parameter(((Copyable<T>) originalItem.parameter()).copy(mergeFunction)));
   }
+
+  @Override
+  public Optional<QueueItemKey> key() {
+    return Optional.of(new QueueItemKey(contextType, id));
+  }
 }
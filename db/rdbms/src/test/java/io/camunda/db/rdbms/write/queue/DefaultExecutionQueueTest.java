@@ -13,11 +13,21 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import io.camunda.db.rdbms.write.RdbmsWriterMetrics;
+import io.camunda.db.rdbms.write.domain.ProcessInstanceDbModel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.session.Configuration;
 import org.apache.ibatis.session.ExecutorType;
 import org.apache.ibatis.session.SqlSession;
 import org.apache.ibatis.session.SqlSessionFactory;
@@ -264,6 +274,128 @@ class DefaultExecutionQueueTest {
     verify(postFlushListener, never()).onPostFlush();
   }
 
+  @Test
+  public void whenFlushIsAsyncPostFlushListenersAreCalledAfterCommit() {
+    // given
+    final var pendingFlushes = new ArrayList<Runnable>();
+    executionQueue =
+        new DefaultExecutionQueue(sqlSessionFactory, 1, 10, 0, 1, 0, pendingFlushes::add, metrics);
+    final var postFlushListener = mock(PostFlushListener.class);
+    executionQueue.registerPostFlushListener(postFlushListener);
+    executionQueue.executeInQueue(
+        new QueueItem(
+            ContextType.PROCESS_INSTANCE,
+            WriteStatementType.INSERT,
+            1L,
+            "statement1",
+            "parameter1"));
+
+    // when
+    final var flushed = executionQueue.flush();
+
+    // then - the queue is free for new items while the flush is pending
+    assertThat(flushed).isEqualTo(1);
+    assertThat(executionQueue.getQueue()).isEmpty();
+    verifyNoInteractions(sqlSessionFactory);
+
+    pendingFlushes.forEach(Runnable::run);
+    verify(session).update("statement1", "parameter1");
+    verify(session).commit();
+    verify(postFlushListener, never()).onPostFlush();
+
+    executionQueue.checkQueueForFlush();
+    verify(postFlushListener).onPostFlush();
+  }
+
+  @Test
+  public void whenAsyncFlushFailsErrorIsRethrownAndPostFlushListenersAreNotCalled() {
+    // given
+    executionQueue =
+        new DefaultExecutionQueue(sqlSessionFactory, 1, 10, 0, 1, 0, Runnable::run, metrics);
+    final var postFlushListener = mock(PostFlushListener.class);
+    executionQueue.registerPostFlushListener(postFlushListener);
+    executionQueue.executeInQueue(
+        new QueueItem(
+            ContextType.PROCESS_INSTANCE,
+            WriteStatementType.INSERT,
+            1L,
+            "statement1",
+            "parameter1"));
+    final var e = new RuntimeException("Some error");
+    when(session.flushStatements()).thenThrow(e);
+    executionQueue.flush();
+
+    // when - then
+    assertThatThrownBy(() -> executionQueue.close()).isEqualTo(e);
+    verify(session).rollback();
+    verify(postFlushListener, never()).onPostFlush();
+  }
+
+  @Test
+  public void whenAsyncFlushFailsItemsAreRetriedWithNextFlush() {
+    // given
+    executionQueue =
+        new DefaultExecutionQueue(sqlSessionFactory, 1, 10, 0, 1, 0, Runnable::run, metrics);
+    final var postFlushListener = mock(PostFlushListener.class);
+    executionQueue.registerPostFlushListener(postFlushListener);
+    final var failedItem =
+        new QueueItem(
+            ContextType.PROCESS_INSTANCE,
+            WriteStatementType.INSERT,
+            1L,
+            "statement1",
+            "parameter1");
+    final var laterItem =
+        new QueueItem(
+            ContextType.PROCESS_INSTANCE,
+            WriteStatementType.INSERT,
+            2L,
+            "statement2",
+            "parameter2");
+    executionQueue.executeInQueue(failedItem);
+    final var e = new RuntimeException("Some error");
+    when(session.flushStatements()).thenThrow(e).thenReturn(List.of());
+    executionQueue.flush();
+    executionQueue.executeInQueue(laterItem);
+
+    // when
+    assertThatThrownBy(() -> executionQueue.flush()).isEqualTo(e);
+
+    // then - the failed items are queued in front of the later ones
+    assertThat(executionQueue.getQueue()).containsExactly(failedItem, laterItem);
+    verify(postFlushListener, never()).onPostFlush();
+
+    // when
+    executionQueue.flush();
+    executionQueue.close();
+
+    // then
+    assertThat(executionQueue.getQueue()).isEmpty();
+    verify(session, times(2)).update("statement1", "parameter1");
+    verify(postFlushListener).onPostFlush();
+  }
+
+  @Test
+  public void whenFlushFailsItemsAreKeptInQueue() {
+    // given
+    final var item =
+        new QueueItem(
+            ContextType.PROCESS_INSTANCE,
+            WriteStatementType.INSERT,
+            1L,
+            "statement1",
+            "parameter1");
+    executionQueue.executeInQueue(item);
+    final var e = new RuntimeException("Some error");
+    when(session.flushStatements()).thenThrow(e);
+
+    // when
+    assertThatThrownBy(() -> executionQueue.flush()).isEqualTo(e);
+
+    // then
+    assertThat(executionQueue.getQueue()).containsExactly(item);
+  }
+
   @Test
   public void whenMatchingItemFoundShouldMergeItems() {
     final var item1 =
@@ -309,6 +441,78 @@ class DefaultExecutionQueueTest {
     assertThat(executionQueue.getQueue().get(1)).isSameAs(item2);
   }
 
+  @Test
+  public void whenMergerHasKeyShouldOnlyCheckItemsWithThisKey() {
+    final var item1 =
+        new QueueItem(
+            ContextType.PROCESS_INSTANCE,
+            WriteStatementType.INSERT,
+            1L,
+            "statement1",
+            "parameter1");
+    final var item2 =
+        new QueueItem(
+            ContextType.FLOW_NODE, WriteStatementType.INSERT, 1L, "statement2", "parameter2");
+    final var item3 =
+        new QueueItem(
+            ContextType.PROCESS_INSTANCE,
+            WriteStatementType.INSERT,
+            2L,
+            "statement3",
+            "parameter3");
+    executionQueue.executeInQueue(item1);
+    executionQueue.executeInQueue(item2);
+    executionQueue.executeInQueue(item3);
+
+    final var checkedItems = new ArrayList<QueueItem>();
+    final var result =
+        executionQueue.tryMergeWithExistingQueueItem(
+            new QueueItemMerger() {
+              @Override
+              public boolean canBeMerged(final QueueItem queueItem) {
+                checkedItems.add(queueItem);
+                return true;
+              }
+
+              @Override
+              public QueueItem merge(final QueueItem originalItem) {
+                return originalItem.copy(b -> b.parameter("parameter1+"));
+              }
+
+              @Override
+              public Optional<QueueItemKey> key() {
+                return Optional.of(new QueueItemKey(ContextType.PROCESS_INSTANCE, 1L));
+              }
+            });
+
+    assertThat(result).isTrue();
+    assertThat(checkedItems).containsExactly(item1);
+    assertThat(executionQueue.getQueue().get(0).parameter()).isEqualTo("parameter1+");
+    assertThat(executionQueue.getQueue().get(1)).isSameAs(item2);
+    assertThat(executionQueue.getQueue().get(2)).isSameAs(item3);
+  }
+
+  @Test
+  public void whenMergerHasKeyShouldNotMergeFlushedItems() {
+    final var item =
+        new QueueItem(
+            ContextType.PROCESS_INSTANCE,
+            WriteStatementType.INSERT,
+            1L,
+            "statement1",
+            "parameter1");
+    executionQueue.executeInQueue(item);
+    executionQueue.flush();
+
+    final var result =
+        executionQueue.tryMergeWithExistingQueueItem(
+            new UpsertMerger<>(
+                ContextType.PROCESS_INSTANCE, 1L, ProcessInstanceDbModel.class, b -> b));
+
+    assertThat(result).isFalse();
+    assertThat(executionQueue.getQueue()).isEmpty();
+  }
+
   @Test
   public void whenNoMatchingItemFoundShouldNotMergeItems() {
     final var item1 =
@@ -353,6 +557,108 @@ class DefaultExecutionQueueTest {
     assertThat(executionQueue.getQueue().get(1)).isSameAs(item2);
   }
 
+  @Test
+  public void whenInsertBatchingIsEnabledShouldCombineConsecutiveInserts() {
+    // given
+    executionQueue = new DefaultExecutionQueue(sqlSessionFactory, 1, 10, 0, 2, 1000, null, metrics);
+    final var configuration = mock(Configuration.class);
+    final var mappedStatement = mock(MappedStatement.class);
+    final var boundSql = mock(BoundSql.class);
+    when(sqlSessionFactory.getConfiguration()).thenReturn(configuration);
+    when(configuration.hasStatement("statement1Batch")).thenReturn(true);
+    when(configuration.getMappedStatement("statement1")).thenReturn(mappedStatement);
+    when(mappedStatement.getBoundSql(any())).thenReturn(boundSql);
+    when(boundSql.getParameterMappings()).thenReturn(List.of(mock(ParameterMapping.class)));
+
+    for (long key = 1; key <= 3; key++) {
+      executionQueue.executeInQueue(
+          new QueueItem(
+              ContextType.PROCESS_INSTANCE,
+              WriteStatementType.INSERT,
+              key,
+              "statement1",
+              "parameter" + key));
+    }
+    executionQueue.executeInQueue(
+        new QueueItem(
+            ContextType.PROCESS_INSTANCE,
+            WriteStatementType.UPDATE,
+            1L,
+            "statement2",
+            "parameter4"));
+
+    // when
+    final var flushed = executionQueue.flush();
+
+    // then
+    assertThat(flushed).isEqualTo(4);
+    verify(session)
+        .update("statement1Batch", new BatchInsertDto(List.<Object>of("parameter1", "parameter2")));
+    verify(session).update("statement1", "parameter3");
+    verify(session).update("statement2", "parameter4");
+    verify(session).commit();
+    assertThat(executionQueue.getQueue()).isEmpty();
+  }
+
+  @Test
+  public void shouldRecordEachRowOfMultiRowInsertAsExecutedItem() {
+    // given
+    executionQueue = new DefaultExecutionQueue(sqlSessionFactory, 1, 10, 0, 2, 1000, null, metrics);
+    final var batchStatement = mock(MappedStatement.class);
+    when(batchStatement.getId()).thenReturn("statement1Batch");
+    final var batchResult =
+        new BatchResult(
+            batchStatement,
+            "INSERT",
+            new BatchInsertDto(List.<Object>of("parameter1", "parameter2")));
+    batchResult.addParameterObject(new BatchInsertDto(List.<Object>of("parameter3")));
+    batchResult.setUpdateCounts(new int[] {2, 1});
+    final var statement = mock(MappedStatement.class);
+    when(statement.getId()).thenReturn("statement2");
+    final var result = new BatchResult(statement, "UPDATE", "parameter4");
+    result.addParameterObject("parameter5");
+    result.setUpdateCounts(new int[] {1, 1});
+    when(session.flushStatements()).thenReturn(List.of(batchResult, result));
+    executionQueue.executeInQueue(
+        new QueueItem(
+            ContextType.PROCESS_INSTANCE,
+            WriteStatementType.UPDATE,
+            1L,
+            "statement2",
+            "parameter4"));
+
+    // when
+    executionQueue.flush();
+
+    // then
+    verify(metrics).recordExecutedStatement("statement1Batch", 3);
+    verify(metrics).recordExecutedStatement("statement2", 2);
+  }
+
+  @Test
+  public void whenInsertBatchingIsDisabledShouldNotLookupBatchStatements() {
+    executionQueue.executeInQueue(
+        new QueueItem(
+            ContextType.PROCESS_INSTANCE,
+            WriteStatementType.INSERT,
+            1L,
+            "statement1",
+            "parameter1"));
+    executionQueue.executeInQueue(
+        new QueueItem(
+            ContextType.PROCESS_INSTANCE,
+            WriteStatementType.INSERT,
+            2L,
+            "statement1",
+            "parameter2"));
+
+    executionQueue.flush();
+
+    verify(sqlSessionFactory, never()).getConfiguration();
+    verify(session).update("statement1", "parameter1");
+    verify(session).update("statement1", "parameter2");
+  }
+
   @Test
   public void shouldSortQueueItemsDuringFlush() {
     executionQueue.executeInQueue(
@@ -9,6 +9,7 @@ package io.camunda.application.commons.actor;
 
 import io.camunda.application.commons.actor.ActorIdleStrategyConfiguration.IdleStrategySupplier;
 import io.camunda.zeebe.scheduler.ActorScheduler;
+import io.camunda.zeebe.scheduler.ActorScheduler.ActorSchedulerBuilder;
 import io.camunda.zeebe.util.VisibleForTesting;
 import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -52,6 +53,10 @@ public final class ActorSchedulerConfiguration {
             .setMeterRegistry(metricsEnabled ? registry : null)
             .setSchedulerName(String.format("%s-%s", prefix, nodeId))
             .setIdleStrategySupplier(idleStrategySupplier)
+            .setLocalityAwareScheduling(schedulerConfiguration.localityAwareScheduling())
+            .setLocalityGroupSize(schedulerConfiguration.localityGroupSize())
+            .setVirtualIoThreads(schedulerConfiguration.virtualIoThreads())
+            .setVirtualIoThreadCount(schedulerConfiguration.virtualIoThreadCount())
             .build();
     scheduler.start();
 
@@ -63,5 +68,28 @@ public final class ActorSchedulerConfiguration {
       int ioThreads,
       boolean metricsEnabled,
       String schedulerPrefix,
-      String nodeId) {}
+      String nodeId,
+      boolean localityAwareScheduling,
+      int localityGroupSize,
+      boolean virtualIoThreads,
+      int virtualIoThreadCount) {
+
+    public SchedulerConfiguration(
+        final int cpuThreads,
+        final int ioThreads,
+        final boolean metricsEnabled,
+        final String schedulerPrefix,
+        final String nodeId) {
+      this(
+          cpuThreads,
+          ioThreads,
+          metricsEnabled,
+          schedulerPrefix,
+          nodeId,
+          false,
+          0,
+          false,
+          ActorSchedulerBuilder.DEFAULT_VIRTUAL_IO_THREAD_COUNT);
+    }
+  }
 }
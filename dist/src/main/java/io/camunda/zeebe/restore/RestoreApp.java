@@ -104,7 +104,8 @@ public class RestoreApp implements ApplicationRunner {
         "Starting to restore from backup {} with the following configuration: {}",
         backupId,
         restoreConfiguration);
-    new RestoreManager(configuration, backupStore, meterRegistry)
+    new RestoreManager(
+            configuration, backupStore, meterRegistry, restoreConfiguration.concurrentDownloads())
         .restore(
             backupId,
             restoreConfiguration.validateConfig(),
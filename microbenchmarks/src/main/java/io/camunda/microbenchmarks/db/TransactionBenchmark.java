@@ -0,0 +1,162 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.microbenchmarks.db;
+
+import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.AccessMetricsConfiguration.Kind;
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DefaultColumnFamily;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration.TransactionType;
+import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import io.camunda.zeebe.util.FileUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the transaction types of the {@link ZeebeDb}, i.e. transactions of an optimistic
+ * transaction database against transactions backed by an indexed write batch.
+ *
+ * <p>The {@code commit} benchmark measures the latency of a transaction which only writes, such
+ * that most of its time is spent buffering the writes and committing them. The {@code process}
+ * benchmark mimics the stream processor, which reads and writes a few keys per command, and commits
+ * once per command.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 10, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 2,
+    jvmArgsAppend = {"-Xms1G", "-Xmx1G"})
+public class TransactionBenchmark {
+
+  public static void main(final String[] args) throws RunnerException {
+    final Options options =
+        new OptionsBuilder().include(TransactionBenchmark.class.getSimpleName()).build();
+    new Runner(options).run();
+  }
+
+  @Benchmark
+  public void commit(final BenchmarkState state) {
+    state.context.runInTransaction(
+        () -> {
+          for (int i = 0; i < state.writesPerTransaction; i++) {
+            state.upsert(state.nextKey(), i);
+          }
+        });
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.Throughput)
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  public long process(final BenchmarkState state) {
+    final long[] checksum = new long[1];
+    state.context.runInTransaction(
+        () -> {
+          // read the state of the command, e.g. the element instance and its variables
+          final long key = state.nextKey();
+          checksum[0] += state.get(key);
+          checksum[0] += state.get(key + 1);
+
+          // write the resulting state, and read some of it back, e.g. in a follow-up event applier
+          for (int i = 0; i < state.writesPerTransaction; i++) {
+            state.upsert(key + i, i);
+          }
+          checksum[0] += state.get(key);
+        });
+    return checksum[0];
+  }
+
+  @State(Scope.Thread)
+  public static class BenchmarkState {
+
+    private static final int KEY_COUNT = 100_000;
+
+    @Param({"OPTIMISTIC", "WRITE_BATCH"})
+    public TransactionType transactionType;
+
+    @Param({"10"})
+    public int writesPerTransaction;
+
+    private Path directory;
+    private ZeebeDb<DefaultColumnFamily> db;
+    private TransactionContext context;
+    private ColumnFamily<DbLong, DbLong> columnFamily;
+    private final DbLong key = new DbLong();
+    private final DbLong value = new DbLong();
+    private long nextKey;
+
+    @Setup
+    public void setup() throws IOException {
+      directory = Files.createTempDirectory("transaction-benchmark");
+      final ZeebeRocksDbFactory<DefaultColumnFamily> factory =
+          new ZeebeRocksDbFactory<>(
+              new RocksDbConfiguration().setTransactionType(transactionType),
+              new ConsistencyChecksSettings(),
+              new AccessMetricsConfiguration(Kind.NONE, 1),
+              SimpleMeterRegistry::new);
+      db = factory.createDb(directory.toFile());
+      context = db.createContext();
+      columnFamily = db.createColumnFamily(DefaultColumnFamily.DEFAULT, context, key, value);
+
+      context.runInTransaction(
+          () -> {
+            for (int i = 0; i < KEY_COUNT; i++) {
+              upsert(i, i);
+            }
+          });
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+      db.close();
+      FileUtil.deleteFolder(directory);
+    }
+
+    private long nextKey() {
+      nextKey = (nextKey + 1) % KEY_COUNT;
+      return nextKey;
+    }
+
+    private void upsert(final long k, final long v) {
+      key.wrapLong(k);
+      value.wrapLong(v);
+      columnFamily.upsert(key, value);
+    }
+
+    private long get(final long k) {
+      key.wrapLong(k);
+      final var result = columnFamily.get(key);
+      return result == null ? 0 : result.getValue();
+    }
+  }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.microbenchmarks.engine;
+
+import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.AccessMetricsConfiguration.Kind;
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbCompositeKey;
+import io.camunda.zeebe.db.impl.DbForeignKey;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DbNil;
+import io.camunda.zeebe.db.impl.DbString;
+import io.camunda.zeebe.db.impl.DbTenantAwareKey;
+import io.camunda.zeebe.db.impl.DbTenantAwareKey.PlacementType;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import io.camunda.zeebe.engine.state.instance.DbJobState;
+import io.camunda.zeebe.engine.state.instance.JobRecordValue;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.record.value.TenantOwned;
+import io.camunda.zeebe.util.FileUtil;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures how long it takes to collect the activatable jobs of one job batch from the state.
+ *
+ * <p>The {@code oneByOne} benchmark reads the activatable jobs the way the job state used to, with
+ * a lookup per job while iterating over the activatable jobs. The {@code batched} benchmark uses
+ * {@link DbJobState#forEachActivatableJobs}, which looks up the jobs in batches with a single
+ * multi get each.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 10, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 2,
+    jvmArgsAppend = {"-Xms1G", "-Xmx1G"})
+public class JobActivationBenchmark {
+
+  public static void main(final String[] args) throws RunnerException {
+    final Options options =
+        new OptionsBuilder().include(JobActivationBenchmark.class.getSimpleName()).build();
+    new Runner(options).run();
+  }
+
+  @Benchmark
+  public void oneByOne(final BenchmarkState state, final Blackhole blackhole) {
+    state.context.runInTransaction(
+        () -> {
+          final int[] activatedJobs = new int[1];
+          state.jobTypeKey.wrapBuffer(state.type);
+          state.activatableColumnFamily.whileEqualPrefix(
+              state.jobTypeKey,
+              (key, nil) -> {
+                if (!state.tenantIds.contains(key.tenantKey().toString())) {
+                  return true;
+                }
+                final var job = state.jobsColumnFamily.get(key.wrappedKey().second().inner());
+                blackhole.consume(job.getRecord().getDeadline());
+                return ++activatedJobs[0] < state.maxJobsToActivate;
+              });
+        });
+  }
+
+  @Benchmark
+  public void batched(final BenchmarkState state, final Blackhole blackhole) {
+    state.context.runInTransaction(
+        () -> {
+          final int[] activatedJobs = new int[1];
+          state.jobState.forEachActivatableJobs(
+              state.type,
+              state.tenantIds,
+              (key, job) -> {
+                blackhole.consume(job.getDeadline());
+                return ++activatedJobs[0] < state.maxJobsToActivate;
+              });
+        });
+  }
+
+  @State(Scope.Thread)
+  public static class BenchmarkState {
+
+    private static final int JOB_COUNT = 10_000;
+
+    @Param({"10", "32", "128"})
+    public int maxJobsToActivate;
+
+    private final DirectBuffer type = BufferUtil.wrapString("benchmark");
+    private final List<String> tenantIds = List.of(TenantOwned.DEFAULT_TENANT_IDENTIFIER);
+
+    private Path directory;
+    private ZeebeDb<ZbColumnFamilies> db;
+    private TransactionContext context;
+    private DbJobState jobState;
+
+    // the column families of the job state, to read the jobs as they were read before batching
+    private DbString jobTypeKey;
+    private ColumnFamily<DbLong, JobRecordValue> jobsColumnFamily;
+    private ColumnFamily<DbTenantAwareKey<DbCompositeKey<DbString, DbForeignKey<DbLong>>>, DbNil>
+        activatableColumnFamily;
+
+    @Setup
+    public void setup() throws IOException {
+      directory = Files.createTempDirectory("job-activation-benchmark");
+      final ZeebeRocksDbFactory<ZbColumnFamilies> factory =
+          new ZeebeRocksDbFactory<>(
+              new RocksDbConfiguration(),
+              new ConsistencyChecksSettings(),
+              new AccessMetricsConfiguration(Kind.NONE, 1),
+              SimpleMeterRegistry::new);
+      db = factory.createDb(directory.toFile());
+      context = db.createContext();
+      jobState = new DbJobState(db, context);
+
+      final DbLong jobKey = new DbLong();
+      jobsColumnFamily =
+          db.createColumnFamily(ZbColumnFamilies.JOBS, context, jobKey, new JobRecordValue());
+      jobTypeKey = new DbString();
+      activatableColumnFamily =
+          db.createColumnFamily(
+              ZbColumnFamilies.JOB_ACTIVATABLE,
+              context,
+              new DbTenantAwareKey<>(
+                  new DbString(),
+                  new DbCompositeKey<>(
+                      jobTypeKey, new DbForeignKey<>(jobKey, ZbColumnFamilies.JOBS)),
+                  PlacementType.SUFFIX),
+              DbNil.INSTANCE);
+
+      context.runInTransaction(
+          () -> {
+            for (long key = 1; key <= JOB_COUNT; key++) {
+              final JobRecord job =
+                  new JobRecord()
+                      .setType(type)
+                      .setRetries(3)
+                      .setDeadline(key)
+                      .setWorker("benchmark-worker")
+                      .setTenantId(TenantOwned.DEFAULT_TENANT_IDENTIFIER);
+              jobState.create(key, job);
+            }
+          });
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+      db.close();
+      FileUtil.deleteFolder(directory);
+    }
+  }
+}
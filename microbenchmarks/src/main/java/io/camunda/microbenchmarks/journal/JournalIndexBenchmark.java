@@ -0,0 +1,154 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+
+package io.camunda.microbenchmarks.journal;
+
+import io.camunda.zeebe.journal.JournalRecord;
+import io.camunda.zeebe.journal.file.BenchmarkJournalIndex;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+import org.agrona.DirectBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the sparse journal index with the primitive journal index, see {@link
+ * BenchmarkJournalIndex}.
+ *
+ * <p>The {@code populate} benchmark builds a complete index per operation; run it with the GC
+ * profiler, where {@code gc.alloc.rate.norm} approximates the heap footprint of an index with
+ * {@code entries} indexed records. The {@code lookup} benchmarks measure the latency of lookups
+ * spread over a populated index.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 10, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 2,
+    jvmArgsAppend = {"-Xms1G", "-Xmx1G"})
+public class JournalIndexBenchmark {
+
+  public static void main(final String[] args) throws RunnerException {
+    final Options options =
+        new OptionsBuilder()
+            .addProfiler("gc")
+            .include(JournalIndexBenchmark.class.getSimpleName())
+            .build();
+    new Runner(options).run();
+  }
+
+  @Benchmark
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  public BenchmarkJournalIndex populate(final BenchmarkState state) {
+    return state.populatedIndex();
+  }
+
+  @Benchmark
+  public int lookup(final BenchmarkState state) {
+    return state.index.lookup(state.nextIndex());
+  }
+
+  @Benchmark
+  public Long lookupAsqn(final BenchmarkState state) {
+    return state.index.lookupAsqn(state.nextIndex());
+  }
+
+  @Benchmark
+  public Long lookupAsqnWithUpperBound(final BenchmarkState state) {
+    final long index = state.nextIndex();
+    return state.index.lookupAsqn(Long.MAX_VALUE, index);
+  }
+
+  @State(Scope.Thread)
+  public static class BenchmarkState {
+
+    private static final int DENSITY = 1;
+
+    @Param({"sparse", "primitive"})
+    public String implementation;
+
+    @Param({"1000", "100000", "1000000"})
+    public int entries;
+
+    BenchmarkJournalIndex index;
+    private IntFunction<BenchmarkJournalIndex> factory;
+    private final IndexedRecord indexedRecord = new IndexedRecord();
+    private long counter = 0;
+
+    @Setup
+    public void setup() {
+      factory =
+          switch (implementation) {
+            case "sparse" -> BenchmarkJournalIndex::sparse;
+            case "primitive" -> BenchmarkJournalIndex::primitive;
+            default -> throw new IllegalArgumentException(implementation);
+          };
+      index = populatedIndex();
+    }
+
+    BenchmarkJournalIndex populatedIndex() {
+      final BenchmarkJournalIndex journalIndex = factory.apply(DENSITY);
+      for (long i = 1; i <= entries; i++) {
+        indexedRecord.index = i;
+        indexedRecord.asqn = i;
+        journalIndex.index(indexedRecord, (int) i);
+      }
+      return journalIndex;
+    }
+
+    long nextIndex() {
+      // spread the lookups over the whole index to avoid measuring only cached entries
+      return 1 + (counter++ * 7919L) % entries;
+    }
+  }
+
+  private static final class IndexedRecord implements JournalRecord {
+
+    private long index;
+    private long asqn;
+
+    @Override
+    public long index() {
+      return index;
+    }
+
+    @Override
+    public long asqn() {
+      return asqn;
+    }
+
+    @Override
+    public long checksum() {
+      return 0;
+    }
+
+    @Override
+    public DirectBuffer data() {
+      return null;
+    }
+
+    @Override
+    public DirectBuffer serializedRecord() {
+      return null;
+    }
+  }
+}
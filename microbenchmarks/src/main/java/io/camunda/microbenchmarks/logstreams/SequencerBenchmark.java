@@ -0,0 +1,197 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+
+package io.camunda.microbenchmarks.logstreams;
+
+import io.camunda.zeebe.logstreams.impl.flowcontrol.FlowControl;
+import io.camunda.zeebe.logstreams.impl.flowcontrol.RateLimit;
+import io.camunda.zeebe.logstreams.log.LogAppendEntry;
+import io.camunda.zeebe.logstreams.log.LogStream;
+import io.camunda.zeebe.logstreams.log.LogStreamWriter;
+import io.camunda.zeebe.logstreams.log.LogStreamWriter.WriteFailure;
+import io.camunda.zeebe.logstreams.log.WriteContext;
+import io.camunda.zeebe.logstreams.storage.LogStorage;
+import io.camunda.zeebe.logstreams.storage.LogStorageReader;
+import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
+import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
+import io.camunda.zeebe.protocol.record.intent.Intent;
+import io.camunda.zeebe.util.Either;
+import io.camunda.zeebe.util.buffer.BufferWriter;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import java.time.InstantSource;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the throughput of the sequencer, i.e. the {@link LogStreamWriter} of a {@link
+ * LogStream}, with 1 to 16 concurrent producers.
+ *
+ * <p>The log storage does not write anything, but notifies the flow control as if the appended
+ * blocks were written, committed and processed right away, such that only the cost of sequencing
+ * is measured.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 10, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 2,
+    jvmArgsAppend = {"-Xms1G", "-Xmx1G"})
+public class SequencerBenchmark {
+
+  public static void main(final String[] args) throws RunnerException {
+    final Options options =
+        new OptionsBuilder()
+            .addProfiler("gc")
+            .include(SequencerBenchmark.class.getSimpleName())
+            .build();
+    new Runner(options).run();
+  }
+
+  @Benchmark
+  @Threads(1)
+  public Either<WriteFailure, Long> write1Producer(final BenchmarkState state) {
+    return state.write();
+  }
+
+  @Benchmark
+  @Threads(2)
+  public Either<WriteFailure, Long> write2Producers(final BenchmarkState state) {
+    return state.write();
+  }
+
+  @Benchmark
+  @Threads(4)
+  public Either<WriteFailure, Long> write4Producers(final BenchmarkState state) {
+    return state.write();
+  }
+
+  @Benchmark
+  @Threads(8)
+  public Either<WriteFailure, Long> write8Producers(final BenchmarkState state) {
+    return state.write();
+  }
+
+  @Benchmark
+  @Threads(16)
+  public Either<WriteFailure, Long> write16Producers(final BenchmarkState state) {
+    return state.write();
+  }
+
+  @State(Scope.Benchmark)
+  public static class BenchmarkState {
+
+    private static final int MAX_FRAGMENT_SIZE = 4 * 1024 * 1024;
+
+    @Param({"1", "10"})
+    public int batchSize;
+
+    private LogStream logStream;
+    private LogStreamWriter writer;
+    private List<LogAppendEntry> batch;
+
+    @Setup
+    public void setup() {
+      final var logStorage = new ProcessingLogStorage();
+      logStream =
+          LogStream.builder()
+              .withPartitionId(1)
+              .withLogName("benchmark")
+              .withMaxFragmentSize(MAX_FRAGMENT_SIZE)
+              .withLogStorage(logStorage)
+              .withClock(InstantSource.system())
+              .withWriteRateLimit(RateLimit.disabled())
+              .withMeterRegistry(new CompositeMeterRegistry())
+              .build();
+      logStorage.flowControl = logStream.getFlowControl();
+      writer = logStream.newLogStreamWriter();
+
+      final var metadata = new RecordMetadata().intent(Intent.UNKNOWN);
+      final var entry = LogAppendEntry.of(metadata, new UnifiedRecordValue(10));
+      batch = Collections.nCopies(batchSize, entry);
+    }
+
+    @TearDown
+    public void tearDown() {
+      logStream.close();
+    }
+
+    Either<WriteFailure, Long> write() {
+      return writer.tryWrite(WriteContext.internal(), batch);
+    }
+  }
+
+  private static final class ProcessingLogStorage implements LogStorage {
+
+    private FlowControl flowControl;
+    private long index;
+
+    @Override
+    public LogStorageReader newReader() {
+      return new EmptyLogStorageReader();
+    }
+
+    @Override
+    public void append(
+        final long lowestPosition,
+        final long highestPosition,
+        final BufferWriter bufferWriter,
+        final AppendListener listener) {
+      // appends are serialized by the sequencer
+      index++;
+      listener.onWrite(index, highestPosition);
+      listener.onCommit(index, highestPosition);
+      flowControl.onProcessed(highestPosition);
+    }
+
+    @Override
+    public void addCommitListener(final CommitListener listener) {}
+
+    @Override
+    public void removeCommitListener(final CommitListener listener) {}
+  }
+
+  private static final class EmptyLogStorageReader implements LogStorageReader {
+
+    @Override
+    public void seek(final long position) {}
+
+    @Override
+    public void close() {}
+
+    @Override
+    public boolean hasNext() {
+      return false;
+    }
+
+    @Override
+    public DirectBuffer next() {
+      throw new NoSuchElementException();
+    }
+  }
+}
@@ -8,6 +8,8 @@
 
 package io.camunda.microbenchmarks.msgpack;
 
+import io.camunda.zeebe.msgpack.spec.MsgPackReader;
+import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import java.util.concurrent.TimeUnit;
 import org.agrona.concurrent.UnsafeBuffer;
@@ -66,6 +68,43 @@ public class MsgpackBenchmark {
     result.wrap(state.writeBuffers[i]);
   }
 
+  /** Keys are not in declaration order, so every property is looked up via the perfect hash. */
+  @Benchmark
+  public void deserializeReorderedKeys(final BenchmarkState state) {
+    final int i = state.nextIndex();
+    final Pojo result = state.readPojos[i];
+    result.reset();
+    result.wrap(state.reorderedBuffers[i]);
+  }
+
+  /** Reads a single property of the nested object, as e.g. processors usually do. */
+  @Benchmark
+  public long deserializeAndReadNested(final BenchmarkState state) {
+    final int i = state.nextIndex();
+    final Pojo result = state.readPojos[i];
+    result.reset();
+    result.wrap(state.writeBuffers[i]);
+    return result.nestedObject().getLong();
+  }
+
+  @Benchmark
+  public long deserializeLazily(final BenchmarkState state) {
+    final int i = state.nextIndex();
+    final Pojo result = state.lazyReadPojos[i];
+    result.reset();
+    result.wrap(state.writeBuffers[i]);
+    return result.getLong();
+  }
+
+  @Benchmark
+  public long deserializeLazilyAndReadNested(final BenchmarkState state) {
+    final int i = state.nextIndex();
+    final Pojo result = state.lazyReadPojos[i];
+    result.reset();
+    result.wrap(state.writeBuffers[i]);
+    return result.nestedObject().getLong();
+  }
+
   @State(Scope.Thread)
   public static class BenchmarkState {
 
@@ -75,7 +114,9 @@ public class MsgpackBenchmark {
     public int batchSize;
 
     UnsafeBuffer[] writeBuffers;
+    UnsafeBuffer[] reorderedBuffers;
     Pojo[] readPojos;
+    Pojo[] lazyReadPojos;
     Pojo[] writePojos;
     int index = 0;
     private final Pojo.POJOEnum[] enumValues = Pojo.POJOEnum.values();
@@ -83,14 +124,19 @@ public class MsgpackBenchmark {
     @Setup
     public void setup() {
       writeBuffers = new UnsafeBuffer[batchSize];
+      reorderedBuffers = new UnsafeBuffer[batchSize];
       readPojos = new Pojo[batchSize];
+      lazyReadPojos = new Pojo[batchSize];
       writePojos = new Pojo[batchSize];
 
       for (int i = 0; i < batchSize; i++) {
         writeBuffers[i] = new UnsafeBuffer(new byte[BUFFER_CAPACITY]);
         readPojos[i] = new Pojo();
+        lazyReadPojos[i] = new Pojo();
+        lazyReadPojos[i].setLazyDecoding(true);
         writePojos[i] = createPojo(i);
         writePojos[i].write(writeBuffers[i], 0);
+        reorderedBuffers[i] = reverseKeys(writeBuffers[i]);
       }
     }
 
@@ -98,6 +144,26 @@ public class MsgpackBenchmark {
       return index++ % batchSize;
     }
 
+    /** Copies the given encoded map with its entries in reverse order. */
+    UnsafeBuffer reverseKeys(final UnsafeBuffer buffer) {
+      final var reader = new MsgPackReader().wrap(buffer, 0, buffer.capacity());
+      final int size = reader.readMapHeader();
+      final int[] entryOffsets = new int[size + 1];
+      for (int i = 0; i < size; i++) {
+        entryOffsets[i] = reader.getOffset();
+        reader.skipValues(2);
+      }
+      entryOffsets[size] = reader.getOffset();
+
+      final var reordered = new UnsafeBuffer(new byte[BUFFER_CAPACITY]);
+      final var writer = new MsgPackWriter().wrap(reordered, 0);
+      writer.writeMapHeader(size);
+      for (int i = size - 1; i >= 0; i--) {
+        writer.writeRaw(buffer, entryOffsets[i], entryOffsets[i + 1] - entryOffsets[i]);
+      }
+      return reordered;
+    }
+
     Pojo createPojo(final int seed) {
       final Pojo pojo = new Pojo();
       pojo.setEnum(enumValues[seed % enumValues.length]);
@@ -0,0 +1,133 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+
+package io.camunda.microbenchmarks.rdbms;
+
+import io.camunda.db.rdbms.write.RdbmsWriterMetrics;
+import io.camunda.db.rdbms.write.domain.FlowNodeInstanceDbModel;
+import io.camunda.db.rdbms.write.domain.FlowNodeInstanceDbModel.FlowNodeInstanceDbModelBuilder;
+import io.camunda.db.rdbms.write.queue.ContextType;
+import io.camunda.db.rdbms.write.queue.DefaultExecutionQueue;
+import io.camunda.db.rdbms.write.queue.QueueItem;
+import io.camunda.db.rdbms.write.queue.QueueItemMerger;
+import io.camunda.db.rdbms.write.queue.UpsertMerger;
+import io.camunda.db.rdbms.write.queue.WriteStatementType;
+import io.camunda.search.entities.FlowNodeInstanceEntity.FlowNodeState;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.OffsetDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the cost of merging an update into the RDBMS exporter's execution queue depending on
+ * the queue depth. The {@code indexed} benchmark uses the key lookup of the {@link UpsertMerger},
+ * while {@code scan} hides the key and falls back to iterating over the whole queue.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 10, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 2,
+    jvmArgsAppend = {"-Xms1G", "-Xmx1G"})
+public class ExecutionQueueMergeBenchmark {
+
+  private static final String INSERT_STATEMENT =
+      "io.camunda.db.rdbms.sql.FlowNodeInstanceMapper.insert";
+
+  public static void main(final String[] args) throws RunnerException {
+    final Options options =
+        new OptionsBuilder()
+            .addProfiler("gc")
+            .include(ExecutionQueueMergeBenchmark.class.getSimpleName())
+            .build();
+    new Runner(options).run();
+  }
+
+  @Benchmark
+  public boolean indexed(final BenchmarkState state) {
+    return state.queue.tryMergeWithExistingQueueItem(state.nextMerger());
+  }
+
+  @Benchmark
+  public boolean scan(final BenchmarkState state) {
+    final QueueItemMerger merger = state.nextMerger();
+    return state.queue.tryMergeWithExistingQueueItem(
+        new QueueItemMerger() {
+          @Override
+          public boolean canBeMerged(final QueueItem queueItem) {
+            return merger.canBeMerged(queueItem);
+          }
+
+          @Override
+          public QueueItem merge(final QueueItem originalItem) {
+            return merger.merge(originalItem);
+          }
+        });
+  }
+
+  @State(Scope.Thread)
+  public static class BenchmarkState {
+
+    @Param({"100", "1000", "10000"})
+    public int queueDepth;
+
+    DefaultExecutionQueue queue;
+    int index = 0;
+    private final OffsetDateTime endDate = OffsetDateTime.now();
+    private final Function<FlowNodeInstanceDbModelBuilder, FlowNodeInstanceDbModelBuilder>
+        completeFunction = b -> b.state(FlowNodeState.COMPLETED).endDate(endDate);
+
+    @Setup
+    public void setup() {
+      queue =
+          new DefaultExecutionQueue(
+              null, 1, 0, 0, new RdbmsWriterMetrics(new SimpleMeterRegistry(), 1));
+
+      for (long key = 0; key < queueDepth; key++) {
+        queue.executeInQueue(
+            new QueueItem(
+                ContextType.FLOW_NODE,
+                WriteStatementType.INSERT,
+                key,
+                INSERT_STATEMENT,
+                new FlowNodeInstanceDbModelBuilder()
+                    .flowNodeInstanceKey(key)
+                    .processInstanceKey(1L)
+                    .flowNodeId("task")
+                    .state(FlowNodeState.ACTIVE)
+                    .startDate(endDate)
+                    .tenantId("<default>")
+                    .partitionId(1)
+                    .build()));
+      }
+    }
+
+    QueueItemMerger nextMerger() {
+      // spread the lookups over the whole queue, the linear scan is cheapest for the newest items
+      final long key = (index++ * 7919L) % queueDepth;
+      return new UpsertMerger<>(
+          ContextType.FLOW_NODE, key, FlowNodeInstanceDbModel.class, completeFunction);
+    }
+  }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.microbenchmarks.scheduler;
+
+import io.camunda.zeebe.scheduler.Actor;
+import io.camunda.zeebe.scheduler.ActorScheduler;
+import io.camunda.zeebe.scheduler.future.ActorFuture;
+import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput of the scheduler with many actors which message each other: pairs of
+ * actors which bounce a message back and forth (ping-pong), and a coordinator which sends a message
+ * to all actors and waits until each processed it (fan-out). Both are run with and without the
+ * locality aware scheduling, to compare the two.
+ */
+@Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 20, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class ActorSchedulerBenchmark {
+  private static final int ACTOR_COUNT = 256;
+  private static final int PING_PONG_ROUNDS = 100;
+
+  @Param({"false", "true"})
+  public boolean localityAwareScheduling;
+
+  private final List<MessagingActor> actors = new ArrayList<>();
+  private ActorScheduler scheduler;
+  private MessagingActor coordinator;
+
+  @Setup
+  public void setup() {
+    scheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(4)
+            .setIoBoundActorThreadCount(1)
+            .setLocalityAwareScheduling(localityAwareScheduling)
+            .setLocalityGroupSize(2)
+            .build();
+    scheduler.start();
+
+    coordinator = new MessagingActor();
+    scheduler.submitActor(coordinator).join();
+    for (int i = 0; i < ACTOR_COUNT; i++) {
+      final var actor = new MessagingActor();
+      actors.add(actor);
+      scheduler.submitActor(actor).join();
+    }
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    scheduler.stop().get(30, TimeUnit.SECONDS);
+  }
+
+  @Benchmark
+  public int measurePingPong() {
+    final var results = new ArrayList<ActorFuture<Void>>(ACTOR_COUNT / 2);
+    for (int i = 0; i < ACTOR_COUNT; i += 2) {
+      results.add(actors.get(i).pingPong(actors.get(i + 1), PING_PONG_ROUNDS));
+    }
+
+    results.forEach(ActorFuture::join);
+    return results.size();
+  }
+
+  @Benchmark
+  public int measureFanOut() {
+    return coordinator.fanOut(actors).join();
+  }
+
+  private static final class MessagingActor extends Actor {
+
+    private ActorFuture<Void> pingPong(final MessagingActor partner, final int rounds) {
+      final var result = new CompletableActorFuture<Void>();
+      actor.run(() -> bounce(partner, rounds, result));
+      return result;
+    }
+
+    private void bounce(
+        final MessagingActor partner,
+        final int remaining,
+        final CompletableActorFuture<Void> result) {
+      if (remaining == 0) {
+        result.complete(null);
+        return;
+      }
+
+      partner.actor.run(() -> partner.bounce(this, remaining - 1, result));
+    }
+
+    private ActorFuture<Integer> fanOut(final List<MessagingActor> receivers) {
+      final var result = new CompletableActorFuture<Integer>();
+      actor.run(
+          () -> {
+            final var pending = new AtomicInteger(receivers.size());
+            for (final var receiver : receivers) {
+              receiver.actor.run(
+                  () -> {
+                    if (pending.decrementAndGet() == 0) {
+                      result.complete(receivers.size());
+                    }
+                  });
+            }
+          });
+      return result;
+    }
+  }
+}
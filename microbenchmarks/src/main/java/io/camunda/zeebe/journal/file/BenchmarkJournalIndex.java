@@ -0,0 +1,53 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import io.camunda.zeebe.journal.JournalRecord;
+
+/**
+ * Gives benchmarks access to the package-private {@link JournalIndex} implementations, such that
+ * they can be compared directly instead of through a whole journal.
+ */
+public final class BenchmarkJournalIndex {
+
+  private final JournalIndex index;
+
+  private BenchmarkJournalIndex(final JournalIndex index) {
+    this.index = index;
+  }
+
+  /** Returns a {@link SparseJournalIndex} with the given density. */
+  public static BenchmarkJournalIndex sparse(final int density) {
+    return new BenchmarkJournalIndex(new SparseJournalIndex(density));
+  }
+
+  /** Returns a {@link PrimitiveJournalIndex} with the given density. */
+  public static BenchmarkJournalIndex primitive(final int density) {
+    return new BenchmarkJournalIndex(new PrimitiveJournalIndex(density));
+  }
+
+  public void index(final JournalRecord record, final int position) {
+    index.index(record, position);
+  }
+
+  /**
+   * @return the position of the given index or a lesser index, or -1 if there is none
+   */
+  public int lookup(final long index) {
+    final var info = this.index.lookup(index);
+    return info == null ? -1 : info.position();
+  }
+
+  public Long lookupAsqn(final long asqn) {
+    return index.lookupAsqn(asqn);
+  }
+
+  public Long lookupAsqn(final long asqn, final long indexUpperBound) {
+    return index.lookupAsqn(asqn, indexUpperBound);
+  }
+}
@@ -23,6 +23,7 @@ import static com.google.common.base.Preconditions.checkNotNull;
 import io.atomix.raft.storage.log.IndexedRaftLogEntry;
 import io.atomix.raft.storage.log.RaftLog;
 import io.atomix.raft.storage.log.RaftLogReader;
+import io.camunda.zeebe.journal.JournalReader.Mode;
 import io.camunda.zeebe.snapshots.SnapshotChunkReader;
 import java.nio.ByteBuffer;
 import org.slf4j.LoggerFactory;
@@ -115,14 +116,15 @@ public final class RaftMemberContext {
   }
 
   private void openReader(final RaftLog log) {
+    // the reader catches up with the member when it lags behind, e.g. after a restart
     switch (member.getType()) {
       case PASSIVE:
-        reader = log.openCommittedReader();
+        reader = log.openCommittedReader(Mode.CATCH_UP);
         resetReaderAtEndOfLog(reader);
         break;
       case PROMOTABLE:
       case ACTIVE:
-        reader = log.openUncommittedReader();
+        reader = log.openUncommittedReader(Mode.CATCH_UP);
         resetReaderAtEndOfLog(reader);
         break;
       default:
@@ -37,6 +37,9 @@ public class RaftStorageConfig {
   private long freeDiskSpace = DEFAULT_FREE_DISK_SPACE;
   private int journalIndexDensity = DEFAULT_JOURNAL_INDEX_DENSITY;
   private SegmentAllocator segmentAllocator = SegmentAllocator.defaultAllocator();
+  private boolean primitiveJournalIndex = false;
+  private boolean persistSegmentIndex = false;
+  private int readerPrefetchSize = 0;
 
   /**
    * Returns the Raft log segment size.
@@ -122,6 +125,12 @@ public class RaftStorageConfig {
         + journalIndexDensity
         + ", segmentAllocator="
         + segmentAllocator
+        + ", primitiveJournalIndex="
+        + primitiveJournalIndex
+        + ", persistSegmentIndex="
+        + persistSegmentIndex
+        + ", readerPrefetchSize="
+        + readerPrefetchSize
         + '}';
   }
 
@@ -138,4 +147,46 @@ public class RaftStorageConfig {
   public void setSegmentAllocator(final SegmentAllocator segmentAllocator) {
     this.segmentAllocator = segmentAllocator;
   }
+
+  public boolean isPrimitiveJournalIndex() {
+    return primitiveJournalIndex;
+  }
+
+  /**
+   * Sets whether the journal index is backed by primitive arrays instead of skip list maps, which
+   * avoids boxing and per entry allocations and so reduces heap usage and GC pressure.
+   *
+   * @param primitiveJournalIndex true to use the primitive journal index
+   */
+  public void setPrimitiveJournalIndex(final boolean primitiveJournalIndex) {
+    this.primitiveJournalIndex = primitiveJournalIndex;
+  }
+
+  public boolean isPersistSegmentIndex() {
+    return persistSegmentIndex;
+  }
+
+  /**
+   * Sets whether the journal index entries of sealed segments are persisted in sidecar files, which
+   * are used to restore the index on startup without reading the segments.
+   *
+   * @param persistSegmentIndex true to persist the index of sealed segments
+   */
+  public void setPersistSegmentIndex(final boolean persistSegmentIndex) {
+    this.persistSegmentIndex = persistSegmentIndex;
+  }
+
+  public int getReaderPrefetchSize() {
+    return readerPrefetchSize;
+  }
+
+  /**
+   * Sets the size, in bytes, of the window which catch-up log readers, e.g. replication, replay
+   * and exporter readers, prefetch ahead of their position via read-ahead hints. A value of 0 disables read-ahead hints.
+   *
+   * @param readerPrefetchSize the size of the prefetch window in bytes, or 0 to disable it
+   */
+  public void setReaderPrefetchSize(final int readerPrefetchSize) {
+    this.readerPrefetchSize = readerPrefetchSize;
+  }
 }
@@ -39,6 +39,7 @@ import io.atomix.raft.storage.RaftStorage;
 import io.atomix.raft.storage.log.RaftLogReader;
 import io.atomix.raft.zeebe.ZeebeLogAppender;
 import io.atomix.utils.serializer.Serializer;
+import io.camunda.zeebe.journal.JournalReader.Mode;
 import io.camunda.zeebe.journal.SegmentInfo;
 import io.camunda.zeebe.snapshots.PersistedSnapshotStore;
 import io.camunda.zeebe.snapshots.ReceivableSnapshotStore;
@@ -185,7 +186,15 @@ public class RaftPartitionServer implements HealthMonitorable {
   }
 
   public RaftLogReader openReader() {
-    return server.getContext().getLog().openCommittedReader();
+    return openReader(Mode.TAIL);
+  }
+
+  /**
+   * @param mode whether the reader follows the tail or catches up with older entries, e.g. to
+   *     replay or export them
+   */
+  public RaftLogReader openReader(final Mode mode) {
+    return server.getContext().getLog().openCommittedReader(mode);
   }
 
   public void addRoleChangeListener(final RaftRoleChangeListener listener) {
@@ -310,6 +319,9 @@ public class RaftPartitionServer implements HealthMonitorable {
         .withSnapshotStore(persistedSnapshotStore)
         .withJournalIndexDensity(storageConfig.getJournalIndexDensity())
         .withSegmentAllocator(storageConfig.getSegmentAllocator())
+        .withPrimitiveJournalIndex(storageConfig.isPrimitiveJournalIndex())
+        .withPersistedSegmentIndex(storageConfig.isPersistSegmentIndex())
+        .withReaderPrefetchSize(storageConfig.getReaderPrefetchSize())
         .build();
   }
 
@@ -24,6 +24,9 @@ import io.atomix.cluster.MemberId;
 import io.atomix.utils.misc.StringUtils;
 import io.camunda.zeebe.snapshots.impl.SnapshotChunkId;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -58,6 +61,9 @@ public class InstallRequest extends AbstractRaftRequest {
   private final boolean initial;
   // true if this is the last chunk
   private final boolean complete;
+  // the chunks which were not sent, and which the follower has to take from its own snapshot
+  // (null if sent by a leader which always sends all chunks)
+  private final List<String> reusedChunks;
 
   public InstallRequest(
       final long currentTerm,
@@ -69,7 +75,8 @@ public class InstallRequest extends AbstractRaftRequest {
       final ByteBuffer nextChunkId,
       final ByteBuffer data,
       final boolean initial,
-      final boolean complete) {
+      final boolean complete,
+      final List<String> reusedChunks) {
     this.currentTerm = currentTerm;
     this.leader = leader;
     this.index = index;
@@ -80,6 +87,7 @@ public class InstallRequest extends AbstractRaftRequest {
     this.initial = initial;
     this.complete = complete;
     this.term = term;
+    this.reusedChunks = reusedChunks;
   }
 
   /**
@@ -170,10 +178,30 @@ public class InstallRequest extends AbstractRaftRequest {
     return complete;
   }
 
+  /**
+   * Returns the names of the chunks which the leader did not send, because the follower advertised
+   * an identical copy of them in its response to the initial request. Only set on the last chunk.
+   *
+   * @return the names of the chunks to reuse from the follower's latest snapshot
+   */
+  public List<String> reusedChunks() {
+    return reusedChunks == null ? List.of() : reusedChunks;
+  }
+
   @Override
   public int hashCode() {
     return Objects.hash(
-        currentTerm, leader, index, term, version, chunkId, nextChunkId, data, initial, complete);
+        currentTerm,
+        leader,
+        index,
+        term,
+        version,
+        chunkId,
+        nextChunkId,
+        data,
+        initial,
+        complete,
+        reusedChunks);
   }
 
   @Override
@@ -194,7 +222,8 @@ public class InstallRequest extends AbstractRaftRequest {
         && Objects.equals(leader, that.leader)
         && Objects.equals(chunkId, that.chunkId)
         && Objects.equals(nextChunkId, that.nextChunkId)
-        && Objects.equals(data, that.data);
+        && Objects.equals(data, that.data)
+        && Objects.equals(reusedChunks, that.reusedChunks);
   }
 
   @Override
@@ -212,6 +241,7 @@ public class InstallRequest extends AbstractRaftRequest {
         .add("data", StringUtils.printShortBuffer(data))
         .add("initial", initial)
         .add("complete", complete)
+        .add("reusedChunks", reusedChunks().size())
         .toString();
   }
 
@@ -346,6 +376,18 @@ public class InstallRequest extends AbstractRaftRequest {
       return this;
     }
 
+    /**
+     * Sets the chunks which were not sent, and which the follower has to reuse from its own
+     * snapshot.
+     *
+     * @param reusedChunks the names of the chunks to reuse
+     * @return the request builder
+     */
+    public Builder withReusedChunks(final Collection<String> reusedChunks) {
+      this.reusedChunks = reusedChunks.isEmpty() ? null : new ArrayList<>(reusedChunks);
+      return this;
+    }
+
     /**
      * @throws IllegalStateException if member is null
      */
@@ -353,7 +395,17 @@ public class InstallRequest extends AbstractRaftRequest {
     public InstallRequest build() {
       validate();
       return new InstallRequest(
-          currentTerm, leader, index, term, version, chunkId, nextChunkId, data, initial, complete);
+          currentTerm,
+          leader,
+          index,
+          term,
+          version,
+          chunkId,
+          nextChunkId,
+          data,
+          initial,
+          complete,
+          reusedChunks);
     }
 
     @Override
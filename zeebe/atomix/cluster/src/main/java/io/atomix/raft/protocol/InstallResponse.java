@@ -20,33 +20,51 @@ import static com.google.common.base.MoreObjects.toStringHelper;
 import static com.google.common.base.Preconditions.checkArgument;
 
 import io.atomix.raft.RaftError;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Snapshot installation response.
  *
  * <p>Install responses are sent once a snapshot installation request has been received and
- * processed. Install responses provide no additional metadata aside from indicating whether or not
- * the request was successful.
+ * processed. Aside from indicating whether or not the request was successful, the response to the
+ * initial request can advertise the chunks of the follower's latest snapshot, such that the leader
+ * only sends the chunks which the follower does not have yet.
  */
 public class InstallResponse extends AbstractRaftResponse {
 
   protected int preferredChunkSize;
+  // the checksums of the chunks of the follower's latest snapshot, by chunk name (null if none)
+  protected Map<String, Long> snapshotChecksums;
 
-  public InstallResponse(final Status status, final RaftError error, final int preferredChunkSize) {
+  public InstallResponse(
+      final Status status,
+      final RaftError error,
+      final int preferredChunkSize,
+      final Map<String, Long> snapshotChecksums) {
     super(status, error);
     this.preferredChunkSize = preferredChunkSize;
+    this.snapshotChecksums = snapshotChecksums;
   }
 
   public int preferredChunkSize() {
     return preferredChunkSize;
   }
 
+  /**
+   * @return the checksums of the chunks which the follower already has, by chunk name
+   */
+  public Map<String, Long> snapshotChecksums() {
+    return snapshotChecksums == null ? Map.of() : snapshotChecksums;
+  }
+
   @Override
   public String toString() {
     return toStringHelper(this)
         .add("status", status)
         .add("error", error)
         .add("preferredChunkSize", preferredChunkSize)
+        .add("snapshotChecksums", snapshotChecksums().size())
         .toString();
   }
 
@@ -62,17 +80,24 @@ public class InstallResponse extends AbstractRaftResponse {
   /** Install response builder. */
   public static class Builder extends AbstractRaftResponse.Builder<Builder, InstallResponse> {
     protected int preferredChunkSize;
+    protected Map<String, Long> snapshotChecksums;
 
     @Override
     public InstallResponse build() {
       validate();
       checkArgument(preferredChunkSize >= 0, "preferred chunk size must be positive");
-      return new InstallResponse(status, error, preferredChunkSize);
+      return new InstallResponse(status, error, preferredChunkSize, snapshotChecksums);
     }
 
     public Builder withPreferredChunkSize(final int preferredChunkSize) {
       this.preferredChunkSize = preferredChunkSize;
       return this;
     }
+
+    public Builder withSnapshotChecksums(final Map<String, Long> snapshotChecksums) {
+      this.snapshotChecksums =
+          snapshotChecksums.isEmpty() ? null : new HashMap<>(snapshotChecksums);
+      return this;
+    }
   }
 }
@@ -51,6 +51,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.NavigableMap;
 import java.util.Optional;
+import java.util.Set;
 import java.util.TreeMap;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeoutException;
@@ -409,6 +410,7 @@ final class LeaderAppender {
       }
       final ByteBuffer currentChunkId = reader.nextId();
       final SnapshotChunk chunk = reader.next();
+      final boolean complete = !reader.hasNext();
 
       // Create the install request, indicating whether this is the last chunk of data based on
       // the number of bytes remaining in the buffer.
@@ -424,8 +426,9 @@ final class LeaderAppender {
               .withData(new SnapshotChunkImpl(chunk).toByteBuffer())
               .withChunkId(currentChunkId)
               .withInitial(member.getNextSnapshotChunk() == null)
-              .withComplete(!reader.hasNext())
+              .withComplete(complete)
               .withNextChunkId(reader.nextId())
+              .withReusedChunks(complete ? reader.excludedChunks() : Set.of())
               .build();
       return Optional.of(request);
     } catch (final UncheckedIOException e) {
@@ -499,6 +502,17 @@ final class LeaderAppender {
     if (response.preferredChunkSize() > 0) {
       member.getSnapshotChunkReader().setMaximumChunkSize(response.preferredChunkSize());
     }
+    // the follower advertises the chunks it already has in its response to the initial request;
+    // these are not sent, but reused by the follower when the snapshot is complete
+    if (request.isInitial() && !request.complete() && !response.snapshotChecksums().isEmpty()) {
+      final var excludedChunks =
+          member.getSnapshotChunkReader().exclude(response.snapshotChecksums());
+      LOGGER.debug(
+          "Member {} already has {} of the chunks of snapshot {}, which will not be sent",
+          member.getMember().memberId(),
+          excludedChunks.size(),
+          request.index());
+    }
     // If the install request was completed successfully, set the member's snapshotIndex and reset
     // the next snapshot index/offset.
     if (request.complete()) {
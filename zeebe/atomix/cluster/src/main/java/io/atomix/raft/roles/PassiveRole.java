@@ -54,6 +54,7 @@ import io.camunda.zeebe.journal.JournalException.InvalidIndex;
 import io.camunda.zeebe.snapshots.PersistedSnapshot;
 import io.camunda.zeebe.snapshots.ReceivedSnapshot;
 import io.camunda.zeebe.snapshots.SnapshotException.SnapshotAlreadyExistsException;
+import io.camunda.zeebe.snapshots.SnapshotReservation;
 import io.camunda.zeebe.snapshots.impl.SnapshotChunkId;
 import io.camunda.zeebe.util.CheckedRunnable;
 import io.camunda.zeebe.util.Either;
@@ -61,6 +62,7 @@ import io.camunda.zeebe.util.logging.ThrottledLogger;
 import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
@@ -75,6 +77,10 @@ public class PassiveRole extends InactiveRole {
   private ReceivedSnapshot pendingSnapshot;
   private ByteBuffer nextPendingSnapshotChunkId;
   private ByteBuffer previouslyReceivedSnapshotChunkId;
+  // the latest snapshot, whose chunks were advertised to the leader when receiving a new snapshot;
+  // reserved such that the chunks can be reused once the new snapshot is complete
+  private PersistedSnapshot reusableSnapshot;
+  private SnapshotReservation reusableSnapshotReservation;
   private final int snapshotChunkSize;
 
   public PassiveRole(final RaftContext context) {
@@ -167,6 +173,7 @@ public class PassiveRole extends InactiveRole {
     }
 
     // Process the request
+    Map<String, Long> availableChecksums = Map.of();
 
     // If there is no pending snapshot, create a new snapshot.
     if (pendingSnapshot == null) {
@@ -205,6 +212,7 @@ public class PassiveRole extends InactiveRole {
       log.info("Started receiving new snapshot {} from {}", pendingSnapshot, request.leader());
       pendingSnapshotStartTimestamp = System.currentTimeMillis();
       snapshotReplicationMetrics.incrementCount();
+      availableChecksums = reserveReusableSnapshot();
 
       // When all chunks of the snapshot is received the log will be reset. Hence notify the
       // listeners in advance so that they can close all consumers of the log.
@@ -237,6 +245,8 @@ public class PassiveRole extends InactiveRole {
       final PersistedSnapshot persistedSnapshot;
       log.debug("Committing snapshot {}", pendingSnapshot);
       try {
+        reuseChunks(request.reusedChunks());
+
         // Reset before committing to prevent the edge case where the system crashes after
         // committing the snapshot, and restart with a snapshot and invalid log.
         resetLogOnReceivingSnapshot(pendingSnapshot.index());
@@ -259,6 +269,7 @@ public class PassiveRole extends InactiveRole {
       pendingSnapshotStartTimestamp = 0L;
       setNextExpected(null);
       previouslyReceivedSnapshotChunkId = null;
+      releaseReusableSnapshot();
       snapshotReplicationMetrics.decrementCount();
       snapshotReplicationMetrics.observeDuration(elapsed);
       raft.updateCurrentSnapshot();
@@ -273,9 +284,69 @@ public class PassiveRole extends InactiveRole {
             InstallResponse.builder()
                 .withStatus(RaftResponse.Status.OK)
                 .withPreferredChunkSize(snapshotChunkSize)
+                .withSnapshotChecksums(availableChecksums)
                 .build()));
   }
 
+  /**
+   * Reserves the latest snapshot, such that its chunks can be reused for the snapshot which is
+   * being received. Most files of consecutive snapshots are immutable and shared, so the leader
+   * only has to send the ones which changed.
+   *
+   * @return the checksums of the chunks of the reserved snapshot, or an empty map if there is none
+   */
+  private Map<String, Long> reserveReusableSnapshot() {
+    releaseReusableSnapshot();
+
+    final var latestSnapshot = raft.getPersistedSnapshotStore().getLatestSnapshot();
+    if (latestSnapshot.isEmpty() || latestSnapshot.get().getChecksums() == null) {
+      return Map.of();
+    }
+
+    final var snapshot = latestSnapshot.get();
+    try {
+      reusableSnapshotReservation = snapshot.reserve().join();
+    } catch (final Exception e) {
+      log.debug(
+          "Failed to reserve snapshot {}, will receive all chunks of snapshot {}",
+          snapshot.getId(),
+          pendingSnapshot,
+          e);
+      return Map.of();
+    }
+
+    reusableSnapshot = snapshot;
+    return snapshot.getChecksums().getChecksums();
+  }
+
+  private void reuseChunks(final List<String> chunkNames) {
+    if (chunkNames.isEmpty()) {
+      return;
+    }
+
+    if (reusableSnapshot == null) {
+      throw new IllegalStateException(
+          String.format(
+              "Expected to reuse %d chunks of the latest snapshot, but none was advertised",
+              chunkNames.size()));
+    }
+
+    log.debug(
+        "Reusing {} chunks of snapshot {} for snapshot {}",
+        chunkNames.size(),
+        reusableSnapshot.getId(),
+        pendingSnapshot);
+    pendingSnapshot.reuse(reusableSnapshot, chunkNames).join();
+  }
+
+  private void releaseReusableSnapshot() {
+    if (reusableSnapshotReservation != null) {
+      reusableSnapshotReservation.release();
+      reusableSnapshotReservation = null;
+    }
+    reusableSnapshot = null;
+  }
+
   @Override
   public CompletableFuture<ReconfigureResponse> onReconfigure(final ReconfigureRequest request) {
     raft.checkThread();
@@ -552,6 +623,7 @@ public class PassiveRole extends InactiveRole {
       setNextExpected(null);
       previouslyReceivedSnapshotChunkId = null;
       log.info("Rolling back snapshot {}", pendingSnapshot);
+      releaseReusableSnapshot();
       try {
         pendingSnapshot.abort();
       } catch (final Exception e) {
@@ -66,6 +66,9 @@ public final class RaftStorage {
   private final ReceivableSnapshotStore persistedSnapshotStore;
   private final int journalIndexDensity;
   private final SegmentAllocator segmentAllocator;
+  private final boolean primitiveJournalIndex;
+  private final boolean persistSegmentIndex;
+  private final int readerPrefetchSize;
   private final MeterRegistry meterRegistry;
   private final RaftLogFlusher.Factory flusherFactory;
 
@@ -79,6 +82,9 @@ public final class RaftStorage {
       final ReceivableSnapshotStore persistedSnapshotStore,
       final int journalIndexDensity,
       final SegmentAllocator segmentAllocator,
+      final boolean primitiveJournalIndex,
+      final boolean persistSegmentIndex,
+      final int readerPrefetchSize,
       final MeterRegistry meterRegistry) {
     this.prefix = prefix;
     this.partitionId = partitionId;
@@ -89,6 +95,9 @@ public final class RaftStorage {
     this.persistedSnapshotStore = persistedSnapshotStore;
     this.journalIndexDensity = journalIndexDensity;
     this.segmentAllocator = segmentAllocator;
+    this.primitiveJournalIndex = primitiveJournalIndex;
+    this.persistSegmentIndex = persistSegmentIndex;
+    this.readerPrefetchSize = readerPrefetchSize;
     this.meterRegistry = meterRegistry;
 
     try {
@@ -198,6 +207,9 @@ public final class RaftStorage {
         .withFreeDiskSpace(freeDiskSpace)
         .withJournalIndexDensity(journalIndexDensity)
         .withSegmentAllocator(segmentAllocator)
+        .withPrimitiveJournalIndex(primitiveJournalIndex)
+        .withPersistedSegmentIndex(persistSegmentIndex)
+        .withReaderPrefetchSize(readerPrefetchSize)
         .withMetaStore(metaStore)
         .withFlusher(flusherFactory.createFlusher(threadFactory))
         .build();
@@ -266,6 +278,9 @@ public final class RaftStorage {
     private ReceivableSnapshotStore persistedSnapshotStore;
     private int journalIndexDensity = DEFAULT_JOURNAL_INDEX_DENSITY;
     private SegmentAllocator segmentAllocator = SegmentAllocator.defaultAllocator();
+    private boolean primitiveJournalIndex = false;
+    private boolean persistSegmentIndex = false;
+    private int readerPrefetchSize = 0;
     private int partitionId = DEFAULT_PARTITION_ID;
     private final MeterRegistry meterRegistry;
 
@@ -373,6 +388,42 @@ public final class RaftStorage {
       return this;
     }
 
+    /**
+     * Sets whether the journal index is backed by primitive arrays instead of skip list maps, which
+     * avoids boxing and per entry allocations and so reduces heap usage and GC pressure.
+     *
+     * @param primitiveJournalIndex true to use the primitive journal index
+     * @return this builder for chaining
+     */
+    public Builder withPrimitiveJournalIndex(final boolean primitiveJournalIndex) {
+      this.primitiveJournalIndex = primitiveJournalIndex;
+      return this;
+    }
+
+    /**
+     * Sets whether the journal index entries of sealed segments are persisted in sidecar files,
+     * which are used to restore the index on startup without reading the segments.
+     *
+     * @param persistSegmentIndex true to persist the index of sealed segments
+     * @return this builder for chaining
+     */
+    public Builder withPersistedSegmentIndex(final boolean persistSegmentIndex) {
+      this.persistSegmentIndex = persistSegmentIndex;
+      return this;
+    }
+
+    /**
+     * Sets the size, in bytes, of the window which sequential log readers prefetch ahead of their
+     * position via read-ahead hints. A value of 0 disables read-ahead hints.
+     *
+     * @param readerPrefetchSize the size of the prefetch window in bytes, or 0 to disable it
+     * @return this builder for chaining
+     */
+    public Builder withReaderPrefetchSize(final int readerPrefetchSize) {
+      this.readerPrefetchSize = readerPrefetchSize;
+      return this;
+    }
+
     /**
      * The ID of the partition on which this storage resides.
      *
@@ -401,6 +452,9 @@ public final class RaftStorage {
           persistedSnapshotStore,
           journalIndexDensity,
           segmentAllocator,
+          primitiveJournalIndex,
+          persistSegmentIndex,
+          readerPrefetchSize,
           meterRegistry);
     }
   }
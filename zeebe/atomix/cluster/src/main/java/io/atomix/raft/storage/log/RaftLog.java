@@ -26,6 +26,7 @@ import io.atomix.raft.storage.serializer.RaftEntrySBESerializer;
 import io.atomix.raft.storage.serializer.RaftEntrySerializer;
 import io.camunda.zeebe.journal.CheckedJournalException.FlushException;
 import io.camunda.zeebe.journal.Journal;
+import io.camunda.zeebe.journal.JournalReader.Mode;
 import io.camunda.zeebe.journal.JournalRecord;
 import io.camunda.zeebe.journal.SegmentInfo;
 import io.micrometer.core.instrument.MeterRegistry;
@@ -64,7 +65,17 @@ public final class RaftLog implements Closeable {
    * @return the reader
    */
   public RaftLogReader openUncommittedReader() {
-    return new RaftLogUncommittedReader(journal.openReader());
+    return openUncommittedReader(Mode.TAIL);
+  }
+
+  /**
+   * Opens the reader that can read both committed and uncommitted entries.
+   *
+   * @param mode whether the reader follows the tail or catches up with older entries
+   * @return the reader
+   */
+  public RaftLogReader openUncommittedReader(final Mode mode) {
+    return new RaftLogUncommittedReader(journal.openReader(mode));
   }
 
   /**
@@ -73,7 +84,17 @@ public final class RaftLog implements Closeable {
    * @return the reader
    */
   public RaftLogReader openCommittedReader() {
-    return new RaftLogCommittedReader(this, new RaftLogUncommittedReader(journal.openReader()));
+    return openCommittedReader(Mode.TAIL);
+  }
+
+  /**
+   * Opens the reader that can only read committed entries.
+   *
+   * @param mode whether the reader follows the tail or catches up with older entries
+   * @return the reader
+   */
+  public RaftLogReader openCommittedReader(final Mode mode) {
+    return new RaftLogCommittedReader(this, new RaftLogUncommittedReader(journal.openReader(mode)));
   }
 
   public boolean isOpen() {
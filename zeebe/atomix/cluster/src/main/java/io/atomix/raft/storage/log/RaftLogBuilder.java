@@ -117,6 +117,42 @@ public class RaftLogBuilder implements io.atomix.utils.Builder<RaftLog> {
     return this;
   }
 
+  /**
+   * Sets whether the journal index is backed by primitive arrays instead of skip list maps, which
+   * avoids boxing and per entry allocations and so reduces heap usage and GC pressure.
+   *
+   * @param primitiveJournalIndex true to use the primitive journal index
+   * @return this builder for chaining
+   */
+  public RaftLogBuilder withPrimitiveJournalIndex(final boolean primitiveJournalIndex) {
+    journalBuilder.withPrimitiveJournalIndex(primitiveJournalIndex);
+    return this;
+  }
+
+  /**
+   * Sets whether the journal index entries of sealed segments are persisted in sidecar files, which
+   * are used to restore the index on startup without reading the segments.
+   *
+   * @param persistSegmentIndex true to persist the index of sealed segments
+   * @return this builder for chaining
+   */
+  public RaftLogBuilder withPersistedSegmentIndex(final boolean persistSegmentIndex) {
+    journalBuilder.withPersistedSegmentIndex(persistSegmentIndex);
+    return this;
+  }
+
+  /**
+   * Sets the size, in bytes, of the window which sequential log readers prefetch ahead of their
+   * position via read-ahead hints. A value of 0 disables read-ahead hints.
+   *
+   * @param readerPrefetchSize the size of the prefetch window in bytes, or 0 to disable it
+   * @return this builder for chaining
+   */
+  public RaftLogBuilder withReaderPrefetchSize(final int readerPrefetchSize) {
+    journalBuilder.withReaderPrefetchSize(readerPrefetchSize);
+    return this;
+  }
+
   /**
    * Sets whether segment files are pre-allocated at creation. If true, segment files are
    * pre-allocated to the maximum segment size (see {@link #withMaxSegmentSize(int)}}) at creation
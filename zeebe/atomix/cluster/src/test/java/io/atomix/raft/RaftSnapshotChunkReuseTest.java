@@ -0,0 +1,79 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.atomix.raft.protocol.InstallRequest;
+import io.atomix.raft.protocol.TestRaftServerProtocol;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class RaftSnapshotChunkReuseTest {
+
+  @Rule public RaftRule raftRule = RaftRule.withBootstrappedNodes(3);
+
+  @Test
+  public void shouldOnlySendChunksWhichFollowerDoesNotHave() throws Exception {
+    // given - a follower with an older snapshot, whose chunks are also part of the newer one
+    final var leader = raftRule.getLeader().orElseThrow();
+    final var follower = raftRule.getFollower().orElseThrow();
+    final var olderSnapshotIndex = raftRule.appendEntries(2);
+    raftRule.awaitSameLogSizeOnAllNodes(olderSnapshotIndex);
+    raftRule.takeSnapshot(follower, olderSnapshotIndex, 5);
+
+    raftRule.partition(follower);
+    leader.getContext().setPreferSnapshotReplicationThreshold(1);
+    final var snapshotIndex = raftRule.appendEntries(2);
+    final var snapshot = raftRule.takeSnapshot(leader, snapshotIndex, 6).orElseThrow();
+    raftRule.appendEntry();
+
+    final Set<String> sentChunks = ConcurrentHashMap.newKeySet();
+    final var leaderProtocol = (TestRaftServerProtocol) leader.getContext().getProtocol();
+    leaderProtocol.interceptRequest(
+        InstallRequest.class,
+        (Consumer<InstallRequest>) request -> sentChunks.add(chunkName(request)));
+
+    // when
+    final var snapshotReceived = new CountDownLatch(1);
+    raftRule
+        .getPersistedSnapshotStore(follower.name())
+        .addSnapshotListener(
+            s -> {
+              if (s.getIndex() == snapshotIndex) {
+                snapshotReceived.countDown();
+              }
+            });
+    raftRule.reconnect(follower);
+
+    // then
+    assertThat(snapshotReceived.await(30, TimeUnit.SECONDS)).isTrue();
+    assertThat(sentChunks)
+        .describedAs(
+            "Should only send the first chunk, the chunk announced with it, and the last chunk, "
+                + "as the follower already has the others")
+        .containsExactlyInAnyOrder("chunk-0", "chunk-1", "chunk-5");
+
+    final var receivedSnapshot = raftRule.getSnapshotOnNode(follower.name());
+    assertThat(receivedSnapshot.getId()).isEqualTo(snapshot.getId());
+    assertThat(receivedSnapshot.getChecksums().getChecksums())
+        .containsOnlyKeys("chunk-0", "chunk-1", "chunk-2", "chunk-3", "chunk-4", "chunk-5")
+        .isEqualTo(snapshot.getChecksums().getChecksums());
+  }
+
+  private static String chunkName(final InstallRequest request) {
+    return BufferUtil.bufferAsString(new UnsafeBuffer(request.chunkId()));
+  }
+}
@@ -30,10 +30,13 @@ import io.camunda.zeebe.util.StringUtil;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import java.nio.ByteBuffer;
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Map;
 import java.util.NavigableMap;
 import java.util.Objects;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.TreeSet;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.zip.CRC32C;
 import java.util.zip.Checksum;
@@ -107,17 +110,19 @@ public final class InMemorySnapshot implements PersistedSnapshot, ReceivedSnapsh
   @Override
   public SnapshotChunkReader newChunkReader() {
     return new SnapshotChunkReader() {
-      private NavigableMap<String, String> iterator = chunks;
+      private final NavigableMap<String, String> remainingChunks = new TreeMap<>(chunks);
+      private final Set<String> excludedChunks = new TreeSet<>();
+      private NavigableMap<String, String> iterator = remainingChunks;
 
       @Override
       public void reset() {
-        iterator = chunks;
+        iterator = remainingChunks;
       }
 
       @Override
       public void seek(final ByteBuffer id) {
         final var chunkId = BufferUtil.bufferAsString(new UnsafeBuffer(id));
-        iterator = chunks.tailMap(chunkId, true);
+        iterator = remainingChunks.tailMap(chunkId, true);
       }
 
       @Override
@@ -144,10 +149,37 @@ public final class InMemorySnapshot implements PersistedSnapshot, ReceivedSnapsh
       @Override
       public SnapshotChunk next() {
         final var nextEntry = iterator.firstEntry();
-        iterator = chunks.tailMap(nextEntry.getKey(), false);
+        iterator = remainingChunks.tailMap(nextEntry.getKey(), false);
         return new TestSnapshotChunkImpl(
             id, nextEntry.getKey(), StringUtil.getBytes(nextEntry.getValue()), chunks.size());
       }
+
+      @Override
+      public Set<String> exclude(final Map<String, Long> availableChecksums) {
+        if (iterator.isEmpty()) {
+          return Set.of();
+        }
+
+        // same as the file based reader: the next and the last chunk are always sent
+        final var candidates =
+            iterator.subMap(iterator.firstKey(), false, remainingChunks.lastKey(), false);
+        final var excluded = new TreeSet<String>();
+        candidates.forEach(
+            (chunkName, content) -> {
+              if (Objects.equals(checksumOf(content), availableChecksums.get(chunkName))) {
+                excluded.add(chunkName);
+              }
+            });
+
+        excluded.forEach(remainingChunks::remove);
+        excludedChunks.addAll(excluded);
+        return excluded;
+      }
+
+      @Override
+      public Set<String> excludedChunks() {
+        return excludedChunks;
+      }
     };
   }
 
@@ -212,6 +244,14 @@ public final class InMemorySnapshot implements PersistedSnapshot, ReceivedSnapsh
     return CompletableActorFuture.completed(null);
   }
 
+  @Override
+  public ActorFuture<Void> reuse(
+      final PersistedSnapshot snapshot, final Collection<String> chunkNames) {
+    final var source = (InMemorySnapshot) snapshot;
+    chunkNames.forEach(chunkName -> chunks.put(chunkName, source.chunks.get(chunkName)));
+    return CompletableActorFuture.completed(null);
+  }
+
   @Override
   public ActorFuture<Void> abort() {
     return CompletableActorFuture.completed(null);
@@ -219,8 +259,11 @@ public final class InMemorySnapshot implements PersistedSnapshot, ReceivedSnapsh
 
   @Override
   public ActorFuture<PersistedSnapshot> persist() {
+    final var checksums = new SfvChecksumImpl();
+    chunks.forEach(
+        (chunkName, content) -> checksums.updateFromBytes(chunkName, StringUtil.getBytes(content)));
+    checksum = checksums;
     testSnapshotStore.newSnapshot(this);
-    checksum = new SfvChecksumImpl();
     return CompletableActorFuture.completed(this);
   }
 
@@ -254,6 +297,12 @@ public final class InMemorySnapshot implements PersistedSnapshot, ReceivedSnapsh
     };
   }
 
+  private static long checksumOf(final String content) {
+    final var checksum = new CRC32C();
+    checksum.update(StringUtil.getBytes(content));
+    return checksum.getValue();
+  }
+
   @Override
   public int hashCode() {
     return Objects.hash(index, term, id);
@@ -0,0 +1,72 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.backup.common;
+
+import io.camunda.zeebe.backup.api.BackupIdentifier;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The storage of a {@link ContentStore}, implemented by each backup store which supports storing
+ * files by content. It stores two kinds of objects per partition: the contents of the files under
+ * their content key, and per backup the set of content keys the backup references.
+ *
+ * <p>Implementations don't need to be thread safe with regard to the references of a partition, as
+ * the {@link ContentStore} only modifies them while holding the {@link #lockReferences(int) lock}.
+ */
+public interface ContentStorage {
+
+  /**
+   * @return the content keys of all contents stored for the given partition; contents which are
+   *     still being stored must not be included
+   */
+  Set<String> listContents(int partitionId);
+
+  /**
+   * Stores the contents of the given files. Each content must only become visible under its key
+   * once it is completely stored, and must be durable once this method returns.
+   *
+   * @param sourcesByContentKey the file to store under each content key
+   */
+  void putContents(int partitionId, Map<String, Path> sourcesByContentKey);
+
+  /**
+   * Copies stored contents to the given files, which must be durable once this method returns.
+   *
+   * @param contentKeysByTarget the content key to copy to each target file
+   */
+  void getContents(int partitionId, Map<Path, String> contentKeysByTarget);
+
+  /** Deletes the given contents; contents which don't exist are ignored. */
+  void deleteContents(int partitionId, Collection<String> contentKeys);
+
+  /** Stores the content keys the given backup references, replacing any previous references. */
+  void putReferences(BackupIdentifier id, Set<String> contentKeys);
+
+  /** Deletes the references of the given backup; does nothing if it has none. */
+  void deleteReferences(BackupIdentifier id);
+
+  /**
+   * @return the content keys referenced by any backup of the given partition
+   */
+  Set<String> listReferencedContents(int partitionId);
+
+  /**
+   * Acquires an exclusive lock on the references of the given partition, which must exclude all
+   * other processes using the same storage, e.g. other brokers.
+   */
+  ReferencesLock lockReferences(int partitionId);
+
+  /** An exclusive lock on the references of a partition, released when closed. */
+  interface ReferencesLock extends AutoCloseable {
+    @Override
+    void close();
+  }
+}
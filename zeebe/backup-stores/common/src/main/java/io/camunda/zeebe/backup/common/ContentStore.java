@@ -0,0 +1,225 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.backup.common;
+
+import io.camunda.zeebe.backup.api.BackupIdentifier;
+import io.camunda.zeebe.backup.api.NamedFileSet;
+import io.camunda.zeebe.backup.common.FileSet.NamedFile;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Stores the files of backups by their content, such that a file which is part of several backups,
+ * e.g. an immutable SST file of consecutive snapshots, is only stored once. Files are only shared
+ * within a partition.
+ *
+ * <p>Every file is stored under its content key, the SHA-256 digest of its contents. Each backup
+ * references the content keys of its files, and contents which are no longer referenced by any
+ * backup are deleted by a mark and sweep over all references of the partition. Releasing the
+ * references of a backup is idempotent, such that a failed delete can simply be retried.
+ *
+ * <p>The references of a partition are only modified while holding the {@link
+ * ContentStorage#lockReferences(int) lock}, and unreferenced contents are only deleted while
+ * holding it, such that contents cannot be deleted by one backup while another one starts to
+ * reference them. Contents are stored outside of the lock.
+ *
+ * <p>The storage itself is provided by the backup store, see {@link ContentStorage}.
+ */
+public final class ContentStore {
+
+  private static final String DIGEST_ALGORITHM = "SHA-256";
+  private static final int BUFFER_SIZE = 64 * 1024;
+  private static final String IMMUTABLE_FILE_SUFFIX = ".sst";
+
+  private final ContentStorage storage;
+
+  // the content keys of the immutable files indexed by the last backup of each partition, such that
+  // the files shared with the next backup don't have to be read again
+  private final Map<Integer, Map<FileIdentity, String>> immutableContentKeys =
+      new ConcurrentHashMap<>();
+
+  public ContentStore(final ContentStorage storage) {
+    this.storage = storage;
+  }
+
+  /**
+   * Computes the content key of each file of the given file set. RocksDB SST files are immutable,
+   * so the content key of an SST file which was already part of the previous backup of the
+   * partition, with the same name, size and modification time, is reused instead of reading the
+   * file again.
+   *
+   * @return the file set to persist in the manifest, with the content key of each file
+   */
+  public FileSet index(final BackupIdentifier id, final NamedFileSet fileSet) {
+    if (fileSet == null) {
+      return new FileSet(List.of());
+    }
+
+    final var previousKeys = immutableContentKeys.getOrDefault(id.partitionId(), Map.of());
+    final var currentKeys = new HashMap<FileIdentity, String>();
+    final var files =
+        fileSet.namedFiles().entrySet().stream()
+            .map(
+                file -> {
+                  final var name = file.getKey();
+                  if (!name.endsWith(IMMUTABLE_FILE_SUFFIX)) {
+                    return new NamedFile(name, contentKey(file.getValue()));
+                  }
+
+                  final var identity = FileIdentity.of(name, file.getValue());
+                  final var contentKey =
+                      previousKeys.containsKey(identity)
+                          ? previousKeys.get(identity)
+                          : contentKey(file.getValue());
+                  currentKeys.put(identity, contentKey);
+                  return new NamedFile(name, contentKey);
+                })
+            .toList();
+
+    if (!currentKeys.isEmpty()) {
+      immutableContentKeys.put(id.partitionId(), currentKeys);
+    }
+    return new FileSet(files);
+  }
+
+  /**
+   * References the files of the given backup, and stores the contents of all files which are not
+   * stored yet. Files which are already stored for another backup are not copied again.
+   *
+   * @param fileSets the files of the backup, with their content keys as computed by {@link
+   *     #index(BackupIdentifier, NamedFileSet)}
+   */
+  public void save(final BackupIdentifier id, final List<IndexedFileSet> fileSets) {
+    final var sourcesByContentKey = new HashMap<String, Path>();
+    for (final var fileSet : fileSets) {
+      for (final var file : fileSet.index().files()) {
+        sourcesByContentKey.putIfAbsent(
+            file.contentKey(), fileSet.files().namedFiles().get(file.name()));
+      }
+    }
+
+    // once referenced, the contents can't be deleted by a concurrent delete
+    try (final var ignored = storage.lockReferences(id.partitionId())) {
+      storage.putReferences(id, Set.copyOf(sourcesByContentKey.keySet()));
+    }
+
+    sourcesByContentKey.keySet().removeAll(storage.listContents(id.partitionId()));
+    storage.putContents(id.partitionId(), sourcesByContentKey);
+  }
+
+  /**
+   * Releases the references of the given backup, and deletes all contents of its partition which
+   * are no longer referenced by any backup.
+   */
+  public void release(final BackupIdentifier id) {
+    try (final var ignored = storage.lockReferences(id.partitionId())) {
+      storage.deleteReferences(id);
+      deleteUnreferencedContents(id.partitionId());
+    }
+  }
+
+  /**
+   * Deletes all contents of the given partition which are not referenced by any backup, e.g. which
+   * were left behind by a failed delete.
+   */
+  public void collectGarbage(final int partitionId) {
+    try (final var ignored = storage.lockReferences(partitionId)) {
+      deleteUnreferencedContents(partitionId);
+    }
+  }
+
+  /**
+   * Copies the files of the given file set into the target folder.
+   *
+   * @return the restored files, by name
+   */
+  public NamedFileSet restore(
+      final BackupIdentifier id, final FileSet fileSet, final Path targetFolder) {
+    final var contentKeysByTarget = new HashMap<Path, String>();
+    final var pathByName = new HashMap<String, Path>();
+    for (final var file : fileSet.files()) {
+      final var filePath = targetFolder.resolve(file.name());
+      contentKeysByTarget.put(filePath, file.contentKey());
+      pathByName.put(file.name(), filePath);
+    }
+
+    storage.getContents(id.partitionId(), contentKeysByTarget);
+    return new NamedFileSetImpl(pathByName);
+  }
+
+  /** Must be called while holding the lock on the references of the partition. */
+  private void deleteUnreferencedContents(final int partitionId) {
+    final var unreferenced = new HashSet<>(storage.listContents(partitionId));
+    unreferenced.removeAll(storage.listReferencedContents(partitionId));
+    if (!unreferenced.isEmpty()) {
+      storage.deleteContents(partitionId, unreferenced);
+    }
+  }
+
+  private static String contentKey(final Path file) {
+    final MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+    } catch (final NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+
+    try (final InputStream input = new DigestInputStream(Files.newInputStream(file), digest)) {
+      final byte[] buffer = new byte[BUFFER_SIZE];
+      while (input.read(buffer) != -1) {
+        // the digest is updated while reading
+      }
+    } catch (final IOException e) {
+      throw new UncheckedIOException("Unable to read file " + file, e);
+    }
+
+    return HexFormat.of().formatHex(Objects.requireNonNull(digest.digest()));
+  }
+
+  /**
+   * The files of a backup with their content keys.
+   *
+   * @param files the files, by name
+   * @param index the content keys of the files, as computed by {@link #index(BackupIdentifier,
+   *     NamedFileSet)}
+   */
+  public record IndexedFileSet(NamedFileSet files, FileSet index) {}
+
+  /**
+   * Identifies an immutable file without reading it. The file key, e.g. the inode, is only
+   * available on some filesystems and null otherwise.
+   */
+  private record FileIdentity(String name, long size, FileTime lastModified, Object fileKey) {
+
+    static FileIdentity of(final String name, final Path file) {
+      try {
+        final var attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        return new FileIdentity(
+            name, attributes.size(), attributes.lastModifiedTime(), attributes.fileKey());
+      } catch (final IOException e) {
+        throw new UncheckedIOException("Unable to read attributes of file " + file, e);
+      }
+    }
+  }
+}
@@ -43,9 +43,18 @@ public record FileSet(List<NamedFile> files) {
     return new FileSet(fileSet.namedFiles().keySet().stream().map(NamedFile::new).toList());
   }
 
-  public record NamedFile(String name) {
+  /**
+   * @param name the name of the file in the backup
+   * @param contentKey the key under which the contents of the file are stored, if the store shares
+   *     files with identical contents between backups; null if the file is stored per backup
+   */
+  public record NamedFile(String name, String contentKey) {
     public NamedFile {
       Objects.requireNonNull(name);
     }
+
+    public NamedFile(final String name) {
+      this(name, null);
+    }
   }
 }
@@ -93,6 +93,12 @@ public sealed interface Manifest {
 
     CompletedManifest complete();
 
+    /**
+     * Replaces the files of the backup, e.g. to add the content keys of the files once these are
+     * known.
+     */
+    InProgressManifest withFiles(final FileSet snapshot, final FileSet segments);
+
     FailedManifest fail(final String failureReason);
   }
 
@@ -108,6 +114,16 @@ public sealed interface Manifest {
   sealed interface FailedManifest extends Manifest permits ManifestImpl {
 
     String failureReason();
+
+    /**
+     * @return the snapshot files which may have been stored before the backup failed, or null
+     */
+    FileSet snapshot();
+
+    /**
+     * @return the segment files which may have been stored before the backup failed, or null
+     */
+    FileSet segments();
   }
 
   enum StatusCode {
@@ -53,6 +53,12 @@ public record ManifestImpl(
         id, descriptor, COMPLETED, snapshot, segments, createdAt, Instant.now());
   }
 
+  @Override
+  public InProgressManifest withFiles(final FileSet snapshot, final FileSet segments) {
+    return new ManifestImpl(
+        id, descriptor, IN_PROGRESS, snapshot, segments, createdAt, Instant.now());
+  }
+
   @Override
   public FailedManifest fail(final String failureReason) {
     return new ManifestImpl(
@@ -0,0 +1,248 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.backup.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.backup.api.BackupIdentifier;
+import io.camunda.zeebe.backup.common.ContentStore.IndexedFileSet;
+import io.camunda.zeebe.backup.common.FileSet.NamedFile;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class ContentStoreTest {
+
+  private static final int PARTITION_ID = 1;
+
+  @TempDir private Path tempDir;
+
+  private final InMemoryContentStorage storage = new InMemoryContentStorage();
+  private final ContentStore contentStore = new ContentStore(storage);
+
+  @Test
+  void shouldStoreSharedFilesOnce() throws IOException {
+    // given
+    final var first = backupId(1);
+    final var second = backupId(2);
+    final var files = fileSet(Map.of("000001.sst", "shared", "CURRENT", "1"));
+    final var otherFiles = fileSet(Map.of("000001.sst", "shared", "CURRENT", "2"));
+
+    // when
+    save(first, files);
+    save(second, otherFiles);
+
+    // then
+    assertThat(storage.contents).hasSize(3);
+  }
+
+  @Test
+  void shouldOnlyDeleteContentsWhichAreNoLongerReferenced() throws IOException {
+    // given
+    final var first = backupId(1);
+    final var second = backupId(2);
+    final var firstIndex = save(first, fileSet(Map.of("000001.sst", "shared", "CURRENT", "1")));
+    final var secondIndex = save(second, fileSet(Map.of("000001.sst", "shared", "CURRENT", "2")));
+
+    // when
+    contentStore.release(first);
+
+    // then
+    assertThat(storage.contents.keySet())
+        .containsExactlyInAnyOrderElementsOf(contentKeys(secondIndex))
+        .doesNotContain(contentKey(firstIndex, "CURRENT"));
+  }
+
+  @Test
+  void shouldReleaseIdempotently() throws IOException {
+    // given
+    final var id = backupId(1);
+    save(id, fileSet(Map.of("000001.sst", "a", "CURRENT", "1")));
+    contentStore.release(id);
+
+    // when
+    contentStore.release(id);
+
+    // then
+    assertThat(storage.contents).isEmpty();
+    assertThat(storage.references).isEmpty();
+  }
+
+  @Test
+  void shouldDeleteContentsLeftBehindWhenCollectingGarbage() throws IOException {
+    // given
+    final var id = backupId(1);
+    final var index = save(id, fileSet(Map.of("CURRENT", "1")));
+    storage.contents.put("leaked", new byte[0]);
+
+    // when
+    contentStore.collectGarbage(PARTITION_ID);
+
+    // then
+    assertThat(storage.contents.keySet()).containsExactlyElementsOf(contentKeys(index));
+  }
+
+  @Test
+  void shouldReuseContentKeyOfUnmodifiedSstFile() throws IOException {
+    // given
+    final var sstFile = writeFile("000001.sst", "before");
+    final var lastModified = Files.getLastModifiedTime(sstFile);
+    final var firstIndex = contentStore.index(backupId(1), fileSet(sstFile));
+
+    // when - the content changes without changing the identity of the file
+    Files.writeString(sstFile, "after!");
+    Files.setLastModifiedTime(sstFile, lastModified);
+    final var secondIndex = contentStore.index(backupId(2), fileSet(sstFile));
+
+    // then
+    assertThat(secondIndex.files()).isEqualTo(firstIndex.files());
+  }
+
+  @Test
+  void shouldRehashModifiedSstFile() throws IOException {
+    // given
+    final var sstFile = writeFile("000001.sst", "before");
+    final var firstIndex = contentStore.index(backupId(1), fileSet(sstFile));
+
+    // when
+    Files.writeString(sstFile, "after!");
+    Files.setLastModifiedTime(
+        sstFile, FileTime.fromMillis(Files.getLastModifiedTime(sstFile).toMillis() + 1000));
+    final var secondIndex = contentStore.index(backupId(2), fileSet(sstFile));
+
+    // then
+    assertThat(secondIndex.files()).isNotEqualTo(firstIndex.files());
+  }
+
+  @Test
+  void shouldRestoreFiles() throws IOException {
+    // given
+    final var id = backupId(1);
+    final var index = save(id, fileSet(Map.of("000001.sst", "sst", "CURRENT", "1")));
+    final var targetFolder = Files.createDirectory(tempDir.resolve("restored"));
+
+    // when
+    final var restored = contentStore.restore(id, index, targetFolder);
+
+    // then
+    assertThat(restored.namedFiles()).containsOnlyKeys("000001.sst", "CURRENT");
+    assertThat(restored.namedFiles().get("000001.sst")).hasContent("sst");
+    assertThat(restored.namedFiles().get("CURRENT")).hasContent("1");
+  }
+
+  private FileSet save(final BackupIdentifier id, final NamedFileSetImpl files) {
+    final var index = contentStore.index(id, files);
+    contentStore.save(id, List.of(new IndexedFileSet(files, index)));
+    return index;
+  }
+
+  private NamedFileSetImpl fileSet(final Map<String, String> contentByName) throws IOException {
+    final var folder = Files.createTempDirectory(tempDir, "files");
+    final var files = new HashMap<String, Path>();
+    for (final var file : contentByName.entrySet()) {
+      files.put(file.getKey(), Files.writeString(folder.resolve(file.getKey()), file.getValue()));
+    }
+    return new NamedFileSetImpl(files);
+  }
+
+  private NamedFileSetImpl fileSet(final Path file) {
+    return new NamedFileSetImpl(Map.of(file.getFileName().toString(), file));
+  }
+
+  private Path writeFile(final String name, final String content) throws IOException {
+    return Files.writeString(tempDir.resolve(name), content);
+  }
+
+  private static BackupIdentifier backupId(final long checkpointId) {
+    return new BackupIdentifierImpl(1, PARTITION_ID, checkpointId);
+  }
+
+  private static List<String> contentKeys(final FileSet fileSet) {
+    return fileSet.files().stream().map(NamedFile::contentKey).distinct().toList();
+  }
+
+  private static String contentKey(final FileSet fileSet, final String name) {
+    return fileSet.files().stream()
+        .filter(file -> file.name().equals(name))
+        .findFirst()
+        .orElseThrow()
+        .contentKey();
+  }
+
+  private static final class InMemoryContentStorage implements ContentStorage {
+
+    private final Map<String, byte[]> contents = new HashMap<>();
+    private final Map<BackupIdentifier, Set<String>> references = new HashMap<>();
+
+    @Override
+    public Set<String> listContents(final int partitionId) {
+      return Set.copyOf(contents.keySet());
+    }
+
+    @Override
+    public void putContents(final int partitionId, final Map<String, Path> sourcesByContentKey) {
+      sourcesByContentKey.forEach(
+          (contentKey, source) -> {
+            try {
+              contents.put(contentKey, Files.readAllBytes(source));
+            } catch (final IOException e) {
+              throw new UncheckedIOException(e);
+            }
+          });
+    }
+
+    @Override
+    public void getContents(final int partitionId, final Map<Path, String> contentKeysByTarget) {
+      contentKeysByTarget.forEach(
+          (target, contentKey) -> {
+            try {
+              Files.write(target, contents.get(contentKey));
+            } catch (final IOException e) {
+              throw new UncheckedIOException(e);
+            }
+          });
+    }
+
+    @Override
+    public void deleteContents(final int partitionId, final Collection<String> contentKeys) {
+      contents.keySet().removeAll(contentKeys);
+    }
+
+    @Override
+    public void putReferences(final BackupIdentifier id, final Set<String> contentKeys) {
+      references.put(id, contentKeys);
+    }
+
+    @Override
+    public void deleteReferences(final BackupIdentifier id) {
+      references.remove(id);
+    }
+
+    @Override
+    public Set<String> listReferencedContents(final int partitionId) {
+      final var referenced = new HashSet<String>();
+      references.values().forEach(referenced::addAll);
+      return referenced;
+    }
+
+    @Override
+    public ReferencesLock lockReferences(final int partitionId) {
+      return () -> {};
+    }
+  }
+}
@@ -7,11 +7,12 @@
  */
 package io.camunda.zeebe.backup.filesystem;
 
-public record FilesystemBackupConfig(String basePath) {
+public record FilesystemBackupConfig(String basePath, boolean contentAddressed) {
 
   public static class Builder {
 
     private String basePath;
+    private boolean contentAddressed;
 
     /**
      * The base path to store all related backup files in.
@@ -24,9 +25,23 @@ public record FilesystemBackupConfig(String basePath) {
       return this;
     }
 
+    /**
+     * Whether files are stored by their content, such that files which are part of several backups
+     * of a partition are only stored once. Backups which were taken with either setting can be
+     * restored and deleted regardless of it. As brokers sharing the base path coordinate through
+     * file locks, the filesystem must support them, e.g. NFS requires a lock manager.
+     *
+     * @param contentAddressed true to store files with identical contents only once
+     * @return the builder for chaining
+     */
+    public Builder withContentAddressed(final boolean contentAddressed) {
+      this.contentAddressed = contentAddressed;
+      return this;
+    }
+
     public FilesystemBackupConfig build() {
 
-      return new FilesystemBackupConfig(basePath);
+      return new FilesystemBackupConfig(basePath, contentAddressed);
     }
   }
 }
@@ -14,10 +14,15 @@ import io.camunda.zeebe.backup.api.BackupRangeMarker;
 import io.camunda.zeebe.backup.api.BackupStatus;
 import io.camunda.zeebe.backup.api.BackupStatusCode;
 import io.camunda.zeebe.backup.api.BackupStore;
+import io.camunda.zeebe.backup.api.NamedFileSet;
 import io.camunda.zeebe.backup.common.BackupImpl;
 import io.camunda.zeebe.backup.common.BackupStatusImpl;
 import io.camunda.zeebe.backup.common.BackupStoreException.UnexpectedManifestState;
+import io.camunda.zeebe.backup.common.ContentStore;
+import io.camunda.zeebe.backup.common.ContentStore.IndexedFileSet;
+import io.camunda.zeebe.backup.common.FileSet;
 import io.camunda.zeebe.backup.common.Manifest;
+import io.camunda.zeebe.backup.common.Manifest.InProgressManifest;
 import io.camunda.zeebe.util.FileUtil;
 import java.io.IOException;
 import java.io.UncheckedIOException;
@@ -39,6 +44,12 @@ import org.slf4j.LoggerFactory;
  *
  * <p>All created object keys are prefixed by the {@link BackupIdentifier}, with the following
  * scheme: {@code basePath/partitionId/checkpointId/nodeId}.
+ *
+ * <p>If the store is {@link FilesystemBackupConfig#contentAddressed() content addressed}, the files
+ * of a backup are instead stored in a {@link ContentStore}, such that files which are shared by
+ * several backups of a partition are only stored once. The manifest then records the content key
+ * of each file, which is used to restore and delete the backup. The contents are stored in {@code
+ * basePath/objects}, see {@link FilesystemContentStorage}.
  */
 public final class FilesystemBackupStore implements BackupStore {
 
@@ -53,10 +64,14 @@ public final class FilesystemBackupStore implements BackupStore {
   private static final String CONTENTS_PATH = "contents";
   private static final String MANIFESTS_PATH = "manifests";
   private static final String RANGES_PATH = "ranges";
+  private static final String OBJECTS_PATH = "objects";
+  private static final String REFERENCES_PATH = "references";
 
   private final ExecutorService executor;
   private final FileSetManager fileSetManager;
   private final ManifestManager manifestManager;
+  private final ContentStore contentStore;
+  private final boolean contentAddressed;
   private final Path rangesDir;
 
   FilesystemBackupStore(final FilesystemBackupConfig config) {
@@ -71,10 +86,14 @@ public final class FilesystemBackupStore implements BackupStore {
     final var contentsDir = Path.of(config.basePath()).resolve(CONTENTS_PATH);
     final var manifestsDir = Path.of(config.basePath()).resolve(MANIFESTS_PATH);
     rangesDir = Path.of(config.basePath()).resolve(RANGES_PATH);
+    final var objectsDir = Path.of(config.basePath()).resolve(OBJECTS_PATH);
+    final var referencesDir = Path.of(config.basePath()).resolve(REFERENCES_PATH);
     try {
       FileUtil.ensureDirectoryExists(contentsDir);
       FileUtil.ensureDirectoryExists(manifestsDir);
       FileUtil.ensureDirectoryExists(rangesDir);
+      FileUtil.ensureDirectoryExists(objectsDir);
+      FileUtil.ensureDirectoryExists(referencesDir);
     } catch (final IOException e) {
       throw new UncheckedIOException(
           "Unable to create backup directory structure; do you have the right permissions or configuration?",
@@ -83,6 +102,10 @@ public final class FilesystemBackupStore implements BackupStore {
 
     fileSetManager = new FileSetManager(contentsDir);
     manifestManager = new ManifestManager(manifestsDir);
+    // always created, such that content addressed backups can be restored and deleted even if the
+    // store does not create such backups anymore
+    contentStore = new ContentStore(new FilesystemContentStorage(objectsDir, referencesDir));
+    contentAddressed = config.contentAddressed();
   }
 
   @Override
@@ -91,9 +114,13 @@ public final class FilesystemBackupStore implements BackupStore {
         () -> {
           final var manifest = manifestManager.createInitialManifest(backup);
           try {
-            fileSetManager.save(backup.id(), SNAPSHOT_FILESET_NAME, backup.snapshot());
-            fileSetManager.save(backup.id(), SEGMENTS_FILESET_NAME, backup.segments());
-            manifestManager.completeManifest(manifest);
+            if (contentAddressed) {
+              saveContentAddressed(backup, manifest);
+            } else {
+              fileSetManager.save(backup.id(), SNAPSHOT_FILESET_NAME, backup.snapshot());
+              fileSetManager.save(backup.id(), SEGMENTS_FILESET_NAME, backup.segments());
+              manifestManager.completeManifest(manifest);
+            }
           } catch (final Exception e) {
             manifestManager.markAsFailed(manifest.id(), e.getMessage());
             throw e;
@@ -102,6 +129,22 @@ public final class FilesystemBackupStore implements BackupStore {
         executor);
   }
 
+  private void saveContentAddressed(final Backup backup, final InProgressManifest manifest) {
+    // the content keys are persisted before any file is referenced, such that the references can
+    // always be released by deleting the backup, even if saving it fails halfway
+    final var snapshot = contentStore.index(backup.id(), backup.snapshot());
+    final var segments = contentStore.index(backup.id(), backup.segments());
+    final var indexedManifest = manifest.withFiles(snapshot, segments);
+    manifestManager.updateManifest(indexedManifest);
+
+    contentStore.save(
+        backup.id(),
+        List.of(
+            new IndexedFileSet(backup.snapshot(), snapshot),
+            new IndexedFileSet(backup.segments(), segments)));
+    manifestManager.completeManifest(indexedManifest);
+  }
+
   @Override
   public CompletableFuture<BackupStatus> getStatus(final BackupIdentifier id) {
     return CompletableFuture.supplyAsync(
@@ -126,6 +169,14 @@ public final class FilesystemBackupStore implements BackupStore {
   public CompletableFuture<Void> delete(final BackupIdentifier id) {
     return CompletableFuture.runAsync(
         () -> {
+          final var files = StoredFiles.of(manifestManager.getManifest(id));
+          if (isStoredByContent(files.snapshot()) || isStoredByContent(files.segments())) {
+            deleteContentAddressed(id);
+            return;
+          }
+
+          // the manifest is deleted first, such that a backup is never visible without its files;
+          // should deleting the files fail, they are leaked but no longer used by any backup
           manifestManager.deleteManifest(id);
           fileSetManager.delete(id, SNAPSHOT_FILESET_NAME);
           fileSetManager.delete(id, SEGMENTS_FILESET_NAME);
@@ -148,11 +199,9 @@ public final class FilesystemBackupStore implements BackupStore {
             case COMPLETED -> {
               final var completed = manifest.asCompleted();
               final var snapshot =
-                  fileSetManager.restore(
-                      id, SNAPSHOT_FILESET_NAME, completed.snapshot(), targetFolder);
+                  restoreFileSet(id, SNAPSHOT_FILESET_NAME, completed.snapshot(), targetFolder);
               final var segments =
-                  fileSetManager.restore(
-                      id, SEGMENTS_FILESET_NAME, completed.segments(), targetFolder);
+                  restoreFileSet(id, SEGMENTS_FILESET_NAME, completed.segments(), targetFolder);
               yield new BackupImpl(id, manifest.descriptor(), snapshot, segments);
             }
           };
@@ -160,6 +209,36 @@ public final class FilesystemBackupStore implements BackupStore {
         executor);
   }
 
+  private void deleteContentAddressed(final BackupIdentifier id) {
+    // the backup is marked as failed first, such that it is not restored while its contents are
+    // released, and the manifest is only deleted once they are; releasing is idempotent, so a
+    // failed delete can be retried without leaking any contents
+    manifestManager.markAsFailed(id, "Backup is being deleted");
+    contentStore.release(id);
+    manifestManager.deleteManifest(id);
+  }
+
+  private NamedFileSet restoreFileSet(
+      final BackupIdentifier id,
+      final String fileSetName,
+      final FileSet fileSet,
+      final Path targetFolder) {
+    if (isStoredByContent(fileSet)) {
+      return contentStore.restore(id, fileSet, targetFolder);
+    }
+    return fileSetManager.restore(id, fileSetName, fileSet, targetFolder);
+  }
+
+  /**
+   * A backup is either stored by content or per backup, depending on the configuration of the store
+   * when it was taken.
+   */
+  private static boolean isStoredByContent(final FileSet fileSet) {
+    return fileSet != null
+        && !fileSet.files().isEmpty()
+        && fileSet.files().stream().allMatch(file -> file.contentKey() != null);
+  }
+
   @Override
   public CompletableFuture<BackupStatusCode> markFailed(
       final BackupIdentifier id, final String failureReason) {
@@ -266,4 +345,28 @@ public final class FilesystemBackupStore implements BackupStore {
   public static BackupStore of(final FilesystemBackupConfig storeConfig) {
     return new FilesystemBackupStore(storeConfig);
   }
+
+  /**
+   * The files of a backup which may have been stored, as recorded by its manifest.
+   *
+   * @param snapshot the snapshot files, or null if unknown
+   * @param segments the segment files, or null if unknown
+   */
+  private record StoredFiles(FileSet snapshot, FileSet segments) {
+
+    static StoredFiles of(final Manifest manifest) {
+      if (manifest == null) {
+        return new StoredFiles(null, null);
+      }
+
+      return switch (manifest.statusCode()) {
+        case COMPLETED ->
+            new StoredFiles(manifest.asCompleted().snapshot(), manifest.asCompleted().segments());
+        case FAILED ->
+            new StoredFiles(manifest.asFailed().snapshot(), manifest.asFailed().segments());
+        // in progress backups are never deleted
+        case IN_PROGRESS -> new StoredFiles(null, null);
+      };
+    }
+  }
 }
@@ -0,0 +1,291 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.backup.filesystem;
+
+import io.camunda.zeebe.backup.api.BackupIdentifier;
+import io.camunda.zeebe.backup.common.ContentStorage;
+import io.camunda.zeebe.backup.common.ContentStore;
+import io.camunda.zeebe.util.FileUtil;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link ContentStorage} for the local filesystem, used by the {@link ContentStore} of a {@link
+ * FilesystemBackupStore}. The following layout is used:
+ *
+ * <ul>
+ *   <li>{@code objectsPath/partitionId/contentKey}: the contents
+ *   <li>{@code referencesPath/partitionId/checkpointId-nodeId}: the content keys referenced by a
+ *       backup, one per line
+ * </ul>
+ *
+ * <p>The references of a partition are locked with an exclusive file lock on {@code
+ * referencesPath/partitionId/.lock}, as the base path may be shared by several brokers, e.g. the
+ * leader and the followers which took over a partition. The filesystem must therefore support
+ * {@link FileChannel#lock() file locks}; for network filesystems like NFS this requires a lock
+ * manager.
+ *
+ * <p>Files are written to a temporary file first and then moved, such that a partially written
+ * file is never visible. Each directory is flushed once per operation, not once per file.
+ */
+final class FilesystemContentStorage implements ContentStorage {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(FilesystemContentStorage.class);
+  private static final String LOCK_FILENAME = ".lock";
+  private static final String TMP_SUFFIX = ".tmp";
+
+  // file locks are held by the whole JVM, so threads of the same JVM are serialized separately,
+  // even if they use different stores on the same path
+  private static final Map<Path, ReentrantLock> JVM_LOCKS = new ConcurrentHashMap<>();
+
+  private final Path objectsPath;
+  private final Path referencesPath;
+
+  FilesystemContentStorage(final Path objectsPath, final Path referencesPath) {
+    this.objectsPath = objectsPath;
+    this.referencesPath = referencesPath;
+  }
+
+  @Override
+  public Set<String> listContents(final int partitionId) {
+    final var partitionObjectsPath = partitionObjectsPath(partitionId);
+    if (!Files.exists(partitionObjectsPath)) {
+      return Set.of();
+    }
+
+    try (final Stream<Path> files = Files.list(partitionObjectsPath)) {
+      return files
+          .map(file -> file.getFileName().toString())
+          .filter(name -> !name.endsWith(TMP_SUFFIX))
+          .collect(Collectors.toSet());
+    } catch (final IOException e) {
+      throw new UncheckedIOException("Unable to list contents of partition " + partitionId, e);
+    }
+  }
+
+  @Override
+  public void putContents(final int partitionId, final Map<String, Path> sourcesByContentKey) {
+    if (sourcesByContentKey.isEmpty()) {
+      return;
+    }
+
+    final var partitionObjectsPath = partitionObjectsPath(partitionId);
+    try {
+      FileUtil.ensureDirectoryExists(partitionObjectsPath);
+      for (final var content : sourcesByContentKey.entrySet()) {
+        final var objectPath = partitionObjectsPath.resolve(content.getKey());
+        // concurrent backups with the same file may both copy it, which is harmless
+        writeAtomically(objectPath, tmpPath -> Files.copy(content.getValue(), tmpPath));
+      }
+      FileUtil.flushDirectory(partitionObjectsPath);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(
+          "Unable to store contents in "
+              + partitionObjectsPath
+              + ", data might not be consistent on the filesystem. Backup should be restarted.",
+          e);
+    }
+
+    LOGGER.debug("Stored {} contents of partition {}", sourcesByContentKey.size(), partitionId);
+  }
+
+  @Override
+  public void getContents(final int partitionId, final Map<Path, String> contentKeysByTarget) {
+    final var partitionObjectsPath = partitionObjectsPath(partitionId);
+    final var targetFolders = new HashSet<Path>();
+    for (final var content : contentKeysByTarget.entrySet()) {
+      final var filePath = content.getKey();
+      try {
+        Files.copy(
+            partitionObjectsPath.resolve(content.getValue()),
+            filePath,
+            StandardCopyOption.REPLACE_EXISTING);
+        FileUtil.flush(filePath);
+      } catch (final IOException e) {
+        throw new UncheckedIOException("Unable to restore file " + filePath.getFileName(), e);
+      }
+      targetFolders.add(filePath.getParent());
+    }
+
+    for (final var targetFolder : targetFolders) {
+      try {
+        FileUtil.flushDirectory(targetFolder);
+      } catch (final IOException e) {
+        throw new UncheckedIOException(
+            "Unable to flush directory "
+                + targetFolder
+                + ", the restored backup may be incomplete and inconsistent!",
+            e);
+      }
+    }
+  }
+
+  @Override
+  public void deleteContents(final int partitionId, final Collection<String> contentKeys) {
+    final var partitionObjectsPath = partitionObjectsPath(partitionId);
+    try {
+      for (final var contentKey : contentKeys) {
+        Files.deleteIfExists(partitionObjectsPath.resolve(contentKey));
+      }
+      FileUtil.flushDirectory(partitionObjectsPath);
+    } catch (final IOException e) {
+      throw new UncheckedIOException("Unable to delete contents of partition " + partitionId, e);
+    }
+
+    LOGGER.debug(
+        "Deleted {} contents of partition {} which are no longer referenced by any backup",
+        contentKeys.size(),
+        partitionId);
+  }
+
+  @Override
+  public void putReferences(final BackupIdentifier id, final Set<String> contentKeys) {
+    final var referencePath = referencePath(id);
+    try {
+      FileUtil.ensureDirectoryExists(referencePath.getParent());
+      writeAtomically(
+          referencePath,
+          tmpPath -> Files.write(tmpPath, contentKeys, StandardCharsets.US_ASCII));
+      FileUtil.flushDirectory(referencePath.getParent());
+    } catch (final IOException e) {
+      throw new UncheckedIOException("Unable to store references of backup " + id, e);
+    }
+  }
+
+  @Override
+  public void deleteReferences(final BackupIdentifier id) {
+    final var referencePath = referencePath(id);
+    try {
+      if (Files.deleteIfExists(referencePath)) {
+        FileUtil.flushDirectory(referencePath.getParent());
+      }
+    } catch (final IOException e) {
+      throw new UncheckedIOException("Unable to delete references of backup " + id, e);
+    }
+  }
+
+  @Override
+  public Set<String> listReferencedContents(final int partitionId) {
+    final var partitionReferencesPath = partitionReferencesPath(partitionId);
+    if (!Files.exists(partitionReferencesPath)) {
+      return Set.of();
+    }
+
+    final var referenced = new HashSet<String>();
+    try (final Stream<Path> files = Files.list(partitionReferencesPath)) {
+      for (final var file : files.toList()) {
+        final var name = file.getFileName().toString();
+        if (name.equals(LOCK_FILENAME) || name.endsWith(TMP_SUFFIX)) {
+          continue;
+        }
+
+        try {
+          referenced.addAll(Files.readAllLines(file, StandardCharsets.US_ASCII));
+        } catch (final NoSuchFileException e) {
+          // deleted in the meantime by a broker which does not honor the lock
+        }
+      }
+    } catch (final IOException e) {
+      throw new UncheckedIOException("Unable to read references of partition " + partitionId, e);
+    }
+    return referenced;
+  }
+
+  @Override
+  public ReferencesLock lockReferences(final int partitionId) {
+    final var lockPath = partitionReferencesPath(partitionId).resolve(LOCK_FILENAME);
+    final var jvmLock = JVM_LOCKS.computeIfAbsent(lockPath, ignored -> new ReentrantLock());
+    jvmLock.lock();
+
+    FileChannel channel = null;
+    try {
+      FileUtil.ensureDirectoryExists(lockPath.getParent());
+      channel = FileChannel.open(lockPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+      final var fileLock = channel.lock();
+      final var lockedChannel = channel;
+      return () -> {
+        try {
+          fileLock.release();
+        } catch (final IOException e) {
+          LOGGER.warn("Failed to release lock on references", e);
+        } finally {
+          closeQuietly(lockedChannel);
+          jvmLock.unlock();
+        }
+      };
+    } catch (final IOException e) {
+      closeQuietly(channel);
+      jvmLock.unlock();
+      throw new UncheckedIOException("Unable to lock references of partition " + partitionId, e);
+    }
+  }
+
+  private static void writeAtomically(final Path path, final FileWriter writer)
+      throws IOException {
+    final var tmpPath =
+        path.resolveSibling(path.getFileName() + "-" + UUID.randomUUID() + TMP_SUFFIX);
+    try {
+      writer.write(tmpPath);
+      FileUtil.flush(tmpPath);
+      Files.move(tmpPath, path, StandardCopyOption.ATOMIC_MOVE);
+    } catch (final IOException e) {
+      try {
+        Files.deleteIfExists(tmpPath);
+      } catch (final IOException ignored) {
+        // best effort, the temporary file is ignored by readers
+      }
+      throw e;
+    }
+  }
+
+  private static void closeQuietly(final FileChannel channel) {
+    if (channel == null) {
+      return;
+    }
+    try {
+      channel.close();
+    } catch (final IOException e) {
+      LOGGER.warn("Failed to close lock file", e);
+    }
+  }
+
+  private Path partitionObjectsPath(final int partitionId) {
+    return objectsPath.resolve(String.valueOf(partitionId));
+  }
+
+  private Path partitionReferencesPath(final int partitionId) {
+    return referencesPath.resolve(String.valueOf(partitionId));
+  }
+
+  private Path referencePath(final BackupIdentifier id) {
+    return partitionReferencesPath(id.partitionId()).resolve(id.checkpointId() + "-" + id.nodeId());
+  }
+
+  @FunctionalInterface
+  private interface FileWriter {
+    void write(Path path) throws IOException;
+  }
+}
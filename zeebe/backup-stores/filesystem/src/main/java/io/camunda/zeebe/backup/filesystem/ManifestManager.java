@@ -93,6 +93,23 @@ public final class ManifestManager {
     }
   }
 
+  void updateManifest(final InProgressManifest inProgressManifest) {
+    try {
+      final var serializedManifest = MAPPER.writeValueAsBytes(inProgressManifest);
+      final var path = manifestPath(inProgressManifest);
+      Files.write(
+          path,
+          serializedManifest,
+          StandardOpenOption.TRUNCATE_EXISTING,
+          StandardOpenOption.WRITE,
+          StandardOpenOption.SYNC);
+    } catch (final NoSuchFileException e) {
+      throw new UnexpectedManifestState("Manifest does not exist.");
+    } catch (final IOException e) {
+      throw new UncheckedIOException("Unable to write updated manifest", e);
+    }
+  }
+
   void completeManifest(final InProgressManifest inProgressManifest) {
     final byte[] serializedManifest;
     final var completed = inProgressManifest.complete();
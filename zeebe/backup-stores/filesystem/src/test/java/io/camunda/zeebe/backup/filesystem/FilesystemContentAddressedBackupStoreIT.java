@@ -0,0 +1,124 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.backup.filesystem;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.backup.api.Backup;
+import io.camunda.zeebe.backup.common.BackupIdentifierImpl;
+import io.camunda.zeebe.backup.common.BackupImpl;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+final class FilesystemContentAddressedBackupStoreIT extends FilesystemBackupStoreIT {
+
+  @Override
+  @BeforeEach
+  public void setUpStore() {
+    backupConfig =
+        new FilesystemBackupConfig.Builder()
+            .withBasePath(backupDir.toString())
+            .withContentAddressed(true)
+            .build();
+    backupStore =
+        new FilesystemBackupStore(backupConfig, Executors.newVirtualThreadPerTaskExecutor());
+  }
+
+  @ParameterizedTest
+  @MethodSource("provideBackups")
+  void shouldStoreSharedFilesOnce(final Backup backup) throws IOException {
+    // given
+    final var laterBackup = laterBackupWithSameContents(backup);
+
+    // when
+    getStore().save(backup).join();
+    getStore().save(laterBackup).join();
+
+    // then
+    assertThat(storedObjects(backup)).hasSize(fileCount(backup));
+  }
+
+  @ParameterizedTest
+  @MethodSource("provideBackups")
+  void shouldKeepSharedFilesUntilLastBackupIsDeleted(final Backup backup) throws IOException {
+    // given
+    final var laterBackup = laterBackupWithSameContents(backup);
+    getStore().save(backup).join();
+    getStore().save(laterBackup).join();
+
+    // when
+    getStore().delete(backup.id()).join();
+
+    // then
+    assertThat(storedObjects(backup)).hasSize(fileCount(backup));
+
+    // when
+    getStore().delete(laterBackup.id()).join();
+
+    // then
+    assertThat(storedObjects(backup)).isEmpty();
+  }
+
+  @ParameterizedTest
+  @MethodSource("provideBackups")
+  void shouldKeepFilesSharedWithBackupsOfAnotherStore(final Backup backup) throws IOException {
+    // given - another store on the same base path, like a second broker
+    final var otherStore =
+        new FilesystemBackupStore(backupConfig, Executors.newVirtualThreadPerTaskExecutor());
+    final var laterBackup = laterBackupWithSameContents(backup);
+    getStore().save(backup).join();
+    otherStore.save(laterBackup).join();
+
+    // when
+    getStore().delete(backup.id()).join();
+
+    // then
+    assertThat(storedObjects(backup)).hasSize(fileCount(backup));
+    otherStore.closeAsync().join();
+  }
+
+  @ParameterizedTest
+  @MethodSource("provideBackups")
+  void shouldNotStoreFilesPerBackup(final Backup backup) throws IOException {
+    // when
+    getStore().save(backup).join();
+
+    // then
+    try (final var files = Files.walk(backupDir.resolve("contents"))) {
+      assertThat(files.filter(Files::isRegularFile)).isEmpty();
+    }
+  }
+
+  private Backup laterBackupWithSameContents(final Backup backup) {
+    return new BackupImpl(
+        new BackupIdentifierImpl(
+            backup.id().nodeId(), backup.id().partitionId(), backup.id().checkpointId() + 1),
+        backup.descriptor(),
+        backup.snapshot(),
+        backup.segments());
+  }
+
+  private int fileCount(final Backup backup) {
+    return backup.snapshot().namedFiles().size() + backup.segments().namedFiles().size();
+  }
+
+  private List<Path> storedObjects(final Backup backup) throws IOException {
+    final var objectsDir =
+        backupDir.resolve("objects").resolve(String.valueOf(backup.id().partitionId()));
+    try (final Stream<Path> files = Files.list(objectsDir)) {
+      return files.toList();
+    }
+  }
+}
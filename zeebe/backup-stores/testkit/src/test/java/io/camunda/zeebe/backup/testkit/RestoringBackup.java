@@ -75,4 +75,32 @@ public interface RestoringBackup {
         .hasSameContentsAs(originalBackup)
         .residesInPath(targetDir);
   }
+
+  @ParameterizedTest
+  @MethodSource("provideBackups")
+  default void canRestoreBackupAfterDeletingBackupWithSameContents(
+      final Backup originalBackup, @TempDir final Path targetDir) {
+    // given
+    final Backup laterBackup =
+        new BackupImpl(
+            new BackupIdentifierImpl(
+                originalBackup.id().nodeId(),
+                originalBackup.id().partitionId(),
+                originalBackup.id().checkpointId() + 1),
+            originalBackup.descriptor(),
+            originalBackup.snapshot(),
+            originalBackup.segments());
+
+    getStore().save(originalBackup).join();
+    getStore().save(laterBackup).join();
+
+    // when
+    getStore().delete(laterBackup.id()).join();
+    final var restored = getStore().restore(originalBackup.id(), targetDir).join();
+
+    // then
+    BackupAssert.assertThatBackup(restored)
+        .hasSameContentsAs(originalBackup)
+        .residesInPath(targetDir);
+  }
 }
@@ -11,6 +11,7 @@ import io.camunda.zeebe.broker.Loggers;
 import io.camunda.zeebe.broker.exporter.context.ExporterContext;
 import io.camunda.zeebe.broker.exporter.repo.ExporterDescriptor;
 import io.camunda.zeebe.broker.exporter.stream.ExporterDirector.ExporterInitializationInfo;
+import io.camunda.zeebe.exporter.api.BatchExporter;
 import io.camunda.zeebe.exporter.api.Exporter;
 import io.camunda.zeebe.exporter.api.context.Context;
 import io.camunda.zeebe.exporter.api.context.Controller;
@@ -24,6 +25,8 @@ import io.camunda.zeebe.util.jar.ThreadContextUtil;
 import io.micrometer.core.instrument.MeterRegistry;
 import java.time.Duration;
 import java.time.InstantSource;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import org.agrona.DirectBuffer;
 import org.slf4j.Logger;
@@ -210,6 +213,13 @@ final class ExporterContainer implements Controller {
         && filter.acceptIntent(metadata.getIntent());
   }
 
+  private boolean acceptRecord(final Record<?> record) {
+    final Context.RecordFilter filter = context.getFilter();
+    return filter.acceptType(record.getRecordType())
+        && filter.acceptValue(record.getValueType())
+        && filter.acceptIntent(record.getIntent());
+  }
+
   void configureExporter() throws Exception {
     LOG.debug("Configure exporter with id '{}'", getId());
     ThreadContextUtil.runCheckedWithClassLoader(
@@ -232,6 +242,67 @@ final class ExporterContainer implements Controller {
     }
   }
 
+  boolean exportRecord(final Record<?> record) {
+    try {
+      if (position < record.getPosition()) {
+        if (acceptRecord(record)) {
+          export(record);
+        } else {
+          updatePositionOnSkipIfUpToDate(record.getPosition());
+        }
+      }
+      return true;
+    } catch (final Exception ex) {
+      context.getLogger().warn("Error on exporting record with key {}", record.getKey(), ex);
+      return false;
+    }
+  }
+
+  boolean isBatchExporter() {
+    return exporter instanceof BatchExporter;
+  }
+
+  /**
+   * Passes all accepted records of the given batch to the exporter in a single call. Must only be
+   * called if {@link #isBatchExporter()} is true.
+   *
+   * @return true if the batch was exported, false if it needs to be retried
+   */
+  boolean exportBatch(final List<RecordBatchExporter.Entry> entries) {
+    final List<Record<?>> records = new ArrayList<>(entries.size());
+    for (final var entry : entries) {
+      final var record = entry.record();
+      if (record != null && position < record.getPosition() && acceptRecord(record)) {
+        records.add(record);
+      } else if (records.isEmpty()) {
+        // the position can only be moved on skipped records as long as none of the previous
+        // records is passed to the exporter, afterward it would be a no-op anyway
+        updatePositionOnSkipIfUpToDate(entry.position());
+      }
+    }
+
+    if (records.isEmpty()) {
+      return true;
+    }
+
+    try {
+      final var batchExporter = (BatchExporter) exporter;
+      ThreadContextUtil.runWithClassLoader(
+          () -> batchExporter.exportBatch(records), exporter.getClass().getClassLoader());
+      lastUnacknowledgedPosition = records.get(records.size() - 1).getPosition();
+      return true;
+    } catch (final Exception ex) {
+      context
+          .getLogger()
+          .warn(
+              "Error on exporting batch of {} records from position {}",
+              records.size(),
+              records.get(0).getPosition(),
+              ex);
+      return false;
+    }
+  }
+
   void softPauseExporter() {
     exporterIsSoftPaused = true;
   }
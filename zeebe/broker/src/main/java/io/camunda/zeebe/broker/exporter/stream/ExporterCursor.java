@@ -0,0 +1,292 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.exporter.stream;
+
+import io.camunda.zeebe.broker.Loggers;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.logstreams.log.LogRecordAwaiter;
+import io.camunda.zeebe.logstreams.log.LogStream;
+import io.camunda.zeebe.logstreams.log.LogStreamReader;
+import io.camunda.zeebe.logstreams.log.LoggedEvent;
+import io.camunda.zeebe.scheduler.Actor;
+import io.camunda.zeebe.scheduler.future.ActorFuture;
+import io.camunda.zeebe.scheduler.retry.BackOffRetryStrategy;
+import io.camunda.zeebe.scheduler.retry.RetryStrategy;
+import io.camunda.zeebe.stream.api.EventFilter;
+import io.camunda.zeebe.util.exception.UnrecoverableException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+
+/**
+ * Exports the log to a single exporter, with its own log stream reader and actor, such that the
+ * exporter runs at its own pace. Used by the {@link ExporterDirector} instead of exporting to all
+ * exporters in lock-step, when exporters are configured to run independently.
+ *
+ * <p>The cursor owns the {@link ExporterContainer} once it is started: the container is opened,
+ * exports and updates its position in the {@link ExportersState} on the actor of the cursor. The
+ * director only reads the state, e.g. to determine the lowest exported position for compaction.
+ */
+final class ExporterCursor extends Actor implements LogRecordAwaiter {
+
+  private static final Logger LOG = Loggers.EXPORTER_LOGGER;
+  private static final String ERROR_MESSAGE_DESERIALIZATION_ERROR_EXPORTING_ABORTED =
+      "Expected to export record '{}' to exporter '{}' successfully, but exception was thrown when deserializing the record.";
+  private static final String ERROR_MESSAGE_EXPORTING_ABORTED =
+      "Expected to export records up to position '{}' to exporter '{}' successfully, but exception was thrown.";
+  private static final String ERROR_MESSAGE_RECOVER_FAILED =
+      "Expected to find event with the position %s in log stream, but nothing was found. Failed to recover exporter '%s'.";
+
+  private final ExporterContainer container;
+  private final String name;
+  private final int partitionId;
+  private final LogStream logStream;
+  private final ZeebeDb zeebeDb;
+  private final EventFilter positionsToSkipFilter;
+  private final ExporterMetrics metrics;
+  private final RecordBatchExporter recordBatchExporter;
+  private final long exportBatchMaxDurationNs;
+  private final RetryStrategy exportingRetryStrategy;
+  private final Consumer<Throwable> failureListener;
+  private final Runnable exportedListener;
+  private ExporterPhase phase;
+  private LogStreamReader logStreamReader;
+  private EventFilter eventFilter;
+  private boolean opened;
+  private boolean closeRequested;
+  private boolean inExportingPhase;
+
+  // only modified by this actor, read by the exporter director
+  private volatile long exportedPosition = -1;
+
+  /**
+   * @param failureListener called if exporting to the exporter failed unrecoverably
+   * @param exportedListener called after every exported batch of records
+   */
+  ExporterCursor(
+      final ExporterDirectorContext context,
+      final ExporterContainer container,
+      final ExporterPhase phase,
+      final Consumer<Throwable> failureListener,
+      final Runnable exportedListener) {
+    this.container = container;
+    this.phase = phase;
+    this.failureListener = failureListener;
+    this.exportedListener = exportedListener;
+    logStream = context.getLogStream();
+    partitionId = logStream.getPartitionId();
+    name = context.getName() + "-" + container.getId();
+    zeebeDb = context.getZeebeDb();
+    positionsToSkipFilter = context.getPositionsToSkipFilter();
+    metrics =
+        new ExporterMetrics(
+            context.getMeterRegistry(),
+            logStream.getFlowControl()::getLastWrittenPosition,
+            context.getClock());
+    recordBatchExporter =
+        new RecordBatchExporter(
+            metrics,
+            List.of(container),
+            partitionId,
+            Math.max(1, context.getExportBatchSize()),
+            context.getExportBatchMaxBytes(),
+            context.getClock());
+    exportBatchMaxDurationNs = context.getExportBatchMaxDuration().toNanos();
+    exportingRetryStrategy = new BackOffRetryStrategy(actor, Duration.ofSeconds(10));
+  }
+
+  String getExporterId() {
+    return container.getId();
+  }
+
+  /**
+   * @return the position of the last record passed to the exporter, or -1 if none was passed yet
+   */
+  long getExportedPosition() {
+    return exportedPosition;
+  }
+
+  ActorFuture<Void> pauseExporting() {
+    return actor.call(
+        () -> {
+          phase = ExporterPhase.PAUSED;
+        });
+  }
+
+  ActorFuture<Void> softPauseExporting() {
+    return actor.call(
+        () -> {
+          container.softPauseExporter();
+          phase = ExporterPhase.SOFT_PAUSED;
+        });
+  }
+
+  ActorFuture<Void> resumeExporting() {
+    return actor.call(
+        () -> {
+          if (phase == ExporterPhase.SOFT_PAUSED) {
+            container.undoSoftPauseExporter();
+          }
+          phase = ExporterPhase.EXPORTING;
+          actor.submit(this::readNextBatch);
+        });
+  }
+
+  ActorFuture<Void> closeAsync() {
+    return actor.close();
+  }
+
+  @Override
+  protected Map<String, String> createContext() {
+    final var context = super.createContext();
+    context.put(ACTOR_PROP_PARTITION_ID, Integer.toString(partitionId));
+    return context;
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  protected void onActorStarted() {
+    container.initContainer(
+        actor, metrics, new ExportersState(zeebeDb, zeebeDb.createContext()), phase);
+    container.initMetadata();
+    eventFilter =
+        positionsToSkipFilter.and(ExporterDirector.createEventFilter(List.of(container)));
+
+    final var openFuture =
+        new BackOffRetryStrategy(actor, Duration.ofSeconds(10), Duration.ofMillis(150))
+            .runWithRetry(this::tryOpenExporter, () -> closeRequested);
+    actor.runOnCompletion(openFuture, (ignored, error) -> startExporting());
+  }
+
+  @Override
+  protected void onActorClosing() {
+    if (logStreamReader != null) {
+      logStreamReader.close();
+    }
+    logStream.removeRecordAvailableListener(this);
+    // a new cursor is created when the exporter is opened again, which registers new gauges
+    metrics.removeExporter(container.getId());
+  }
+
+  @Override
+  protected void onActorCloseRequested() {
+    closeRequested = true;
+    container.close();
+  }
+
+  @Override
+  protected void handleFailure(final Throwable failure) {
+    LOG.error("Actor '{}' failed in phase {}.", name, actor.getLifecyclePhase(), failure);
+    actor.fail(failure);
+    failureListener.accept(failure);
+  }
+
+  @Override
+  public void onRecordAvailable() {
+    actor.run(this::readNextBatch);
+  }
+
+  private boolean tryOpenExporter() {
+    try {
+      container.openExporter();
+      return true;
+    } catch (final Exception e) {
+      LOG.warn("Failed to open exporter '{}'. Retrying...", container.getId());
+      LOG.debug("Failed to open exporter '{}' => Stacktrace:", container.getId(), e);
+      return false;
+    }
+  }
+
+  private void startExporting() {
+    if (closeRequested) {
+      return;
+    }
+
+    logStreamReader = logStream.newCatchUpLogStreamReader();
+    final long position = container.getPosition();
+    if (!logStreamReader.seekToNextEvent(position)) {
+      onFailure(
+          new IllegalStateException(
+              String.format(ERROR_MESSAGE_RECOVER_FAILED, position, container.getId())));
+      return;
+    }
+
+    opened = true;
+    logStream.registerRecordAvailableListener(this);
+    actor.submit(this::readNextBatch);
+  }
+
+  private boolean shouldExport() {
+    return opened
+        && !closeRequested
+        && !inExportingPhase
+        && phase != ExporterPhase.PAUSED
+        && logStreamReader.hasNext();
+  }
+
+  private void readNextBatch() {
+    if (!shouldExport()) {
+      return;
+    }
+
+    final long deadline = System.nanoTime() + exportBatchMaxDurationNs;
+    do {
+      final LoggedEvent currentEvent = logStreamReader.next();
+      if (eventFilter.applies(currentEvent)) {
+        try {
+          recordBatchExporter.add(currentEvent);
+        } catch (final Exception exception) {
+          LOG.warn(
+              ERROR_MESSAGE_DESERIALIZATION_ERROR_EXPORTING_ABORTED,
+              currentEvent,
+              container.getId(),
+              exception);
+          onFailure(new UnrecoverableException(exception));
+          return;
+        }
+      } else {
+        recordBatchExporter.skip(currentEvent);
+      }
+    } while (logStreamReader.hasNext()
+        && !recordBatchExporter.isFull()
+        && System.nanoTime() < deadline);
+
+    inExportingPhase = true;
+    final ActorFuture<Boolean> retryFuture =
+        exportingRetryStrategy.runWithRetry(recordBatchExporter::export, () -> closeRequested);
+    actor.runOnCompletion(
+        retryFuture,
+        (ignored, throwable) -> {
+          if (throwable != null) {
+            LOG.error(
+                ERROR_MESSAGE_EXPORTING_ABORTED,
+                recordBatchExporter.getLastPosition(),
+                container.getId(),
+                throwable);
+            onFailure(throwable);
+          } else {
+            exportedPosition = recordBatchExporter.getLastPosition();
+            recordBatchExporter.reset();
+            inExportingPhase = false;
+            exportedListener.run();
+            actor.submit(this::readNextBatch);
+          }
+        });
+  }
+
+  private void onFailure(final Throwable failure) {
+    failureListener.accept(failure);
+    actor.close();
+  }
+}
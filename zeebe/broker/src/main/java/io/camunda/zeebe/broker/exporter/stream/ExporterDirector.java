@@ -57,6 +57,8 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
       "Expected to export record '{}' successfully, but exception was thrown when deserializing the record.";
   private static final String ERROR_MESSAGE_EXPORTING_ABORTED =
       "Expected to export record '{}' successfully, but exception was thrown.";
+  private static final String ERROR_MESSAGE_BATCH_EXPORTING_ABORTED =
+      "Expected to export records up to position '{}' successfully, but exception was thrown.";
   private static final String ERROR_MESSAGE_RECOVER_FROM_SNAPSHOT_FAILED =
       "Expected to find event with the snapshot position %s in log stream, but nothing was found. Failed to recover '%s'.";
   private static final String EXPORTER_STATE_TOPIC_FORMAT = "exporterState-%d";
@@ -70,6 +72,14 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   private final ArrayList<ExporterContainer> containers;
   private final LogStream logStream;
   private final RecordExporter recordExporter;
+  // only set if records are exported in batches
+  private final RecordBatchExporter recordBatchExporter;
+  private final long exportBatchMaxDurationNs;
+  // only used if the exporters run independently, each with its own cursor
+  private final boolean independentExporters;
+  private final List<ExporterCursor> cursors = new ArrayList<>();
+  private final ExporterDirectorContext context;
+  private ActorSchedulingService actorSchedulingService;
   private final ZeebeDb zeebeDb;
   private final ExporterMetrics metrics;
   private final String name;
@@ -124,10 +134,25 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
                         meterRegistry,
                         clock))
             .collect(Collectors.toCollection(ArrayList::new));
-    metrics = new ExporterMetrics(meterRegistry);
+    metrics =
+        new ExporterMetrics(
+            meterRegistry, () -> logStream.getFlowControl().getLastWrittenPosition(), clock);
     metrics.initializeExporterState(exporterPhase);
     recordExporter =
         recorderExporter.apply(new RecordExporter(metrics, containers, partitionId, clock));
+    recordBatchExporter =
+        context.getExportBatchSize() > 1
+            ? new RecordBatchExporter(
+                metrics,
+                containers,
+                partitionId,
+                context.getExportBatchSize(),
+                context.getExportBatchMaxBytes(),
+                clock)
+            : null;
+    exportBatchMaxDurationNs = context.getExportBatchMaxDuration().toNanos();
+    independentExporters = context.isIndependentExporters();
+    this.context = context;
     exportingRetryStrategy = new BackOffRetryStrategy(actor, Duration.ofSeconds(10));
     zeebeDb = context.getZeebeDb();
     this.exporterPhase = exporterPhase;
@@ -142,6 +167,7 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   }
 
   public ActorFuture<Void> startAsync(final ActorSchedulingService actorSchedulingService) {
+    this.actorSchedulingService = actorSchedulingService;
     return actorSchedulingService.submitActor(this, SchedulingHints.ioBound());
   }
 
@@ -163,11 +189,13 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
       // are added.
       return CompletableActorFuture.completed(null);
     }
-    return actor.call(
-        () -> {
-          metrics.setExporterPaused();
-          exporterPhase = ExporterPhase.PAUSED;
-        });
+    return actor
+        .call(
+            () -> {
+              metrics.setExporterPaused();
+              exporterPhase = ExporterPhase.PAUSED;
+            })
+        .andThen(ignored -> forEachCursor(ExporterCursor::pauseExporting), actor);
   }
 
   /**
@@ -185,12 +213,16 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
       // are added.
       return CompletableActorFuture.completed(null);
     }
-    return actor.call(
-        () -> {
-          containers.stream().forEach(ExporterContainer::softPauseExporter);
-          exporterPhase = ExporterPhase.SOFT_PAUSED;
-          metrics.setExporterSoftPaused();
-        });
+    return actor
+        .call(
+            () -> {
+              if (!runsExporterCursors()) {
+                containers.stream().forEach(ExporterContainer::softPauseExporter);
+              }
+              exporterPhase = ExporterPhase.SOFT_PAUSED;
+              metrics.setExporterSoftPaused();
+            })
+        .andThen(ignored -> forEachCursor(ExporterCursor::softPauseExporting), actor);
   }
 
   /**
@@ -206,17 +238,19 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
       return CompletableActorFuture.completed(null);
     }
 
-    return actor.call(
-        () -> {
-          if (exporterPhase == ExporterPhase.SOFT_PAUSED) {
-            containers.stream().forEach(ExporterContainer::undoSoftPauseExporter);
-          }
-          exporterPhase = ExporterPhase.EXPORTING;
-          metrics.setExporterActive();
-          if (exporterMode == ExporterMode.ACTIVE) {
-            actor.submit(this::readNextEvent);
-          }
-        });
+    return actor
+        .call(
+            () -> {
+              if (exporterPhase == ExporterPhase.SOFT_PAUSED && !runsExporterCursors()) {
+                containers.stream().forEach(ExporterContainer::undoSoftPauseExporter);
+              }
+              exporterPhase = ExporterPhase.EXPORTING;
+              metrics.setExporterActive();
+              if (exporterMode == ExporterMode.ACTIVE) {
+                actor.submit(this::readNextEvent);
+              }
+            })
+        .andThen(ignored -> forEachCursor(ExporterCursor::resumeExporting), actor);
   }
 
   /**
@@ -231,27 +265,52 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
       return CompletableActorFuture.completed(null);
     }
 
-    return actor.call(
-        () -> {
-          containers.stream()
-              .filter(c -> c.getId().equals(exporterId))
-              .findFirst()
-              .ifPresentOrElse(
-                  container -> removeExporter(exporterId, container),
-                  () ->
-                      LOG.debug(
-                          "Exporter '{}' is not found. It may already be removed.", exporterId));
-          return null;
-        });
+    // the cursor of the exporter must be closed first, such that it can't update the exporter
+    // state after it was removed
+    return actor
+        .call(() -> closeExporterCursor(exporterId))
+        .andThen(cursorClosed -> cursorClosed, actor)
+        .andThen(
+            ignored ->
+                actor.call(
+                    () -> {
+                      containers.stream()
+                          .filter(c -> c.getId().equals(exporterId))
+                          .findFirst()
+                          .ifPresentOrElse(
+                              container -> removeExporter(exporterId, container),
+                              () ->
+                                  LOG.debug(
+                                      "Exporter '{}' is not found. It may already be removed.",
+                                      exporterId));
+                      return null;
+                    }),
+            actor);
+  }
+
+  private ActorFuture<Void> closeExporterCursor(final String exporterId) {
+    for (final ExporterCursor cursor : cursors) {
+      if (cursor.getExporterId().equals(exporterId)) {
+        cursors.remove(cursor);
+        return cursor.closeAsync();
+      }
+    }
+    return CompletableActorFuture.completed(null);
   }
 
   private void removeExporter(final String exporterId, final ExporterContainer container) {
-    container.close();
+    if (!runsExporterCursors()) {
+      // otherwise the container was already closed together with its cursor
+      container.close();
+    }
     containers.remove(container);
     state.removeExporterState(exporterId);
     // After removing this exporter, the exporter index has changed. Reset it so that we don't
     // miss to export the record to any of the exporters whose index has changed.
     recordExporter.resetExporterIndex();
+    if (recordBatchExporter != null) {
+      recordBatchExporter.resetExporterIndex();
+    }
     LOG.debug("Exporter '{}' is removed.", exporterId);
 
     if (containers.isEmpty()) {
@@ -337,7 +396,7 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     }
     // initializes metadata and position in the runtime state
     container.initMetadata();
-    if (exporterMode == ExporterMode.ACTIVE) {
+    if (exporterMode == ExporterMode.ACTIVE && !independentExporters) {
       container.openExporter();
     }
     containers.add(container);
@@ -346,6 +405,9 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     if (idle) {
       becomeLive();
     }
+    if (runsExporterCursors()) {
+      startExporterCursor(container);
+    }
   }
 
   public ActorFuture<ExporterPhase> getPhase() {
@@ -369,8 +431,8 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
 
   @Override
   protected void onActorStarting() {
-    if (exporterMode == ExporterMode.ACTIVE) {
-      logStreamReader = logStream.newLogStreamReader();
+    if (exporterMode == ExporterMode.ACTIVE && !independentExporters) {
+      logStreamReader = logStream.newCatchUpLogStreamReader();
     }
   }
 
@@ -410,6 +472,16 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
       logStreamReader.close();
     }
     logStream.removeRecordAvailableListener(this);
+
+    for (final ExporterCursor cursor : cursors) {
+      actor.runOnCompletion(
+          cursor.closeAsync(),
+          (ignored, error) -> {
+            if (error != null) {
+              LOG.warn("Failed to close exporter cursor '{}'", cursor.getName(), error);
+            }
+          });
+    }
   }
 
   @Override
@@ -421,7 +493,10 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   @Override
   protected void onActorCloseRequested() {
     isOpened.set(false);
-    containers.forEach(ExporterContainer::close);
+    if (!runsExporterCursors()) {
+      // otherwise the containers are closed by their cursors
+      containers.forEach(ExporterContainer::close);
+    }
     exporterDistributionService.close();
   }
 
@@ -480,7 +555,7 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
         snapshotPosition);
   }
 
-  private ExporterEventFilter createEventFilter(final List<ExporterContainer> containers) {
+  static EventFilter createEventFilter(final List<ExporterContainer> containers) {
 
     final List<Context.RecordFilter> recordFilters =
         containers.stream().map(c -> c.getContext().getFilter()).toList();
@@ -543,6 +618,11 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   }
 
   private void startActiveExportingMode() {
+    if (independentExporters) {
+      startExporterCursors();
+      return;
+    }
+
     final var containerOpenFutures = new ArrayList<ActorFuture<Boolean>>();
     for (final ExporterContainer container : containers) {
       container.initMetadata();
@@ -589,10 +669,84 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   }
 
   private void restartActiveExportingMode() {
-    logStreamReader = logStream.newLogStreamReader();
+    if (independentExporters) {
+      // the cursors of new exporters are started when they are added
+      startExporterStateDistribution();
+      return;
+    }
+
+    logStreamReader = logStream.newCatchUpLogStreamReader();
     startActiveExportingFrom(-1);
   }
 
+  private boolean runsExporterCursors() {
+    return independentExporters && exporterMode == ExporterMode.ACTIVE;
+  }
+
+  private void startExporterCursors() {
+    if (containers.isEmpty()) {
+      becomeIdle();
+      return;
+    }
+
+    for (final ExporterContainer container : containers) {
+      // initialize the state of new exporters right away, such that they are considered for the
+      // lowest exported position before their cursor is started
+      container.initMetadata();
+      startExporterCursor(container);
+    }
+    startExporterStateDistribution();
+  }
+
+  private void startExporterCursor(final ExporterContainer container) {
+    final var cursor =
+        new ExporterCursor(
+            context,
+            container,
+            exporterPhase,
+            this::onExporterCursorFailed,
+            () -> actor.run(this::publishExportedPosition));
+    cursors.add(cursor);
+    actorSchedulingService.submitActor(cursor, SchedulingHints.ioBound());
+  }
+
+  private void onExporterCursorFailed(final Throwable failure) {
+    actor.run(
+        () -> {
+          updateHealthStatusWithError(failure);
+          onFailure();
+        });
+  }
+
+  /**
+   * Publishes the position up to which all exporters have been passed the records. As the
+   * exporters run at their own pace, this is the lowest position of all cursors.
+   */
+  private void publishExportedPosition() {
+    long position = Long.MAX_VALUE;
+    for (final ExporterCursor cursor : cursors) {
+      position = Math.min(position, cursor.getExportedPosition());
+    }
+    if (position != Long.MAX_VALUE) {
+      logStream.getFlowControl().onExported(position);
+    }
+  }
+
+  private ActorFuture<Void> forEachCursor(
+      final Function<ExporterCursor, ActorFuture<Void>> action) {
+    final var result = new CompletableActorFuture<Void>();
+    actor.runOnCompletion(
+        cursors.stream().map(action).toList(),
+        error -> {
+          if (error != null) {
+            result.completeExceptionally(error);
+          } else {
+            result.complete(null);
+          }
+        });
+    return result;
+  }
+
   private void startActiveExportingFrom(final long snapshotPosition) {
     final boolean failedToRecoverReader = !logStreamReader.seekToNextEvent(snapshotPosition);
     if (failedToRecoverReader) {
@@ -604,6 +758,10 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
       actor.submit(this::readNextEvent);
     }
 
+    startExporterStateDistribution();
+  }
+
+  private void startExporterStateDistribution() {
     exporterDistributionTimer =
         actor.runAtFixedRate(distributionInterval, this::distributeExporterState);
   }
@@ -651,7 +809,9 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   }
 
   private void readNextEvent() {
-    if (shouldExport()) {
+    if (recordBatchExporter != null) {
+      readNextBatch();
+    } else if (shouldExport()) {
       final LoggedEvent currentEvent = logStreamReader.next();
       if (eventFilter == null || eventFilter.applies(currentEvent)) {
         inExportingPhase = true;
@@ -662,6 +822,61 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     }
   }
 
+  /**
+   * Reads a run of records in one go, until the batch is full, the time to read it is used up, or
+   * no more records are available. The whole run is then exported to each exporter in turn.
+   */
+  private void readNextBatch() {
+    if (!shouldExport()) {
+      return;
+    }
+
+    final long deadline = System.nanoTime() + exportBatchMaxDurationNs;
+    do {
+      final LoggedEvent currentEvent = logStreamReader.next();
+      if (eventFilter == null || eventFilter.applies(currentEvent)) {
+        try {
+          recordBatchExporter.add(currentEvent);
+        } catch (final Exception exception) {
+          LOG.warn(ERROR_MESSAGE_DESERIALIZATION_ERROR_EXPORTING_ABORTED, currentEvent, exception);
+          updateHealthStatusWithError(new UnrecoverableException(exception));
+          onFailure();
+          return;
+        }
+      } else {
+        recordBatchExporter.skip(currentEvent);
+      }
+    } while (logStreamReader.hasNext()
+        && !recordBatchExporter.isFull()
+        && System.nanoTime() < deadline);
+
+    inExportingPhase = true;
+    exportBatch();
+  }
+
+  private void exportBatch() {
+    final ActorFuture<Boolean> retryFuture =
+        exportingRetryStrategy.runWithRetry(recordBatchExporter::export, this::isClosed);
+
+    actor.runOnCompletion(
+        retryFuture,
+        (bool, throwable) -> {
+          if (throwable != null) {
+            LOG.error(
+                ERROR_MESSAGE_BATCH_EXPORTING_ABORTED,
+                recordBatchExporter.getLastPosition(),
+                throwable);
+            onFailure();
+          } else {
+            // publish the progress once per batch, not for every record
+            logStream.getFlowControl().onExported(recordBatchExporter.getLastPosition());
+            recordBatchExporter.reset();
+            inExportingPhase = false;
+            actor.submit(this::readNextEvent);
+          }
+        });
+  }
+
   private boolean shouldExport() {
     return isOpened.get()
         && allExportersOpened
@@ -21,6 +21,9 @@ import java.util.Map;
 public final class ExporterDirectorContext {
 
   public static final Duration DEFAULT_DISTRIBUTION_INTERVAL = Duration.ofSeconds(15);
+  public static final int DEFAULT_EXPORT_BATCH_SIZE = 1;
+  public static final long DEFAULT_EXPORT_BATCH_MAX_BYTES = 4 * 1024 * 1024;
+  public static final Duration DEFAULT_EXPORT_BATCH_MAX_DURATION = Duration.ofMillis(50);
 
   private int id;
   private String name;
@@ -31,6 +34,10 @@ public final class ExporterDirectorContext {
   private ExporterMode exporterMode = ExporterMode.ACTIVE; // per default we export records
   private Duration distributionInterval = DEFAULT_DISTRIBUTION_INTERVAL;
   private EventFilter positionsToSkipFilter;
+  private int exportBatchSize = DEFAULT_EXPORT_BATCH_SIZE;
+  private long exportBatchMaxBytes = DEFAULT_EXPORT_BATCH_MAX_BYTES;
+  private Duration exportBatchMaxDuration = DEFAULT_EXPORT_BATCH_MAX_DURATION;
+  private boolean independentExporters;
   private MeterRegistry meterRegistry;
   private InstantSource clock;
 
@@ -70,6 +77,22 @@ public final class ExporterDirectorContext {
     return positionsToSkipFilter;
   }
 
+  public int getExportBatchSize() {
+    return exportBatchSize;
+  }
+
+  public long getExportBatchMaxBytes() {
+    return exportBatchMaxBytes;
+  }
+
+  public Duration getExportBatchMaxDuration() {
+    return exportBatchMaxDuration;
+  }
+
+  public boolean isIndependentExporters() {
+    return independentExporters;
+  }
+
   public MeterRegistry getMeterRegistry() {
     return meterRegistry;
   }
@@ -130,6 +153,26 @@ public final class ExporterDirectorContext {
     return this;
   }
 
+  public ExporterDirectorContext exportBatchSize(final int exportBatchSize) {
+    this.exportBatchSize = exportBatchSize;
+    return this;
+  }
+
+  public ExporterDirectorContext exportBatchMaxBytes(final long exportBatchMaxBytes) {
+    this.exportBatchMaxBytes = exportBatchMaxBytes;
+    return this;
+  }
+
+  public ExporterDirectorContext exportBatchMaxDuration(final Duration exportBatchMaxDuration) {
+    this.exportBatchMaxDuration = exportBatchMaxDuration;
+    return this;
+  }
+
+  public ExporterDirectorContext independentExporters(final boolean independentExporters) {
+    this.independentExporters = independentExporters;
+    return this;
+  }
+
   public ExporterDirectorContext clock(final InstantSource clock) {
     this.clock = clock;
     return this;
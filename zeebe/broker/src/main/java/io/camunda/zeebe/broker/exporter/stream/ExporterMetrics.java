@@ -17,12 +17,15 @@ import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
+import java.time.InstantSource;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
 
 public final class ExporterMetrics {
   private static final String LABEL_NAME_EXPORTER = "exporter";
@@ -31,6 +34,7 @@ public final class ExporterMetrics {
 
   private final Map<String, AtomicLong> lastExportedPositions = new HashMap<>();
   private final Map<String, AtomicLong> lastUpdatedExportedPositions = new HashMap<>();
+  private final Map<String, ExporterLag> exporterLags = new HashMap<>();
   private final AtomicInteger exporterState = new AtomicInteger();
   private final Map<ValueType, Timer> exportingLatency = new HashMap<>();
   private final Table<String, ValueType, Timer> exporterExportingDuration = Table.simple();
@@ -38,9 +42,25 @@ public final class ExporterMetrics {
       Table.ofEnum(ExporterActionKeyNames.class, ValueType.class, Counter[]::new);
 
   private final MeterRegistry meterRegistry;
+  private final LongSupplier lastWrittenPosition;
+  private final InstantSource clock;
 
   public ExporterMetrics(final MeterRegistry meterRegistry) {
+    this(meterRegistry, () -> -1L, InstantSource.system());
+  }
+
+  /**
+   * @param lastWrittenPosition supplies the last position written to the log, used to calculate
+   *     the lag of each exporter
+   * @param clock the clock to calculate the lag of each exporter in seconds
+   */
+  public ExporterMetrics(
+      final MeterRegistry meterRegistry,
+      final LongSupplier lastWrittenPosition,
+      final InstantSource clock) {
     this.meterRegistry = Objects.requireNonNull(meterRegistry, "must specify a meter registry");
+    this.lastWrittenPosition = lastWrittenPosition;
+    this.clock = clock;
   }
 
   public void setExporterActive() {
@@ -81,6 +101,40 @@ public final class ExporterMetrics {
         .set(position);
   }
 
+  /**
+   * Sets the last position passed to the given exporter, and the timestamp of the record at this
+   * position, from which the lag of the exporter is calculated.
+   */
+  public void setLastExportedPosition(
+      final String exporter, final long position, final long timestamp) {
+    setLastExportedPosition(exporter, position);
+    exporterLags.computeIfAbsent(exporter, this::registerExporterLag).update(position, timestamp);
+  }
+
+  /**
+   * Removes the position and lag gauges of the given exporter, e.g. when its cursor is closed.
+   * Gauges only hold a weak reference to their value, and registering a gauge which already exists
+   * returns the existing one, so a reopened exporter would otherwise report the values of a closed
+   * one.
+   */
+  public void removeExporter(final String exporter) {
+    lastExportedPositions.remove(exporter);
+    lastUpdatedExportedPositions.remove(exporter);
+    exporterLags.remove(exporter);
+    for (final var meterDoc :
+        List.of(
+            ExporterMetricsDoc.LAST_EXPORTED_POSITION,
+            ExporterMetricsDoc.LAST_UPDATED_EXPORTED_POSITION,
+            ExporterMetricsDoc.EXPORTER_LAG_POSITIONS,
+            ExporterMetricsDoc.EXPORTER_LAG_SECONDS)) {
+      meterRegistry
+          .find(meterDoc.getName())
+          .tag(LABEL_NAME_EXPORTER, exporter)
+          .gauges()
+          .forEach(meterRegistry::remove);
+    }
+  }
+
   public void exportingLatency(
       final ValueType valueType, final long written, final long exporting) {
     exportingLatency
@@ -143,6 +197,21 @@ public final class ExporterMetrics {
     return position;
   }
 
+  private ExporterLag registerExporterLag(final String exporterId) {
+    final var lag = new ExporterLag(lastWrittenPosition, clock);
+    final var positionsDoc = ExporterMetricsDoc.EXPORTER_LAG_POSITIONS;
+    Gauge.builder(positionsDoc.getName(), lag, ExporterLag::positions)
+        .tag(LABEL_NAME_EXPORTER, exporterId)
+        .description(positionsDoc.getDescription())
+        .register(meterRegistry);
+    final var secondsDoc = ExporterMetricsDoc.EXPORTER_LAG_SECONDS;
+    Gauge.builder(secondsDoc.getName(), lag, ExporterLag::seconds)
+        .tag(LABEL_NAME_EXPORTER, exporterId)
+        .description(secondsDoc.getDescription())
+        .register(meterRegistry);
+    return lag;
+  }
+
   private Timer registerExportingDuration(final String exporterId, final ValueType valueType) {
     final var meterDoc = ExporterMetricsDoc.EXPORTING_DURATION;
     return Timer.builder(meterDoc.getName())
@@ -161,4 +230,36 @@ public final class ExporterMetrics {
         .tag(LABEL_NAME_VALUE_TYPE, valueType.name())
         .register(meterRegistry);
   }
+
+  /**
+   * The lag of a single exporter, calculated when the gauges are read. Updated by the actor which
+   * exports to the exporter, read by the metrics scraping thread.
+   */
+  private static final class ExporterLag {
+    private final LongSupplier lastWrittenPosition;
+    private final InstantSource clock;
+    private volatile long position = -1;
+    private volatile long timestamp = -1;
+
+    private ExporterLag(final LongSupplier lastWrittenPosition, final InstantSource clock) {
+      this.lastWrittenPosition = lastWrittenPosition;
+      this.clock = clock;
+    }
+
+    private void update(final long position, final long timestamp) {
+      this.timestamp = timestamp;
+      this.position = position;
+    }
+
+    private double positions() {
+      return Math.max(0, lastWrittenPosition.getAsLong() - position);
+    }
+
+    private double seconds() {
+      if (positions() == 0 || timestamp < 0) {
+        return 0;
+      }
+      return Math.max(0, clock.millis() - timestamp) / 1000.0;
+    }
+  }
 }
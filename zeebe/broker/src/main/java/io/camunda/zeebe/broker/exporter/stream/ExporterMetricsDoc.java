@@ -53,6 +53,44 @@ public enum ExporterMetricsDoc implements ExtendedMeterDocumentation {
     }
   },
 
+  /** The number of positions the exporter is behind the last written position */
+  EXPORTER_LAG_POSITIONS {
+    @Override
+    public String getName() {
+      return "zeebe.exporter.lag.positions";
+    }
+
+    @Override
+    public Meter.Type getType() {
+      return Meter.Type.GAUGE;
+    }
+
+    @Override
+    public String getDescription() {
+      return "The number of positions between the last written position and the last position"
+          + " passed to the exporter";
+    }
+  },
+
+  /** The time the exporter is behind the last written record */
+  EXPORTER_LAG_SECONDS {
+    @Override
+    public String getName() {
+      return "zeebe.exporter.lag.seconds";
+    }
+
+    @Override
+    public Meter.Type getType() {
+      return Meter.Type.GAUGE;
+    }
+
+    @Override
+    public String getDescription() {
+      return "The age of the last record passed to the exporter, if the exporter is behind the last"
+          + " written position, or 0 otherwise (in seconds)";
+    }
+  },
+
   /**
    * Describes the phase of the exporter, namely if it is exporting, paused or soft paused; valid
    * values are those found in {@link ExporterPhase}
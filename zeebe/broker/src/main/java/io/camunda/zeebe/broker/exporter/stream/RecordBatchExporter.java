@@ -0,0 +1,187 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.exporter.stream;
+
+import io.camunda.zeebe.logstreams.log.LoggedEvent;
+import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
+import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.stream.impl.records.CopiedRecords;
+import java.time.InstantSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Exports a run of records to all exporters at once. In contrast to the {@link RecordExporter}, the
+ * records are copied when they are added, such that a whole run can be read from the log in one
+ * go and dispatched to each exporter in turn.
+ *
+ * <p>Records which are skipped by the exporter director stay part of the batch, such that each
+ * exporter sees the skipped positions in the same order as the exported records.
+ */
+class RecordBatchExporter {
+
+  private final Set<ValueType> knownValueTypes = UnifiedRecordValue.allRecordsMap().keySet();
+  private final RecordMetadata rawMetadata = new RecordMetadata();
+  private final List<Entry> entries = new ArrayList<>();
+  private final List<ExporterContainer> containers;
+  private final ExporterMetrics exporterMetrics;
+  private final int partitionId;
+  private final int maxSize;
+  private final long maxBytes;
+  private final InstantSource clock;
+
+  private long bytes;
+  private long lastPosition = -1;
+  private long lastTimestamp = -1;
+  private boolean latencyObserved;
+  private int exporterIndex;
+  private int entryIndex;
+
+  RecordBatchExporter(
+      final ExporterMetrics exporterMetrics,
+      final List<ExporterContainer> containers,
+      final int partitionId,
+      final int maxSize,
+      final long maxBytes,
+      final InstantSource clock) {
+    this.containers = containers;
+    this.exporterMetrics = exporterMetrics;
+    this.partitionId = partitionId;
+    this.maxSize = maxSize;
+    this.maxBytes = maxBytes;
+    this.clock = clock;
+  }
+
+  /**
+   * Copies the given event into the batch. Events with an unknown value type are not exported, like
+   * in {@link RecordExporter#wrap(LoggedEvent)}.
+   */
+  void add(final LoggedEvent rawEvent) {
+    rawEvent.readMetadata(rawMetadata);
+    if (knownValueTypes.contains(rawMetadata.getValueType())) {
+      final var record = CopiedRecords.createCopiedRecord(partitionId, rawEvent);
+      entries.add(new Entry(rawEvent.getPosition(), record));
+    }
+    onAdded(rawEvent);
+  }
+
+  /** Adds the given event as skipped record; it is not passed to any exporter. */
+  void skip(final LoggedEvent rawEvent) {
+    rawEvent.readMetadata(rawMetadata);
+    exporterMetrics.eventSkipped(rawMetadata.getValueType());
+    entries.add(new Entry(rawEvent.getPosition(), null));
+    onAdded(rawEvent);
+  }
+
+  private void onAdded(final LoggedEvent rawEvent) {
+    bytes += rawEvent.getMetadataLength() + rawEvent.getValueLength();
+    lastPosition = rawEvent.getPosition();
+    lastTimestamp = rawEvent.getTimestamp();
+  }
+
+  boolean isFull() {
+    return entries.size() >= maxSize || bytes >= maxBytes;
+  }
+
+  /**
+   * @return the position of the last event which was added to the batch
+   */
+  long getLastPosition() {
+    return lastPosition;
+  }
+
+  /**
+   * Exports the batch to all exporters. Can be called again after it returned false, in which case
+   * it continues with the exporter and the record which failed before.
+   *
+   * @return true if all exporters exported the whole batch, false otherwise
+   */
+  boolean export() {
+    if (!latencyObserved) {
+      // exporting latency tracks time from record written to exporting of record started
+      final long currentMillis = clock.millis();
+      for (final Entry entry : entries) {
+        final var record = entry.record();
+        if (record != null) {
+          exporterMetrics.exportingLatency(
+              record.getValueType(), record.getTimestamp(), currentMillis);
+        }
+      }
+      latencyObserved = true;
+    }
+
+    final int exportersCount = containers.size();
+    while (exporterIndex < exportersCount) {
+      final ExporterContainer container = containers.get(exporterIndex);
+      final boolean exported =
+          container.isBatchExporter()
+              ? container.exportBatch(entries)
+              : exportRecordByRecord(container);
+      if (!exported) {
+        return false;
+      }
+
+      exporterMetrics.setLastExportedPosition(container.getId(), lastPosition, lastTimestamp);
+      exporterIndex++;
+      entryIndex = 0;
+    }
+
+    for (final Entry entry : entries) {
+      if (entry.record() != null) {
+        exporterMetrics.eventExported(entry.record().getValueType());
+      }
+    }
+    return true;
+  }
+
+  private boolean exportRecordByRecord(final ExporterContainer container) {
+    while (entryIndex < entries.size()) {
+      final Entry entry = entries.get(entryIndex);
+      final var record = entry.record();
+      if (record == null) {
+        container.updatePositionOnSkipIfUpToDate(entry.position());
+      } else {
+        try (final var timer =
+            exporterMetrics.startExporterExportingTimer(record.getValueType(), container.getId())) {
+          if (!container.exportRecord(record)) {
+            return false;
+          }
+        }
+      }
+      entryIndex++;
+    }
+    return true;
+  }
+
+  /** Clears the batch, such that it can be filled with the next run of records. */
+  void reset() {
+    entries.clear();
+    bytes = 0;
+    lastPosition = -1;
+    lastTimestamp = -1;
+    latencyObserved = false;
+    exporterIndex = 0;
+    entryIndex = 0;
+  }
+
+  public void resetExporterIndex() {
+    exporterIndex = 0;
+    entryIndex = 0;
+  }
+
+  /**
+   * An entry of the batch.
+   *
+   * @param position the position of the record in the log
+   * @param record a copy of the record, or null if the record is skipped by the exporter director
+   */
+  record Entry(long position, Record<?> record) {}
+}
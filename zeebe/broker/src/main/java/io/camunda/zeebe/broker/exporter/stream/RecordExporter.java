@@ -77,7 +77,8 @@ class RecordExporter {
           exporterMetrics.startExporterExportingTimer(valueType, container.getId())) {
         if (container.exportRecord(rawMetadata, typedEvent)) {
           exporterIndex++;
-          exporterMetrics.setLastExportedPosition(container.getId(), typedEvent.getPosition());
+          exporterMetrics.setLastExportedPosition(
+              container.getId(), typedEvent.getPosition(), typedEvent.getTimestamp());
         } else {
           return false;
         }
@@ -24,6 +24,7 @@ public class JobStreamMetrics implements RemoteStreamMetrics {
   private final MeterRegistry registry;
   private final Counter pushSuccessCount;
   private final Counter pushFailedCount;
+  private volatile double pushDistributionSkew = 1;
 
   public JobStreamMetrics(final MeterRegistry registry) {
     this.registry = registry;
@@ -35,6 +36,11 @@ public class JobStreamMetrics implements RemoteStreamMetrics {
     Gauge.builder(streamCountDoc.getName(), streamCount, Number::intValue)
         .description(streamCountDoc.getDescription())
         .register(registry);
+
+    final var skewDoc = JobStreamMetricsDoc.PUSH_DISTRIBUTION_SKEW;
+    Gauge.builder(skewDoc.getName(), this, metrics -> metrics.pushDistributionSkew)
+        .description(skewDoc.getDescription())
+        .register(registry);
   }
 
   private Counter registerCounter(final JobStreamMetricsDoc doc, final Tag... tags) {
@@ -66,6 +72,11 @@ public class JobStreamMetrics implements RemoteStreamMetrics {
     pushFailedCount.increment();
   }
 
+  @Override
+  public void pushDistributionSkew(final double skew) {
+    pushDistributionSkew = skew;
+  }
+
   @Override
   public void pushTryFailed(final ErrorCode code) {
     final var meterDoc = JobStreamMetricsDoc.PUSH_TRY_FAILED_COUNT;
@@ -93,6 +93,27 @@ public enum JobStreamMetricsDoc implements ExtendedMeterDocumentation {
     public KeyName[] getKeyNames() {
       return PushTryFailedCodeKeyNames.values();
     }
+  },
+
+  /**
+   * Ratio of the jobs recently pushed to the busiest stream to the average jobs pushed per stream of
+   * the same job type; 1 if the jobs are distributed evenly
+   */
+  PUSH_DISTRIBUTION_SKEW {
+    @Override
+    public String getName() {
+      return "zeebe.broker.jobs.push.distribution.skew";
+    }
+
+    @Override
+    public Meter.Type getType() {
+      return Type.GAUGE;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Ratio of the jobs recently pushed to the busiest stream to the average jobs pushed per stream of the same job type; 1 if the jobs are distributed evenly";
+    }
   };
 
   /** Possible error codes for use with {@link #PUSH_TRY_FAILED_COUNT} */
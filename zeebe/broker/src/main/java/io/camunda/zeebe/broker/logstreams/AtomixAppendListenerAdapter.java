@@ -13,9 +13,12 @@ import io.camunda.zeebe.logstreams.storage.LogStorage;
 
 public final class AtomixAppendListenerAdapter implements AppendListener {
   private final LogStorage.AppendListener delegate;
+  private final long highestPosition;
 
-  public AtomixAppendListenerAdapter(final LogStorage.AppendListener delegate) {
+  public AtomixAppendListenerAdapter(
+      final LogStorage.AppendListener delegate, final long highestPosition) {
     this.delegate = delegate;
+    this.highestPosition = highestPosition;
   }
 
   @Override
@@ -29,4 +32,9 @@ public final class AtomixAppendListenerAdapter implements AppendListener {
   public void onCommit(final long index, final long highestPosition) {
     delegate.onCommit(index, highestPosition);
   }
+
+  @Override
+  public void onWriteError(final Throwable error) {
+    delegate.onWriteError(highestPosition, error);
+  }
 }
@@ -9,6 +9,7 @@ package io.camunda.zeebe.broker.logstreams;
 
 import io.atomix.raft.RaftCommitListener;
 import io.atomix.raft.zeebe.ZeebeLogAppender;
+import io.camunda.zeebe.journal.JournalReader.Mode;
 import io.camunda.zeebe.logstreams.storage.LogStorage;
 import io.camunda.zeebe.util.buffer.BufferWriter;
 import java.util.Set;
@@ -40,7 +41,12 @@ public class AtomixLogStorage implements LogStorage, RaftCommitListener {
 
   @Override
   public AtomixLogStorageReader newReader() {
-    return new AtomixLogStorageReader(readerFactory.create());
+    return new AtomixLogStorageReader(readerFactory.create(Mode.TAIL));
+  }
+
+  @Override
+  public AtomixLogStorageReader newCatchUpReader() {
+    return new AtomixLogStorageReader(readerFactory.create(Mode.CATCH_UP));
   }
 
   @Override
@@ -49,7 +55,7 @@ public class AtomixLogStorage implements LogStorage, RaftCommitListener {
       final long highestPosition,
       final BufferWriter bufferWriter,
       final AppendListener listener) {
-    final var adapter = new AtomixAppendListenerAdapter(listener);
+    final var adapter = new AtomixAppendListenerAdapter(listener, highestPosition);
     logAppender.appendEntry(lowestPosition, highestPosition, bufferWriter, adapter);
   }
 
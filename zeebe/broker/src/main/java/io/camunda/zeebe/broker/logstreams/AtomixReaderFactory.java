@@ -8,8 +8,9 @@
 package io.camunda.zeebe.broker.logstreams;
 
 import io.atomix.raft.storage.log.RaftLogReader;
+import io.camunda.zeebe.journal.JournalReader.Mode;
 
 @FunctionalInterface
 public interface AtomixReaderFactory {
-  RaftLogReader create();
+  RaftLogReader create(Mode mode);
 }
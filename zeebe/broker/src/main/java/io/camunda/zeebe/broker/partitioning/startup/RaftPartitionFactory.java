@@ -83,6 +83,12 @@ public final class RaftPartitionFactory {
     storageConfig.setJournalIndexDensity(brokerCfg.getData().getLogIndexDensity());
     storageConfig.setSegmentAllocator(
         brokerCfg.getExperimental().getRaft().getSegmentPreallocationStrategy().segmentAllocator());
+    storageConfig.setPrimitiveJournalIndex(
+        brokerCfg.getExperimental().getRaft().isPrimitiveJournalIndex());
+    storageConfig.setPersistSegmentIndex(
+        brokerCfg.getExperimental().getRaft().isPersistSegmentIndex());
+    storageConfig.setReaderPrefetchSize(
+        (int) brokerCfg.getExperimental().getRaft().getReaderPrefetchSize().toBytes());
 
     partitionConfig.setStorageConfig(storageConfig);
     partitionConfig.setEntryValidator(new ZeebeEntryValidator());
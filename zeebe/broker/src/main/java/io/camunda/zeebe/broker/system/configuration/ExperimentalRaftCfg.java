@@ -27,6 +27,10 @@ public final class ExperimentalRaftCfg implements ConfigurationEntry {
   private static final boolean DEFAULT_PREALLOCATE_SEGMENT_FILES = true;
   private static final PreAllocationStrategy DEFAULT_PREALLOCATE_SEGMENT_STRATEGY =
       PreAllocationStrategy.POSIX_OR_FILL;
+  private static final boolean DEFAULT_PRIMITIVE_JOURNAL_INDEX = false;
+  private static final boolean DEFAULT_PERSIST_SEGMENT_INDEX = false;
+  private static final DataSize DEFAULT_READER_PREFETCH_SIZE = DataSize.ofBytes(0);
+  private static final Duration DEFAULT_GROUP_COMMIT_WINDOW = Duration.ZERO;
   private Duration requestTimeout = DEFAULT_REQUEST_TIMEOUT;
   private Duration snapshotRequestTimeout = DEFAULT_SNAPSHOT_REQUEST_TIMEOUT;
   private DataSize snapshotChunkSize = DEFAULT_SNAPSHOT_CHUNK_SIZE;
@@ -35,6 +39,10 @@ public final class ExperimentalRaftCfg implements ConfigurationEntry {
   private int minStepDownFailureCount = DEFAULT_MIN_STEP_DOWN_FAILURE_COUNT;
   private int preferSnapshotReplicationThreshold = DEFAULT_PREFER_SNAPSHOT_REPLICATION_THRESHOLD;
   private boolean preallocateSegmentFiles = DEFAULT_PREALLOCATE_SEGMENT_FILES;
+  private boolean primitiveJournalIndex = DEFAULT_PRIMITIVE_JOURNAL_INDEX;
+  private boolean persistSegmentIndex = DEFAULT_PERSIST_SEGMENT_INDEX;
+  private DataSize readerPrefetchSize = DEFAULT_READER_PREFETCH_SIZE;
+  private Duration groupCommitWindow = DEFAULT_GROUP_COMMIT_WINDOW;
 
   private PreAllocationStrategy segmentPreallocationStrategy = DEFAULT_PREALLOCATE_SEGMENT_STRATEGY;
 
@@ -113,6 +121,38 @@ public final class ExperimentalRaftCfg implements ConfigurationEntry {
     segmentPreallocationStrategy = preAllocationStrategy;
   }
 
+  public boolean isPrimitiveJournalIndex() {
+    return primitiveJournalIndex;
+  }
+
+  public void setPrimitiveJournalIndex(final boolean primitiveJournalIndex) {
+    this.primitiveJournalIndex = primitiveJournalIndex;
+  }
+
+  public boolean isPersistSegmentIndex() {
+    return persistSegmentIndex;
+  }
+
+  public void setPersistSegmentIndex(final boolean persistSegmentIndex) {
+    this.persistSegmentIndex = persistSegmentIndex;
+  }
+
+  public DataSize getReaderPrefetchSize() {
+    return readerPrefetchSize;
+  }
+
+  public void setReaderPrefetchSize(final DataSize readerPrefetchSize) {
+    this.readerPrefetchSize = readerPrefetchSize;
+  }
+
+  public Duration getGroupCommitWindow() {
+    return groupCommitWindow;
+  }
+
+  public void setGroupCommitWindow(final Duration groupCommitWindow) {
+    this.groupCommitWindow = groupCommitWindow;
+  }
+
   /**
    * Defines the strategy to use to preallocate segment files when "preallocateSegmentFiles" is set
    * to true. Possible options are:
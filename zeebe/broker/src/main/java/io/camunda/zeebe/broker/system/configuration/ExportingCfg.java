@@ -8,23 +8,52 @@
 package io.camunda.zeebe.broker.system.configuration;
 
 import static io.camunda.zeebe.broker.exporter.stream.ExporterDirectorContext.DEFAULT_DISTRIBUTION_INTERVAL;
+import static io.camunda.zeebe.broker.exporter.stream.ExporterDirectorContext.DEFAULT_EXPORT_BATCH_MAX_BYTES;
+import static io.camunda.zeebe.broker.exporter.stream.ExporterDirectorContext.DEFAULT_EXPORT_BATCH_MAX_DURATION;
+import static io.camunda.zeebe.broker.exporter.stream.ExporterDirectorContext.DEFAULT_EXPORT_BATCH_SIZE;
 
 import java.time.Duration;
 import java.util.Set;
+import org.springframework.util.unit.DataSize;
 
 /**
  * Exporting component configuration. This configuration pertains to configurations that are common
  * to all exporters.
+ *
+ * <p>With a {@code batchSize} greater than 1, records are read and passed to the exporters in
+ * batches of up to {@code batchSize} records, {@code batchMaxBytes} bytes, or as many records as
+ * can be read within {@code batchMaxDuration}.
+ *
+ * <p>With {@code independentExporters}, every exporter reads the log on its own and runs at its own
+ * pace, instead of all exporters receiving each record in lock-step.
  */
-public record ExportingCfg(Set<Long> skipRecords, Duration distributionInterval) {
+public record ExportingCfg(
+    Set<Long> skipRecords,
+    Duration distributionInterval,
+    Integer batchSize,
+    DataSize batchMaxBytes,
+    Duration batchMaxDuration,
+    Boolean independentExporters) {
 
-  public ExportingCfg(final Set<Long> skipRecords, final Duration distributionInterval) {
+  public ExportingCfg(
+      final Set<Long> skipRecords,
+      final Duration distributionInterval,
+      final Integer batchSize,
+      final DataSize batchMaxBytes,
+      final Duration batchMaxDuration,
+      final Boolean independentExporters) {
     this.skipRecords = skipRecords == null ? Set.of() : skipRecords;
     this.distributionInterval =
         distributionInterval == null ? DEFAULT_DISTRIBUTION_INTERVAL : distributionInterval;
+    this.batchSize = batchSize == null ? DEFAULT_EXPORT_BATCH_SIZE : batchSize;
+    this.batchMaxBytes =
+        batchMaxBytes == null ? DataSize.ofBytes(DEFAULT_EXPORT_BATCH_MAX_BYTES) : batchMaxBytes;
+    this.batchMaxDuration =
+        batchMaxDuration == null ? DEFAULT_EXPORT_BATCH_MAX_DURATION : batchMaxDuration;
+    this.independentExporters = independentExporters != null && independentExporters;
   }
 
   public static ExportingCfg defaultExportingCfg() {
-    return new ExportingCfg(null, null);
+    return new ExportingCfg(null, null, null, null, null, null);
   }
 }
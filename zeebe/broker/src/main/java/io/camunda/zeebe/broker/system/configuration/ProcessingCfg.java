@@ -16,6 +16,7 @@ public final class ProcessingCfg implements ConfigurationEntry {
   private Integer maxCommandsInBatch = DEFAULT_PROCESSING_BATCH_LIMIT;
   private boolean enableAsyncScheduledTasks = true;
   private Duration scheduledTaskCheckInterval = Duration.ofSeconds(1);
+  private int replayDecoderThreads = 0;
   private Set<Long> skipPositions;
 
   @Override
@@ -29,6 +30,10 @@ public final class ProcessingCfg implements ConfigurationEntry {
           "scheduledTaskCheckInterval must be positive but was %s"
               .formatted(scheduledTaskCheckInterval));
     }
+    if (replayDecoderThreads < 0) {
+      throw new IllegalArgumentException(
+          "replayDecoderThreads must be >= 0 but was %s".formatted(replayDecoderThreads));
+    }
   }
 
   public int getMaxCommandsInBatch() {
@@ -64,6 +69,8 @@ public final class ProcessingCfg implements ConfigurationEntry {
         + enableAsyncScheduledTasks
         + ", scheduledTaskCheckInterval="
         + scheduledTaskCheckInterval
+        + ", replayDecoderThreads="
+        + replayDecoderThreads
         + '}';
   }
 
@@ -74,4 +81,12 @@ public final class ProcessingCfg implements ConfigurationEntry {
   public void setScheduledTaskCheckInterval(final Duration scheduledTaskCheckInterval) {
     this.scheduledTaskCheckInterval = scheduledTaskCheckInterval;
   }
+
+  public int getReplayDecoderThreads() {
+    return replayDecoderThreads;
+  }
+
+  public void setReplayDecoderThreads(final int replayDecoderThreads) {
+    this.replayDecoderThreads = replayDecoderThreads;
+  }
 }
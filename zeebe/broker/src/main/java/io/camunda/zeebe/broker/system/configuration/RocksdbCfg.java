@@ -10,9 +10,12 @@ package io.camunda.zeebe.broker.system.configuration;
 import io.camunda.zeebe.db.AccessMetricsConfiguration;
 import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
 import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration.MemoryAllocationStrategy;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration.TransactionType;
+import java.util.List;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Properties;
+import java.util.Set;
 import java.util.regex.Pattern;
 import org.springframework.util.unit.DataSize;
 
@@ -30,6 +33,13 @@ public final class RocksdbCfg implements ConfigurationEntry {
   private boolean disableWal = RocksDbConfiguration.DEFAULT_WAL_DISABLED;
   private boolean enableSstPartitioning = RocksDbConfiguration.DEFAULT_SST_PARTITIONING_ENABLED;
   private MemoryAllocationStrategy memoryAllocationStrategy = MemoryAllocationStrategy.AUTO;
+  private List<String> overlayColumnFamilies = List.of();
+  private DataSize overlayMaxSize =
+      DataSize.ofBytes(RocksDbConfiguration.DEFAULT_OVERLAY_MAX_SIZE);
+  private TransactionType transactionType = RocksDbConfiguration.DEFAULT_TRANSACTION_TYPE;
+  private int prefixFilterKeyLength = RocksDbConfiguration.DEFAULT_PREFIX_FILTER_KEY_LENGTH;
+  private boolean enableColumnFamilyProfiles =
+      RocksDbConfiguration.DEFAULT_COLUMN_FAMILY_PROFILES_ENABLED;
 
   @Override
   public void init(final BrokerCfg globalConfig, final String brokerBase) {
@@ -139,6 +149,46 @@ public final class RocksdbCfg implements ConfigurationEntry {
     this.accessMetrics = accessMetrics;
   }
 
+  public List<String> getOverlayColumnFamilies() {
+    return overlayColumnFamilies;
+  }
+
+  public void setOverlayColumnFamilies(final List<String> overlayColumnFamilies) {
+    this.overlayColumnFamilies = overlayColumnFamilies;
+  }
+
+  public DataSize getOverlayMaxSize() {
+    return overlayMaxSize;
+  }
+
+  public void setOverlayMaxSize(final DataSize overlayMaxSize) {
+    this.overlayMaxSize = overlayMaxSize;
+  }
+
+  public TransactionType getTransactionType() {
+    return transactionType;
+  }
+
+  public void setTransactionType(final TransactionType transactionType) {
+    this.transactionType = transactionType;
+  }
+
+  public int getPrefixFilterKeyLength() {
+    return prefixFilterKeyLength;
+  }
+
+  public void setPrefixFilterKeyLength(final int prefixFilterKeyLength) {
+    this.prefixFilterKeyLength = prefixFilterKeyLength;
+  }
+
+  public boolean isEnableColumnFamilyProfiles() {
+    return enableColumnFamilyProfiles;
+  }
+
+  public void setEnableColumnFamilyProfiles(final boolean enableColumnFamilyProfiles) {
+    this.enableColumnFamilyProfiles = enableColumnFamilyProfiles;
+  }
+
   public RocksDbConfiguration createRocksDbConfiguration() {
     return new RocksDbConfiguration()
         .setColumnFamilyOptions(columnFamilyOptions)
@@ -150,7 +200,12 @@ public final class RocksdbCfg implements ConfigurationEntry {
         .setIoRateBytesPerSecond(ioRateBytesPerSecond)
         .setWalDisabled(disableWal)
         .setSstPartitioningEnabled(enableSstPartitioning)
-        .setMemoryAllocationStrategy(memoryAllocationStrategy);
+        .setMemoryAllocationStrategy(memoryAllocationStrategy)
+        .setOverlayColumnFamilies(Set.copyOf(overlayColumnFamilies))
+        .setOverlayMaxSize(overlayMaxSize.toBytes())
+        .setTransactionType(transactionType)
+        .setPrefixFilterKeyLength(prefixFilterKeyLength)
+        .setColumnFamilyProfilesEnabled(enableColumnFamilyProfiles);
   }
 
   @Override
@@ -178,6 +233,16 @@ public final class RocksdbCfg implements ConfigurationEntry {
         + disableWal
         + ", enableSstPartitioning="
         + enableSstPartitioning
+        + ", overlayColumnFamilies="
+        + overlayColumnFamilies
+        + ", overlayMaxSize="
+        + overlayMaxSize
+        + ", transactionType="
+        + transactionType
+        + ", prefixFilterKeyLength="
+        + prefixFilterKeyLength
+        + ", enableColumnFamilyProfiles="
+        + enableColumnFamilyProfiles
         + '}';
   }
 
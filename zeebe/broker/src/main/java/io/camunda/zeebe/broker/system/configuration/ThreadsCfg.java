@@ -7,9 +7,15 @@
  */
 package io.camunda.zeebe.broker.system.configuration;
 
+import io.camunda.zeebe.scheduler.ActorScheduler.ActorSchedulerBuilder;
+
 public final class ThreadsCfg implements ConfigurationEntry {
   private int cpuThreadCount = 2;
   private int ioThreadCount = 2;
+  private boolean enableLocalityAwareScheduling = false;
+  private int localityGroupSize = 0;
+  private boolean enableVirtualIoThreads = false;
+  private int virtualIoThreadCount = ActorSchedulerBuilder.DEFAULT_VIRTUAL_IO_THREAD_COUNT;
 
   public int getCpuThreadCount() {
     return cpuThreadCount;
@@ -27,6 +33,38 @@ public final class ThreadsCfg implements ConfigurationEntry {
     ioThreadCount = ioThreads;
   }
 
+  public boolean isEnableLocalityAwareScheduling() {
+    return enableLocalityAwareScheduling;
+  }
+
+  public void setEnableLocalityAwareScheduling(final boolean enableLocalityAwareScheduling) {
+    this.enableLocalityAwareScheduling = enableLocalityAwareScheduling;
+  }
+
+  public int getLocalityGroupSize() {
+    return localityGroupSize;
+  }
+
+  public void setLocalityGroupSize(final int localityGroupSize) {
+    this.localityGroupSize = localityGroupSize;
+  }
+
+  public boolean isEnableVirtualIoThreads() {
+    return enableVirtualIoThreads;
+  }
+
+  public void setEnableVirtualIoThreads(final boolean enableVirtualIoThreads) {
+    this.enableVirtualIoThreads = enableVirtualIoThreads;
+  }
+
+  public int getVirtualIoThreadCount() {
+    return virtualIoThreadCount;
+  }
+
+  public void setVirtualIoThreadCount(final int virtualIoThreadCount) {
+    this.virtualIoThreadCount = virtualIoThreadCount;
+  }
+
   @Override
   public String toString() {
     return "ThreadsCfg{"
@@ -34,6 +72,14 @@ public final class ThreadsCfg implements ConfigurationEntry {
         + cpuThreadCount
         + ", ioThreadCount="
         + ioThreadCount
+        + ", enableLocalityAwareScheduling="
+        + enableLocalityAwareScheduling
+        + ", localityGroupSize="
+        + localityGroupSize
+        + ", enableVirtualIoThreads="
+        + enableVirtualIoThreads
+        + ", virtualIoThreadCount="
+        + virtualIoThreadCount
         + '}';
   }
 }
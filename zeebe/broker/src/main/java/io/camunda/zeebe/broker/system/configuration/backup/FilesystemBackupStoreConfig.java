@@ -14,6 +14,7 @@ import java.util.Objects;
 public class FilesystemBackupStoreConfig implements ConfigurationEntry {
 
   private String basePath;
+  private boolean contentAddressed;
 
   public String getBasePath() {
     return basePath;
@@ -23,13 +24,24 @@ public class FilesystemBackupStoreConfig implements ConfigurationEntry {
     this.basePath = basePath;
   }
 
+  public boolean isContentAddressed() {
+    return contentAddressed;
+  }
+
+  public void setContentAddressed(final boolean contentAddressed) {
+    this.contentAddressed = contentAddressed;
+  }
+
   public static FilesystemBackupConfig toStoreConfig(final FilesystemBackupStoreConfig config) {
-    return new FilesystemBackupConfig.Builder().withBasePath(config.getBasePath()).build();
+    return new FilesystemBackupConfig.Builder()
+        .withBasePath(config.getBasePath())
+        .withContentAddressed(config.isContentAddressed())
+        .build();
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(basePath);
+    return Objects.hash(basePath, contentAddressed);
   }
 
   @Override
@@ -41,11 +53,17 @@ public class FilesystemBackupStoreConfig implements ConfigurationEntry {
       return false;
     }
     final FilesystemBackupStoreConfig that = (FilesystemBackupStoreConfig) o;
-    return Objects.equals(basePath, that.basePath);
+    return contentAddressed == that.contentAddressed && Objects.equals(basePath, that.basePath);
   }
 
   @Override
   public String toString() {
-    return "FilesystemBackupStoreConfig{" + "basePath='" + basePath + '\'' + '}';
+    return "FilesystemBackupStoreConfig{"
+        + "basePath='"
+        + basePath
+        + '\''
+        + ", contentAddressed="
+        + contentAddressed
+        + '}';
   }
 }
@@ -21,6 +21,7 @@ public final class EngineCfg implements ConfigurationEntry {
   private UsageMetricsCfg usageMetrics = new UsageMetricsCfg();
   private DistributionCfg distribution = new DistributionCfg();
   private int maxProcessDepth = EngineConfiguration.DEFAULT_MAX_PROCESS_DEPTH;
+  private boolean enableDeadlineWheel = EngineConfiguration.DEFAULT_ENABLE_DEADLINE_WHEEL;
   private GlobalListenersCfg globalListeners = new GlobalListenersCfg();
 
   @Override
@@ -99,6 +100,14 @@ public final class EngineCfg implements ConfigurationEntry {
     this.maxProcessDepth = maxProcessDepth;
   }
 
+  public boolean isEnableDeadlineWheel() {
+    return enableDeadlineWheel;
+  }
+
+  public void setEnableDeadlineWheel(final boolean enableDeadlineWheel) {
+    this.enableDeadlineWheel = enableDeadlineWheel;
+  }
+
   public GlobalListenersCfg getGlobalListeners() {
     return globalListeners;
   }
@@ -126,6 +135,8 @@ public final class EngineCfg implements ConfigurationEntry {
         + distribution
         + ", maxProcessDepth="
         + maxProcessDepth
+        + ", enableDeadlineWheel="
+        + enableDeadlineWheel
         + '}';
   }
 
@@ -156,6 +167,7 @@ public final class EngineCfg implements ConfigurationEntry {
         .setCommandRedistributionInterval(distribution.getRedistributionInterval())
         .setCommandRedistributionMaxBackoff(distribution.getMaxBackoffDuration())
         .setMaxProcessDepth(getMaxProcessDepth())
+        .setEnableDeadlineWheel(isEnableDeadlineWheel())
         .setGlobalListeners(globalListeners.createGlobalListenersConfiguration());
   }
 }
@@ -121,6 +121,10 @@ public final class ExporterDirectorPartitionTransitionStep implements PartitionT
             .logStream(context.getLogStream())
             .zeebeDb(context.getZeebeDb())
             .distributionInterval(exportingCfg.distributionInterval())
+            .exportBatchSize(exportingCfg.batchSize())
+            .exportBatchMaxBytes(exportingCfg.batchMaxBytes().toBytes())
+            .exportBatchMaxDuration(exportingCfg.batchMaxDuration())
+            .independentExporters(exportingCfg.independentExporters())
             .partitionMessagingService(context.getMessagingService())
             .descriptors(exporterDescriptors)
             .exporterMode(exporterMode)
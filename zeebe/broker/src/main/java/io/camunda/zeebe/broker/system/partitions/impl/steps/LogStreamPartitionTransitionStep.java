@@ -75,6 +75,9 @@ public final class LogStreamPartitionTransitionStep implements PartitionTransiti
         .withLogName("logStream-" + context.getRaftPartition().name())
         .withPartitionId(context.getPartitionId())
         .withMaxFragmentSize(context.getMaxFragmentSize())
+        .withGroupCommitWindow(
+            context.getBrokerCfg().getExperimental().getRaft().getGroupCommitWindow(),
+            context.getConcurrencyControl())
         .withClock(context.getStreamClock())
         .withRequestLimit(
             flowControlCfg.getRequest() != null
@@ -175,6 +175,7 @@ public final class StreamProcessorTransitionStep implements PartitionTransitionS
             context.getBrokerCfg().getProcessing().isEnableAsyncScheduledTasks())
         .setScheduledTaskCheckInterval(
             context.getBrokerCfg().getProcessing().getScheduledTaskCheckInterval())
+        .setReplayDecoderThreads(context.getBrokerCfg().getProcessing().getReplayDecoderThreads())
         .processingFilter(processingFilter)
         .listener(
             processedCommand ->
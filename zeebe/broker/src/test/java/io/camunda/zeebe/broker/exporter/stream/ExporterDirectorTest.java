@@ -28,6 +28,7 @@ import io.camunda.zeebe.broker.exporter.util.ControlledTestExporter;
 import io.camunda.zeebe.broker.exporter.util.PojoConfigurationExporter;
 import io.camunda.zeebe.broker.exporter.util.PojoConfigurationExporter.PojoExporterConfiguration;
 import io.camunda.zeebe.engine.Loggers;
+import io.camunda.zeebe.exporter.api.BatchExporter;
 import io.camunda.zeebe.exporter.api.context.Context;
 import io.camunda.zeebe.protocol.impl.record.value.deployment.DeploymentRecord;
 import io.camunda.zeebe.protocol.impl.record.value.incident.IncidentRecord;
@@ -49,8 +50,10 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
@@ -481,6 +484,174 @@ public final class ExporterDirectorTest {
                     .containsExactly(2L));
   }
 
+  @Test
+  public void shouldExportRecordsInBatches() {
+    // given
+    final var batchExporter = new BatchTestExporter();
+    final var batchExporterDescriptor =
+        spy(new ExporterDescriptor("batch-exporter", BatchTestExporter.class, Map.of()));
+    doAnswer(c -> batchExporter).when(batchExporterDescriptor).newInstance();
+    exporters
+        .get(0)
+        .onConfigure(withFilter(List.of(RecordType.EVENT), List.of(ValueType.DEPLOYMENT)));
+
+    final long eventPosition1 = writeEvent();
+    final long commandPosition = rule.writeCommand(DeploymentIntent.CREATE, new DeploymentRecord());
+    final long eventPosition2 = writeEvent();
+    rule.withExportBatchSize(10);
+
+    // when
+    startExporterDirector(List.of(exporterDescriptors.get(0), batchExporterDescriptor));
+
+    // then
+    Awaitility.await("batch exporter has exported all records")
+        .untilAsserted(
+            () ->
+                assertThat(batchExporter.batches)
+                    .flatExtracting(batch -> batch)
+                    .extracting(Record::getPosition)
+                    .containsExactly(eventPosition1, commandPosition, eventPosition2));
+    assertThat(batchExporter.batches).hasSize(1);
+    assertThat(exporters.get(0).getExportedRecords())
+        .extracting(Record::getPosition)
+        .containsExactly(eventPosition1, eventPosition2);
+  }
+
+  @Test
+  public void shouldRetryFailedBatchOnlyForFailedExporter() {
+    // given
+    final var batchExporter = new BatchTestExporter();
+    final var batchExporterDescriptor =
+        spy(new ExporterDescriptor("batch-exporter", BatchTestExporter.class, Map.of()));
+    doAnswer(c -> batchExporter).when(batchExporterDescriptor).newInstance();
+    final AtomicLong failCount = new AtomicLong(1);
+    batchExporter.onExport =
+        batch -> {
+          if (failCount.getAndDecrement() > 0) {
+            throw new RuntimeException("Export failed (expected)");
+          }
+        };
+
+    final long eventPosition1 = writeEvent();
+    final long eventPosition2 = writeEvent();
+    rule.withExportBatchSize(10);
+
+    // when
+    startExporterDirector(List.of(exporterDescriptors.get(0), batchExporterDescriptor));
+
+    // then
+    doRepeatedly(() -> rule.getClock().addTime(Duration.ofSeconds(1)))
+        .until(r -> batchExporter.batches.size() == 1);
+    assertThat(batchExporter.batches.getFirst())
+        .extracting(Record::getPosition)
+        .containsExactly(eventPosition1, eventPosition2);
+    assertThat(exporters.get(0).getExportedRecords())
+        .extracting(Record::getPosition)
+        .containsExactly(eventPosition1, eventPosition2);
+  }
+
+  @Test
+  public void shouldNotHoldBackOtherExportersWithIndependentExporters() {
+    // given
+    final AtomicBoolean stalled = new AtomicBoolean(true);
+    exporters
+        .get(0)
+        .onExport(
+            record -> {
+              if (stalled.get()) {
+                throw new RuntimeException("Export failed (expected)");
+              }
+            });
+    rule.withIndependentExporters(true);
+    startExporterDirector(exporterDescriptors);
+
+    // when
+    final long eventPosition1 = writeEvent();
+    final long eventPosition2 = writeEvent();
+
+    // then
+    Awaitility.await("Exporter %s has exported all records".formatted(EXPORTER_ID_2))
+        .untilAsserted(
+            () ->
+                assertThat(exporters.get(1).getExportedRecords())
+                    .extracting(Record::getPosition)
+                    .containsExactly(eventPosition1, eventPosition2));
+    assertThat(exporters.get(0).getExportedRecords()).isEmpty();
+
+    // when
+    stalled.set(false);
+
+    // then
+    doRepeatedly(() -> rule.getClock().addTime(Duration.ofSeconds(1)))
+        .until(r -> exporters.get(0).getExportedRecords().size() == 2);
+    assertThat(exporters.get(0).getExportedRecords())
+        .extracting(Record::getPosition)
+        .containsExactly(eventPosition1, eventPosition2);
+  }
+
+  @Test
+  public void shouldRemoveExporterGaugesWhenIndependentExportersAreClosed() throws Exception {
+    // given
+    rule.withIndependentExporters(true);
+    startExporterDirector(exporterDescriptors);
+    final long eventPosition = writeEvent();
+    Awaitility.await("Exporters have exported the record")
+        .untilAsserted(
+            () ->
+                assertThat(exporters)
+                    .allSatisfy(
+                        exporter ->
+                            assertThat(exporter.getExportedRecords())
+                                .extracting(Record::getPosition)
+                                .containsExactly(eventPosition)));
+    final var lastExportedPosition =
+        rule.getMeterRegistry().find(ExporterMetricsDoc.LAST_EXPORTED_POSITION.getName());
+    assertThat(lastExportedPosition.gauges()).hasSize(exporters.size());
+
+    // when
+    rule.closeExporterDirector();
+
+    // then
+    assertThat(lastExportedPosition.gauges()).isEmpty();
+    assertThat(
+            rule.getMeterRegistry()
+                .find(ExporterMetricsDoc.EXPORTER_LAG_POSITIONS.getName())
+                .gauges())
+        .isEmpty();
+  }
+
+  @Test
+  public void shouldReturnLowestPositionWithIndependentExporters() {
+    // given
+    final AtomicLong stalledPosition = new AtomicLong(-1);
+    exporters.forEach(exporter -> exporter.shouldAutoUpdatePosition(true));
+    exporters
+        .get(0)
+        .onExport(
+            record -> {
+              if (record.getPosition() == stalledPosition.get()) {
+                throw new RuntimeException("Export failed (expected)");
+              }
+            });
+    final long eventPosition1 = writeEvent();
+    final long eventPosition2 = writeEvent();
+    stalledPosition.set(eventPosition2);
+    rule.withIndependentExporters(true);
+
+    // when
+    startExporterDirector(exporterDescriptors);
+
+    // then
+    final ExportersState state = rule.getExportersState();
+    Awaitility.await("Exporter %s has updated its position".formatted(EXPORTER_ID_2))
+        .untilAsserted(
+            () -> assertThat(state.getPosition(EXPORTER_ID_2)).isEqualTo(eventPosition2));
+    Awaitility.await("Exporter %s has updated its position".formatted(EXPORTER_ID_1))
+        .untilAsserted(
+            () -> assertThat(state.getPosition(EXPORTER_ID_1)).isEqualTo(eventPosition1));
+    assertThat(rule.getDirector().getLowestPosition().join()).isEqualTo(eventPosition1);
+  }
+
   @Test
   public void shouldRetryExportingOnException() {
     // given
@@ -918,4 +1089,15 @@ public final class ExporterDirectorTest {
       final RecordExporter recordExporter, final AtomicReference<RecordExporter> exporterRef) {
     return exporterRef.updateAndGet(ignored -> spy(recordExporter));
   }
+
+  public static final class BatchTestExporter implements BatchExporter {
+    private final List<List<Record<?>>> batches = new CopyOnWriteArrayList<>();
+    private volatile Consumer<List<Record<?>>> onExport = batch -> {};
+
+    @Override
+    public void exportBatch(final List<Record<?>> records) {
+      onExport.accept(records);
+      batches.add(List.copyOf(records));
+    }
+  }
 }
@@ -27,6 +27,7 @@ import io.camunda.zeebe.stream.api.EventFilter;
 import io.camunda.zeebe.stream.api.StreamClock;
 import io.camunda.zeebe.stream.impl.SkipPositionsFilter;
 import io.camunda.zeebe.test.util.AutoCloseableRule;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.Duration;
 import java.util.List;
@@ -63,6 +64,9 @@ public final class ExporterRule implements TestRule {
   private ExporterDirector director;
   private Duration distributionInterval = Duration.ofSeconds(15);
   private EventFilter positionsToSkipFilter = SkipPositionsFilter.of(Set.of());
+  private int exportBatchSize = ExporterDirectorContext.DEFAULT_EXPORT_BATCH_SIZE;
+  private boolean independentExporters;
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
 
   private ExporterRule(final ExporterMode exporterMode) {
     this.exporterMode = exporterMode;
@@ -97,6 +101,16 @@ public final class ExporterRule implements TestRule {
     return this;
   }
 
+  public ExporterRule withExportBatchSize(final int exportBatchSize) {
+    this.exportBatchSize = exportBatchSize;
+    return this;
+  }
+
+  public ExporterRule withIndependentExporters(final boolean independentExporters) {
+    this.independentExporters = independentExporters;
+    return this;
+  }
+
   @Override
   public Statement apply(final Statement base, final Description description) {
     return chain.apply(base, description);
@@ -137,8 +151,10 @@ public final class ExporterRule implements TestRule {
             .distributionInterval(distributionInterval)
             .partitionMessagingService(partitionMessagingService)
             .descriptors(descriptorsWithInitializationInfo)
-            .meterRegistry(new SimpleMeterRegistry())
-            .positionsToSkipFilter(positionsToSkipFilter);
+            .meterRegistry(meterRegistry)
+            .positionsToSkipFilter(positionsToSkipFilter)
+            .exportBatchSize(exportBatchSize)
+            .independentExporters(independentExporters);
 
     director = new ExporterDirector(context, phase, recordExporter);
     director.startAsync(actorSchedulerRule.get()).join();
@@ -148,6 +164,10 @@ public final class ExporterRule implements TestRule {
     return director;
   }
 
+  public MeterRegistry getMeterRegistry() {
+    return meterRegistry;
+  }
+
   public ControlledActorClock getClock() {
     return clock;
   }
@@ -14,6 +14,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
 
 class ExporterConfigurationTest {
 
@@ -28,6 +29,8 @@ class ExporterConfigurationTest {
     // then
     assertThat(exportingCfg.skipRecords()).isEqualTo(Set.of());
     assertThat(exportingCfg.distributionInterval()).isEqualTo(Duration.ofSeconds(15));
+    assertThat(exportingCfg.batchSize()).isOne();
+    assertThat(exportingCfg.independentExporters()).isFalse();
   }
 
   @Test
@@ -58,7 +61,7 @@ class ExporterConfigurationTest {
   @Test
   void shouldSetSkipPositions() {
     // given
-    final ExportingCfg exportingCfg = new ExportingCfg(Set.of(1L, 2L), null);
+    final ExportingCfg exportingCfg = new ExportingCfg(Set.of(1L, 2L), null, null, null, null, null);
 
     // then
     assertThat(exportingCfg.skipRecords()).isEqualTo(Set.of(1L, 2L));
@@ -101,4 +104,36 @@ class ExporterConfigurationTest {
     // then
     assertThat(exportingCfg.distributionInterval()).isEqualTo(Duration.ofSeconds(5));
   }
+
+  @Test
+  void shouldSetBatchSettingsFromEnvironment() {
+    // given
+    final var environment = new HashMap<String, String>();
+    environment.put("zeebe.broker.exporting.batchSize", "500");
+    environment.put("zeebe.broker.exporting.batchMaxBytes", "1MB");
+    environment.put("zeebe.broker.exporting.batchMaxDuration", "10ms");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("exporters", environment);
+    final ExportingCfg exportingCfg = cfg.getExporting();
+
+    // then
+    assertThat(exportingCfg.batchSize()).isEqualTo(500);
+    assertThat(exportingCfg.batchMaxBytes()).isEqualTo(DataSize.ofMegabytes(1));
+    assertThat(exportingCfg.batchMaxDuration()).isEqualTo(Duration.ofMillis(10));
+  }
+
+  @Test
+  void shouldSetIndependentExportersFromEnvironment() {
+    // given
+    final var environment = new HashMap<String, String>();
+    environment.put("zeebe.broker.exporting.independentExporters", "true");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("exporters", environment);
+    final ExportingCfg exportingCfg = cfg.getExporting();
+
+    // then
+    assertThat(exportingCfg.independentExporters()).isTrue();
+  }
 }
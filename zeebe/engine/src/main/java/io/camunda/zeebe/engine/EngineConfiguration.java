@@ -31,6 +31,7 @@ public final class EngineConfiguration {
   public static final boolean DEFAULT_ENABLE_AUTHORIZATION_CHECKS = false;
 
   public static final int DEFAULT_MAX_PROCESS_DEPTH = 1000;
+  public static final boolean DEFAULT_ENABLE_DEADLINE_WHEEL = false;
   public static final Duration DEFAULT_USAGE_METRICS_EXPORT_INTERVAL = Duration.ofMinutes(5);
 
   public static final Duration DEFAULT_BATCH_OPERATION_SCHEDULER_INTERVAL = Duration.ofSeconds(1);
@@ -71,6 +72,7 @@ public final class EngineConfiguration {
   private boolean enableAuthorization = DEFAULT_ENABLE_AUTHORIZATION_CHECKS;
 
   private int maxProcessDepth = DEFAULT_MAX_PROCESS_DEPTH;
+  private boolean enableDeadlineWheel = DEFAULT_ENABLE_DEADLINE_WHEEL;
 
   private Duration batchOperationSchedulerInterval = DEFAULT_JOBS_TIMEOUT_POLLING_INTERVAL;
   private int batchOperationChunkSize = DEFAULT_BATCH_OPERATION_CHUNK_SIZE;
@@ -215,6 +217,15 @@ public final class EngineConfiguration {
     return this;
   }
 
+  public boolean isEnableDeadlineWheel() {
+    return enableDeadlineWheel;
+  }
+
+  public EngineConfiguration setEnableDeadlineWheel(final boolean enableDeadlineWheel) {
+    this.enableDeadlineWheel = enableDeadlineWheel;
+    return this;
+  }
+
   public Duration getBatchOperationSchedulerInterval() {
     return batchOperationSchedulerInterval;
   }
@@ -15,7 +15,6 @@ import io.camunda.zeebe.engine.state.conditional.ConditionalSubscription;
 import io.camunda.zeebe.engine.state.immutable.ConditionalSubscriptionState;
 import io.camunda.zeebe.engine.state.immutable.ElementInstanceState;
 import io.camunda.zeebe.engine.state.immutable.ProcessingState;
-import io.camunda.zeebe.protocol.impl.record.value.variable.VariableRecord;
 import io.camunda.zeebe.protocol.record.intent.ConditionalSubscriptionIntent;
 import io.camunda.zeebe.protocol.record.intent.VariableIntent;
 import java.util.ArrayDeque;
@@ -192,7 +191,7 @@ public class BpmnConditionalBehavior {
     return conditionSubscriptionState.exists(processDefinitionKey);
   }
 
-  public record VariableEvent(long scopeKey, VariableIntent intent, VariableRecord record) {
+  public record VariableEvent(long scopeKey, VariableIntent intent, String name) {
     private static final Map<VariableIntent, String> INTENT_TO_EVENT_MAP =
         Map.of(
             VariableIntent.CREATED, "create",
@@ -214,7 +213,7 @@ public class BpmnConditionalBehavior {
       if (variableNamesFilter.isEmpty()) {
         return true;
       }
-      return variableNamesFilter.contains(record.getName());
+      return variableNamesFilter.contains(name);
     }
   }
 }
@@ -154,8 +154,7 @@ public final class VariableBehavior {
           stateWriter.appendFollowUpEvent(
               variableInstance.getKey(), VariableIntent.UPDATED, variableRecord);
           variableEvents.add(
-              new VariableEvent(
-                  currentScope, VariableIntent.UPDATED, getVariableRecordCopy(variableRecord)));
+              new VariableEvent(currentScope, VariableIntent.UPDATED, variableRecord.getName()));
           entryIterator.remove();
         }
       }
@@ -226,14 +225,12 @@ public final class VariableBehavior {
       stateWriter.appendFollowUpEvent(key, VariableIntent.CREATED, record);
       event =
           Optional.of(
-              new VariableEvent(
-                  record.getScopeKey(), VariableIntent.CREATED, getVariableRecordCopy(record)));
+              new VariableEvent(record.getScopeKey(), VariableIntent.CREATED, record.getName()));
     } else if (!variableInstance.getValue().equals(record.getValueBuffer())) {
       stateWriter.appendFollowUpEvent(variableInstance.getKey(), VariableIntent.UPDATED, record);
       event =
           Optional.of(
-              new VariableEvent(
-                  record.getScopeKey(), VariableIntent.UPDATED, getVariableRecordCopy(record)));
+              new VariableEvent(record.getScopeKey(), VariableIntent.UPDATED, record.getName()));
     }
 
     return event;
@@ -242,11 +239,4 @@ public final class VariableBehavior {
   private void applyEntryToRecord(final DocumentEntry entry) {
     variableRecord.setName(entry.getName()).setValue(entry.getValue());
   }
-
-  private VariableRecord getVariableRecordCopy(final VariableRecord variableRecord) {
-    final VariableRecord variableRecordCopy = new VariableRecord();
-    variableRecordCopy.copyFrom(variableRecord);
-
-    return variableRecordCopy;
-  }
 }
@@ -23,6 +23,7 @@ import io.camunda.zeebe.engine.state.clock.DbClockState;
 import io.camunda.zeebe.engine.state.clustervariable.DbClusterVariableState;
 import io.camunda.zeebe.engine.state.compensation.DbCompensationSubscriptionState;
 import io.camunda.zeebe.engine.state.conditional.DbConditionalSubscriptionState;
+import io.camunda.zeebe.engine.state.deadline.TransientDeadlineState;
 import io.camunda.zeebe.engine.state.deployment.DbDecisionState;
 import io.camunda.zeebe.engine.state.deployment.DbDeploymentState;
 import io.camunda.zeebe.engine.state.deployment.DbFormState;
@@ -157,6 +158,34 @@ public class ProcessingDbState implements MutableProcessingState {
       final EngineConfiguration config,
       final InstantSource clock,
       final ExpressionLanguageMetrics expressionLanguageMetrics) {
+    this(
+        partitionId,
+        zeebeDb,
+        transactionContext,
+        keyGenerator,
+        transientMessageSubscriptionState,
+        transientProcessMessageSubscriptionState,
+        null,
+        config,
+        clock,
+        expressionLanguageMetrics);
+  }
+
+  /**
+   * @param transientDeadlineState the deadline wheels to keep current, or null if the deadlines
+   *     are not indexed in memory
+   */
+  public ProcessingDbState(
+      final int partitionId,
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext,
+      final KeyGenerator keyGenerator,
+      final TransientPendingSubscriptionState transientMessageSubscriptionState,
+      final TransientPendingSubscriptionState transientProcessMessageSubscriptionState,
+      final TransientDeadlineState transientDeadlineState,
+      final EngineConfiguration config,
+      final InstantSource clock,
+      final ExpressionLanguageMetrics expressionLanguageMetrics) {
     this.partitionId = partitionId;
     this.zeebeDb = zeebeDb;
     this.keyGenerator = Objects.requireNonNull(keyGenerator);
@@ -165,13 +194,27 @@ public class ProcessingDbState implements MutableProcessingState {
     clusterVariableState = new DbClusterVariableState(zeebeDb, transactionContext);
     processState =
         new DbProcessState(zeebeDb, transactionContext, config, clock, expressionLanguageMetrics);
-    timerInstanceState = new DbTimerInstanceState(zeebeDb, transactionContext);
+    timerInstanceState =
+        new DbTimerInstanceState(
+            zeebeDb,
+            transactionContext,
+            transientDeadlineState != null ? transientDeadlineState.timerDueDates() : null);
     elementInstanceState = new DbElementInstanceState(zeebeDb, transactionContext, variableState);
     eventScopeInstanceState = new DbEventScopeInstanceState(zeebeDb, transactionContext);
 
     deploymentState = new DbDeploymentState(zeebeDb, transactionContext);
-    jobState = new DbJobState(zeebeDb, transactionContext);
-    messageState = new DbMessageState(zeebeDb, transactionContext, partitionId);
+    jobState =
+        new DbJobState(
+            zeebeDb,
+            transactionContext,
+            transientDeadlineState != null ? transientDeadlineState.jobDeadlines() : null,
+            transientDeadlineState != null ? transientDeadlineState.jobBackoffs() : null);
+    messageState =
+        new DbMessageState(
+            zeebeDb,
+            transactionContext,
+            partitionId,
+            transientDeadlineState != null ? transientDeadlineState.messageDeadlines() : null);
     messageSubscriptionState =
         new DbMessageSubscriptionState(
             zeebeDb, transactionContext, transientMessageSubscriptionState, clock);
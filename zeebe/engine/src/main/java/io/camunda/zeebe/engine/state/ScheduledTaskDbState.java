@@ -10,6 +10,7 @@ package io.camunda.zeebe.engine.state;
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.engine.state.batchoperation.DbBatchOperationState;
+import io.camunda.zeebe.engine.state.deadline.TransientDeadlineState;
 import io.camunda.zeebe.engine.state.deployment.DbDeploymentState;
 import io.camunda.zeebe.engine.state.distribution.DbDistributionState;
 import io.camunda.zeebe.engine.state.immutable.BatchOperationState;
@@ -54,10 +55,46 @@ public final class ScheduledTaskDbState implements ScheduledTaskState {
       final TransientPendingSubscriptionState transientMessageSubscriptionState,
       final TransientPendingSubscriptionState transientProcessMessageSubscriptionState,
       final InstantSource clock) {
+    this(
+        zeebeDb,
+        transactionContext,
+        partitionId,
+        transientMessageSubscriptionState,
+        transientProcessMessageSubscriptionState,
+        null,
+        clock);
+  }
+
+  /**
+   * @param transientDeadlineState the deadline wheels to find the due entries with, or null to
+   *     scan the deadline column families instead
+   */
+  public ScheduledTaskDbState(
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext,
+      final int partitionId,
+      final TransientPendingSubscriptionState transientMessageSubscriptionState,
+      final TransientPendingSubscriptionState transientProcessMessageSubscriptionState,
+      final TransientDeadlineState transientDeadlineState,
+      final InstantSource clock) {
     distributionState = new DbDistributionState(zeebeDb, transactionContext);
-    messageState = new DbMessageState(zeebeDb, transactionContext, partitionId);
-    timerInstanceState = new DbTimerInstanceState(zeebeDb, transactionContext);
-    jobState = new DbJobState(zeebeDb, transactionContext);
+    messageState =
+        new DbMessageState(
+            zeebeDb,
+            transactionContext,
+            partitionId,
+            transientDeadlineState != null ? transientDeadlineState.messageDeadlines() : null);
+    timerInstanceState =
+        new DbTimerInstanceState(
+            zeebeDb,
+            transactionContext,
+            transientDeadlineState != null ? transientDeadlineState.timerDueDates() : null);
+    jobState =
+        new DbJobState(
+            zeebeDb,
+            transactionContext,
+            transientDeadlineState != null ? transientDeadlineState.jobDeadlines() : null,
+            transientDeadlineState != null ? transientDeadlineState.jobBackoffs() : null);
     deploymentState = new DbDeploymentState(zeebeDb, transactionContext);
     pendingMessageSubscriptionState =
         new DbMessageSubscriptionState(
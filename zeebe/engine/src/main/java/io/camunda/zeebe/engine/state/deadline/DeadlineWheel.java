@@ -0,0 +1,445 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.deadline;
+
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.TransactionListener;
+import java.util.Arrays;
+import java.util.function.Consumer;
+import org.agrona.collections.Long2ObjectHashMap;
+import org.agrona.collections.LongArrayList;
+
+/**
+ * An in-memory index over a column family of deadlines, e.g. the due dates of timers, such that the
+ * entries which are due can be found without scanning the column family. Each entry is identified
+ * by its deadline and key, like the keys of the indexed column family, and can carry a secondary
+ * key which is needed to look up the entry's data.
+ *
+ * <p>The entries are kept in a hierarchical timing wheel with millisecond ticks: each level has 64
+ * slots, and each slot of a level spans all slots of the level below. An entry is kept in the
+ * lowest level in which its deadline differs from the current time of the wheel. When the wheel
+ * advances into a slot of a higher level, the entries of that slot are moved down, until they
+ * reach the list of due entries, which is ordered by deadline and key. Adding and removing entries
+ * takes constant time, and advancing only visits the occupied slots.
+ *
+ * <p>The index is derived from the state: it is {@link #loadIfNeeded(Consumer) loaded} from the
+ * column family on first use, and kept current by applying the {@link PendingChanges changes} of
+ * each committed transaction. Changes committed before the wheel is loaded are ignored, as the
+ * loaded state already contains them.
+ *
+ * <p>This class is thread safe. It's intended use is that the stream processor applies the changes
+ * of its transactions, while the scheduled tasks visit the due entries, possibly on another thread.
+ */
+public final class DeadlineWheel {
+
+  private static final int SLOT_BITS = 6;
+  private static final int SLOTS = 1 << SLOT_BITS;
+  private static final int SLOT_MASK = SLOTS - 1;
+  private static final int LEVELS = (Long.SIZE + SLOT_BITS - 1) / SLOT_BITS;
+  private static final int DUE = -1;
+
+  private static final long NONE = -1L;
+  private static final int VISIT_BATCH_SIZE = 1024;
+  private static final int ENTRY_LENGTH = 3;
+
+  private final Entry[][] slots = new Entry[LEVELS][SLOTS];
+  private final long[] occupiedSlots = new long[LEVELS];
+  private final Long2ObjectHashMap<Entry> entriesByKey = new Long2ObjectHashMap<>();
+
+  private Entry dueHead;
+  private Entry dueTail;
+
+  /** All entries which are not due have a deadline after this time. Never decreases. */
+  private long currentTime;
+
+  private boolean loaded;
+  private int size;
+
+  /**
+   * Loads the entries with the given loader, unless they were loaded already. The loader is
+   * expected to {@link #add(long, long, long) add} all entries of the indexed column family.
+   */
+  public synchronized void loadIfNeeded(final Consumer<DeadlineWheel> loader) {
+    if (loaded) {
+      return;
+    }
+
+    clear();
+    loader.accept(this);
+    loaded = true;
+  }
+
+  /**
+   * Adds the entry with the given deadline and key, replacing an existing entry with the same
+   * deadline and key.
+   */
+  public synchronized void add(final long deadline, final long key, final long secondaryKey) {
+    remove(deadline, key);
+
+    final var entry = new Entry(deadline, key, secondaryKey);
+    entry.sameKeyNext = entriesByKey.put(key, entry);
+    place(entry);
+    size++;
+  }
+
+  /** Removes the entry with the given deadline and key, if it exists. */
+  public synchronized void remove(final long deadline, final long key) {
+    Entry previous = null;
+    for (var entry = entriesByKey.get(key); entry != null; entry = entry.sameKeyNext) {
+      if (entry.deadline == deadline) {
+        if (previous != null) {
+          previous.sameKeyNext = entry.sameKeyNext;
+        } else if (entry.sameKeyNext != null) {
+          entriesByKey.put(key, entry.sameKeyNext);
+        } else {
+          entriesByKey.remove(key);
+        }
+
+        unlink(entry);
+        size--;
+        return;
+      }
+      previous = entry;
+    }
+  }
+
+  /**
+   * Visits the entries with a deadline at or before the given timestamp, ordered by deadline and
+   * key. Entries are not removed by visiting them; they are removed once the indexed state is.
+   *
+   * <p>The visitor is called without holding the wheel's lock, such that a slow visitor does not
+   * block the stream processor from applying its changes. The due entries are copied in batches
+   * instead, so an entry may be visited shortly after it was removed.
+   *
+   * @param timestamp the timestamp to compare the deadlines against
+   * @param visitor is called for each due entry; returns {@code false} to stop visiting
+   * @return the deadline of the first entry which wasn't visited, or -1 if there is none; for
+   *     entries further in the future, this may be earlier than the actual deadline
+   */
+  public long forEachDue(final long timestamp, final EntryVisitor visitor) {
+    return forEachDue(timestamp, NONE, NONE, visitor);
+  }
+
+  /**
+   * Like {@link #forEachDue(long, EntryVisitor)}, but skips the entries ordered before the given
+   * deadline and key, to continue where an earlier visit stopped.
+   */
+  public long forEachDue(
+      final long timestamp,
+      final long startAtDeadline,
+      final long startAtKey,
+      final EntryVisitor visitor) {
+    final var batch = new LongArrayList();
+    long fromDeadline = startAtDeadline;
+    long fromKey = startAtKey;
+    boolean inclusive = true;
+
+    while (true) {
+      batch.clear();
+      final long nextDeadline = collectDue(timestamp, fromDeadline, fromKey, inclusive, batch);
+
+      for (int i = 0; i < batch.size(); i += ENTRY_LENGTH) {
+        final long deadline = batch.getLong(i);
+        if (!visitor.visit(deadline, batch.getLong(i + 1), batch.getLong(i + 2))) {
+          return deadline;
+        }
+      }
+
+      if (batch.size() < VISIT_BATCH_SIZE * ENTRY_LENGTH) {
+        return nextDeadline;
+      }
+
+      // continue after the last visited entry, which may have been removed in the meantime
+      fromDeadline = batch.getLong(batch.size() - ENTRY_LENGTH);
+      fromKey = batch.getLong(batch.size() - ENTRY_LENGTH + 1);
+      inclusive = false;
+    }
+  }
+
+  /**
+   * @return a buffer for the changes of the transactions of the given context, which are applied
+   *     to this wheel once they are committed
+   */
+  public PendingChanges pendingChanges(final TransactionContext transactionContext) {
+    final var changes = new PendingChanges(this);
+    transactionContext.addTransactionListener(changes);
+    return changes;
+  }
+
+  public synchronized int size() {
+    return size;
+  }
+
+  private synchronized void apply(final LongArrayList changes) {
+    if (!loaded) {
+      return;
+    }
+
+    for (int i = 0; i < changes.size(); i += PendingChanges.CHANGE_LENGTH) {
+      final long deadline = changes.getLong(i + 1);
+      final long key = changes.getLong(i + 2);
+      if (changes.getLong(i) == PendingChanges.ADD) {
+        add(deadline, key, changes.getLong(i + 3));
+      } else {
+        remove(deadline, key);
+      }
+    }
+  }
+
+  /**
+   * Copies up to {@link #VISIT_BATCH_SIZE} due entries, ordered after the given deadline and key,
+   * into the given list, as consecutive deadline, key and secondary key.
+   *
+   * @return the deadline of the first entry after the copied ones, or -1 if there is none
+   */
+  private synchronized long collectDue(
+      final long timestamp,
+      final long fromDeadline,
+      final long fromKey,
+      final boolean inclusive,
+      final LongArrayList batch) {
+    advance(timestamp);
+
+    int collected = 0;
+    for (var entry = dueHead; entry != null; entry = entry.next) {
+      final int order = compare(entry, fromDeadline, fromKey);
+      if (order < 0 || (order == 0 && !inclusive)) {
+        continue;
+      }
+
+      if (entry.deadline > timestamp || collected == VISIT_BATCH_SIZE) {
+        return entry.deadline;
+      }
+
+      batch.addLong(entry.deadline);
+      batch.addLong(entry.key);
+      batch.addLong(entry.secondaryKey);
+      collected++;
+    }
+
+    final long nextEvent = nextEventTime();
+    return nextEvent == Long.MAX_VALUE ? NONE : nextEvent;
+  }
+
+  private void clear() {
+    for (int level = 0; level < LEVELS; level++) {
+      Arrays.fill(slots[level], null);
+      occupiedSlots[level] = 0;
+    }
+    entriesByKey.clear();
+    dueHead = null;
+    dueTail = null;
+    size = 0;
+  }
+
+  private void place(final Entry entry) {
+    if (entry.deadline <= currentTime) {
+      insertDue(entry);
+      return;
+    }
+
+    // the highest bit in which the deadline differs from the current time determines the level;
+    // the deadline's digit of that level is always greater than the current time's
+    final int level =
+        (Long.SIZE - 1 - Long.numberOfLeadingZeros(entry.deadline ^ currentTime)) / SLOT_BITS;
+    final int slot = digit(entry.deadline, level);
+
+    final var head = slots[level][slot];
+    entry.level = level;
+    entry.slot = slot;
+    entry.prev = null;
+    entry.next = head;
+    if (head != null) {
+      head.prev = entry;
+    }
+    slots[level][slot] = entry;
+    occupiedSlots[level] |= 1L << slot;
+  }
+
+  private void insertDue(final Entry entry) {
+    // entries mostly become due in order, so the position is usually found right at the tail
+    var before = dueTail;
+    while (before != null && compare(before, entry.deadline, entry.key) > 0) {
+      before = before.prev;
+    }
+
+    entry.level = DUE;
+    entry.prev = before;
+    entry.next = before == null ? dueHead : before.next;
+    if (entry.next != null) {
+      entry.next.prev = entry;
+    } else {
+      dueTail = entry;
+    }
+    if (before != null) {
+      before.next = entry;
+    } else {
+      dueHead = entry;
+    }
+  }
+
+  private void unlink(final Entry entry) {
+    if (entry.next != null) {
+      entry.next.prev = entry.prev;
+    } else if (entry.level == DUE) {
+      dueTail = entry.prev;
+    }
+
+    if (entry.prev != null) {
+      entry.prev.next = entry.next;
+    } else if (entry.level == DUE) {
+      dueHead = entry.next;
+    } else {
+      slots[entry.level][entry.slot] = entry.next;
+      if (entry.next == null) {
+        occupiedSlots[entry.level] &= ~(1L << entry.slot);
+      }
+    }
+
+    entry.prev = null;
+    entry.next = null;
+  }
+
+  /** Advances the current time to the given timestamp, moving down the entries on its way. */
+  private void advance(final long timestamp) {
+    while (currentTime < timestamp) {
+      final long nextEvent = nextEventTime();
+      if (nextEvent > timestamp) {
+        // no slot starts in between, so all entries stay where they are
+        currentTime = timestamp;
+        return;
+      }
+
+      currentTime = nextEvent;
+      for (int level = LEVELS - 1; level >= 0; level--) {
+        final int slot = digit(currentTime, level);
+        if ((occupiedSlots[level] & (1L << slot)) != 0) {
+          cascade(level, slot);
+        }
+      }
+    }
+  }
+
+  private void cascade(final int level, final int slot) {
+    var entry = slots[level][slot];
+    slots[level][slot] = null;
+    occupiedSlots[level] &= ~(1L << slot);
+
+    while (entry != null) {
+      final var next = entry.next;
+      place(entry);
+      entry = next;
+    }
+  }
+
+  /**
+   * @return the start of the earliest occupied slot, or {@link Long#MAX_VALUE} if there is none
+   */
+  private long nextEventTime() {
+    long nextEvent = Long.MAX_VALUE;
+    for (int level = 0; level < LEVELS; level++) {
+      final long occupied = occupiedSlots[level];
+      if (occupied != 0) {
+        final int slot = Long.numberOfTrailingZeros(occupied);
+        final long slotStart = upperDigits(currentTime, level) | ((long) slot << shift(level));
+        nextEvent = Math.min(nextEvent, slotStart);
+      }
+    }
+    return nextEvent;
+  }
+
+  private static int compare(final Entry entry, final long deadline, final long key) {
+    final int byDeadline = Long.compare(entry.deadline, deadline);
+    return byDeadline != 0 ? byDeadline : Long.compare(entry.key, key);
+  }
+
+  private static int shift(final int level) {
+    return level * SLOT_BITS;
+  }
+
+  private static int digit(final long time, final int level) {
+    return (int) (time >>> shift(level)) & SLOT_MASK;
+  }
+
+  /** @return the given time without the digits of the given level and below */
+  private static long upperDigits(final long time, final int level) {
+    final int shift = shift(level + 1);
+    return shift >= Long.SIZE ? 0 : (time >>> shift) << shift;
+  }
+
+  @FunctionalInterface
+  public interface EntryVisitor {
+    boolean visit(long deadline, long key, long secondaryKey);
+  }
+
+  /**
+   * Collects the changes of the current transaction of a context. They are applied to the wheel
+   * when the transaction is committed, and dropped when it's rolled back, such that the wheel only
+   * reflects committed state. Only used by the thread of its transaction context.
+   */
+  public static final class PendingChanges implements TransactionListener {
+
+    private static final long ADD = 1;
+    private static final long REMOVE = 0;
+    private static final int CHANGE_LENGTH = 4;
+
+    private final DeadlineWheel wheel;
+    private final LongArrayList changes = new LongArrayList();
+
+    private PendingChanges(final DeadlineWheel wheel) {
+      this.wheel = wheel;
+    }
+
+    public void add(final long deadline, final long key, final long secondaryKey) {
+      changes.addLong(ADD);
+      changes.addLong(deadline);
+      changes.addLong(key);
+      changes.addLong(secondaryKey);
+    }
+
+    public void remove(final long deadline, final long key) {
+      changes.addLong(REMOVE);
+      changes.addLong(deadline);
+      changes.addLong(key);
+      changes.addLong(NONE);
+    }
+
+    @Override
+    public void onCommit() {
+      if (!changes.isEmpty()) {
+        wheel.apply(changes);
+        changes.clear();
+      }
+    }
+
+    @Override
+    public void onRollback() {
+      changes.clear();
+    }
+  }
+
+  private static final class Entry {
+    private final long deadline;
+    private final long key;
+    private final long secondaryKey;
+
+    /** Another entry with the same key, but a different deadline. */
+    private Entry sameKeyNext;
+
+    private Entry prev;
+    private Entry next;
+    private int level;
+    private int slot;
+
+    private Entry(final long deadline, final long key, final long secondaryKey) {
+      this.deadline = deadline;
+      this.key = key;
+      this.secondaryKey = secondaryKey;
+    }
+  }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.deadline;
+
+/**
+ * Holds the {@link DeadlineWheel deadline wheels} of a partition, which are shared by the state
+ * used for processing, which keeps them current, and the state used by the scheduled tasks, which
+ * finds the due entries with them.
+ */
+public final class TransientDeadlineState {
+
+  private final DeadlineWheel timerDueDates = new DeadlineWheel();
+  private final DeadlineWheel jobDeadlines = new DeadlineWheel();
+  private final DeadlineWheel jobBackoffs = new DeadlineWheel();
+  private final DeadlineWheel messageDeadlines = new DeadlineWheel();
+
+  /** Indexes the due dates of the timers, by timer key with the element instance key. */
+  public DeadlineWheel timerDueDates() {
+    return timerDueDates;
+  }
+
+  /** Indexes the deadlines of the activated jobs, by job key. */
+  public DeadlineWheel jobDeadlines() {
+    return jobDeadlines;
+  }
+
+  /** Indexes the end of the retry backoffs of the failed jobs, by job key. */
+  public DeadlineWheel jobBackoffs() {
+    return jobBackoffs;
+  }
+
+  /** Indexes the deadlines of the buffered messages, by message key. */
+  public DeadlineWheel messageDeadlines() {
+    return messageDeadlines;
+  }
+}
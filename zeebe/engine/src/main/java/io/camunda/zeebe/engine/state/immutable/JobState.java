@@ -37,9 +37,25 @@ public interface JobState {
 
   boolean isInState(long key, State state);
 
+  default void forEachActivatableJobs(
+      final DirectBuffer type,
+      final List<String> tenantIds,
+      final BiFunction<Long, JobRecord, Boolean> callback) {
+    forEachActivatableJobs(type, tenantIds, Integer.MAX_VALUE, callback);
+  }
+
+  /**
+   * Loops over the activatable jobs of the given type and tenants, in the order of their keys.
+   *
+   * @param expectedJobs the number of jobs the callback is expected to accept; the jobs are not
+   *     read ahead further than that, unless the callback asks for more jobs
+   * @param callback applied to each job; it must return {@code true} to continue with the next job,
+   *     or {@code false} to stop
+   */
   void forEachActivatableJobs(
       DirectBuffer type,
       final List<String> tenantIds,
+      int expectedJobs,
       BiFunction<Long, JobRecord, Boolean> callback);
 
   JobRecord getJob(long key);
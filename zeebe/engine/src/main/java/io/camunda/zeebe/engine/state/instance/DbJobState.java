@@ -19,32 +19,52 @@ import io.camunda.zeebe.db.impl.DbTenantAwareKey;
 import io.camunda.zeebe.db.impl.DbTenantAwareKey.PlacementType;
 import io.camunda.zeebe.engine.Loggers;
 import io.camunda.zeebe.engine.processing.identity.AuthorizedTenants;
+import io.camunda.zeebe.engine.state.deadline.DeadlineWheel;
+import io.camunda.zeebe.engine.state.deadline.DeadlineWheel.PendingChanges;
 import io.camunda.zeebe.engine.state.immutable.JobState;
 import io.camunda.zeebe.engine.state.mutable.MutableJobState;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
 import io.camunda.zeebe.util.EnsureUtil;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
 import org.agrona.DirectBuffer;
 import org.agrona.collections.LongHashSet;
+import org.agrona.collections.MutableBoolean;
+import org.agrona.collections.MutableInteger;
 import org.slf4j.Logger;
 
 public final class DbJobState implements JobState, MutableJobState {
 
   private static final Logger LOG = Loggers.PROCESS_PROCESSOR_LOGGER;
+  private static final int ACTIVATABLE_JOBS_BATCH_SIZE = 32;
 
   // key => job record value
   // we need two separate wrapper to not interfere with get and put
   // see https://github.com/zeebe-io/zeebe/issues/1914
   private final JobRecordValue jobRecordToRead = new JobRecordValue();
   private final JobRecordValue jobRecordToWrite = new JobRecordValue();
+  // activatable jobs are only copied into the job batch, so their nested properties (e.g. the
+  // result or the tags) are decoded lazily and otherwise copied as they were read
+  private final JobRecordValue activatableJobRecord = new JobRecordValue();
 
   private final DbLong jobKey;
   private final DbForeignKey<DbLong> fkJob;
   private final ColumnFamily<DbLong, JobRecordValue> jobsColumnFamily;
+  private final ColumnFamily<DbLong, JobRecordValue> activatableJobsColumnFamily;
+
+  // activatable jobs are read in batches, each with a single lookup of all its job keys
+  private final DbLong[] activatableJobKeys = new DbLong[ACTIVATABLE_JOBS_BATCH_SIZE];
+  private final List<DbLong> activatableJobKeysBatch =
+      new ArrayList<>(ACTIVATABLE_JOBS_BATCH_SIZE);
+  private int activatableJobsBatchSize;
+  private long lastActivatableJobKey;
+  private String lastActivatableTenantId;
 
   // key => job state
   private final JobStateValue jobState = new JobStateValue();
@@ -70,16 +90,42 @@ public final class DbJobState implements JobState, MutableJobState {
   private final DbCompositeKey<DbLong, DbForeignKey<DbLong>> backoffJobKey;
   private final ColumnFamily<DbCompositeKey<DbLong, DbForeignKey<DbLong>>, DbNil>
       backoffColumnFamily;
+  /** Index the deadline and backoff column families, if enabled; otherwise null. */
+  private final DeadlineWheel deadlineWheel;
+
+  private final PendingChanges deadlineChanges;
+  private final DeadlineWheel backoffWheel;
+  private final PendingChanges backoffChanges;
+
   private long nextBackOffDueDate;
 
   public DbJobState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
+    this(zeebeDb, transactionContext, null, null);
+  }
+
+  /**
+   * @param deadlineWheel the index of the job deadlines to keep current and to find the timed out
+   *     jobs with, or null to scan the deadlines instead
+   * @param backoffWheel the index of the job backoffs to keep current and to find the jobs to
+   *     recur with, or null to scan the backoffs instead
+   */
+  public DbJobState(
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext,
+      final DeadlineWheel deadlineWheel,
+      final DeadlineWheel backoffWheel) {
 
     jobKey = new DbLong();
     fkJob = new DbForeignKey<>(jobKey, ZbColumnFamilies.JOBS);
+    Arrays.setAll(activatableJobKeys, i -> new DbLong());
     jobsColumnFamily =
         zeebeDb.createColumnFamily(
             ZbColumnFamilies.JOBS, transactionContext, jobKey, jobRecordToRead);
+    activatableJobRecord.getRecord().setLazyDecoding(true);
+    activatableJobsColumnFamily =
+        zeebeDb.createColumnFamily(
+            ZbColumnFamilies.JOBS, transactionContext, jobKey, activatableJobRecord);
 
     statesJobColumnFamily =
         zeebeDb.createColumnFamily(
@@ -107,6 +153,12 @@ public final class DbJobState implements JobState, MutableJobState {
     backoffColumnFamily =
         zeebeDb.createColumnFamily(
             ZbColumnFamilies.JOB_BACKOFF, transactionContext, backoffJobKey, DbNil.INSTANCE);
+
+    this.deadlineWheel = deadlineWheel;
+    deadlineChanges =
+        deadlineWheel != null ? deadlineWheel.pendingChanges(transactionContext) : null;
+    this.backoffWheel = backoffWheel;
+    backoffChanges = backoffWheel != null ? backoffWheel.pendingChanges(transactionContext) : null;
   }
 
   @Override
@@ -233,6 +285,7 @@ public final class DbJobState implements JobState, MutableJobState {
           final var job = jobsColumnFamily.get(jobKey);
           if (job == null || job.getRecord().getDeadline() != deadline) {
             deadlinesColumnFamily.deleteExisting(key);
+            trackRemoval(deadlineChanges, deadline, jobKey.getValue());
           }
           return true;
         });
@@ -248,6 +301,7 @@ public final class DbJobState implements JobState, MutableJobState {
           if (job == null || job.getRecord().getRecurringTime() != backoff) {
             LOG.debug("Deleting orphaned job with key {}", key);
             backoffColumnFamily.deleteExisting(key);
+            trackRemoval(backoffChanges, backoff, jobKey.getValue());
           }
           return true;
         });
@@ -263,6 +317,7 @@ public final class DbJobState implements JobState, MutableJobState {
 
       deadlineKey.wrapLong(oldDeadline);
       deadlinesColumnFamily.deleteExisting(deadlineJobKey);
+      trackRemoval(deadlineChanges, oldDeadline, jobKey);
 
       job.setDeadline(newDeadline);
       updateJobRecord(jobKey, job);
@@ -286,6 +341,7 @@ public final class DbJobState implements JobState, MutableJobState {
               || jobRecord.getRecord().getRetries() <= 0
               || jobRecord.getRecord().getRetryBackoff() <= 0) {
             backoffColumnFamily.deleteExisting(key);
+            trackRemoval(backoffChanges, key.first().getValue(), jobKey.getValue());
           } else {
             jobsWithBackoff.add(jobKey.getValue());
           }
@@ -305,6 +361,7 @@ public final class DbJobState implements JobState, MutableJobState {
           if (backoff > 0 && retries > 0) {
             backoffKey.wrapLong(backoff);
             backoffColumnFamily.insert(backoffJobKey, DbNil.INSTANCE);
+            trackAddition(backoffChanges, backoff, jobKey.getValue());
           }
         });
   }
@@ -346,6 +403,9 @@ public final class DbJobState implements JobState, MutableJobState {
       final long executionTimestamp,
       final DeadlineIndex startAt,
       final BiPredicate<Long, JobRecord> callback) {
+    if (deadlineWheel != null) {
+      return forEachTimedOutEntry(deadlineWheel, executionTimestamp, startAt, callback);
+    }
 
     final DbCompositeKey<DbLong, DbForeignKey<DbLong>> startAtKey;
     if (startAt != null) {
@@ -405,21 +465,89 @@ public final class DbJobState implements JobState, MutableJobState {
   public void forEachActivatableJobs(
       final DirectBuffer type,
       final List<String> tenantIds,
+      final int expectedJobs,
       final BiFunction<Long, JobRecord, Boolean> callback) {
-    jobTypeKey.wrapBuffer(type);
+    final var visitedJobs = new MutableInteger();
+    final BiFunction<Long, JobRecord, Boolean> countingCallback =
+        (key, job) -> {
+          visitedJobs.increment();
+          return callback.apply(key, job);
+        };
+
+    boolean isFirstBatch = true;
+    boolean shouldContinue = true;
+    while (shouldContinue) {
+      // don't look up more jobs than expected, e.g. for a worker which activates a single job;
+      // once more jobs are visited than expected (e.g. skipped ones), read full batches again
+      final int remainingJobs = expectedJobs - visitedJobs.get();
+      activatableJobsBatchSize =
+          remainingJobs > 0
+              ? Math.min(remainingJobs, ACTIVATABLE_JOBS_BATCH_SIZE)
+              : ACTIVATABLE_JOBS_BATCH_SIZE;
+      activatableJobKeysBatch.clear();
+      jobTypeKey.wrapBuffer(type);
+      if (isFirstBatch) {
+        activatableColumnFamily.whileEqualPrefix(
+            jobTypeKey, (key, nil) -> collectActivatableJobKey(key, tenantIds, false));
+        isFirstBatch = false;
+      } else {
+        // resume the iteration at the last visited key of the previous batch
+        tenantIdKey.wrapString(lastActivatableTenantId);
+        jobKey.wrapLong(lastActivatableJobKey);
+        activatableColumnFamily.whileEqualPrefix(
+            jobTypeKey,
+            tenantAwareTypeJobKey,
+            (key, nil) -> collectActivatableJobKey(key, tenantIds, true));
+      }
 
-    activatableColumnFamily.whileEqualPrefix(
-        jobTypeKey,
-        ((tenantAwareCompositeKey, zbNil) -> {
-          final DbLong jobKey = tenantAwareCompositeKey.wrappedKey().second().inner();
-          final String tenantId = tenantAwareCompositeKey.tenantKey().toString();
+      final boolean isBatchFull = activatableJobKeysBatch.size() == activatableJobsBatchSize;
+      shouldContinue = visitActivatableJobs(type, countingCallback) && isBatchFull;
+    }
+  }
 
-          if (tenantIds.contains(tenantId)) {
-            return visitJob(jobKey.getValue(), callback::apply);
-          }
-          // we want to continue with the iteration
-          return true;
-        }));
+  private boolean collectActivatableJobKey(
+      final DbTenantAwareKey<DbCompositeKey<DbString, DbForeignKey<DbLong>>> key,
+      final List<String> tenantIds,
+      final boolean isResumed) {
+    final long activatableJobKey = key.wrappedKey().second().inner().getValue();
+    final String tenantId = key.tenantKey().toString();
+    if (isResumed
+        && activatableJobKey == lastActivatableJobKey
+        && tenantId.equals(lastActivatableTenantId)) {
+      // the last visited key of the previous batch was already collected
+      return true;
+    }
+
+    lastActivatableJobKey = activatableJobKey;
+    lastActivatableTenantId = tenantId;
+    if (tenantIds.contains(tenantId)) {
+      final DbLong batchKey = activatableJobKeys[activatableJobKeysBatch.size()];
+      batchKey.wrapLong(activatableJobKey);
+      activatableJobKeysBatch.add(batchKey);
+    }
+    return activatableJobKeysBatch.size() < activatableJobsBatchSize;
+  }
+
+  private boolean visitActivatableJobs(
+      final DirectBuffer type, final BiFunction<Long, JobRecord, Boolean> callback) {
+    final var foundJobs = new MutableInteger();
+    final var shouldContinue = new MutableBoolean(true);
+    activatableJobsColumnFamily.getAll(
+        activatableJobKeysBatch,
+        (key, job) -> {
+          foundJobs.increment();
+          shouldContinue.set(callback.apply(key.getValue(), job.getRecord()));
+          return shouldContinue.get();
+        });
+
+    if (shouldContinue.get() && foundJobs.get() < activatableJobKeysBatch.size()) {
+      LOG.warn(
+          "Expected to find {} activatable jobs of type '{}', but only {} jobs found",
+          activatableJobKeysBatch.size(),
+          BufferUtil.bufferAsString(type),
+          foundJobs.get());
+    }
+    return shouldContinue.get();
   }
 
   @Override
@@ -447,6 +575,12 @@ public final class DbJobState implements JobState, MutableJobState {
 
   @Override
   public long findBackedOffJobs(final long timestamp, final BiPredicate<Long, JobRecord> callback) {
+    if (backoffWheel != null) {
+      loadIfNeeded(backoffWheel, backoffColumnFamily);
+      return backoffWheel.forEachDue(
+          timestamp, (backoff, jobKey, ignored) -> visitJob(jobKey, callback));
+    }
+
     nextBackOffDueDate = -1L;
     backoffColumnFamily.whileTrue(
         (key, value) -> {
@@ -473,6 +607,53 @@ public final class DbJobState implements JobState, MutableJobState {
     return callback.test(jobKey, job);
   }
 
+  private DeadlineIndex forEachTimedOutEntry(
+      final DeadlineWheel wheel,
+      final long executionTimestamp,
+      final DeadlineIndex startAt,
+      final BiPredicate<Long, JobRecord> callback) {
+    loadIfNeeded(wheel, deadlinesColumnFamily);
+
+    final var lastVisitedIndex = new AtomicReference<DeadlineIndex>();
+    // only deadlines before the execution timestamp are due
+    wheel.forEachDue(
+        executionTimestamp - 1,
+        startAt != null ? startAt.deadline() : -1L,
+        startAt != null ? startAt.key() : -1L,
+        (deadline, jobKey, ignored) -> {
+          if (!visitJob(jobKey, callback)) {
+            lastVisitedIndex.set(new DeadlineIndex(deadline, jobKey));
+            return false;
+          }
+          return true;
+        });
+
+    return lastVisitedIndex.get();
+  }
+
+  private void loadIfNeeded(
+      final DeadlineWheel wheel,
+      final ColumnFamily<DbCompositeKey<DbLong, DbForeignKey<DbLong>>, DbNil> columnFamily) {
+    wheel.loadIfNeeded(
+        loadingWheel ->
+            columnFamily.forEach(
+                (key, nil) ->
+                    loadingWheel.add(
+                        key.first().getValue(), key.second().inner().getValue(), -1L)));
+  }
+
+  private void trackAddition(final PendingChanges changes, final long deadline, final long job) {
+    if (changes != null) {
+      changes.add(deadline, job, -1L);
+    }
+  }
+
+  private void trackRemoval(final PendingChanges changes, final long deadline, final long job) {
+    if (changes != null) {
+      changes.remove(deadline, job);
+    }
+  }
+
   private void createJobRecord(final long key, final JobRecord record) {
     jobKey.wrapLong(key);
     // do not persist variables in job state
@@ -524,6 +705,7 @@ public final class DbJobState implements JobState, MutableJobState {
       jobKey.wrapLong(job);
       deadlineKey.wrapLong(deadline);
       deadlinesColumnFamily.insert(deadlineJobKey, DbNil.INSTANCE);
+      trackAddition(deadlineChanges, deadline, job);
     }
   }
 
@@ -532,6 +714,7 @@ public final class DbJobState implements JobState, MutableJobState {
       jobKey.wrapLong(job);
       deadlineKey.wrapLong(deadline);
       deadlinesColumnFamily.deleteIfExists(deadlineJobKey);
+      trackRemoval(deadlineChanges, deadline, job);
     }
   }
 
@@ -540,6 +723,7 @@ public final class DbJobState implements JobState, MutableJobState {
       jobKey.wrapLong(job);
       backoffKey.wrapLong(backoff);
       backoffColumnFamily.insert(backoffJobKey, DbNil.INSTANCE);
+      trackAddition(backoffChanges, backoff, job);
     }
   }
 
@@ -548,6 +732,7 @@ public final class DbJobState implements JobState, MutableJobState {
       jobKey.wrapLong(job);
       backoffKey.wrapLong(backoff);
       backoffColumnFamily.deleteIfExists(backoffJobKey);
+      trackRemoval(backoffChanges, backoff, job);
     }
   }
 }
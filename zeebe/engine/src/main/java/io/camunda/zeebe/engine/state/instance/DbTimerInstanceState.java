@@ -15,6 +15,8 @@ import io.camunda.zeebe.db.impl.DbForeignKey;
 import io.camunda.zeebe.db.impl.DbForeignKey.MatchType;
 import io.camunda.zeebe.db.impl.DbLong;
 import io.camunda.zeebe.db.impl.DbNil;
+import io.camunda.zeebe.engine.state.deadline.DeadlineWheel;
+import io.camunda.zeebe.engine.state.deadline.DeadlineWheel.PendingChanges;
 import io.camunda.zeebe.engine.state.mutable.MutableTimerInstanceState;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
 import java.util.function.Consumer;
@@ -35,10 +37,26 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
   private final DbCompositeKey<DbLong, DbCompositeKey<DbForeignKey<DbLong>, DbLong>>
       dueDateCompositeKey;
 
+  /** Indexes the due date column family, if enabled; otherwise null. */
+  private final DeadlineWheel dueDateWheel;
+
+  private final PendingChanges dueDateChanges;
+
   private long nextDueDate;
 
   public DbTimerInstanceState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
+    this(zeebeDb, transactionContext, null);
+  }
+
+  /**
+   * @param dueDateWheel the index of the due dates to keep current and to find the due timers
+   *     with, or null to scan the due dates instead
+   */
+  public DbTimerInstanceState(
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext,
+      final DeadlineWheel dueDateWheel) {
     timerInstance = new TimerInstance();
     timerKey = new DbLong();
     elementInstanceKey =
@@ -60,6 +78,10 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
             transactionContext,
             dueDateCompositeKey,
             DbNil.INSTANCE);
+
+    this.dueDateWheel = dueDateWheel;
+    dueDateChanges =
+        dueDateWheel != null ? dueDateWheel.pendingChanges(transactionContext) : null;
   }
 
   @Override
@@ -71,6 +93,10 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
 
     dueDate.wrapLong(timer.getDueDate());
     dueDateColumnFamily.insert(dueDateCompositeKey, DbNil.INSTANCE);
+
+    if (dueDateChanges != null) {
+      dueDateChanges.add(timer.getDueDate(), timer.getKey(), timer.getElementInstanceKey());
+    }
   }
 
   @Override
@@ -81,6 +107,10 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
 
     dueDate.wrapLong(timer.getDueDate());
     dueDateColumnFamily.deleteExisting(dueDateCompositeKey);
+
+    if (dueDateChanges != null) {
+      dueDateChanges.remove(timer.getDueDate(), timer.getKey());
+    }
   }
 
   @Override
@@ -92,6 +122,10 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
 
   @Override
   public long processTimersWithDueDateBefore(final long timestamp, final TimerVisitor consumer) {
+    if (dueDateWheel != null) {
+      return processTimersWithDueDateBefore(dueDateWheel, timestamp, consumer);
+    }
+
     nextDueDate = -1L;
 
     dueDateColumnFamily.whileTrue(
@@ -122,6 +156,29 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
     return nextDueDate;
   }
 
+  private long processTimersWithDueDateBefore(
+      final DeadlineWheel wheel, final long timestamp, final TimerVisitor consumer) {
+    wheel.loadIfNeeded(
+        loadingWheel ->
+            dueDateColumnFamily.forEach(
+                (key, nil) ->
+                    loadingWheel.add(
+                        key.first().getValue(),
+                        key.second().second().getValue(),
+                        key.second().first().inner().getValue())));
+
+    return wheel.forEachDue(
+        timestamp,
+        (dueDate, timerKey, elementInstanceKey) -> {
+          final var timerInstance = get(elementInstanceKey, timerKey);
+          if (timerInstance == null) {
+            // the timer was removed after the scheduled task started, see the scanning variant
+            return true;
+          }
+          return consumer.visit(timerInstance);
+        });
+  }
+
   @Override
   public void forEachTimerForElementInstance(
       final long elementInstanceKey, final Consumer<TimerInstance> action) {
@@ -21,6 +21,8 @@ import io.camunda.zeebe.db.impl.DbString;
 import io.camunda.zeebe.db.impl.DbTenantAwareKey;
 import io.camunda.zeebe.db.impl.DbTenantAwareKey.PlacementType;
 import io.camunda.zeebe.engine.metrics.BufferedMessagesMetrics;
+import io.camunda.zeebe.engine.state.deadline.DeadlineWheel;
+import io.camunda.zeebe.engine.state.deadline.DeadlineWheel.PendingChanges;
 import io.camunda.zeebe.engine.state.mutable.MutableMessageState;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
 import io.camunda.zeebe.protocol.impl.record.value.message.MessageRecord;
@@ -128,12 +130,29 @@ public final class DbMessageState implements MutableMessageState {
 
   private final BufferedMessagesMetrics bufferedMessagesMetrics;
 
+  /** Indexes the deadline column family, if enabled; otherwise null. */
+  private final DeadlineWheel deadlineWheel;
+
+  private final PendingChanges deadlineChanges;
+
   private Long localMessageDeadlineCount = 0L;
 
   public DbMessageState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb,
       final TransactionContext transactionContext,
       final int partitionId) {
+    this(zeebeDb, transactionContext, partitionId, null);
+  }
+
+  /**
+   * @param deadlineWheel the index of the message deadlines to keep current and to find the
+   *     expired messages with, or null to scan the deadlines instead
+   */
+  public DbMessageState(
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext,
+      final int partitionId,
+      final DeadlineWheel deadlineWheel) {
     messageKey = new DbLong();
     fkMessage = new DbForeignKey<>(messageKey, ZbColumnFamilies.MESSAGE_KEY);
     message = new StoredMessage();
@@ -209,6 +228,10 @@ public final class DbMessageState implements MutableMessageState {
             correlationKey);
 
     bufferedMessagesMetrics = new BufferedMessagesMetrics(zeebeDb.getMeterRegistry());
+
+    this.deadlineWheel = deadlineWheel;
+    deadlineChanges =
+        deadlineWheel != null ? deadlineWheel.pendingChanges(transactionContext) : null;
   }
 
   @Override
@@ -234,6 +257,9 @@ public final class DbMessageState implements MutableMessageState {
 
     deadline.wrapLong(record.getDeadline());
     deadlineColumnFamily.insert(deadlineMessageKey, DbNil.INSTANCE);
+    if (deadlineChanges != null) {
+      deadlineChanges.add(record.getDeadline(), key, -1L);
+    }
 
     localMessageDeadlineCount += 1L;
     messagesDeadlineCount.wrapLong(localMessageDeadlineCount);
@@ -334,6 +360,10 @@ public final class DbMessageState implements MutableMessageState {
 
     deadline.wrapLong(storedMessage.getMessage().getDeadline());
     deadlineColumnFamily.deleteExisting(deadlineMessageKey);
+    if (deadlineChanges != null) {
+      deadlineChanges.remove(
+          storedMessage.getMessage().getDeadline(), storedMessage.getMessageKey());
+    }
 
     localMessageDeadlineCount -= 1L;
     messagesDeadlineCount.wrapLong(localMessageDeadlineCount);
@@ -408,6 +438,10 @@ public final class DbMessageState implements MutableMessageState {
   @Override
   public boolean visitMessagesWithDeadlineBeforeTimestamp(
       final long timestamp, final Index startAt, final ExpiredMessageVisitor visitor) {
+    if (deadlineWheel != null) {
+      return visitMessagesWithDeadlineBeforeTimestamp(deadlineWheel, timestamp, startAt, visitor);
+    }
+
     final DbCompositeKey<DbLong, DbForeignKey<DbLong>> startAtKey;
     if (startAt != null) {
       deadline.wrapLong(startAt.deadline());
@@ -433,6 +467,32 @@ public final class DbMessageState implements MutableMessageState {
     return stoppedByVisitor.get();
   }
 
+  private boolean visitMessagesWithDeadlineBeforeTimestamp(
+      final DeadlineWheel wheel,
+      final long timestamp,
+      final Index startAt,
+      final ExpiredMessageVisitor visitor) {
+    wheel.loadIfNeeded(
+        loadingWheel ->
+            deadlineColumnFamily.forEach(
+                (key, nil) ->
+                    loadingWheel.add(
+                        key.first().getValue(), key.second().inner().getValue(), -1L)));
+
+    final var stoppedByVisitor = new MutableBoolean(false);
+    wheel.forEachDue(
+        timestamp,
+        startAt != null ? startAt.deadline() : -1L,
+        startAt != null ? startAt.key() : -1L,
+        (deadline, messageKey, ignored) -> {
+          final boolean shouldContinue = visitor.visit(deadline, messageKey);
+          stoppedByVisitor.set(!shouldContinue);
+          return shouldContinue;
+        });
+
+    return stoppedByVisitor.get();
+  }
+
   @Override
   public boolean exist(
       final DirectBuffer name,
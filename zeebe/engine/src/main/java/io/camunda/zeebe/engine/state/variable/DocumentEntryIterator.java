@@ -11,12 +11,14 @@ import io.camunda.zeebe.msgpack.spec.MsgPackReader;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 import org.agrona.DirectBuffer;
+import org.agrona.collections.Int2IntHashMap;
 import org.agrona.collections.Int2IntHashMap.EntryIterator;
 import org.agrona.concurrent.UnsafeBuffer;
 
 /**
  * Iterates of a document by reading the offsets directly from the associated {@code
- * offsetIterator}. Expected usage only through {@link IndexedDocument#iterator()}.
+ * offsetIterator}, and the value lengths from the associated {@code valueLengths}. Expected usage
+ * only through {@link IndexedDocument#iterator()}.
  *
  * <p>Note that keys are expected to be strings, and as such the length is removed from the MsgPack
  * representation before being added as the name in the {@link DocumentEntry}. String values are
@@ -29,6 +31,7 @@ final class DocumentEntryIterator implements Iterator<DocumentEntry> {
   private final DirectBuffer document = new UnsafeBuffer();
 
   private EntryIterator offsetIterator;
+  private Int2IntHashMap valueLengths;
   private int documentLength;
 
   DocumentEntryIterator() {
@@ -58,9 +61,7 @@ final class DocumentEntryIterator implements Iterator<DocumentEntry> {
     final int nameLength = reader.readStringLength();
     final int nameOffset = keyOffset + reader.getOffset();
 
-    reader.wrap(document, valueOffset, documentLength - valueOffset);
-    reader.skipValue();
-    final int valueLength = reader.getOffset();
+    final int valueLength = valueLengths.get(keyOffset);
 
     entry.wrap(document, nameOffset, nameLength, valueOffset, valueLength);
     return entry;
@@ -71,9 +72,13 @@ final class DocumentEntryIterator implements Iterator<DocumentEntry> {
     offsetIterator.remove();
   }
 
-  void wrap(final DirectBuffer document, final EntryIterator offsetIterator) {
+  void wrap(
+      final DirectBuffer document,
+      final EntryIterator offsetIterator,
+      final Int2IntHashMap valueLengths) {
     this.document.wrap(document);
     this.offsetIterator = offsetIterator;
+    this.valueLengths = valueLengths;
     documentLength = document.capacity();
   }
 }
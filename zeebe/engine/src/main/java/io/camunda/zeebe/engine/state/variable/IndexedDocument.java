@@ -30,6 +30,9 @@ public final class IndexedDocument implements Iterable<DocumentEntry> {
 
   // variable name offset -> variable value offset
   private final Int2IntHashMap entries = new Int2IntHashMap(-1);
+  // variable name offset -> variable value length; kept so values are only skipped once, as large
+  // documents may be iterated multiple times, e.g. once per scope when merging
+  private final Int2IntHashMap valueLengths = new Int2IntHashMap(-1);
   private final DocumentEntryIterator iterator = new DocumentEntryIterator();
   private final DirectBuffer document = new UnsafeBuffer();
 
@@ -44,6 +47,7 @@ public final class IndexedDocument implements Iterable<DocumentEntry> {
   public void index(final DirectBuffer document) {
     this.document.wrap(document);
     entries.clear();
+    valueLengths.clear();
     reader.wrap(document, 0, document.capacity());
 
     final int variables = reader.readMapHeader();
@@ -54,12 +58,13 @@ public final class IndexedDocument implements Iterable<DocumentEntry> {
       reader.skipValue();
 
       entries.put(keyOffset, valueOffset);
+      valueLengths.put(keyOffset, reader.getOffset() - valueOffset);
     }
   }
 
   @Override
   public DocumentEntryIterator iterator() {
-    iterator.wrap(document, entries.entrySet().iterator());
+    iterator.wrap(document, entries.entrySet().iterator(), valueLengths);
     return iterator;
   }
 
@@ -0,0 +1,208 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.deadline;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import io.camunda.zeebe.db.TransactionContext;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+final class DeadlineWheelTest {
+
+  private final DeadlineWheel wheel = new DeadlineWheel();
+
+  @BeforeEach
+  void setUp() {
+    wheel.loadIfNeeded(w -> {});
+  }
+
+  @Test
+  void shouldVisitDueEntriesOrderedByDeadlineAndKey() {
+    // given
+    wheel.add(300, 1, 10);
+    wheel.add(100, 3, 30);
+    wheel.add(100, 2, 20);
+    wheel.add(5_000, 4, 40);
+
+    // when
+    final var visited = new ArrayList<Long>();
+    final long next = wheel.forEachDue(300, collectKeys(visited));
+
+    // then
+    assertThat(visited).containsExactly(2L, 3L, 1L);
+    assertThat(next).isPositive().isLessThanOrEqualTo(5_000);
+  }
+
+  @Test
+  void shouldNotVisitRemovedEntries() {
+    // given
+    wheel.add(100, 1, 10);
+    wheel.add(200, 1, 10);
+    wheel.add(100, 2, 20);
+
+    // when
+    wheel.remove(100, 1);
+    final var visited = new ArrayList<Long>();
+    wheel.forEachDue(200, collectKeys(visited));
+
+    // then
+    assertThat(visited).containsExactly(2L, 1L);
+    assertThat(wheel.size()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldVisitEntriesWithFarDeadlines() {
+    // given
+    final long now = 1_700_000_000_000L;
+    wheel.forEachDue(now, collectKeys(new ArrayList<>()));
+    wheel.add(now + 365L * 24 * 60 * 60 * 1000, 1, 10);
+    wheel.add(now + 61_000, 2, 20);
+    wheel.add(now + 1, 3, 30);
+
+    // when
+    final var beforeAll = new ArrayList<Long>();
+    wheel.forEachDue(now, collectKeys(beforeAll));
+    final var afterMinute = new ArrayList<Long>();
+    wheel.forEachDue(now + 61_000, collectKeys(afterMinute));
+    final var afterYear = new ArrayList<Long>();
+    final long next = wheel.forEachDue(now + 366L * 24 * 60 * 60 * 1000, collectKeys(afterYear));
+
+    // then
+    assertThat(beforeAll).isEmpty();
+    assertThat(afterMinute).containsExactly(3L, 2L);
+    assertThat(afterYear).containsExactly(3L, 2L, 1L);
+    assertThat(next).isEqualTo(-1);
+  }
+
+  @Test
+  void shouldReturnDeadlineWhereVisitorStopped() {
+    // given
+    wheel.add(100, 1, 10);
+    wheel.add(200, 2, 20);
+
+    // when
+    final long next = wheel.forEachDue(300, (deadline, key, secondaryKey) -> key != 2);
+
+    // then
+    assertThat(next).isEqualTo(200);
+  }
+
+  @Test
+  void shouldStartAtGivenDeadlineAndKey() {
+    // given
+    wheel.add(100, 1, 10);
+    wheel.add(100, 2, 20);
+    wheel.add(200, 3, 30);
+
+    // when
+    final var visited = new ArrayList<Long>();
+    wheel.forEachDue(300, 100, 2, collectKeys(visited));
+
+    // then
+    assertThat(visited).containsExactly(2L, 3L);
+  }
+
+  @Test
+  void shouldApplyChangesOnCommit() {
+    // given
+    final var transactionContext = mock(TransactionContext.class);
+    final var changes = wheel.pendingChanges(transactionContext);
+    changes.add(100, 1, 10);
+
+    // when
+    changes.onCommit();
+
+    // then
+    verify(transactionContext).addTransactionListener(changes);
+    final var visited = new ArrayList<Long>();
+    wheel.forEachDue(100, collectKeys(visited));
+    assertThat(visited).containsExactly(1L);
+  }
+
+  @Test
+  void shouldDropChangesOnRollback() {
+    // given
+    final var changes = wheel.pendingChanges(mock(TransactionContext.class));
+    changes.add(100, 1, 10);
+
+    // when
+    changes.onRollback();
+    changes.onCommit();
+
+    // then
+    assertThat(wheel.size()).isZero();
+  }
+
+  @Test
+  void shouldIgnoreChangesBeforeLoaded() {
+    // given
+    final var notLoaded = new DeadlineWheel();
+    final var changes = notLoaded.pendingChanges(mock(TransactionContext.class));
+    changes.add(100, 1, 10);
+    changes.onCommit();
+
+    // when
+    notLoaded.loadIfNeeded(w -> w.add(200, 2, 20));
+
+    // then
+    final var visited = new ArrayList<Long>();
+    notLoaded.forEachDue(200, collectKeys(visited));
+    assertThat(visited).containsExactly(2L);
+  }
+
+  @Test
+  void shouldNotHoldLockWhileVisiting() {
+    // given
+    wheel.add(100, 1, 10);
+    wheel.add(100, 2, 20);
+
+    // when - another thread changes the wheel while an entry is visited
+    final var visited = new ArrayList<Long>();
+    wheel.forEachDue(
+        100,
+        (deadline, key, secondaryKey) -> {
+          if (key == 1) {
+            assertThat(CompletableFuture.runAsync(() -> wheel.add(50, 3, 30)))
+                .succeedsWithin(Duration.ofSeconds(10));
+          }
+          return visited.add(key);
+        });
+
+    // then
+    assertThat(visited).containsExactly(1L, 2L);
+    assertThat(wheel.size()).isEqualTo(3);
+  }
+
+  @Test
+  void shouldVisitAllDueEntriesAcrossBatches() {
+    // given
+    final int count = 5_000;
+    for (int key = 0; key < count; key++) {
+      wheel.add(100 + key % 7, key, key);
+    }
+
+    // when
+    final var visited = new ArrayList<Long>();
+    final long next = wheel.forEachDue(200, collectKeys(visited));
+
+    // then
+    assertThat(visited).hasSize(count).doesNotHaveDuplicates();
+    assertThat(next).isEqualTo(-1L);
+  }
+
+  private static DeadlineWheel.EntryVisitor collectKeys(final List<Long> keys) {
+    return (deadline, key, secondaryKey) -> keys.add(key);
+  }
+}
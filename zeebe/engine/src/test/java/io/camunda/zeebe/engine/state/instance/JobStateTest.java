@@ -27,6 +27,7 @@ import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 import org.agrona.DirectBuffer;
@@ -641,6 +642,123 @@ public final class JobStateTest {
     assertThat(jobKeys).containsExactly(256L, 65536L);
   }
 
+  @Test
+  public void shouldListActivatableJobsOfManyJobsInOrder() {
+    // given - more jobs than are looked up at once, of which only some are owned by the tenant
+    final DirectBuffer type = wrapString("test");
+    final List<Long> expectedKeys = new ArrayList<>();
+    for (long key = 1; key <= 100; key++) {
+      if (key % 3 == 0) {
+        jobState.create(key, newJobRecord("other-tenant").setType(type));
+      } else {
+        jobState.create(key, newJobRecord().setType(type));
+        expectedKeys.add(key);
+      }
+    }
+
+    // when
+    final List<Long> jobKeys = getActivatableKeys(type, TenantOwned.DEFAULT_TENANT_IDENTIFIER);
+
+    // then
+    assertThat(jobKeys).containsExactlyElementsOf(expectedKeys);
+  }
+
+  @Test
+  public void shouldStopListingActivatableJobsWhenCallbackReturnsFalse() {
+    // given
+    final DirectBuffer type = wrapString("test");
+    for (long key = 1; key <= 100; key++) {
+      jobState.create(key, newJobRecord().setType(type));
+    }
+
+    // when
+    final List<Long> jobKeys = new ArrayList<>();
+    jobState.forEachActivatableJobs(
+        type,
+        List.of(TenantOwned.DEFAULT_TENANT_IDENTIFIER),
+        (k, e) -> {
+          jobKeys.add(k);
+          return jobKeys.size() < 40;
+        });
+
+    // then
+    assertThat(jobKeys).hasSize(40).startsWith(1L).endsWith(40L);
+  }
+
+  @Test
+  public void shouldListActivatableJobsBeyondExpectedJobs() {
+    // given
+    final DirectBuffer type = wrapString("test");
+    for (long key = 1; key <= 100; key++) {
+      jobState.create(key, newJobRecord().setType(type));
+    }
+
+    // when - the callback skips every other job, so it needs more jobs than expected
+    final List<Long> jobKeys = new ArrayList<>();
+    jobState.forEachActivatableJobs(
+        type,
+        List.of(TenantOwned.DEFAULT_TENANT_IDENTIFIER),
+        5,
+        (k, e) -> {
+          if (k % 2 == 0) {
+            jobKeys.add(k);
+          }
+          return jobKeys.size() < 5;
+        });
+
+    // then
+    assertThat(jobKeys).containsExactly(2L, 4L, 6L, 8L, 10L);
+  }
+
+  @Test
+  public void shouldListAllActivatableJobsWhenExpectingFewer() {
+    // given
+    final DirectBuffer type = wrapString("test");
+    for (long key = 1; key <= 100; key++) {
+      jobState.create(key, newJobRecord().setType(type));
+    }
+
+    // when
+    final List<Long> jobKeys = new ArrayList<>();
+    jobState.forEachActivatableJobs(
+        type,
+        List.of(TenantOwned.DEFAULT_TENANT_IDENTIFIER),
+        1,
+        (k, e) -> {
+          jobKeys.add(k);
+          return true;
+        });
+
+    // then
+    assertThat(jobKeys).hasSize(100).startsWith(1L).endsWith(100L);
+  }
+
+  @Test
+  public void shouldCopyActivatableJobsWithAllProperties() {
+    // given
+    final DirectBuffer type = wrapString("test");
+    jobState.create(1, newJobRecord().setType(type).setTags(Set.of("a", "b")));
+    jobState.create(2, newJobRecord().setType(type).setTags(Set.of("c")));
+
+    // when - other jobs are read while visiting the activatable jobs
+    final List<JobRecord> copies = new ArrayList<>();
+    jobState.forEachActivatableJobs(
+        type,
+        List.of(TenantOwned.DEFAULT_TENANT_IDENTIFIER),
+        (key, job) -> {
+          jobState.getJob(key == 1 ? 2 : 1);
+          final var copy = new JobRecord();
+          copy.copyFrom(job);
+          copies.add(copy);
+          return true;
+        });
+
+    // then
+    assertThat(copies)
+        .extracting(JobRecord::getTags)
+        .containsExactly(Set.of("a", "b"), Set.of("c"));
+  }
+
   @Test
   public void shouldNotDoAnythingIfNoActivatableJobs() {
     // given
@@ -89,6 +89,28 @@ final class IndexedDocumentTest {
             new DocumentEntry(packStringWithoutLength("buz"), packString("baz")));
   }
 
+  @Test
+  void shouldIterateOverNestedValuesRepeatedly() {
+    // given
+    final Map<String, Object> nested = Map.of("bar", List.of(1, 2, 3));
+    final Map<String, Object> document = Map.of("foo", nested, "baz", List.of("buz", Map.of()));
+    indexedDocument.index(MsgPackUtil.asMsgPack(document));
+    final List<DocumentEntry> firstEntries = collectEntries();
+
+    // when
+    final List<DocumentEntry> secondEntries = collectEntries();
+
+    // then
+    assertThat(secondEntries)
+        .containsExactlyElementsOf(firstEntries)
+        .containsExactlyInAnyOrder(
+            new DocumentEntry(packStringWithoutLength("foo"), MsgPackUtil.asMsgPack(nested)),
+            new DocumentEntry(
+                packStringWithoutLength("baz"),
+                MsgPackUtil.encodeMsgPack(
+                    b -> b.packArrayHeader(2).packString("buz").packMapHeader(0))));
+  }
+
   private List<DocumentEntry> collectEntries() {
     final List<DocumentEntry> entries = new ArrayList<>();
     for (final DocumentEntry entry : indexedDocument) {
@@ -0,0 +1,55 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.exporter.api;
+
+import io.camunda.zeebe.exporter.api.context.Controller;
+import io.camunda.zeebe.protocol.record.Record;
+import java.util.List;
+
+/**
+ * Optional extension of the {@link Exporter} interface for exporters which can handle multiple
+ * records at once, e.g. to write them with a single bulk request.
+ *
+ * <p>When the broker exports records in batches, it passes a whole run of records to {@link
+ * #exportBatch(List)} instead of calling {@link #export(Record)} for every single record. Otherwise
+ * every record is passed as a batch with a single element.
+ */
+public interface BatchExporter extends Exporter {
+
+  /**
+   * Called at least once for every batch of records to be exported. The records are ordered by
+   * their position, and only contain records which are accepted by the configured record filter.
+   * Once a record is guaranteed to have been exported, implementations should call {@link
+   * Controller#updateLastExportedRecordPosition(long)} to signal that this record, and all records
+   * before it, should not be received here ever again.
+   *
+   * <p>Should the method throw an unexpected {@link RuntimeException}, it will be called again
+   * with the same records until it terminates without any exception. It is up to the
+   * implementation to handle errors properly, e.g. to not export records twice.
+   *
+   * <p>In contrast to {@link #export(Record)}, the given records are deep copies and can be
+   * collected without calling {@link Record#copyOf()}. The list itself must not be modified.
+   *
+   * @param records the records to export, never empty
+   */
+  void exportBatch(List<Record<?>> records);
+
+  /** Exports a single record as a batch of one record. */
+  @Override
+  default void export(final Record<?> record) {
+    exportBatch(List.of(record.copyOf()));
+  }
+}
@@ -27,6 +27,8 @@ public class ExporterConfiguration {
   private Duration flushInterval = DEFAULT_FLUSH_INTERVAL;
   private int queueSize = RdbmsWriterConfig.DEFAULT_QUEUE_SIZE;
   private int queueMemoryLimit = RdbmsWriterConfig.DEFAULT_QUEUE_MEMORY_LIMIT;
+  private boolean insertBatchingEnabled = RdbmsWriterConfig.DEFAULT_INSERT_BATCHING_ENABLED;
+  private boolean asyncFlushEnabled = RdbmsWriterConfig.DEFAULT_ASYNC_FLUSH_ENABLED;
   private HistoryConfiguration history = new HistoryConfiguration();
   // batch operation configuration
   private boolean exportBatchOperationItemsOnCreation =
@@ -78,6 +80,22 @@ public class ExporterConfiguration {
     this.queueMemoryLimit = queueMemoryLimit;
   }
 
+  public boolean isInsertBatchingEnabled() {
+    return insertBatchingEnabled;
+  }
+
+  public void setInsertBatchingEnabled(final boolean insertBatchingEnabled) {
+    this.insertBatchingEnabled = insertBatchingEnabled;
+  }
+
+  public boolean isAsyncFlushEnabled() {
+    return asyncFlushEnabled;
+  }
+
+  public void setAsyncFlushEnabled(final boolean asyncFlushEnabled) {
+    this.asyncFlushEnabled = asyncFlushEnabled;
+  }
+
   public boolean isExportBatchOperationItemsOnCreation() {
     return exportBatchOperationItemsOnCreation;
   }
@@ -203,6 +221,8 @@ public class ExporterConfiguration {
         .partitionId(partitionId)
         .queueSize(queueSize)
         .queueMemoryLimit(queueMemoryLimit)
+        .insertBatchingEnabled(insertBatchingEnabled)
+        .asyncFlushEnabled(asyncFlushEnabled)
         .batchOperationItemInsertBlockSize(batchOperationItemInsertBlockSize)
         .exportBatchOperationItemsOnCreation(exportBatchOperationItemsOnCreation)
         .history(historyConfig)
@@ -227,6 +247,10 @@ public class ExporterConfiguration {
         + queueSize
         + ", queueMemoryLimit="
         + queueMemoryLimit
+        + ", insertBatchingEnabled="
+        + insertBatchingEnabled
+        + ", asyncFlushEnabled="
+        + asyncFlushEnabled
         + ", history="
         + history
         + ", exportBatchOperationItemsOnCreation="
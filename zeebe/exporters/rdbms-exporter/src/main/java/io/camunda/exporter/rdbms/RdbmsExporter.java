@@ -54,6 +54,8 @@ public final class RdbmsExporter {
   private ExporterPositionModel exporterRdbmsPosition;
   private long lastPosition = -1;
   private long lastFlushedPosition = -1;
+  // position written with the current flush, acknowledged to the broker once it is committed
+  private long flushingPosition = -1;
   private ScheduledTask currentFlushTask = null;
   private ScheduledTask currentCleanupTask = null;
   private ScheduledTask currentUsageMetricsCleanupTask = null;
@@ -61,6 +63,7 @@ public final class RdbmsExporter {
 
   // Track the oldest record timestamp in the current batch for exporting latency calculation
   private long oldestRecordTimestampInBatch = -1;
+  private long oldestRecordTimestampInFlush = -1;
 
   private RdbmsExporter(
       final int partitionId,
@@ -117,7 +120,7 @@ public final class RdbmsExporter {
             lastPosition,
             exporterRdbmsPosition.lastExportedPosition());
         lastPosition = exporterRdbmsPosition.lastExportedPosition();
-        updatePositionInBroker();
+        updatePositionInBroker(lastPosition);
       } else if (lastPosition > exporterRdbmsPosition.lastExportedPosition()) {
         LOG.info(
             "[RDBMS Exporter P{}] Position in Broker {} is more advanced than in rdbms {}",
@@ -129,7 +132,7 @@ public final class RdbmsExporter {
     lastFlushedPosition = lastPosition;
 
     rdbmsWriters.getExecutionQueue().registerPreFlushListener(this::updatePositionInRdbms);
-    rdbmsWriters.getExecutionQueue().registerPostFlushListener(this::updatePositionInBroker);
+    rdbmsWriters.getExecutionQueue().registerPostFlushListener(this::updateFlushedPositionInBroker);
     rdbmsWriters.getExecutionQueue().registerPostFlushListener(this::recordExportingLatency);
 
     // schedule first cleanup in 1 second. Future intervals are given by the history cleanup service
@@ -164,6 +167,8 @@ public final class RdbmsExporter {
 
       try {
         rdbmsWriters.flush(true);
+        // waits until an asynchronous flush is committed
+        rdbmsWriters.getExecutionQueue().close();
       } catch (final Exception e) {
         LOG.warn(
             "[RDBMS Exporter P{}] Failed to execute final flush on close for partition {}",
@@ -192,6 +197,17 @@ public final class RdbmsExporter {
         record.getValueType(),
         record.getIntent());
 
+    if (record.getPosition() <= lastPosition) {
+      // the record is already queued, and is retried because the flush failed; the failed items
+      // are still queued, so only the flush is retried
+      LOG.debug(
+          "[RDBMS Exporter P{}] Retry flush for already exported record {}",
+          partitionId,
+          record.getPosition());
+      flushIfNeeded();
+      return;
+    }
+
     boolean exported = false;
     if (registeredHandlers.containsKey(record.getValueType())) {
       for (final var handler : registeredHandlers.get(record.getValueType())) {
@@ -226,21 +242,7 @@ public final class RdbmsExporter {
       if (oldestRecordTimestampInBatch < 0 || recordTimestamp < oldestRecordTimestampInBatch) {
         oldestRecordTimestampInBatch = recordTimestamp;
       }
-      // causes a flush check after each processed record. Depending on the queue size and
-      // configuration, the writers ExecutionQueue may or may not flush here.
-      try {
-        final boolean flushed = rdbmsWriters.flush(flushAfterEachRecord());
-        if (flushed) {
-          resetIntervalFlush();
-        }
-      } catch (final Exception e) {
-        LOG.warn(
-            "[RDBMS Exporter P{}] Failed to flush record for positions {} to {} to the database.",
-            partitionId,
-            lastFlushedPosition + 1,
-            lastPosition);
-        throw e;
-      }
+      flushIfNeeded();
     } else {
       LOG.trace(
           "[RDBMS Exporter P{}] Record with key {} and original partitionId {} could not be exported {}.",
@@ -251,6 +253,26 @@ public final class RdbmsExporter {
     }
   }
 
+  /**
+   * Causes a flush check after each processed record. Depending on the queue size and
+   * configuration, the writers ExecutionQueue may or may not flush here.
+   */
+  private void flushIfNeeded() {
+    try {
+      final boolean flushed = rdbmsWriters.flush(flushAfterEachRecord());
+      if (flushed) {
+        resetIntervalFlush();
+      }
+    } catch (final Exception e) {
+      LOG.warn(
+          "[RDBMS Exporter P{}] Failed to flush record for positions {} to {} to the database.",
+          partitionId,
+          lastFlushedPosition + 1,
+          lastPosition);
+      throw e;
+    }
+  }
+
   /**
    * After a flush triggered not by an interval, we need to reset the interval flush task to avoid
    * too many flushes.
@@ -280,13 +302,27 @@ public final class RdbmsExporter {
     rdbmsWriters.getRdbmsPurger().purgeRdbms();
   }
 
-  private void updatePositionInBroker() {
-    LOG.trace("[RDBMS Exporter P{}] Updating position to {} in broker", partitionId, lastPosition);
-    lastFlushedPosition = lastPosition;
-    controller.updateLastExportedRecordPosition(lastPosition);
+  /**
+   * Acknowledges the position of the committed flush. With asynchronous flushes, records after this
+   * position may already be exported into the next flush, so {@link #lastPosition} can't be used.
+   * A failed flush is never acknowledged, as its post flush listeners are not called.
+   */
+  private void updateFlushedPositionInBroker() {
+    if (flushingPosition > lastFlushedPosition) {
+      updatePositionInBroker(flushingPosition);
+    }
+  }
+
+  private void updatePositionInBroker(final long position) {
+    LOG.trace("[RDBMS Exporter P{}] Updating position to {} in broker", partitionId, position);
+    lastFlushedPosition = position;
+    controller.updateLastExportedRecordPosition(position);
   }
 
   private void updatePositionInRdbms() {
+    flushingPosition = lastPosition;
+    oldestRecordTimestampInFlush = oldestRecordTimestampInBatch;
+    oldestRecordTimestampInBatch = -1;
     if (lastPosition > exporterRdbmsPosition.lastExportedPosition()) {
       LOG.trace("[RDBMS Exporter P{}] Updating position to {} in rdbms", partitionId, lastPosition);
       exporterRdbmsPosition =
@@ -301,11 +337,11 @@ public final class RdbmsExporter {
   }
 
   private void recordExportingLatency() {
-    if (oldestRecordTimestampInBatch >= 0) {
-      final long latencyMs = System.currentTimeMillis() - oldestRecordTimestampInBatch;
+    if (oldestRecordTimestampInFlush >= 0) {
+      final long latencyMs = System.currentTimeMillis() - oldestRecordTimestampInFlush;
       rdbmsWriters.getMetrics().recordExportingLatency(latencyMs);
-      // Reset for the next batch
-      oldestRecordTimestampInBatch = -1;
+      // Reset for the next flush
+      oldestRecordTimestampInFlush = -1;
     }
   }
 
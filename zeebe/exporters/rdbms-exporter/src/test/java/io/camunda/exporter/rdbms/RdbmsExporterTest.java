@@ -460,6 +460,25 @@ class RdbmsExporterTest {
         .scheduleCancellableTask(any(Duration.class), any());
   }
 
+  @Test
+  void shouldOnlyRetryFlushWhenRecordIsExportedAgainAfterFailedFlush() {
+    // given
+    final var jobHandler = mockHandler(ValueType.JOB);
+    final var record = mockRecord(ValueType.JOB, 1);
+    createExporter(b -> b.withHandler(ValueType.JOB, jobHandler));
+    when(rdbmsWriters.flush(anyBoolean()))
+        .thenThrow(new RuntimeException("Simulated flush failure"))
+        .thenReturn(true);
+    assertThatThrownBy(() -> exporter.export(record)).hasMessage("Simulated flush failure");
+
+    // when
+    exporter.export(record);
+
+    // then - the record is still queued, so it is not handled again
+    verify(jobHandler).export(record);
+    verify(rdbmsWriters, times(2)).flush(anyBoolean());
+  }
+
   // ------------------------------------------------
   // mocks and stubs
   // ------------------------------------------------
@@ -599,5 +618,10 @@ class RdbmsExporterTest {
     public boolean checkQueueForFlush() {
       return false;
     }
+
+    @Override
+    public void close() {
+      // no-op
+    }
   }
 }
@@ -123,12 +123,20 @@ public interface Journal extends AutoCloseable {
   void flush() throws FlushException;
 
   /**
-   * Opens a new {@link JournalReader}
+   * Opens a new {@link JournalReader} which follows the tail of the journal.
    *
    * @return a journal reader
    */
   JournalReader openReader();
 
+  /**
+   * Opens a new {@link JournalReader} with the given access mode.
+   *
+   * @param mode whether the reader follows the tail or catches up with older records
+   * @return a journal reader
+   */
+  JournalReader openReader(JournalReader.Mode mode);
+
   /**
    * Check if the journal is open
    *
@@ -109,4 +109,19 @@ public interface JournalReader extends Iterator<JournalRecord>, AutoCloseable {
 
   @Override
   void close();
+
+  /** How a reader accesses the journal, which determines whether it reads ahead. */
+  enum Mode {
+    /**
+     * The reader follows the tail of the journal, e.g. to process or commit the latest records. It
+     * reads pages which the writer and the other readers need as well, so it does not read ahead.
+     */
+    TAIL,
+
+    /**
+     * The reader reads older records sequentially to catch up, e.g. to replay, export or replicate
+     * them. If enabled, it gives the kernel read-ahead hints for the segments it reads.
+     */
+    CATCH_UP
+  }
 }
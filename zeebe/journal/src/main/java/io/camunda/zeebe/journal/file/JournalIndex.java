@@ -89,4 +89,19 @@ interface JournalIndex {
    * @return true if this index likely have been already indexed. false if otherwise.
    */
   boolean hasIndexed(long index);
+
+  /**
+   * Visits all indexed entries between the given indexes (both inclusive), in ascending order.
+   *
+   * @param fromIndex the lowest index to visit
+   * @param toIndex the highest index to visit
+   * @param consumer called for each indexed entry; the asqn is {@link
+   *     SegmentedJournal#ASQN_IGNORE} if the entry has no asqn indexed
+   */
+  void forEach(long fromIndex, long toIndex, IndexedEntryConsumer consumer);
+
+  @FunctionalInterface
+  interface IndexedEntryConsumer {
+    void accept(long index, int position, long asqn);
+  }
 }
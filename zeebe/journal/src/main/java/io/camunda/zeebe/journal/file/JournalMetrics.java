@@ -37,6 +37,7 @@ final class JournalMetrics {
   private final Counter appendRate;
   private final Counter appendDataRate;
   private final Timer seekLatency;
+  private final Counter readerPageFaults;
   private final MeterRegistry registry;
 
   JournalMetrics(final MeterRegistry registry) {
@@ -67,6 +68,10 @@ final class JournalMetrics {
             .description(APPEND_DATA_RATE.getDescription())
             .register(registry);
     seekLatency = makeTimer(SEEK_LATENCY);
+    readerPageFaults =
+        Counter.builder(READER_PAGE_FAULTS.getName())
+            .description(READER_PAGE_FAULTS.getDescription())
+            .register(registry);
   }
 
   void observeSegmentCreation(final Runnable segmentCreation) {
@@ -118,6 +123,10 @@ final class JournalMetrics {
     return MicrometerUtil.timer(seekLatency, Timer.start(registry));
   }
 
+  void observeReaderPageFaults(final int nonResidentPages) {
+    readerPageFaults.increment(nonResidentPages);
+  }
+
   private Timer makeTimer(final JournalMetricsDoc meter) {
     return Timer.builder(meter.getName())
         .description(meter.getDescription())
@@ -303,6 +303,28 @@ public enum JournalMetricsDoc implements ExtendedMeterDocumentation {
       return buckets;
     }
 
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {PartitionKeyNames.PARTITION};
+    }
+  },
+  /** Count of journal pages which were not resident in memory when a reader reached them */
+  READER_PAGE_FAULTS {
+    @Override
+    public String getName() {
+      return "atomix.journal.reader.page.faults";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.COUNTER;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Count of journal pages which were not resident in memory when a reader reached them";
+    }
+
     @Override
     public KeyName[] getKeyNames() {
       return new KeyName[] {PartitionKeyNames.PARTITION};
@@ -0,0 +1,58 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongPredicate;
+
+/**
+ * Tracks where the readers of a journal are positioned, such that a reader only releases pages of
+ * the shared segment mappings which no other reader will read anymore. Shared by all readers of a
+ * journal, and thread safe.
+ */
+final class JournalReaderPositions {
+
+  private final Set<SegmentReadAhead> readers = ConcurrentHashMap.newKeySet();
+  private final LongPredicate isTailSegment;
+
+  /**
+   * @param isTailSegment returns true if the segment with the given id is the one the writer
+   *     appends to
+   */
+  JournalReaderPositions(final LongPredicate isTailSegment) {
+    this.isTailSegment = isTailSegment;
+  }
+
+  void add(final SegmentReadAhead reader) {
+    readers.add(reader);
+  }
+
+  void remove(final SegmentReadAhead reader) {
+    readers.remove(reader);
+  }
+
+  boolean isTailSegment(final long segmentId) {
+    return isTailSegment.test(segmentId);
+  }
+
+  /**
+   * Returns true if any reader other than the given one is positioned before the given offset of
+   * the given segment, i.e. in the range the given reader wants to release or behind it, such
+   * that it would read the range again.
+   */
+  boolean isReadByOtherReader(
+      final SegmentReadAhead reader, final long segmentId, final long endOffset) {
+    for (final var other : readers) {
+      if (other != reader && other.isPositionedBefore(segmentId, endOffset)) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
@@ -0,0 +1,358 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.journal.file;
+
+import io.camunda.zeebe.journal.JournalRecord;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * A sparse journal index with the same semantics as {@link SparseJournalIndex}, but which keeps
+ * its entries in sorted primitive arrays instead of skip list maps. Since both the index and the
+ * asqn of the journal records are monotonically increasing, entries are almost always appended at
+ * the end, and lookups are binary searches over the arrays. This avoids boxing and per entry node
+ * allocations.
+ *
+ * <p>Mutations are guarded by a write lock. Lookups first attempt an optimistic read, and only
+ * fall back to a read lock if a concurrent mutation was detected.
+ */
+final class PrimitiveJournalIndex implements JournalIndex {
+
+  private static final int INITIAL_CAPACITY = 64;
+
+  private final int density;
+  private final StampedLock lock = new StampedLock();
+
+  // index -> position entries, valid in [head, tail)
+  private long[] indexes = new long[INITIAL_CAPACITY];
+  private int[] positions = new int[INITIAL_CAPACITY];
+  private int head;
+  private int tail;
+
+  // asqn <-> index entries, valid in [asqnHead, asqnTail); the index -> asqn view starts at
+  // asqnIndexHead, since compaction keeps the floor asqn entry, mirroring SparseJournalIndex
+  private long[] asqnIndexes = new long[INITIAL_CAPACITY];
+  private long[] asqns = new long[INITIAL_CAPACITY];
+  private int asqnHead;
+  private int asqnIndexHead;
+  private int asqnTail;
+
+  PrimitiveJournalIndex(final int density) {
+    this.density = density;
+  }
+
+  @Override
+  public void index(final JournalRecord indexedEntry, final int position) {
+    final long index = indexedEntry.index();
+    if (index % density != 0) {
+      return;
+    }
+
+    final long stamp = lock.writeLock();
+    try {
+      putPosition(index, position);
+      final long asqn = indexedEntry.asqn();
+      if (asqn != SegmentedJournal.ASQN_IGNORE) {
+        putAsqn(index, asqn);
+      }
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  @Override
+  public IndexInfo lookup(final long index) {
+    long stamp = lock.tryOptimisticRead();
+    IndexInfo info = lookupUnsafe(index);
+    if (!lock.validate(stamp)) {
+      stamp = lock.readLock();
+      try {
+        info = lookupUnsafe(index);
+      } finally {
+        lock.unlockRead(stamp);
+      }
+    }
+
+    return info;
+  }
+
+  @Override
+  public Long lookupAsqn(final long asqn) {
+    return lookupAsqn(asqn, Long.MAX_VALUE);
+  }
+
+  @Override
+  public Long lookupAsqn(final long asqn, final long indexUpperBound) {
+    long stamp = lock.tryOptimisticRead();
+    long result = lookupAsqnUnsafe(asqn, indexUpperBound);
+    if (!lock.validate(stamp)) {
+      stamp = lock.readLock();
+      try {
+        result = lookupAsqnUnsafe(asqn, indexUpperBound);
+      } finally {
+        lock.unlockRead(stamp);
+      }
+    }
+
+    return result == SegmentedJournal.ASQN_IGNORE ? null : result;
+  }
+
+  @Override
+  public void deleteAfter(final long index) {
+    final long stamp = lock.writeLock();
+    try {
+      tail = upperBound(indexes, head, tail, index);
+
+      final int asqnEnd = upperBound(asqnIndexes, asqnHead, asqnTail, index);
+      asqnTail = asqnEnd;
+      asqnIndexHead = Math.min(asqnIndexHead, asqnTail);
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  @Override
+  public void deleteUntil(final long index) {
+    final long stamp = lock.writeLock();
+    try {
+      head = lowerBound(indexes, head, tail, index);
+
+      final int floor = upperBound(asqnIndexes, asqnIndexHead, asqnTail, index) - 1;
+      if (floor >= asqnIndexHead) {
+        asqnHead = floor;
+        asqnIndexHead = lowerBound(asqnIndexes, asqnIndexHead, asqnTail, index);
+      }
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  @Override
+  public void clear() {
+    final long stamp = lock.writeLock();
+    try {
+      head = 0;
+      tail = 0;
+      asqnHead = 0;
+      asqnIndexHead = 0;
+      asqnTail = 0;
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  @Override
+  public boolean hasIndexed(final long index) {
+    final var indexInfo = lookup(index);
+    if (indexInfo == null) {
+      return false;
+    } else {
+      return indexInfo.index() > index - density;
+    }
+  }
+
+  @Override
+  public void forEach(
+      final long fromIndex, final long toIndex, final IndexedEntryConsumer consumer) {
+    final long stamp = lock.readLock();
+    try {
+      int asqnSlot = lowerBound(asqnIndexes, asqnIndexHead, asqnTail, fromIndex);
+      for (int slot = lowerBound(indexes, head, tail, fromIndex);
+          slot < tail && indexes[slot] <= toIndex;
+          slot++) {
+        final long index = indexes[slot];
+        while (asqnSlot < asqnTail && asqnIndexes[asqnSlot] < index) {
+          asqnSlot++;
+        }
+
+        final long asqn =
+            asqnSlot < asqnTail && asqnIndexes[asqnSlot] == index
+                ? asqns[asqnSlot]
+                : SegmentedJournal.ASQN_IGNORE;
+        consumer.accept(index, positions[slot], asqn);
+      }
+    } finally {
+      lock.unlockRead(stamp);
+    }
+  }
+
+  /**
+   * May be called without holding the lock; all array accesses are bounds checked against the
+   * array actually read, such that a concurrent mutation can only produce a wrong result, which is
+   * then discarded by the caller after validating the stamp.
+   */
+  private IndexInfo lookupUnsafe(final long index) {
+    final long[] currentIndexes = indexes;
+    final int[] currentPositions = positions;
+    final int length = Math.min(currentIndexes.length, currentPositions.length);
+    final int from = Math.min(head, length);
+    final int to = Math.max(from, Math.min(tail, length));
+
+    final int floor = upperBound(currentIndexes, from, to, index) - 1;
+    if (floor < from) {
+      return null;
+    }
+
+    return new IndexInfo(currentIndexes[floor], currentPositions[floor]);
+  }
+
+  /** See {@link #lookupUnsafe(long)}; returns {@link SegmentedJournal#ASQN_IGNORE} if none. */
+  private long lookupAsqnUnsafe(final long asqn, final long indexUpperBound) {
+    final long[] currentIndexes = asqnIndexes;
+    final long[] currentAsqns = asqns;
+    final int length = Math.min(currentIndexes.length, currentAsqns.length);
+    final int from = Math.min(asqnHead, length);
+    final int to = Math.max(from, Math.min(asqnTail, length));
+
+    final int floor = upperBound(currentAsqns, from, to, asqn) - 1;
+    if (floor < from) {
+      return SegmentedJournal.ASQN_IGNORE;
+    }
+
+    final long index = currentIndexes[floor];
+    if (index <= indexUpperBound) {
+      return index;
+    }
+
+    final int indexFrom = Math.max(from, Math.min(asqnIndexHead, to));
+    final int indexFloor = upperBound(currentIndexes, indexFrom, to, indexUpperBound) - 1;
+    return indexFloor < indexFrom ? SegmentedJournal.ASQN_IGNORE : currentIndexes[indexFloor];
+  }
+
+  private void putPosition(final long index, final int position) {
+    if (head == tail || indexes[tail - 1] < index) {
+      ensurePositionCapacity();
+      indexes[tail] = index;
+      positions[tail] = position;
+      tail++;
+      return;
+    }
+
+    final int existing = lowerBound(indexes, head, tail, index);
+    if (indexes[existing] == index) {
+      positions[existing] = position;
+      return;
+    }
+
+    // readers may index older entries out of order, e.g. when seeking into a segment
+    ensurePositionCapacity();
+    final int slot = lowerBound(indexes, head, tail, index);
+    System.arraycopy(indexes, slot, indexes, slot + 1, tail - slot);
+    System.arraycopy(positions, slot, positions, slot + 1, tail - slot);
+    indexes[slot] = index;
+    positions[slot] = position;
+    tail++;
+  }
+
+  private void putAsqn(final long index, final long asqn) {
+    if (asqnHead == asqnTail || asqnIndexes[asqnTail - 1] < index) {
+      ensureAsqnCapacity();
+      asqnIndexes[asqnTail] = index;
+      asqns[asqnTail] = asqn;
+      asqnTail++;
+      return;
+    }
+
+    final int existing = lowerBound(asqnIndexes, asqnHead, asqnTail, index);
+    if (asqnIndexes[existing] == index) {
+      asqns[existing] = asqn;
+      asqnIndexHead = Math.min(asqnIndexHead, existing);
+      return;
+    }
+
+    ensureAsqnCapacity();
+    final int slot = lowerBound(asqnIndexes, asqnHead, asqnTail, index);
+    System.arraycopy(asqnIndexes, slot, asqnIndexes, slot + 1, asqnTail - slot);
+    System.arraycopy(asqns, slot, asqns, slot + 1, asqnTail - slot);
+    asqnIndexes[slot] = index;
+    asqns[slot] = asqn;
+    asqnTail++;
+    asqnIndexHead = Math.min(asqnIndexHead, slot);
+  }
+
+  /**
+   * Ensures there is room for one more entry at the tail, compacting deleted entries at the head
+   * before growing the arrays.
+   */
+  private void ensurePositionCapacity() {
+    if (tail < indexes.length) {
+      return;
+    }
+
+    final int size = tail - head;
+    final int capacity = size < indexes.length / 2 ? indexes.length : indexes.length * 2;
+    final long[] newIndexes = new long[capacity];
+    final int[] newPositions = new int[capacity];
+    System.arraycopy(indexes, head, newIndexes, 0, size);
+    System.arraycopy(positions, head, newPositions, 0, size);
+
+    indexes = newIndexes;
+    positions = newPositions;
+    head = 0;
+    tail = size;
+  }
+
+  private void ensureAsqnCapacity() {
+    if (asqnTail < asqnIndexes.length) {
+      return;
+    }
+
+    final int size = asqnTail - asqnHead;
+    final int capacity =
+        size < asqnIndexes.length / 2 ? asqnIndexes.length : asqnIndexes.length * 2;
+    final long[] newIndexes = new long[capacity];
+    final long[] newAsqns = new long[capacity];
+    System.arraycopy(asqnIndexes, asqnHead, newIndexes, 0, size);
+    System.arraycopy(asqns, asqnHead, newAsqns, 0, size);
+
+    asqnIndexes = newIndexes;
+    asqns = newAsqns;
+    asqnIndexHead -= asqnHead;
+    asqnHead = 0;
+    asqnTail = size;
+  }
+
+  /** Returns the first slot in [from, to) whose value is >= key, or {@code to} if none. */
+  private static int lowerBound(final long[] values, final int from, final int to, final long key) {
+    int low = from;
+    int high = to;
+    while (low < high) {
+      final int mid = (low + high) >>> 1;
+      if (values[mid] < key) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+
+    return low;
+  }
+
+  /** Returns the first slot in [from, to) whose value is > key, or {@code to} if none. */
+  private static int upperBound(final long[] values, final int from, final int to, final long key) {
+    int low = from;
+    int high = to;
+    while (low < high) {
+      final int mid = (low + high) >>> 1;
+      if (values[mid] <= key) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+
+    return low;
+  }
+}
@@ -186,9 +186,20 @@ final class Segment implements AutoCloseable, FlushableSegment {
    * @return A new segment reader.
    */
   SegmentReader createReader() {
+    return createReader(SegmentReadAhead.DISABLED);
+  }
+
+  /**
+   * Creates a new segment reader which gives read-ahead hints for the segment as it reads.
+   *
+   * @param readAhead the read-ahead hints of the journal reader
+   * @return A new segment reader.
+   */
+  SegmentReader createReader(final SegmentReadAhead readAhead) {
     checkOpen();
     final SegmentReader reader =
-        new SegmentReader(buffer.asReadOnlyBuffer().position(0).order(ENDIANNESS), this, index);
+        new SegmentReader(
+            buffer.asReadOnlyBuffer().position(0).order(ENDIANNESS), this, index, readAhead);
     readers.add(reader);
     return reader;
   }
@@ -237,6 +248,8 @@ final class Segment implements AutoCloseable, FlushableSegment {
   /** Deletes the segment. */
   void delete() {
     open = false;
+    // the index file is only useful to load the segment, so it can be deleted right away
+    SegmentIndexFile.delete(file);
     markForDeletion();
     if (readers.isEmpty()) {
       safeDelete();
@@ -288,6 +301,8 @@ final class Segment implements AutoCloseable, FlushableSegment {
   }
 
   void resetLastEntryInDescriptor() {
+    // the segment is about to be truncated, so any persisted index entries may become stale
+    SegmentIndexFile.delete(file);
     descriptor = descriptor.reset();
     descriptorSerializer.writeTo(descriptor, buffer);
     // flush immediately to prevent inconsistencies between descriptor and actual last written entry
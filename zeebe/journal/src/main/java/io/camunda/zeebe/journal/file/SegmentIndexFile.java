@@ -0,0 +1,236 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.journal.file;
+
+import io.camunda.zeebe.journal.JournalRecord;
+import io.camunda.zeebe.journal.util.ChecksumGenerator;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import org.agrona.DirectBuffer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A sidecar file which persists the {@link JournalIndex} entries of a sealed segment, such that
+ * they can be restored on startup without reading the segment.
+ *
+ * <p>The file is written once, when the segment is sealed (i.e. when the next segment is created),
+ * and is only trusted if its checksum is valid and its header matches the segment's {@link
+ * SegmentDescriptor}. Any mismatch, e.g. because the segment was truncated after the file was
+ * written, means the file is ignored and the index is rebuilt lazily by the readers as before.
+ * Since the file is validated on load, it is not flushed when written.
+ *
+ * <pre>
+ * | version (1) | segment id (8) | first index (8) | last index (8) | last position (4) |
+ * | entry count (4) | entries: index (8), position (4), asqn (8) ... | checksum (8) |
+ * </pre>
+ */
+final class SegmentIndexFile {
+
+  private static final Logger LOG = LoggerFactory.getLogger(SegmentIndexFile.class);
+  private static final ByteOrder ENDIANNESS = ByteOrder.LITTLE_ENDIAN;
+  private static final String EXTENSION = ".idx";
+  private static final String TMP_EXTENSION = ".tmp";
+
+  private static final byte VERSION = 1;
+  private static final int HEADER_LENGTH = Byte.BYTES + 3 * Long.BYTES + 2 * Integer.BYTES;
+  private static final int ENTRY_LENGTH = 2 * Long.BYTES + Integer.BYTES;
+  private static final int CHECKSUM_LENGTH = Long.BYTES;
+
+  private SegmentIndexFile() {}
+
+  /** Returns the path of the index file of the given segment file. */
+  static Path indexFileOf(final SegmentFile segmentFile) {
+    return segmentFile.file().toPath().resolveSibling(segmentFile.name() + EXTENSION);
+  }
+
+  /**
+   * Writes the entries of the given index which belong to the segment into its index file. Failures
+   * are logged and ignored, as the index can always be rebuilt from the segment.
+   */
+  static void write(final Segment segment, final JournalIndex journalIndex) {
+    final SegmentDescriptor descriptor = segment.descriptor();
+    final Path indexFile = indexFileOf(segment.file());
+    final Path tmpFile = indexFile.resolveSibling(indexFile.getFileName() + TMP_EXTENSION);
+
+    final var entries = new EntryCollector();
+    journalIndex.forEach(descriptor.index(), descriptor.lastIndex(), entries);
+
+    final ByteBuffer buffer =
+        ByteBuffer.allocate(HEADER_LENGTH + entries.count * ENTRY_LENGTH + CHECKSUM_LENGTH)
+            .order(ENDIANNESS);
+    buffer
+        .put(VERSION)
+        .putLong(descriptor.id())
+        .putLong(descriptor.index())
+        .putLong(descriptor.lastIndex())
+        .putInt(descriptor.lastPosition())
+        .putInt(entries.count)
+        .put(entries.buffer.flip());
+    buffer.putLong(new ChecksumGenerator().compute(buffer, 0, buffer.position())).flip();
+
+    try (final var channel =
+        FileChannel.open(
+            tmpFile,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING)) {
+      while (buffer.hasRemaining()) {
+        channel.write(buffer);
+      }
+    } catch (final IOException e) {
+      LOG.warn("Failed to write index file {} of segment {}", tmpFile, segment, e);
+      return;
+    }
+
+    try {
+      Files.move(
+          tmpFile, indexFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+      LOG.trace("Wrote {} index entries of segment {} to {}", entries.count, segment, indexFile);
+    } catch (final IOException e) {
+      LOG.warn("Failed to move index file {} to {}", tmpFile, indexFile, e);
+    }
+  }
+
+  /**
+   * Loads the entries of the segment's index file into the given index, if the file exists and is
+   * valid for the segment.
+   *
+   * @return true if the entries were loaded, false otherwise
+   */
+  static boolean load(final Segment segment, final JournalIndex journalIndex) {
+    final SegmentDescriptor descriptor = segment.descriptor();
+    final Path indexFile = indexFileOf(segment.file());
+    if (descriptor.lastPosition() <= 0) {
+      // without the last entry in the descriptor, we can't verify the file is up to date
+      return false;
+    }
+
+    final ByteBuffer buffer;
+    try {
+      buffer = ByteBuffer.wrap(Files.readAllBytes(indexFile)).order(ENDIANNESS);
+    } catch (final NoSuchFileException e) {
+      return false;
+    } catch (final IOException e) {
+      LOG.warn("Failed to read index file {}, ignoring it", indexFile, e);
+      return false;
+    }
+
+    if (!isValid(buffer, descriptor)) {
+      LOG.debug("Index file {} does not match segment {}, ignoring it", indexFile, segment);
+      return false;
+    }
+
+    final int count = buffer.getInt(HEADER_LENGTH - Integer.BYTES);
+    final var entry = new IndexedEntry();
+    buffer.position(HEADER_LENGTH);
+    for (int i = 0; i < count; i++) {
+      entry.index = buffer.getLong();
+      final int position = buffer.getInt();
+      entry.asqn = buffer.getLong();
+      journalIndex.index(entry, position);
+    }
+
+    LOG.trace("Loaded {} index entries of segment {} from {}", count, segment, indexFile);
+    return true;
+  }
+
+  /** Deletes the index file of the given segment, if any. */
+  static void delete(final SegmentFile segmentFile) {
+    final Path indexFile = indexFileOf(segmentFile);
+    try {
+      Files.deleteIfExists(indexFile);
+    } catch (final IOException e) {
+      LOG.warn("Failed to delete index file {}", indexFile, e);
+    }
+  }
+
+  private static boolean isValid(final ByteBuffer buffer, final SegmentDescriptor descriptor) {
+    final int length = buffer.limit();
+    if (length < HEADER_LENGTH + CHECKSUM_LENGTH || buffer.get(0) != VERSION) {
+      return false;
+    }
+
+    final int count = buffer.getInt(HEADER_LENGTH - Integer.BYTES);
+    if (count < 0 || length != HEADER_LENGTH + count * ENTRY_LENGTH + CHECKSUM_LENGTH) {
+      return false;
+    }
+
+    final long checksum = buffer.getLong(length - CHECKSUM_LENGTH);
+    if (new ChecksumGenerator().compute(buffer, 0, length - CHECKSUM_LENGTH) != checksum) {
+      return false;
+    }
+
+    buffer.position(Byte.BYTES);
+    return buffer.getLong() == descriptor.id()
+        && buffer.getLong() == descriptor.index()
+        && buffer.getLong() == descriptor.lastIndex()
+        && buffer.getInt() == descriptor.lastPosition();
+  }
+
+  private static final class EntryCollector implements JournalIndex.IndexedEntryConsumer {
+    private ByteBuffer buffer = ByteBuffer.allocate(64 * ENTRY_LENGTH).order(ENDIANNESS);
+    private int count;
+
+    @Override
+    public void accept(final long index, final int position, final long asqn) {
+      if (buffer.remaining() < ENTRY_LENGTH) {
+        buffer =
+            ByteBuffer.allocate(buffer.capacity() * 2).order(ENDIANNESS).put(buffer.flip());
+      }
+
+      buffer.putLong(index).putInt(position).putLong(asqn);
+      count++;
+    }
+  }
+
+  private static final class IndexedEntry implements JournalRecord {
+    private long index;
+    private long asqn;
+
+    @Override
+    public long index() {
+      return index;
+    }
+
+    @Override
+    public long asqn() {
+      return asqn;
+    }
+
+    @Override
+    public long checksum() {
+      return 0;
+    }
+
+    @Override
+    public DirectBuffer data() {
+      return null;
+    }
+
+    @Override
+    public DirectBuffer serializedRecord() {
+      return null;
+    }
+  }
+}
@@ -34,12 +34,22 @@ final class SegmentLoader {
   private final SegmentAllocator allocator;
   private final long minFreeDiskSpace;
   private final JournalMetrics metrics;
+  private final boolean persistSegmentIndex;
 
   SegmentLoader(
       final long minFreeDiskSpace, final JournalMetrics metrics, final SegmentAllocator allocator) {
+    this(minFreeDiskSpace, metrics, allocator, false);
+  }
+
+  SegmentLoader(
+      final long minFreeDiskSpace,
+      final JournalMetrics metrics,
+      final SegmentAllocator allocator,
+      final boolean persistSegmentIndex) {
     this.minFreeDiskSpace = minFreeDiskSpace;
     this.metrics = metrics;
     this.allocator = allocator;
+    this.persistSegmentIndex = persistSegmentIndex;
   }
 
   Segment createSegment(
@@ -134,19 +144,37 @@ final class SegmentLoader {
         mappedSegment = mapSegment(channel, descriptor.maxSegmentSize());
       }
 
-      return loadSegment(
-          segmentFile,
-          mappedSegment,
-          descriptor,
-          descriptorSerializer,
-          lastWrittenAsqn,
-          journalIndex);
+      final var segment =
+          loadSegment(
+              segmentFile,
+              mappedSegment,
+              descriptor,
+              descriptorSerializer,
+              lastWrittenAsqn,
+              journalIndex);
+      if (persistSegmentIndex) {
+        SegmentIndexFile.load(segment, journalIndex);
+      }
+      return segment;
     } catch (final IOException e) {
       throw new JournalException(
           String.format("Failed to load existing segment %s", segmentFile), e);
     }
   }
 
+  /**
+   * Persists the index entries of the given segment, if enabled. Must only be called once the
+   * segment is sealed and its descriptor updated with its last entry.
+   *
+   * @param segment the sealed segment
+   * @param journalIndex the index containing the segment's entries
+   */
+  void persistIndex(final Segment segment, final JournalIndex journalIndex) {
+    if (persistSegmentIndex) {
+      SegmentIndexFile.write(segment, journalIndex);
+    }
+  }
+
   /* ---- Internal methods ------ */
   private Segment loadSegment(
       final Path file,
@@ -0,0 +1,174 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import io.camunda.zeebe.journal.JournalReader.Mode;
+import io.camunda.zeebe.journal.fs.PosixFs;
+import io.camunda.zeebe.journal.fs.PosixFs.Advice;
+import java.nio.ByteBuffer;
+import org.agrona.BufferUtil;
+
+/**
+ * Gives the kernel hints about how a {@link Mode#CATCH_UP catch-up} journal reader accesses the
+ * mapped segments, such that cold segments (e.g. when replaying or replicating old entries) are
+ * read ahead instead of being faulted in page by page.
+ *
+ * <p>The segment buffer is split into windows of a fixed size. Whenever the reader enters a new
+ * window, the window and the next one are advised as {@link Advice#WILLNEED}, which makes the
+ * kernel read them in asynchronously. Pages of the entered window which are not resident yet are
+ * reported via the {@link JournalMetrics}.
+ *
+ * <p>As the segment mappings are shared by all readers and the writer, a segment is only advised as
+ * {@link Advice#SEQUENTIAL}, and the windows behind the reader only as {@link Advice#DONTNEED},
+ * if it is not the tail segment the writer appends to. Windows are only released if no other
+ * reader is positioned in or behind them, as tracked by the {@link JournalReaderPositions}. For
+ * this, {@link Mode#TAIL tail} readers publish their position as well, but do not give any hints.
+ *
+ * <p>Each instance belongs to a single journal reader, and is not thread safe, except for {@link
+ * #isPositionedBefore(long, long)}. Hints are best effort: if the native calls are not supported,
+ * the instance silently does nothing.
+ */
+final class SegmentReadAhead implements AutoCloseable {
+
+  /** Read-ahead instance which does nothing; used when read-ahead is disabled. */
+  static final SegmentReadAhead DISABLED = new SegmentReadAhead(null, null, null, 0, false);
+
+  private final PosixFs posixFs;
+  private final JournalMetrics metrics;
+  private final JournalReaderPositions positions;
+  private final long windowSize;
+  private final boolean giveHints;
+  private final boolean tracked;
+
+  private ByteBuffer buffer;
+  private long address;
+  private long segmentId;
+  private long currentWindow;
+
+  // read by the other readers of the journal
+  private volatile Position position;
+
+  SegmentReadAhead(
+      final PosixFs posixFs,
+      final JournalMetrics metrics,
+      final JournalReaderPositions positions,
+      final int windowSize,
+      final boolean giveHints) {
+    this.posixFs = posixFs;
+    this.metrics = metrics;
+    this.positions = positions;
+    this.windowSize = windowSize <= 0 ? 0 : alignToPageSize(posixFs, windowSize);
+    this.giveHints = giveHints;
+    tracked = isEnabled();
+    if (tracked) {
+      positions.add(this);
+    }
+  }
+
+  /**
+   * Called whenever the reader starts reading a segment, with the reader's view of the segment's
+   * mapped buffer.
+   */
+  void onSegmentOpened(final long segmentId, final ByteBuffer segmentBuffer) {
+    if (!isEnabled() || !segmentBuffer.isDirect()) {
+      buffer = null;
+      position = null;
+      return;
+    }
+
+    buffer = segmentBuffer;
+    address = BufferUtil.address(segmentBuffer);
+    this.segmentId = segmentId;
+    currentWindow = -1;
+    position = new Position(segmentId, 0);
+    if (giveHints && !positions.isTailSegment(segmentId)) {
+      posixFs.madvise(address, segmentBuffer.capacity(), Advice.SEQUENTIAL);
+    }
+  }
+
+  /** Called before the reader reads the entry at the given position of the current segment. */
+  void onRead(final int offset) {
+    if (buffer == null) {
+      return;
+    }
+
+    final long window = offset / windowSize;
+    if (window == currentWindow) {
+      return;
+    }
+
+    final long previousWindow = currentWindow;
+    currentWindow = window;
+    position = new Position(segmentId, window * windowSize);
+    if (!giveHints) {
+      return;
+    }
+
+    if (previousWindow >= 0 && window > previousWindow) {
+      // only release what is behind the reader; after a rewind the pages may be read again
+      release(previousWindow * windowSize, window * windowSize);
+    }
+
+    reportNonResidentPages(window * windowSize);
+    advise(window * windowSize, (window + 2) * windowSize, Advice.WILLNEED);
+  }
+
+  /**
+   * Returns true if the reader is positioned before the given offset of the given segment, or in
+   * an earlier segment. Can be called from any thread.
+   */
+  boolean isPositionedBefore(final long segmentId, final long offset) {
+    final var current = position;
+    return current != null
+        && (current.segmentId() < segmentId
+            || (current.segmentId() == segmentId && current.offset() < offset));
+  }
+
+  @Override
+  public void close() {
+    buffer = null;
+    position = null;
+    if (tracked) {
+      positions.remove(this);
+    }
+  }
+
+  private boolean isEnabled() {
+    return windowSize > 0 && posixFs.isMadviseEnabled();
+  }
+
+  private void release(final long from, final long to) {
+    if (!positions.isTailSegment(segmentId)
+        && !positions.isReadByOtherReader(this, segmentId, to)) {
+      advise(from, to, Advice.DONTNEED);
+    }
+  }
+
+  private void reportNonResidentPages(final long windowStart) {
+    final long windowEnd = Math.min(windowStart + windowSize, buffer.capacity());
+    final int nonResidentPages =
+        posixFs.countNonResidentPages(address + windowStart, windowEnd - windowStart);
+    if (nonResidentPages > 0) {
+      metrics.observeReaderPageFaults(nonResidentPages);
+    }
+  }
+
+  private void advise(final long from, final long to, final Advice advice) {
+    final long end = Math.min(to, buffer.capacity());
+    if (from < end) {
+      posixFs.madvise(address + from, end - from, advice);
+    }
+  }
+
+  private static long alignToPageSize(final PosixFs posixFs, final int windowSize) {
+    final int pageSize = posixFs.pageSize();
+    return ((long) windowSize + pageSize - 1) / pageSize * pageSize;
+  }
+
+  private record Position(long segmentId, long offset) {}
+}
@@ -33,13 +33,20 @@ final class SegmentReader implements Iterator<JournalRecord> {
   private long currentIndex;
   private final JournalRecordReaderUtil recordReader;
   private final int descriptorLength;
+  private final SegmentReadAhead readAhead;
 
-  SegmentReader(final ByteBuffer buffer, final Segment segment, final JournalIndex index) {
+  SegmentReader(
+      final ByteBuffer buffer,
+      final Segment segment,
+      final JournalIndex index,
+      final SegmentReadAhead readAhead) {
     this.index = index;
     this.segment = segment;
+    this.readAhead = readAhead;
     descriptorLength = segment.descriptor().encodingLength();
     recordReader = new JournalRecordReaderUtil(new SBESerializer());
     this.buffer = buffer;
+    readAhead.onSegmentOpened(segment.id(), buffer);
     reset();
   }
 
@@ -61,6 +68,8 @@ final class SegmentReader implements Iterator<JournalRecord> {
       throw new NoSuchElementException();
     }
 
+    readAhead.onRead(buffer.position());
+
     // Read version so that buffer's position is advanced.
     FrameUtil.readVersion(buffer);
 
@@ -23,8 +23,10 @@ import io.camunda.zeebe.journal.CheckedJournalException.FlushException;
 import io.camunda.zeebe.journal.Journal;
 import io.camunda.zeebe.journal.JournalMetaStore;
 import io.camunda.zeebe.journal.JournalReader;
+import io.camunda.zeebe.journal.JournalReader.Mode;
 import io.camunda.zeebe.journal.JournalRecord;
 import io.camunda.zeebe.journal.SegmentInfo;
+import io.camunda.zeebe.journal.fs.PosixFs;
 import io.camunda.zeebe.util.VisibleForTesting;
 import io.camunda.zeebe.util.buffer.BufferWriter;
 import io.micrometer.core.instrument.MeterRegistry;
@@ -49,16 +51,32 @@ public final class SegmentedJournal implements Journal {
   private final StampedLock rwlock = new StampedLock();
   private final SegmentsManager segments;
   private final JournalMetaStore metaStore;
+  private final int readAheadSize;
+  // nullable, only set if read-ahead is enabled
+  private final PosixFs posixFs;
+  private final JournalReaderPositions readerPositions;
 
   SegmentedJournal(
       final JournalIndex journalIndex,
       final SegmentsManager segments,
       final JournalMetrics journalMetrics,
       final JournalMetaStore metaStore) {
+    this(journalIndex, segments, journalMetrics, metaStore, 0);
+  }
+
+  SegmentedJournal(
+      final JournalIndex journalIndex,
+      final SegmentsManager segments,
+      final JournalMetrics journalMetrics,
+      final JournalMetaStore metaStore,
+      final int readAheadSize) {
     this.journalMetrics = Objects.requireNonNull(journalMetrics, "must specify journal metrics");
     this.journalIndex = Objects.requireNonNull(journalIndex, "must specify a journal index");
     this.segments = Objects.requireNonNull(segments, "must specify a journal segments manager");
     this.metaStore = Objects.requireNonNull(metaStore, "must specify a journal meta store");
+    this.readAheadSize = readAheadSize;
+    posixFs = readAheadSize > 0 ? new PosixFs() : null;
+    readerPositions = new JournalReaderPositions(this::isTailSegment);
     this.segments.open();
     writer = new SegmentedJournalWriter(segments, metaStore, journalMetrics);
   }
@@ -183,9 +201,14 @@ public final class SegmentedJournal implements Journal {
 
   @Override
   public JournalReader openReader() {
+    return openReader(Mode.TAIL);
+  }
+
+  @Override
+  public JournalReader openReader(final Mode mode) {
     final var stamped = acquireReadlock();
     try {
-      final var reader = new SegmentedJournalReader(this, journalMetrics);
+      final var reader = new SegmentedJournalReader(this, journalMetrics, createReadAhead(mode));
       readers.add(reader);
       return reader;
     } finally {
@@ -193,6 +216,14 @@ public final class SegmentedJournal implements Journal {
     }
   }
 
+  private SegmentReadAhead createReadAhead(final Mode mode) {
+    // tail readers are tracked as well, such that catch-up readers do not release their pages
+    return posixFs == null
+        ? SegmentReadAhead.DISABLED
+        : new SegmentReadAhead(
+            posixFs, journalMetrics, readerPositions, readAheadSize, mode == Mode.CATCH_UP);
+  }
+
   @Override
   public boolean isOpen() {
     return open;
@@ -296,6 +327,11 @@ public final class SegmentedJournal implements Journal {
     return segments.getSegment(index);
   }
 
+  private boolean isTailSegment(final long segmentId) {
+    final var lastSegment = segments.getLastSegment();
+    return lastSegment != null && lastSegment.id() == segmentId;
+  }
+
   void closeReader(final SegmentedJournalReader segmentedJournalReader) {
     readers.remove(segmentedJournalReader);
   }
@@ -20,6 +20,7 @@ import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import io.camunda.zeebe.journal.JournalMetaStore;
+import io.camunda.zeebe.journal.JournalReader;
 import io.micrometer.core.instrument.MeterRegistry;
 import java.io.File;
 
@@ -43,6 +44,9 @@ public class SegmentedJournalBuilder {
 
   private long freeDiskSpace = DEFAULT_MIN_FREE_DISK_SPACE;
   private int journalIndexDensity = DEFAULT_JOURNAL_INDEX_DENSITY;
+  private boolean primitiveJournalIndex = false;
+  private boolean persistSegmentIndex = false;
+  private int readerPrefetchSize = 0;
   private int partitionId = DEFAULT_PARTITION_ID;
 
   private JournalMetaStore journalMetaStore;
@@ -131,6 +135,48 @@ public class SegmentedJournalBuilder {
     return this;
   }
 
+  /**
+   * Sets whether the journal index should be backed by primitive arrays instead of skip list maps.
+   * Both have the same semantics, but the primitive index avoids boxing and per entry allocations,
+   * which reduces heap usage and GC pressure for journals with many indexed entries.
+   *
+   * @param primitiveJournalIndex true to use a {@link PrimitiveJournalIndex}
+   * @return this builder for chaining
+   */
+  public SegmentedJournalBuilder withPrimitiveJournalIndex(final boolean primitiveJournalIndex) {
+    this.primitiveJournalIndex = primitiveJournalIndex;
+    return this;
+  }
+
+  /**
+   * Sets whether the journal index entries of a segment are persisted in a sidecar file when the
+   * segment is sealed. On startup, these files are used to restore the index of the sealed segments
+   * without reading them, so the first reads after a restart don't have to scan whole segments.
+   *
+   * @param persistSegmentIndex true to persist the index of sealed segments
+   * @return this builder for chaining
+   */
+  public SegmentedJournalBuilder withPersistedSegmentIndex(final boolean persistSegmentIndex) {
+    this.persistSegmentIndex = persistSegmentIndex;
+    return this;
+  }
+
+  /**
+   * Sets the size, in bytes, of the window which {@link JournalReader.Mode#CATCH_UP catch-up}
+   * journal readers prefetch ahead of their position. When set, these readers advise the kernel to
+   * read the next window ahead and to release the pages they already read, if no other reader
+   * needs them, and report non-resident pages in the journal metrics. A value of 0 disables
+   * read-ahead hints.
+   *
+   * @param readerPrefetchSize the size of the prefetch window in bytes, or 0 to disable it
+   * @return this builder for chaining
+   */
+  public SegmentedJournalBuilder withReaderPrefetchSize(final int readerPrefetchSize) {
+    checkArgument(readerPrefetchSize >= 0, "readerPrefetchSize must be positive or 0");
+    this.readerPrefetchSize = readerPrefetchSize;
+    return this;
+  }
+
   /**
    * Sets whether segment files are pre-allocated at creation. If true, segment files are
    * pre-allocated to the maximum segment size (see {@link #withMaxSegmentSize(int)}}) at creation
@@ -166,9 +212,13 @@ public class SegmentedJournalBuilder {
   }
 
   public SegmentedJournal build() {
-    final var journalIndex = new SparseJournalIndex(journalIndexDensity);
+    final JournalIndex journalIndex =
+        primitiveJournalIndex
+            ? new PrimitiveJournalIndex(journalIndexDensity)
+            : new SparseJournalIndex(journalIndexDensity);
     final var journalMetrics = new JournalMetrics(meterRegistry);
-    final var segmentLoader = new SegmentLoader(freeDiskSpace, journalMetrics, segmentAllocator);
+    final var segmentLoader =
+        new SegmentLoader(freeDiskSpace, journalMetrics, segmentAllocator, persistSegmentIndex);
     final var segmentsManager =
         new SegmentsManager(
             journalIndex,
@@ -179,6 +229,7 @@ public class SegmentedJournalBuilder {
             journalMetrics,
             journalMetaStore);
 
-    return new SegmentedJournal(journalIndex, segmentsManager, journalMetrics, journalMetaStore);
+    return new SegmentedJournal(
+        journalIndex, segmentsManager, journalMetrics, journalMetaStore, readerPrefetchSize);
   }
 }
@@ -28,17 +28,26 @@ class SegmentedJournalReader implements JournalReader {
   private Segment currentSegment;
   private SegmentReader currentReader;
   private final JournalMetrics metrics;
+  private final SegmentReadAhead readAhead;
 
   SegmentedJournalReader(final SegmentedJournal journal, final JournalMetrics journalMetrics) {
+    this(journal, journalMetrics, SegmentReadAhead.DISABLED);
+  }
+
+  SegmentedJournalReader(
+      final SegmentedJournal journal,
+      final JournalMetrics journalMetrics,
+      final SegmentReadAhead readAhead) {
     this.journal = journal;
     metrics = journalMetrics;
+    this.readAhead = readAhead;
     initialize();
   }
 
   /** Initializes the reader to the given index. */
   private void initialize() {
     currentSegment = journal.getFirstSegment();
-    currentReader = currentSegment.createReader();
+    currentReader = currentSegment.createReader(readAhead);
   }
 
   @Override
@@ -166,6 +175,7 @@ class SegmentedJournalReader implements JournalReader {
   @Override
   public void close() {
     currentReader.close();
+    readAhead.close();
     journal.closeReader(this);
   }
 
@@ -249,6 +259,6 @@ class SegmentedJournalReader implements JournalReader {
 
     currentReader.close();
     currentSegment = nextSegment;
-    currentReader = currentSegment.createReader();
+    currentReader = currentSegment.createReader(readAhead);
   }
 }
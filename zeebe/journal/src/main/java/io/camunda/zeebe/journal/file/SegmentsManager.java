@@ -113,12 +113,14 @@ final class SegmentsManager implements AutoCloseable {
   }
 
   /**
-   * Creates and returns the next segment.
+   * Creates and returns the next segment. The current segment is considered sealed from here on,
+   * so its index entries are persisted if enabled.
    *
    * @return The next segment.
    * @throws IllegalStateException if the segment manager is not open
    */
   Segment getNextSegment() {
+    segmentLoader.persistIndex(currentSegment, journalIndex);
 
     final Segment lastSegment = getLastSegment();
     final var lastWrittenAsqn = lastSegment != null ? lastSegment.lastAsqn() : INITIAL_ASQN;
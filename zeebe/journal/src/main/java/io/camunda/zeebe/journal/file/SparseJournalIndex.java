@@ -111,4 +111,20 @@ final class SparseJournalIndex implements JournalIndex {
       return indexInfo.index() > index - density;
     }
   }
+
+  @Override
+  public void forEach(
+      final long fromIndex, final long toIndex, final IndexedEntryConsumer consumer) {
+    if (fromIndex > toIndex) {
+      return;
+    }
+
+    indexToPosition
+        .subMap(fromIndex, true, toIndex, true)
+        .forEach(
+            (index, position) -> {
+              final long asqn = indexToAsqn.getOrDefault(index, SegmentedJournal.ASQN_IGNORE);
+              consumer.accept(index, position, asqn);
+            });
+  }
 }
@@ -14,7 +14,10 @@ import jnr.ffi.LibraryLoader;
 import jnr.ffi.LibraryOption;
 import jnr.ffi.Platform;
 import jnr.ffi.annotations.In;
+import jnr.ffi.annotations.Out;
+import jnr.ffi.types.intptr_t;
 import jnr.ffi.types.off_t;
+import jnr.ffi.types.size_t;
 
 /**
  * Used to bind certain calls from libc to Java methods via JNA.
@@ -28,6 +31,12 @@ import jnr.ffi.types.off_t;
 public interface LibC {
   int posix_fallocate(final @In int fd, final @In @off_t long offset, final @In @off_t long len);
 
+  int madvise(final @In @intptr_t long addr, final @In @size_t long length, final @In int advice);
+
+  int mincore(final @In @intptr_t long addr, final @In @size_t long length, final @Out byte[] vec);
+
+  int getpagesize();
+
   /**
    * Returns an instance of LibC bound to the system's C library (e.g. glibc, musl, etc.).
    *
@@ -63,5 +72,20 @@ public interface LibC {
     public int posix_fallocate(final int fd, final long offset, final long len) {
       throw new UnsupportedOperationException();
     }
+
+    @Override
+    public int madvise(final long addr, final long length, final int advice) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public int mincore(final long addr, final long length, final byte[] vec) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public int getpagesize() {
+      throw new UnsupportedOperationException();
+    }
   }
 }
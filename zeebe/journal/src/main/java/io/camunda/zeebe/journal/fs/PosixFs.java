@@ -26,6 +26,7 @@ import org.slf4j.LoggerFactory;
 public final class PosixFs {
   private static final Logger LOGGER = LoggerFactory.getLogger(PosixFs.class);
   private static final VarHandle FILE_DESCRIPTOR_FD_FIELD;
+  private static final int DEFAULT_PAGE_SIZE = 4096;
 
   static {
     VarHandle fileDescriptorFd;
@@ -49,7 +50,12 @@ public final class PosixFs {
   private volatile boolean supportsPosixFallocate =
       FILE_DESCRIPTOR_FD_FIELD != null && Platform.getNativePlatform().isUnix();
 
+  // madvise and mincore are available on Linux and macOS; if a call fails, e.g. because the C
+  // library does not support it, we stop using them
+  private volatile boolean supportsMadvise = Platform.getNativePlatform().isUnix();
+
   private final LibC libC;
+  private int pageSize;
 
   public PosixFs() {
     this(LibC.ofNativeLibrary());
@@ -136,6 +142,124 @@ public final class PosixFs {
     throwExceptionFromErrno(offset, length, error);
   }
 
+  /**
+   * Returns whether calls to {@link #madvise(long, long, Advice)} and {@link
+   * #countNonResidentPages(long, long)} are supported or not.
+   *
+   * @return true if supported, false otherwise
+   */
+  public boolean isMadviseEnabled() {
+    return supportsMadvise;
+  }
+
+  /**
+   * Disables usage of {@link #madvise(long, long, Advice)} and {@link
+   * #countNonResidentPages(long, long)}. After calling this, {@link #isMadviseEnabled()} will
+   * return false.
+   */
+  public void disableMadvise() {
+    LOGGER.debug("Disabling usage of madvise optimization");
+    supportsMadvise = false;
+  }
+
+  /**
+   * Returns the page size of the system, or a default of 4KiB if it cannot be determined.
+   *
+   * @return the page size in bytes
+   */
+  public int pageSize() {
+    if (pageSize == 0) {
+      try {
+        pageSize = libC.getpagesize();
+      } catch (final LinkageError | UnsupportedOperationException e) {
+        LOGGER.debug("Failed to look up the page size, assuming {} bytes", DEFAULT_PAGE_SIZE, e);
+        pageSize = DEFAULT_PAGE_SIZE;
+      }
+    }
+
+    return pageSize;
+  }
+
+  /**
+   * Gives the kernel advice about how the given range of mapped memory will be accessed. The range
+   * is extended to start at a page boundary. As this is only advice, failures are not propagated;
+   * instead, usage of madvise is disabled.
+   *
+   * <p><a href="https://man7.org/linux/man-pages/man2/madvise.2.html">See the man pages for
+   * madvise</a>
+   *
+   * @param address the address of the mapped memory
+   * @param length the length, in bytes, of the range
+   * @param advice the expected access pattern
+   * @return true if the advice was given, false otherwise
+   */
+  public boolean madvise(final long address, final long length, final Advice advice) {
+    if (!isMadviseEnabled() || length <= 0) {
+      return false;
+    }
+
+    final long alignedAddress = alignToPage(address);
+    try {
+      final int result =
+          libC.madvise(alignedAddress, length + (address - alignedAddress), advice.value);
+      if (result == 0) {
+        return true;
+      }
+
+      LOGGER.warn("Failed to call madvise with {}, will not use it anymore", advice);
+    } catch (final LinkageError | UnsupportedOperationException e) {
+      LOGGER.warn("Failed to call madvise with {}, will not use it anymore", advice, e);
+    }
+
+    disableMadvise();
+    return false;
+  }
+
+  /**
+   * Returns how many pages of the given range of mapped memory are not resident in memory, i.e.
+   * would cause a major page fault when accessed.
+   *
+   * <p><a href="https://man7.org/linux/man-pages/man2/mincore.2.html">See the man pages for
+   * mincore</a>
+   *
+   * @param address the address of the mapped memory
+   * @param length the length, in bytes, of the range
+   * @return the count of non-resident pages, or -1 if it cannot be determined
+   */
+  public int countNonResidentPages(final long address, final long length) {
+    if (!isMadviseEnabled() || length <= 0) {
+      return -1;
+    }
+
+    final int pageSize = pageSize();
+    final long alignedAddress = alignToPage(address);
+    final long alignedLength = length + (address - alignedAddress);
+    final byte[] residency = new byte[(int) ((alignedLength + pageSize - 1) / pageSize)];
+    try {
+      if (libC.mincore(alignedAddress, alignedLength, residency) != 0) {
+        LOGGER.warn("Failed to call mincore, will not use madvise or mincore anymore");
+        disableMadvise();
+        return -1;
+      }
+    } catch (final LinkageError | UnsupportedOperationException e) {
+      LOGGER.warn("Failed to call mincore, will not use madvise or mincore anymore", e);
+      disableMadvise();
+      return -1;
+    }
+
+    int nonResident = 0;
+    for (final byte page : residency) {
+      if ((page & 1) == 0) {
+        nonResident++;
+      }
+    }
+    return nonResident;
+  }
+
+  private long alignToPage(final long address) {
+    return address & -(long) pageSize();
+  }
+
   private void throwExceptionFromErrno(final long offset, final long length, final Errno error)
       throws IOException {
     switch (error) {
@@ -163,4 +287,20 @@ public final class PosixFs {
       }
     }
   }
+
+  /** The subset of madvise advices we use; the values are the same on Linux and macOS. */
+  public enum Advice {
+    /** Expect sequential access; pages may be aggressively read ahead and freed after access. */
+    SEQUENTIAL(2),
+    /** Expect access in the near future; starts reading the pages ahead asynchronously. */
+    WILLNEED(3),
+    /** Do not expect access in the near future; the pages may be unmapped from the process. */
+    DONTNEED(4);
+
+    private final int value;
+
+    Advice(final int value) {
+      this.value = value;
+    }
+  }
 }
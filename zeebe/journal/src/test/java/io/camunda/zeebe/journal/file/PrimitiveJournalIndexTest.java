@@ -0,0 +1,187 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.journal.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/** Runs the sparse journal index tests against the primitive array based index. */
+final class PrimitiveJournalIndexTest extends SparseJournalIndexTest {
+
+  @Override
+  JournalIndex createIndex(final int density) {
+    return new PrimitiveJournalIndex(density);
+  }
+
+  @Test
+  void shouldGrowBeyondInitialCapacity() {
+    // given
+    final JournalIndex index = createIndex(1);
+
+    // when
+    for (int i = 1; i <= 1000; i++) {
+      index.index(asJournalRecord(i, i * 10L), i * 2);
+    }
+
+    // then
+    assertThat(index.lookup(1).position()).isEqualTo(2);
+    assertThat(index.lookup(500).position()).isEqualTo(1000);
+    assertThat(index.lookup(1000).position()).isEqualTo(2000);
+    assertThat(index.lookupAsqn(5005)).isEqualTo(500);
+  }
+
+  @Test
+  void shouldIndexEntriesOutOfOrder() {
+    // given
+    final JournalIndex index = createIndex(5);
+    index.index(asJournalRecord(15, 15), 30);
+
+    // when
+    index.index(asJournalRecord(5, 5), 10);
+    index.index(asJournalRecord(10, 10), 20);
+
+    // then
+    assertThat(index.lookup(7).index()).isEqualTo(5);
+    assertThat(index.lookup(12).index()).isEqualTo(10);
+    assertThat(index.lookup(12).position()).isEqualTo(20);
+    assertThat(index.lookup(16).index()).isEqualTo(15);
+    assertThat(index.lookupAsqn(11)).isEqualTo(10);
+  }
+
+  @Test
+  void shouldReindexExistingEntry() {
+    // given
+    final JournalIndex index = createIndex(5);
+    index.index(asJournalRecord(5, 5), 10);
+    index.index(asJournalRecord(10, 10), 20);
+
+    // when
+    index.index(asJournalRecord(5, 5), 10);
+
+    // then
+    assertThat(index.lookup(9).index()).isEqualTo(5);
+    assertThat(index.lookup(10).index()).isEqualTo(10);
+    assertThat(index.lookupAsqn(7)).isEqualTo(5);
+  }
+
+  @Test
+  void shouldAppendAfterCompactionAndTruncation() {
+    // given
+    final JournalIndex index = createIndex(1);
+    for (int i = 1; i <= 100; i++) {
+      index.index(asJournalRecord(i, i), i);
+    }
+
+    // when
+    index.deleteUntil(60);
+    index.deleteAfter(80);
+    for (int i = 81; i <= 200; i++) {
+      index.index(asJournalRecord(i, i), i + 1);
+    }
+
+    // then
+    assertThat(index.lookup(59)).isNull();
+    assertThat(index.lookup(60).index()).isEqualTo(60);
+    assertThat(index.lookup(81).position()).isEqualTo(82);
+    assertThat(index.lookup(200).position()).isEqualTo(201);
+    assertThat(index.lookupAsqn(150)).isEqualTo(150);
+  }
+
+  @Test
+  @Timeout(60)
+  void shouldLookupConsistentlyWhileWriterMutates() throws InterruptedException {
+    // given
+    final JournalIndex index = createIndex(1);
+    final var lastIndexed = new AtomicLong();
+    final var writerDone = new AtomicBoolean();
+    final var violations = new ConcurrentLinkedQueue<Throwable>();
+    final List<Thread> readers = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      readers.add(
+          Thread.ofPlatform()
+              .start(() -> lookupUntilDone(index, lastIndexed, writerDone, violations)));
+    }
+
+    // when - the writer appends, truncates and compacts, while the readers look up
+    for (long i = 1; i <= 200_000; i++) {
+      index.index(asJournalRecord(i, i), (int) (2 * i));
+      if (i % 250 == 0) {
+        index.deleteAfter(i - 20);
+        for (long j = i - 19; j <= i; j++) {
+          index.index(asJournalRecord(j, j), (int) (2 * j));
+        }
+      }
+      if (i % 100 == 0) {
+        index.deleteUntil(i - 1_000);
+      }
+      lastIndexed.set(i);
+    }
+    writerDone.set(true);
+    for (final var reader : readers) {
+      reader.join();
+    }
+
+    // then
+    assertThat(violations).isEmpty();
+    assertThat(index.lookup(200_000).position()).isEqualTo(400_000);
+    assertThat(index.lookupAsqn(200_000)).isEqualTo(200_000);
+  }
+
+  private static void lookupUntilDone(
+      final JournalIndex index,
+      final AtomicLong lastIndexed,
+      final AtomicBoolean writerDone,
+      final ConcurrentLinkedQueue<Throwable> violations) {
+    final var random = ThreadLocalRandom.current();
+    while (!writerDone.get()) {
+      final long last = lastIndexed.get();
+      if (last == 0) {
+        continue;
+      }
+
+      final long target = random.nextLong(1, last + 1);
+      try {
+        final var info = index.lookup(target);
+        if (info != null) {
+          assertThat(info.index()).isLessThanOrEqualTo(target);
+          assertThat(info.position()).isEqualTo(2 * info.index());
+        }
+
+        final Long asqnIndex = index.lookupAsqn(target);
+        if (asqnIndex != null) {
+          assertThat(asqnIndex).isLessThanOrEqualTo(target);
+        }
+
+        final long upperBound = target - random.nextLong(0, 10);
+        final Long boundedIndex = index.lookupAsqn(target, upperBound);
+        if (boundedIndex != null) {
+          assertThat(boundedIndex).isLessThanOrEqualTo(upperBound);
+        }
+      } catch (final Throwable e) {
+        violations.add(e);
+        return;
+      }
+    }
+  }
+}
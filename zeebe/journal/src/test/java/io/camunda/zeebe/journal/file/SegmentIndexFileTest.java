@@ -0,0 +1,160 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.journal.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.CloseHelper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class SegmentIndexFileTest {
+
+  private static final int ENTRIES_PER_SEGMENT = 2;
+
+  private @TempDir Path directory;
+  private TestJournalFactory journalFactory;
+  private final List<AutoCloseable> closeables = new ArrayList<>();
+
+  @AfterEach
+  void afterEach() {
+    CloseHelper.quietCloseAll(closeables);
+  }
+
+  @Test
+  void shouldWriteIndexFileWhenSegmentIsSealed() {
+    // given
+    final var journal = openJournal(true);
+
+    // when
+    journal.append(1, journalFactory.entry());
+    journal.append(2, journalFactory.entry());
+    journal.append(3, journalFactory.entry());
+
+    // then
+    assertThat(indexFile(1)).exists();
+    assertThat(indexFile(2)).doesNotExist();
+  }
+
+  @Test
+  void shouldNotWriteIndexFileIfDisabled() {
+    // given
+    final var journal = openJournal(false);
+
+    // when
+    journal.append(1, journalFactory.entry());
+    journal.append(2, journalFactory.entry());
+    journal.append(3, journalFactory.entry());
+
+    // then
+    assertThat(indexFile(1)).doesNotExist();
+  }
+
+  @Test
+  void shouldRestoreIndexOfSealedSegmentsOnRestart() {
+    // given
+    var journal = openJournal(true);
+    final var firstIndex = journal.append(1, journalFactory.entry()).index();
+    final var secondIndex = journal.append(2, journalFactory.entry()).index();
+    journal.append(3, journalFactory.entry());
+    final var firstIndexInfo = journal.getJournalIndex().lookup(firstIndex);
+    final var secondIndexInfo = journal.getJournalIndex().lookup(secondIndex);
+
+    // when
+    journal.close();
+    journal = openJournal(true);
+
+    // then
+    final var index = journal.getJournalIndex();
+    assertThat(index.lookup(firstIndex)).isEqualTo(firstIndexInfo);
+    assertThat(index.lookup(secondIndex)).isEqualTo(secondIndexInfo);
+    assertThat(index.lookupAsqn(2)).isEqualTo(secondIndex);
+  }
+
+  @Test
+  void shouldIgnoreCorruptedIndexFile() throws IOException {
+    // given
+    var journal = openJournal(true);
+    final var firstIndex = journal.append(1, journalFactory.entry()).index();
+    journal.append(2, journalFactory.entry());
+    journal.append(3, journalFactory.entry());
+    journal.close();
+
+    final var bytes = Files.readAllBytes(indexFile(1));
+    bytes[bytes.length / 2] ^= 0xFF;
+    Files.write(indexFile(1), bytes);
+
+    // when
+    journal = openJournal(true);
+
+    // then
+    assertThat(journal.getJournalIndex().lookup(firstIndex)).isNull();
+    assertThat(journal.openReader().seek(firstIndex)).isEqualTo(firstIndex);
+  }
+
+  @Test
+  void shouldDeleteIndexFileOnTruncation() {
+    // given
+    final var journal = openJournal(true);
+    journal.append(1, journalFactory.entry());
+    journal.append(2, journalFactory.entry());
+    journal.append(3, journalFactory.entry());
+
+    // when
+    journal.deleteAfter(1);
+
+    // then
+    assertThat(indexFile(1)).doesNotExist();
+  }
+
+  @Test
+  void shouldDeleteIndexFileOnCompaction() {
+    // given
+    final var journal = openJournal(true);
+    journal.append(1, journalFactory.entry());
+    journal.append(2, journalFactory.entry());
+    journal.append(3, journalFactory.entry());
+
+    // when
+    journal.deleteUntil(3);
+
+    // then
+    assertThat(indexFile(1)).doesNotExist();
+  }
+
+  private Path indexFile(final int segmentId) {
+    return directory.resolve("data").resolve("journal-" + segmentId + ".log.idx");
+  }
+
+  private SegmentedJournal openJournal(final boolean persistSegmentIndex) {
+    journalFactory = new TestJournalFactory(ENTRIES_PER_SEGMENT);
+    final var loader =
+        new SegmentLoader(
+            2L * journalFactory.maxSegmentSize(),
+            journalFactory.metrics(),
+            SegmentAllocator.defaultAllocator(),
+            persistSegmentIndex);
+    final var journal = journalFactory.journal(journalFactory.segmentsManager(directory, loader));
+    closeables.add(journal);
+    return journal;
+  }
+}
@@ -0,0 +1,271 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.journal.fs.LibC.InvalidLibC;
+import io.camunda.zeebe.journal.fs.PosixFs;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.agrona.BufferUtil;
+import org.junit.jupiter.api.AutoClose;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+@DisabledOnOs(value = OS.WINDOWS, disabledReason = "Windows does not provide any LibC")
+final class SegmentReadAheadTest {
+
+  private static final int PAGE_SIZE = 4096;
+  private static final int WINDOW_SIZE = 4 * PAGE_SIZE;
+  private static final long SEGMENT_ID = 1;
+
+  @AutoClose private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final RecordingLibC libC = new RecordingLibC();
+  private final ByteBuffer buffer = BufferUtil.allocateDirectAligned(4 * WINDOW_SIZE, PAGE_SIZE);
+  private final JournalReaderPositions positions =
+      new JournalReaderPositions(segmentId -> segmentId == tailSegmentId);
+  private long tailSegmentId = SEGMENT_ID + 1;
+  private long address;
+  private SegmentReadAhead readAhead;
+
+  @BeforeEach
+  void beforeEach() {
+    address = BufferUtil.address(buffer);
+    readAhead = newReadAhead(true);
+  }
+
+  @Test
+  void shouldAdviseSequentialAccessOnSegmentOpened() {
+    // when
+    readAhead.onSegmentOpened(SEGMENT_ID, buffer);
+
+    // then
+    assertThat(libC.advices).containsExactly(new Advice(0, buffer.capacity(), 2));
+  }
+
+  @Test
+  void shouldPrefetchEnteredAndNextWindow() {
+    // given
+    readAhead.onSegmentOpened(SEGMENT_ID, buffer);
+    libC.advices.clear();
+
+    // when
+    readAhead.onRead(100);
+    readAhead.onRead(WINDOW_SIZE - 1);
+
+    // then
+    assertThat(libC.advices).containsExactly(new Advice(0, 2 * WINDOW_SIZE, 3));
+  }
+
+  @Test
+  void shouldReleaseWindowsBehindReader() {
+    // given
+    readAhead.onSegmentOpened(SEGMENT_ID, buffer);
+    readAhead.onRead(0);
+    libC.advices.clear();
+
+    // when
+    readAhead.onRead(2 * WINDOW_SIZE);
+
+    // then
+    assertThat(libC.advices)
+        .containsExactly(
+            new Advice(0, 2 * WINDOW_SIZE, 4), new Advice(2 * WINDOW_SIZE, 2 * WINDOW_SIZE, 3));
+  }
+
+  @Test
+  void shouldNotReleaseWindowsOnRewind() {
+    // given
+    readAhead.onSegmentOpened(SEGMENT_ID, buffer);
+    readAhead.onRead(2 * WINDOW_SIZE);
+    libC.advices.clear();
+
+    // when
+    readAhead.onRead(0);
+
+    // then
+    assertThat(libC.advices).containsExactly(new Advice(0, 2 * WINDOW_SIZE, 3));
+  }
+
+  @Test
+  void shouldNotAdviseBeyondBuffer() {
+    // given
+    readAhead.onSegmentOpened(SEGMENT_ID, buffer);
+    libC.advices.clear();
+
+    // when
+    readAhead.onRead(buffer.capacity() - 1);
+
+    // then
+    assertThat(libC.advices).containsExactly(new Advice(3 * WINDOW_SIZE, WINDOW_SIZE, 3));
+  }
+
+  @Test
+  void shouldReportNonResidentPages() {
+    // given
+    libC.residentPages = 1;
+    readAhead.onSegmentOpened(SEGMENT_ID, buffer);
+
+    // when
+    readAhead.onRead(0);
+
+    // then
+    assertThat(meterRegistry.get("atomix.journal.reader.page.faults").counter().count())
+        .isEqualTo(WINDOW_SIZE / PAGE_SIZE - 1);
+  }
+
+  @Test
+  void shouldNotReportResidentPages() {
+    // given
+    libC.residentPages = Integer.MAX_VALUE;
+    readAhead.onSegmentOpened(SEGMENT_ID, buffer);
+
+    // when
+    readAhead.onRead(0);
+
+    // then
+    assertThat(meterRegistry.get("atomix.journal.reader.page.faults").counter().count()).isZero();
+  }
+
+  @Test
+  void shouldNotAdviseSequentialAccessOrReleaseOnTailSegment() {
+    // given
+    tailSegmentId = SEGMENT_ID;
+    readAhead.onSegmentOpened(SEGMENT_ID, buffer);
+    readAhead.onRead(0);
+    libC.advices.clear();
+
+    // when
+    readAhead.onRead(2 * WINDOW_SIZE);
+
+    // then
+    assertThat(libC.advices).containsExactly(new Advice(2 * WINDOW_SIZE, 2 * WINDOW_SIZE, 3));
+  }
+
+  @Test
+  void shouldNotGiveHintsForTailReader() {
+    // given
+    try (final var tailReader = newReadAhead(false)) {
+      // when
+      tailReader.onSegmentOpened(SEGMENT_ID, buffer);
+      tailReader.onRead(0);
+      tailReader.onRead(2 * WINDOW_SIZE);
+
+      // then
+      assertThat(libC.advices).isEmpty();
+    }
+  }
+
+  @Test
+  void shouldNotReleaseWindowsReadByTailReaderOnSameSegment() {
+    // given
+    try (final var tailReader = newReadAhead(false)) {
+      tailReader.onSegmentOpened(SEGMENT_ID, buffer);
+      tailReader.onRead(WINDOW_SIZE);
+      readAhead.onSegmentOpened(SEGMENT_ID, buffer);
+      readAhead.onRead(0);
+      libC.advices.clear();
+
+      // when
+      readAhead.onRead(2 * WINDOW_SIZE);
+
+      // then
+      assertThat(libC.advices).containsExactly(new Advice(2 * WINDOW_SIZE, 2 * WINDOW_SIZE, 3));
+    }
+  }
+
+  @Test
+  void shouldReleaseWindowsOnceOtherReaderIsAhead() {
+    // given
+    try (final var tailReader = newReadAhead(false)) {
+      tailReader.onSegmentOpened(SEGMENT_ID, buffer);
+      tailReader.onRead(3 * WINDOW_SIZE);
+      readAhead.onSegmentOpened(SEGMENT_ID, buffer);
+      readAhead.onRead(0);
+      libC.advices.clear();
+
+      // when
+      readAhead.onRead(2 * WINDOW_SIZE);
+
+      // then
+      assertThat(libC.advices)
+          .containsExactly(
+              new Advice(0, 2 * WINDOW_SIZE, 4), new Advice(2 * WINDOW_SIZE, 2 * WINDOW_SIZE, 3));
+    }
+  }
+
+  @Test
+  void shouldReleaseWindowsOnceOtherReaderIsClosed() {
+    // given
+    final var tailReader = newReadAhead(false);
+    tailReader.onSegmentOpened(SEGMENT_ID, buffer);
+    tailReader.onRead(0);
+    readAhead.onSegmentOpened(SEGMENT_ID, buffer);
+    readAhead.onRead(0);
+    libC.advices.clear();
+
+    // when
+    tailReader.close();
+    readAhead.onRead(2 * WINDOW_SIZE);
+
+    // then
+    assertThat(libC.advices)
+        .containsExactly(
+            new Advice(0, 2 * WINDOW_SIZE, 4), new Advice(2 * WINDOW_SIZE, 2 * WINDOW_SIZE, 3));
+  }
+
+  @Test
+  void shouldDoNothingWhenDisabled() {
+    // when
+    SegmentReadAhead.DISABLED.onSegmentOpened(SEGMENT_ID, buffer);
+    SegmentReadAhead.DISABLED.onRead(0);
+
+    // then
+    assertThat(libC.advices).isEmpty();
+  }
+
+  private SegmentReadAhead newReadAhead(final boolean giveHints) {
+    return new SegmentReadAhead(
+        new PosixFs(libC),
+        new JournalMetrics(meterRegistry),
+        positions,
+        WINDOW_SIZE - PAGE_SIZE / 2,
+        giveHints);
+  }
+
+  private record Advice(long offset, long length, int advice) {}
+
+  private final class RecordingLibC extends InvalidLibC {
+    private final List<Advice> advices = new ArrayList<>();
+    private int residentPages;
+
+    @Override
+    public int madvise(final long addr, final long length, final int advice) {
+      advices.add(new Advice(addr - address, length, advice));
+      return 0;
+    }
+
+    @Override
+    public int mincore(final long addr, final long length, final byte[] vec) {
+      Arrays.fill(vec, 0, Math.min(residentPages, vec.length), (byte) 1);
+      return 0;
+    }
+
+    @Override
+    public int getpagesize() {
+      return PAGE_SIZE;
+    }
+  }
+}
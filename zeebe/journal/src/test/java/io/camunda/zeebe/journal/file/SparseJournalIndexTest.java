@@ -25,10 +25,14 @@ import org.junit.jupiter.api.Test;
 /** Sparse journal index test. */
 class SparseJournalIndexTest {
 
+  JournalIndex createIndex(final int density) {
+    return new SparseJournalIndex(density);
+  }
+
   @Test
   void shouldNotFindIndexWhenNotReachedDensity() {
     // given - every 5 index is added
-    final JournalIndex index = new SparseJournalIndex(5);
+    final JournalIndex index = createIndex(5);
 
     // when
     final IndexInfo position = index.lookup(1);
@@ -44,7 +48,7 @@ class SparseJournalIndexTest {
   @Test
   void shouldFindIndexWhenReachedDensity() {
     // given - every 5 index is added
-    final JournalIndex index = new SparseJournalIndex(5);
+    final JournalIndex index = createIndex(5);
 
     // when
     index.index(asJournalRecord(1, 1), 2);
@@ -62,7 +66,7 @@ class SparseJournalIndexTest {
   @Test
   void shouldFindLowerIndexWhenNotReachedDensity() {
     // given - every 5 index is added
-    final JournalIndex index = new SparseJournalIndex(5);
+    final JournalIndex index = createIndex(5);
     // index entries
     index.index(asJournalRecord(1, 1), 2);
     index.index(asJournalRecord(2, 2), 4);
@@ -84,7 +88,7 @@ class SparseJournalIndexTest {
   @Test
   void shouldFindNextIndexWhenReachedDensity() {
     // given - every 5 index is added
-    final JournalIndex index = new SparseJournalIndex(5);
+    final JournalIndex index = createIndex(5);
     // index entries
     index.index(asJournalRecord(1, 1), 2);
     index.index(asJournalRecord(2, 2), 4);
@@ -108,7 +112,7 @@ class SparseJournalIndexTest {
   @Test
   void shouldTruncateIndex() {
     // given - every 5 index is added
-    final JournalIndex index = new SparseJournalIndex(5);
+    final JournalIndex index = createIndex(5);
     // index entries
     index.index(asJournalRecord(1, 10), 2);
     index.index(asJournalRecord(2, 20), 4);
@@ -136,7 +140,7 @@ class SparseJournalIndexTest {
   @Test
   void shouldTruncateCompleteIndex() {
     // given - every 5 index is added
-    final JournalIndex index = new SparseJournalIndex(5);
+    final JournalIndex index = createIndex(5);
     // index entries
     index.index(asJournalRecord(1, 10), 2);
     index.index(asJournalRecord(2, 20), 4);
@@ -167,7 +171,7 @@ class SparseJournalIndexTest {
   @Test
   void shouldNotCompactIndex() {
     // given - every 5 index is added
-    final JournalIndex index = new SparseJournalIndex(5);
+    final JournalIndex index = createIndex(5);
     // index entries
     index.index(asJournalRecord(1, 10), 2);
     index.index(asJournalRecord(2, 20), 4);
@@ -192,7 +196,7 @@ class SparseJournalIndexTest {
   @Test
   void shouldCompactIndex() {
     // given - every 5 index is added
-    final JournalIndex index = new SparseJournalIndex(5);
+    final JournalIndex index = createIndex(5);
     // index entries
     index.index(asJournalRecord(1, 10), 2);
     index.index(asJournalRecord(2, 20), 4);
@@ -219,7 +223,7 @@ class SparseJournalIndexTest {
   @Test
   void shouldFindAsqnWithInBound() {
     // given - every 2nd index is added
-    final JournalIndex index = new SparseJournalIndex(2);
+    final JournalIndex index = createIndex(2);
 
     // when
     index.index(asJournalRecord(1, 1), 2);
@@ -242,7 +246,7 @@ class SparseJournalIndexTest {
   @Test
   void shouldReturnAsIndexedWhenWithInDensity() {
     // given - every 5 index is added
-    final JournalIndex index = new SparseJournalIndex(5);
+    final JournalIndex index = createIndex(5);
     index.index(asJournalRecord(5, 1), 2);
 
     // when - then
@@ -255,7 +259,7 @@ class SparseJournalIndexTest {
   @Test
   void shouldReturnAsNotIndexedWhenOutsideDensity() {
     // given - every 5 index is added
-    final JournalIndex index = new SparseJournalIndex(5);
+    final JournalIndex index = createIndex(5);
     index.index(asJournalRecord(5, 1), 2);
 
     // when - then
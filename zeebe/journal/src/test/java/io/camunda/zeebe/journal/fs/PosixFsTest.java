@@ -96,6 +96,32 @@ final class PosixFsTest {
     }
   }
 
+  @Test
+  void shouldDisableMadviseOnFailure() {
+    // given
+    final var posixFs = new PosixFs(new InvalidLibC());
+
+    // when
+    final var advised = posixFs.madvise(4096, 4096, PosixFs.Advice.WILLNEED);
+
+    // then
+    assertThat(advised).isFalse();
+    assertThat(posixFs.isMadviseEnabled()).isFalse();
+    assertThat(posixFs.countNonResidentPages(4096, 4096)).isEqualTo(-1);
+  }
+
+  @Test
+  void shouldFallBackToDefaultPageSize() {
+    // given
+    final var posixFs = new PosixFs(new InvalidLibC());
+
+    // when
+    final var pageSize = posixFs.pageSize();
+
+    // then
+    assertThat(pageSize).isEqualTo(4096);
+  }
+
   @ParameterizedTest(name = "{0} => {1}")
   @MethodSource("provideErrorPairs")
   void shouldMapErrNoToException(final Errno errno, final Class<? extends Exception> exception)
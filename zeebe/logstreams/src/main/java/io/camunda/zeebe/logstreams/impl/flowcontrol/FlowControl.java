@@ -190,6 +190,15 @@ public final class FlowControl implements AppendListener {
     }
   }
 
+  @Override
+  public void onWriteError(final long highestPosition, final Throwable error) {
+    metrics.decreaseInflightAppends();
+    final var inFlightEntry = inFlight.remove(highestPosition);
+    if (inFlightEntry != null) {
+      inFlightEntry.cleanup();
+    }
+  }
+
   public void onProcessed(final long position) {
     final var inFlightEntry = inFlight.get(position);
     if (inFlightEntry != null) {
@@ -216,6 +225,14 @@ public final class FlowControl implements AppendListener {
     }
   }
 
+  /**
+   * @return the highest position written to the log, or -1 if nothing was written since this
+   *     instance was created
+   */
+  public long getLastWrittenPosition() {
+    return lastWrittenPosition;
+  }
+
   public Limit getRequestLimit() {
     return requestLimit;
   }
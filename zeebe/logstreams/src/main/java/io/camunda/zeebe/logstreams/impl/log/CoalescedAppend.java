@@ -0,0 +1,88 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.logstreams.impl.log;
+
+import io.camunda.zeebe.logstreams.storage.LogStorage.AppendListener;
+import io.camunda.zeebe.util.buffer.BufferWriter;
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.MutableDirectBuffer;
+
+/**
+ * Multiple appends with consecutive positions, written back to back as a single block. Each append
+ * keeps its own serialized form, so readers see the same records as if they were appended one by
+ * one. Append events of the block are forwarded to the listener of each append, with the highest
+ * position of that append, as listeners track their appends by their highest position.
+ */
+final class CoalescedAppend implements BufferWriter, AppendListener {
+  private final List<Part> parts = new ArrayList<>();
+  private int length;
+
+  void add(
+      final long lowestPosition,
+      final long highestPosition,
+      final BufferWriter writer,
+      final AppendListener listener) {
+    parts.add(new Part(lowestPosition, highestPosition, writer, listener));
+    length += writer.getLength();
+  }
+
+  boolean isEmpty() {
+    return parts.isEmpty();
+  }
+
+  int size() {
+    return parts.size();
+  }
+
+  long lowestPosition() {
+    return parts.getFirst().lowestPosition();
+  }
+
+  long highestPosition() {
+    return parts.getLast().highestPosition();
+  }
+
+  @Override
+  public int getLength() {
+    return length;
+  }
+
+  @Override
+  public void write(final MutableDirectBuffer buffer, final int offset) {
+    int currentOffset = offset;
+    for (final var part : parts) {
+      part.writer().write(buffer, currentOffset);
+      currentOffset += part.writer().getLength();
+    }
+  }
+
+  @Override
+  public void onWrite(final long index, final long highestPosition) {
+    for (final var part : parts) {
+      part.listener().onWrite(index, part.highestPosition());
+    }
+  }
+
+  @Override
+  public void onCommit(final long index, final long highestPosition) {
+    for (final var part : parts) {
+      part.listener().onCommit(index, part.highestPosition());
+    }
+  }
+
+  @Override
+  public void onWriteError(final long highestPosition, final Throwable error) {
+    for (final var part : parts) {
+      part.listener().onWriteError(part.highestPosition(), error);
+    }
+  }
+
+  private record Part(
+      long lowestPosition, long highestPosition, BufferWriter writer, AppendListener listener) {}
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.logstreams.impl.log;
+
+import io.camunda.zeebe.logstreams.storage.LogStorage;
+import io.camunda.zeebe.logstreams.storage.LogStorageReader;
+import io.camunda.zeebe.scheduler.ConcurrencyControl;
+import io.camunda.zeebe.util.buffer.BufferWriter;
+import java.time.Duration;
+import java.util.concurrent.locks.ReentrantLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Wraps a {@link LogStorage} and merges appends which arrive within a short window into a single
+ * append, i.e. a single entry of the underlying storage. This reduces the per entry overhead of the
+ * storage, e.g. framing, checksums, flushes and replication messages, under high ingress.
+ *
+ * <p>The group commit is adaptive: an append which arrives after the log was idle for at least the
+ * window is passed through immediately, so there is no added latency under low load. Only appends
+ * which follow each other within the window are held back, until either the window elapsed since
+ * the first held back append, or the merged appends reach the max block length.
+ *
+ * <p>Positions stay contiguous, as appends are merged in the order they were received, and each
+ * merged append is still acknowledged individually to its own listener with its own highest
+ * position. The same holds when appending a group fails: every grouped append is notified via
+ * {@link AppendListener#onWriteError(long, Throwable)}, but the error is only thrown to a caller
+ * whose own append was part of the failed group.
+ *
+ * <p>The held back appends are flushed by a timer of the actor which owns the log, e.g. the
+ * partition's actor, which is only scheduled when a group is started. Appends may still come from
+ * any thread, so the group itself is guarded by a lock.
+ */
+final class GroupCommitLogStorage implements LogStorage, AutoCloseable {
+  private static final Logger LOG = LoggerFactory.getLogger(GroupCommitLogStorage.class);
+
+  private final LogStorage delegate;
+  private final long windowNanos;
+  private final int maxBlockLength;
+  private final SequencerMetrics metrics;
+  private final ConcurrencyControl actor;
+  private final ReentrantLock lock = new ReentrantLock();
+
+  private CoalescedAppend pending = new CoalescedAppend();
+  private long lastAppendNanos;
+  private long generation;
+  private boolean isFlushScheduled;
+  private boolean isClosed;
+
+  /**
+   * @param actor the actor which owns the log, and on which the held back appends are flushed once
+   *     the window elapsed
+   */
+  GroupCommitLogStorage(
+      final LogStorage delegate,
+      final Duration window,
+      final int maxBlockLength,
+      final SequencerMetrics metrics,
+      final ConcurrencyControl actor) {
+    this.delegate = delegate;
+    windowNanos = window.toNanos();
+    this.maxBlockLength = maxBlockLength;
+    this.metrics = metrics;
+    this.actor = actor;
+    lastAppendNanos = System.nanoTime() - windowNanos;
+  }
+
+  @Override
+  public LogStorageReader newReader() {
+    return delegate.newReader();
+  }
+
+  @Override
+  public LogStorageReader newCatchUpReader() {
+    return delegate.newCatchUpReader();
+  }
+
+  @Override
+  public void append(
+      final long lowestPosition,
+      final long highestPosition,
+      final BufferWriter bufferWriter,
+      final AppendListener listener) {
+    lock.lock();
+    try {
+      final long now = System.nanoTime();
+      final boolean wasIdle = now - lastAppendNanos >= windowNanos;
+      lastAppendNanos = now;
+
+      if (isClosed || (wasIdle && pending.isEmpty())) {
+        delegate.append(lowestPosition, highestPosition, bufferWriter, listener);
+        metrics.observeGroupCommitSize(1);
+        return;
+      }
+
+      if (!pending.isEmpty() && pending.getLength() + bufferWriter.getLength() > maxBlockLength) {
+        // the failed group does not contain this append, so its listeners are notified instead of
+        // failing this append
+        tryFlush();
+      }
+
+      pending.add(lowestPosition, highestPosition, bufferWriter, listener);
+      if (pending.getLength() >= maxBlockLength) {
+        flush();
+      } else if (!isFlushScheduled) {
+        isFlushScheduled = true;
+        final long scheduledGeneration = generation;
+        // timers can only be scheduled from within the actor, so the actor is asked to schedule it
+        actor.run(() -> scheduleFlushTimeout(scheduledGeneration, now));
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public void addCommitListener(final CommitListener listener) {
+    delegate.addCommitListener(listener);
+  }
+
+  @Override
+  public void removeCommitListener(final CommitListener listener) {
+    delegate.removeCommitListener(listener);
+  }
+
+  /**
+   * Appends all held back appends, and passes any further appends through directly. A flush timeout
+   * which is still scheduled does nothing.
+   */
+  @Override
+  public void close() {
+    lock.lock();
+    try {
+      isClosed = true;
+      tryFlush();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void scheduleFlushTimeout(final long scheduledGeneration, final long groupStartNanos) {
+    final long remainingNanos = groupStartNanos + windowNanos - System.nanoTime();
+    actor.schedule(
+        Duration.ofNanos(Math.max(0, remainingNanos)), () -> onFlushTimeout(scheduledGeneration));
+  }
+
+  private void onFlushTimeout(final long scheduledGeneration) {
+    lock.lock();
+    try {
+      // a flush may have happened in the meantime, in which case this timeout belongs to an older
+      // group
+      if (scheduledGeneration == generation) {
+        tryFlush();
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Appends all held back appends, on behalf of a caller whose own append is not part of the group.
+   * A failure is only reported to the listeners of the grouped appends. Must be called while
+   * holding the lock.
+   */
+  private void tryFlush() {
+    try {
+      flush();
+    } catch (final RuntimeException e) {
+      LOG.error("Failed to append grouped appends", e);
+    }
+  }
+
+  /**
+   * Appends all held back appends. If the append fails, each grouped append is notified with its
+   * own highest position, and the error is rethrown. Must be called while holding the lock.
+   */
+  private void flush() {
+    generation++;
+    isFlushScheduled = false;
+    if (pending.isEmpty()) {
+      return;
+    }
+
+    final var group = pending;
+    pending = new CoalescedAppend();
+    try {
+      delegate.append(group.lowestPosition(), group.highestPosition(), group, group);
+    } catch (final RuntimeException e) {
+      group.onWriteError(group.highestPosition(), e);
+      throw e;
+    }
+    metrics.observeGroupCommitSize(group.size());
+  }
+}
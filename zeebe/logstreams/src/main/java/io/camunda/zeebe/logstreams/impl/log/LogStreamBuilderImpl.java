@@ -12,7 +12,9 @@ import io.camunda.zeebe.logstreams.impl.flowcontrol.RateLimit;
 import io.camunda.zeebe.logstreams.log.LogStream;
 import io.camunda.zeebe.logstreams.log.LogStreamBuilder;
 import io.camunda.zeebe.logstreams.storage.LogStorage;
+import io.camunda.zeebe.scheduler.ConcurrencyControl;
 import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
 import java.time.InstantSource;
 import java.util.Objects;
 
@@ -26,6 +28,8 @@ public final class LogStreamBuilderImpl implements LogStreamBuilder {
   private Limit requestLimit;
   private RateLimit writeRateLimit;
   private MeterRegistry meterRegistry;
+  private Duration groupCommitWindow = Duration.ZERO;
+  private ConcurrencyControl groupCommitActor;
 
   @Override
   public LogStreamBuilder withMaxFragmentSize(final int maxFragmentSize) {
@@ -69,6 +73,14 @@ public final class LogStreamBuilderImpl implements LogStreamBuilder {
     return this;
   }
 
+  @Override
+  public LogStreamBuilder withGroupCommitWindow(
+      final Duration groupCommitWindow, final ConcurrencyControl actor) {
+    this.groupCommitWindow = groupCommitWindow;
+    groupCommitActor = actor;
+    return this;
+  }
+
   @Override
   public LogStreamBuilder withMeterRegistry(final MeterRegistry meterRegistry) {
     this.meterRegistry = meterRegistry;
@@ -87,6 +99,8 @@ public final class LogStreamBuilderImpl implements LogStreamBuilder {
         clock,
         requestLimit,
         writeRateLimit,
+        groupCommitWindow,
+        groupCommitActor,
         meterRegistry);
   }
 
@@ -94,6 +108,18 @@ public final class LogStreamBuilderImpl implements LogStreamBuilder {
     Objects.requireNonNull(logStorage, "Must specify a log storage");
     Objects.requireNonNull(clock, "Must specify a clock source");
     Objects.requireNonNull(meterRegistry, "Must specify a meter registry");
+    Objects.requireNonNull(groupCommitWindow, "Must specify a group commit window");
+
+    if (groupCommitWindow.isNegative()) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Expected group commit window to be positive or zero, but was '%s'",
+              groupCommitWindow));
+    }
+
+    if (groupCommitWindow.isPositive()) {
+      Objects.requireNonNull(groupCommitActor, "Must specify an actor to flush group commits on");
+    }
 
     if (maxFragmentSize < MINIMUM_FRAGMENT_SIZE) {
       throw new IllegalArgumentException(
@@ -18,7 +18,10 @@ import io.camunda.zeebe.logstreams.log.LogStreamReader;
 import io.camunda.zeebe.logstreams.log.LogStreamWriter;
 import io.camunda.zeebe.logstreams.storage.LogStorage;
 import io.camunda.zeebe.logstreams.storage.LogStorage.CommitListener;
+import io.camunda.zeebe.logstreams.storage.LogStorageReader;
+import io.camunda.zeebe.scheduler.ConcurrencyControl;
 import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
 import java.time.InstantSource;
 import java.util.Collection;
 import java.util.concurrent.CopyOnWriteArrayList;
@@ -36,6 +39,8 @@ public final class LogStreamImpl implements LogStream, CommitListener {
   private final LogStorage logStorage;
   private final FlowControl flowControl;
   private final Sequencer sequencer;
+  // nullable, only set if group commit is enabled
+  private final GroupCommitLogStorage groupCommitLogStorage;
   private volatile boolean closed;
 
   LogStreamImpl(
@@ -46,6 +51,8 @@ public final class LogStreamImpl implements LogStream, CommitListener {
       final InstantSource clock,
       final Limit requestLimit,
       final RateLimit writeRateLimit,
+      final Duration groupCommitWindow,
+      final ConcurrencyControl groupCommitActor,
       final MeterRegistry meterRegistry) {
     this.logName = logName;
 
@@ -53,13 +60,19 @@ public final class LogStreamImpl implements LogStream, CommitListener {
     this.logStorage = logStorage;
     flowControl =
         new FlowControl(new LogStreamMetrics(meterRegistry), requestLimit, writeRateLimit);
+    final var sequencerMetrics = new SequencerMetrics(meterRegistry);
+    groupCommitLogStorage =
+        groupCommitWindow.isPositive()
+            ? new GroupCommitLogStorage(
+                logStorage, groupCommitWindow, maxFragmentSize, sequencerMetrics, groupCommitActor)
+            : null;
     sequencer =
         new Sequencer(
-            logStorage,
+            groupCommitLogStorage != null ? groupCommitLogStorage : logStorage,
             getWriteBuffersInitialPosition(),
             maxFragmentSize,
             clock,
-            new SequencerMetrics(meterRegistry),
+            sequencerMetrics,
             flowControl);
     logStorage.addCommitListener(this);
   }
@@ -70,6 +83,9 @@ public final class LogStreamImpl implements LogStream, CommitListener {
     LOG.debug("Closing {} with {} readers", logName, readers.size());
     readers.forEach(LogStreamReader::close);
     logStorage.removeCommitListener(this);
+    if (groupCommitLogStorage != null) {
+      groupCommitLogStorage.close();
+    }
   }
 
   @Override
@@ -85,7 +101,13 @@ public final class LogStreamImpl implements LogStream, CommitListener {
   @Override
   public LogStreamReader newLogStreamReader() {
     ensureOpen();
-    return createLogStreamReader();
+    return createLogStreamReader(logStorage.newReader());
+  }
+
+  @Override
+  public LogStreamReader newCatchUpLogStreamReader() {
+    ensureOpen();
+    return createLogStreamReader(logStorage.newCatchUpReader());
   }
 
   @Override
@@ -128,8 +150,8 @@ public final class LogStreamImpl implements LogStream, CommitListener {
     }
   }
 
-  private LogStreamReader createLogStreamReader() {
-    final var newReader = new LogStreamReaderImpl(logStorage.newReader());
+  private LogStreamReader createLogStreamReader(final LogStorageReader storageReader) {
+    final var newReader = new LogStreamReaderImpl(storageReader);
     readers.add(newReader);
     return newReader;
   }
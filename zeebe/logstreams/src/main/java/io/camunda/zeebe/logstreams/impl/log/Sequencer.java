@@ -20,11 +20,16 @@ import io.camunda.zeebe.logstreams.log.LogStreamWriter;
 import io.camunda.zeebe.logstreams.log.WriteContext;
 import io.camunda.zeebe.logstreams.storage.LogStorage;
 import io.camunda.zeebe.util.Either;
+import io.camunda.zeebe.util.VisibleForTesting;
 import java.io.Closeable;
 import java.time.InstantSource;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+import org.agrona.concurrent.ManyToOneConcurrentLinkedQueue;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -32,14 +37,27 @@ import org.slf4j.LoggerFactory;
  * The sequencer takes concurrent {@link #tryWrite(WriteContext, List, long) tryWrite} calls and
  * serializes them, assigning positions to all entries. Writes that are accepted are written
  * directly to the {@link LogStorage}.
+ *
+ * <p>Instead of serializing writers on a lock, every writer enqueues its batch in a lock-free queue
+ * and then competes, via a single compare-and-set, to become the combiner. The combiner drains the
+ * queue in order, assigns positions to all queued batches and appends consecutive batches together
+ * as a single block, as long as the block does not exceed the max fragment size. Writers which did
+ * not become the combiner spin briefly and then park until their batch was sequenced by another
+ * writer, or until they can become the combiner themselves. This keeps the critical section short
+ * and coalesces small concurrent batches, which reduces the number of appends to the {@link
+ * LogStorage}.
  */
 final class Sequencer implements LogStreamWriter, Closeable {
   private static final Logger LOG = LoggerFactory.getLogger(Sequencer.class);
+  private static final int MAX_SPINS = 100;
+  private static final long MAX_PARK_NANOS = 100_000;
   private final int maxFragmentSize;
 
-  private volatile long position;
+  // only modified by the current combiner; visibility is guaranteed by the combining flag
+  private long position;
   private volatile boolean isClosed = false;
-  private final ReentrantLock lock = new ReentrantLock();
+  private final AtomicBoolean combining = new AtomicBoolean();
+  private final Queue<PendingWrite> pendingWrites = new ManyToOneConcurrentLinkedQueue<>();
   private final LogStorage logStorage;
   private final InstantSource clock;
   private final SequencerMetrics sequencerMetrics;
@@ -106,20 +124,13 @@ final class Sequencer implements LogStreamWriter, Closeable {
 
     final int batchSize = appendEntries.size();
     final int batchLength = calculateBatchLength(appendEntries);
+    final var write = new PendingWrite(appendEntries, sourcePosition, batchLength, inFlightEntry);
 
-    lock.lock();
     try {
-      final var currentPosition = position;
-      final var highestPosition = currentPosition + batchSize - 1;
-      final var sequencedBatch =
-          new SequencedBatch(
-              clock.millis(), currentPosition, sourcePosition, appendEntries, batchLength);
-      flowControl.onAppend(inFlightEntry, highestPosition);
-      logStorage.append(currentPosition, highestPosition, sequencedBatch, flowControl);
-      position = currentPosition + batchSize;
-      return Either.right(highestPosition);
+      pendingWrites.offer(write);
+      awaitSequenced(write);
+      return Either.right(write.highestPosition());
     } finally {
-      lock.unlock();
       sequencerMetrics.observeBatchLengthBytes(batchLength);
       sequencerMetrics.observeBatchSize(batchSize);
     }
@@ -135,7 +146,167 @@ final class Sequencer implements LogStreamWriter, Closeable {
     isClosed = true;
   }
 
+  @VisibleForTesting
+  int pendingWriteCount() {
+    return pendingWrites.size();
+  }
+
+  private void awaitSequenced(final PendingWrite write) {
+    int spins = 0;
+    while (!write.isSequenced()) {
+      if (combining.compareAndSet(false, true)) {
+        try {
+          combine(write);
+        } finally {
+          combining.set(false);
+          wakeUpNextCombiner();
+        }
+      } else if (spins++ < MAX_SPINS) {
+        Thread.onSpinWait();
+      } else {
+        // woken up once the write is sequenced, or when it is next in line to become the combiner
+        LockSupport.parkNanos(MAX_PARK_NANOS);
+      }
+    }
+
+    write.rethrowFailure();
+  }
+
+  /**
+   * Wakes up the writer of the oldest pending write, if any, such that it becomes the next
+   * combiner. Waiting writers are parked, and the previous combiner only sequences writes up to
+   * its own.
+   */
+  private void wakeUpNextCombiner() {
+    final var next = pendingWrites.peek();
+    if (next != null) {
+      LockSupport.unpark(next.writer);
+    }
+  }
+
+  /**
+   * Sequences and appends pending writes in order, until the given write was sequenced. Must only
+   * be called by the current combiner. Writes queued after the given one are left to their own
+   * writers, such that a single writer does not end up combining for everyone else under load.
+   */
+  private void combine(final PendingWrite ownWrite) {
+    PendingWrite first;
+    while (!ownWrite.isSequenced() && (first = pendingWrites.poll()) != null) {
+      final var block = new ArrayList<SequencedBatch>();
+      final var writes = new ArrayList<PendingWrite>();
+      writes.add(first);
+
+      try {
+        final long timestamp = clock.millis();
+        long nextPosition = position;
+        int blockLength = 0;
+
+        PendingWrite next = first;
+        do {
+          block.add(
+              new SequencedBatch(
+                  timestamp, nextPosition, next.sourcePosition, next.entries, next.batchLength));
+          blockLength += next.batchLength;
+          nextPosition += next.entries.size();
+
+          next = pendingWrites.peek();
+          if (next == null || blockLength + next.batchLength > maxFragmentSize) {
+            break;
+          }
+          writes.add(pendingWrites.poll());
+        } while (true);
+
+        appendBlock(block, writes);
+        // only advance once the block was appended, such that positions stay contiguous when the
+        // append fails
+        position = nextPosition;
+      } catch (final RuntimeException e) {
+        // every polled write must be completed, otherwise its writer would wait forever
+        writes.forEach(write -> write.fail(e));
+        continue;
+      }
+
+      for (int i = 0; i < block.size(); i++) {
+        writes.get(i).complete(highestPositionOf(block.get(i)));
+      }
+    }
+  }
+
+  private void appendBlock(final List<SequencedBatch> block, final List<PendingWrite> writes) {
+    final var lowestPosition = block.getFirst().firstPosition();
+    final var highestPosition = highestPositionOf(block.getLast());
+
+    for (int i = 0; i < block.size(); i++) {
+      flowControl.onAppend(writes.get(i).inFlightEntry, highestPositionOf(block.get(i)));
+    }
+
+    if (block.size() == 1) {
+      logStorage.append(lowestPosition, highestPosition, block.getFirst(), flowControl);
+    } else {
+      final var coalescedAppend = new CoalescedAppend();
+      for (final var batch : block) {
+        coalescedAppend.add(batch.firstPosition(), highestPositionOf(batch), batch, flowControl);
+      }
+      logStorage.append(lowestPosition, highestPosition, coalescedAppend, coalescedAppend);
+    }
+    sequencerMetrics.observeAppendedBatches(block.size());
+  }
+
+  private static long highestPositionOf(final SequencedBatch batch) {
+    return batch.firstPosition() + batch.entries().size() - 1;
+  }
+
   private static boolean isEntryValid(final LogAppendEntry entry) {
     return entry.recordValue() != null && entry.recordMetadata() != null;
   }
+
+  /** A batch which was accepted by the flow control, waiting to be sequenced by the combiner. */
+  private static final class PendingWrite {
+    private final List<LogAppendEntry> entries;
+    private final long sourcePosition;
+    private final int batchLength;
+    private final InFlightEntry inFlightEntry;
+    private final Thread writer = Thread.currentThread();
+
+    private long highestPosition;
+    private RuntimeException failure;
+    private volatile boolean sequenced;
+
+    private PendingWrite(
+        final List<LogAppendEntry> entries,
+        final long sourcePosition,
+        final int batchLength,
+        final InFlightEntry inFlightEntry) {
+      this.entries = entries;
+      this.sourcePosition = sourcePosition;
+      this.batchLength = batchLength;
+      this.inFlightEntry = inFlightEntry;
+    }
+
+    private boolean isSequenced() {
+      return sequenced;
+    }
+
+    private long highestPosition() {
+      return highestPosition;
+    }
+
+    private void complete(final long highestPosition) {
+      this.highestPosition = highestPosition;
+      sequenced = true;
+      LockSupport.unpark(writer);
+    }
+
+    private void fail(final RuntimeException failure) {
+      this.failure = failure;
+      sequenced = true;
+      LockSupport.unpark(writer);
+    }
+
+    private void rethrowFailure() {
+      if (failure != null) {
+        throw failure;
+      }
+    }
+  }
 }
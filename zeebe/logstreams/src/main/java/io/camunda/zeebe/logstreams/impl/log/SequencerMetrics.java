@@ -7,8 +7,10 @@
  */
 package io.camunda.zeebe.logstreams.impl.log;
 
+import static io.camunda.zeebe.logstreams.impl.log.SequencerMetrics.SequencerMetricsDoc.APPENDED_BATCHES;
 import static io.camunda.zeebe.logstreams.impl.log.SequencerMetrics.SequencerMetricsDoc.BATCH_LENGTH_BYTES;
 import static io.camunda.zeebe.logstreams.impl.log.SequencerMetrics.SequencerMetricsDoc.BATCH_SIZE;
+import static io.camunda.zeebe.logstreams.impl.log.SequencerMetrics.SequencerMetricsDoc.GROUP_COMMIT_SIZE;
 
 import io.camunda.zeebe.util.micrometer.ExtendedMeterDocumentation;
 import io.camunda.zeebe.util.micrometer.MicrometerUtil.PartitionKeyNames;
@@ -20,6 +22,8 @@ import io.micrometer.core.instrument.MeterRegistry;
 final class SequencerMetrics {
   private final DistributionSummary batchSize;
   private final DistributionSummary batchLengthBytes;
+  private final DistributionSummary appendedBatches;
+  private final DistributionSummary groupCommitSize;
 
   SequencerMetrics(final MeterRegistry meterRegistry) {
     batchSize =
@@ -32,6 +36,16 @@ final class SequencerMetrics {
             .description(BATCH_LENGTH_BYTES.getDescription())
             .serviceLevelObjectives(BATCH_LENGTH_BYTES.getDistributionSLOs())
             .register(meterRegistry);
+    appendedBatches =
+        DistributionSummary.builder(APPENDED_BATCHES.getName())
+            .description(APPENDED_BATCHES.getDescription())
+            .serviceLevelObjectives(APPENDED_BATCHES.getDistributionSLOs())
+            .register(meterRegistry);
+    groupCommitSize =
+        DistributionSummary.builder(GROUP_COMMIT_SIZE.getName())
+            .description(GROUP_COMMIT_SIZE.getDescription())
+            .serviceLevelObjectives(GROUP_COMMIT_SIZE.getDistributionSLOs())
+            .register(meterRegistry);
   }
 
   void observeBatchSize(final int size) {
@@ -43,6 +57,14 @@ final class SequencerMetrics {
     batchLengthBytes.record(batchLengthKiloBytes);
   }
 
+  void observeAppendedBatches(final int batches) {
+    appendedBatches.record(batches);
+  }
+
+  void observeGroupCommitSize(final int appends) {
+    groupCommitSize.record(appends);
+  }
+
   @SuppressWarnings("NullableProblems")
   public enum SequencerMetricsDoc implements ExtendedMeterDocumentation {
     /** Histogram over the number of entries in each batch that is appended */
@@ -104,6 +126,66 @@ final class SequencerMetrics {
         return BUCKETS;
       }
 
+      @Override
+      public KeyName[] getAdditionalKeyNames() {
+        return PartitionKeyNames.values();
+      }
+    },
+
+    /** Histogram over the number of concurrent batches coalesced into a single append */
+    APPENDED_BATCHES {
+      private static final double[] BUCKETS = {1, 2, 3, 4, 6, 8, 12, 16, 32, 64};
+
+      @Override
+      public String getDescription() {
+        return "Histogram over the number of concurrent batches coalesced into a single append";
+      }
+
+      @Override
+      public String getName() {
+        return "zeebe.sequencer.appended.batches";
+      }
+
+      @Override
+      public Type getType() {
+        return Type.DISTRIBUTION_SUMMARY;
+      }
+
+      @Override
+      public double[] getDistributionSLOs() {
+        return BUCKETS;
+      }
+
+      @Override
+      public KeyName[] getAdditionalKeyNames() {
+        return PartitionKeyNames.values();
+      }
+    },
+
+    /** Histogram over the number of appends merged into a single log storage entry */
+    GROUP_COMMIT_SIZE {
+      private static final double[] BUCKETS = {1, 2, 3, 4, 6, 8, 12, 16, 32, 64};
+
+      @Override
+      public String getDescription() {
+        return "Histogram over the number of appends merged into a single log storage entry";
+      }
+
+      @Override
+      public String getName() {
+        return "zeebe.sequencer.group.commit.size";
+      }
+
+      @Override
+      public Type getType() {
+        return Type.DISTRIBUTION_SUMMARY;
+      }
+
+      @Override
+      public double[] getDistributionSLOs() {
+        return BUCKETS;
+      }
+
       @Override
       public KeyName[] getAdditionalKeyNames() {
         return PartitionKeyNames.values();
@@ -46,6 +46,16 @@ public interface LogStream extends AutoCloseable {
    */
   LogStreamReader newLogStreamReader();
 
+  /**
+   * Returns a new log stream reader for reading through large parts of the log, e.g. to replay or
+   * export it. By default, it is the same as {@link #newLogStreamReader()}.
+   *
+   * @return a newly created log stream reader
+   */
+  default LogStreamReader newCatchUpLogStreamReader() {
+    return newLogStreamReader();
+  }
+
   /**
    * @return a future, when successfully completed it returns a newly created log stream record
    *     writer
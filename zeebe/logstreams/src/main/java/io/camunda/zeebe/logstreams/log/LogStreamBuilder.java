@@ -10,7 +10,9 @@ package io.camunda.zeebe.logstreams.log;
 import com.netflix.concurrency.limits.Limit;
 import io.camunda.zeebe.logstreams.impl.flowcontrol.RateLimit;
 import io.camunda.zeebe.logstreams.storage.LogStorage;
+import io.camunda.zeebe.scheduler.ConcurrencyControl;
 import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
 import java.time.InstantSource;
 
 /** Builder pattern for the {@link LogStream} */
@@ -57,6 +59,18 @@ public interface LogStreamBuilder {
 
   LogStreamBuilder withWriteRateLimit(RateLimit writeRateLimit);
 
+  /**
+   * The window in which consecutive appends are merged into a single entry of the underlying
+   * storage. Appends which arrive after the log was idle for at least this window are passed
+   * through immediately. A zero window, the default, disables the group commit.
+   *
+   * @param groupCommitWindow the group commit window
+   * @param actor the actor which owns the log stream, on which the merged appends are flushed once
+   *     the window elapsed; required if the window is positive
+   * @return this builder
+   */
+  LogStreamBuilder withGroupCommitWindow(Duration groupCommitWindow, ConcurrencyControl actor);
+
   /**
    * Sets the meter registry to collect metrics on.
    *
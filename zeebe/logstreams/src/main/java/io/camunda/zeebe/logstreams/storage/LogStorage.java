@@ -32,6 +32,17 @@ public interface LogStorage {
    */
   LogStorageReader newReader();
 
+  /**
+   * Creates a new reader for reading through large parts of the log, e.g. to replay or export it,
+   * instead of following the most recently written entries. The storage may use this to read ahead
+   * of the reader. By default, it is the same as {@link #newReader()}.
+   *
+   * @return a new stateful storage reader
+   */
+  default LogStorageReader newCatchUpReader() {
+    return newReader();
+  }
+
   /**
    * Writes a block containing one or multiple log entries in the storage and returns the address at
    * which the block has been written.
@@ -113,6 +124,16 @@ public interface LogStorage {
      *     entry that was committed.
      */
     default void onCommit(final long index, final long highestPosition) {}
+
+    /**
+     * Called when the entry could not be written, e.g. because appending it failed after it was
+     * accepted by the storage. The entry will neither be written nor committed.
+     *
+     * @param highestPosition the highest position (i.e. last position) of the records within the
+     *     entry that could not be written.
+     * @param error the reason why the entry could not be written
+     */
+    default void onWriteError(final long highestPosition, final Throwable error) {}
   }
 
   /**
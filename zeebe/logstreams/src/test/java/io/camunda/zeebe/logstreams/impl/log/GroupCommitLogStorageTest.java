@@ -0,0 +1,308 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.logstreams.impl.log;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.groups.Tuple.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import io.camunda.zeebe.logstreams.storage.LogStorage;
+import io.camunda.zeebe.logstreams.storage.LogStorage.AppendListener;
+import io.camunda.zeebe.logstreams.storage.LogStorageReader;
+import io.camunda.zeebe.scheduler.ConcurrencyControl;
+import io.camunda.zeebe.util.buffer.BufferWriter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+final class GroupCommitLogStorageTest {
+
+  private static final int MAX_BLOCK_LENGTH = 16;
+
+  private final RecordingLogStorage delegate = new RecordingLogStorage();
+  private final ConcurrencyControl actor = mock(ConcurrencyControl.class);
+  private GroupCommitLogStorage logStorage;
+
+  @BeforeEach
+  void beforeEach() {
+    doAnswer(invocation -> runAction(invocation.getArgument(0))).when(actor).run(any());
+    // a long window, such that the appends of a test always follow each other within the window
+    logStorage =
+        new GroupCommitLogStorage(
+            delegate,
+            Duration.ofHours(1),
+            MAX_BLOCK_LENGTH,
+            new SequencerMetrics(new SimpleMeterRegistry()),
+            actor);
+  }
+
+  @Test
+  void shouldPassThroughAppendWhenIdle() {
+    // when
+    logStorage.append(1, 1, new ByteWriter(1), mock(AppendListener.class));
+
+    // then
+    assertThat(delegate.appends).containsExactly(new Append(1, 1, new byte[] {1}));
+    verify(actor, never()).schedule(any(), any());
+  }
+
+  @Test
+  void shouldGroupAppendsWithinWindow() {
+    // given
+    logStorage.append(1, 1, new ByteWriter(1), mock(AppendListener.class));
+
+    // when
+    logStorage.append(2, 3, new ByteWriter(2, 3), mock(AppendListener.class));
+    logStorage.append(4, 4, new ByteWriter(4), mock(AppendListener.class));
+    triggerFlushTimeout();
+
+    // then
+    assertThat(delegate.appends)
+        .containsExactly(new Append(1, 1, new byte[] {1}), new Append(2, 4, new byte[] {2, 3, 4}));
+  }
+
+  @Test
+  void shouldFlushWhenMaxBlockLengthIsReached() {
+    // given
+    logStorage.append(1, 1, new ByteWriter(1), mock(AppendListener.class));
+
+    // when
+    final var almostFull = new ByteWriter(new byte[MAX_BLOCK_LENGTH - 1]);
+    logStorage.append(2, 2, almostFull, mock(AppendListener.class));
+    logStorage.append(3, 3, new ByteWriter(new byte[2]), mock(AppendListener.class));
+
+    // then
+    assertThat(delegate.appends)
+        .extracting(Append::lowestPosition, Append::highestPosition)
+        .containsExactly(tuple(1L, 1L), tuple(2L, 2L));
+  }
+
+  @Test
+  void shouldNotFlushOnStaleTimeout() {
+    // given
+    logStorage.append(1, 1, new ByteWriter(1), mock(AppendListener.class));
+    logStorage.append(2, 2, new ByteWriter(2), mock(AppendListener.class));
+    final var staleTimeout = captureFlushTimeout();
+    final var full = new ByteWriter(new byte[MAX_BLOCK_LENGTH]);
+    logStorage.append(3, 3, full, mock(AppendListener.class));
+    logStorage.append(4, 4, new ByteWriter(4), mock(AppendListener.class));
+
+    // when
+    staleTimeout.run();
+
+    // then
+    assertThat(delegate.appends).extracting(Append::highestPosition).containsExactly(1L, 2L, 3L);
+  }
+
+  @Test
+  void shouldNotifyEachGroupedAppendWithItsOwnPosition() {
+    // given
+    final var first = mock(AppendListener.class);
+    final var second = mock(AppendListener.class);
+    logStorage.append(1, 1, new ByteWriter(1), mock(AppendListener.class));
+    logStorage.append(2, 3, new ByteWriter(2, 3), first);
+    logStorage.append(4, 4, new ByteWriter(4), second);
+    triggerFlushTimeout();
+    final var listener = delegate.appends.getLast().listener();
+
+    // when
+    listener.onWrite(5, 4);
+    listener.onCommit(5, 4);
+
+    // then
+    verify(first).onWrite(5, 3);
+    verify(first).onCommit(5, 3);
+    verify(second).onWrite(5, 4);
+    verify(second).onCommit(5, 4);
+  }
+
+  @Test
+  void shouldNotifyEachGroupedAppendWhenFlushFails() {
+    // given
+    final var first = mock(AppendListener.class);
+    final var second = mock(AppendListener.class);
+    logStorage.append(1, 1, new ByteWriter(1), mock(AppendListener.class));
+    logStorage.append(2, 3, new ByteWriter(2, 3), first);
+    logStorage.append(4, 4, new ByteWriter(4), second);
+    final var failure = new IllegalStateException("expected");
+    delegate.failure = failure;
+
+    // when
+    triggerFlushTimeout();
+
+    // then
+    verify(first).onWriteError(3, failure);
+    verify(second).onWriteError(4, failure);
+  }
+
+  @Test
+  void shouldOnlyFailAppendWhichIsPartOfFailedGroup() {
+    // given
+    final var grouped = mock(AppendListener.class);
+    final var next = mock(AppendListener.class);
+    logStorage.append(1, 1, new ByteWriter(1), mock(AppendListener.class));
+    logStorage.append(2, 2, new ByteWriter(2), grouped);
+    final var failure = new IllegalStateException("expected");
+    delegate.failure = failure;
+
+    // when - the next append does not fit into the group, which is flushed first
+    logStorage.append(3, 3, new ByteWriter(new byte[MAX_BLOCK_LENGTH - 1]), next);
+
+    // then
+    verify(grouped).onWriteError(2, failure);
+    verify(next, never()).onWriteError(anyLong(), any());
+
+    // when - the append fills the group, which is flushed right away
+    final var last = mock(AppendListener.class);
+    assertThatThrownBy(
+            () -> logStorage.append(4, 4, new ByteWriter(new byte[MAX_BLOCK_LENGTH]), last))
+        .isSameAs(failure);
+    verify(next).onWriteError(3, failure);
+    verify(last).onWriteError(4, failure);
+  }
+
+  @Test
+  void shouldFlushOnClose() {
+    // given
+    logStorage.append(1, 1, new ByteWriter(1), mock(AppendListener.class));
+    logStorage.append(2, 2, new ByteWriter(2), mock(AppendListener.class));
+
+    // when
+    logStorage.close();
+    logStorage.append(3, 3, new ByteWriter(3), mock(AppendListener.class));
+
+    // then
+    assertThat(delegate.appends)
+        .containsExactly(
+            new Append(1, 1, new byte[] {1}),
+            new Append(2, 2, new byte[] {2}),
+            new Append(3, 3, new byte[] {3}));
+  }
+
+  @Test
+  void shouldNotFlushOnTimeoutAfterClose() {
+    // given
+    logStorage.append(1, 1, new ByteWriter(1), mock(AppendListener.class));
+    logStorage.append(2, 2, new ByteWriter(2), mock(AppendListener.class));
+    final var timeout = captureFlushTimeout();
+    logStorage.close();
+
+    // when
+    timeout.run();
+
+    // then
+    assertThat(delegate.appends).extracting(Append::highestPosition).containsExactly(1L, 2L);
+  }
+
+  private void triggerFlushTimeout() {
+    captureFlushTimeout().run();
+  }
+
+  private Runnable captureFlushTimeout() {
+    final var captor = ArgumentCaptor.forClass(Runnable.class);
+    final var delay = ArgumentCaptor.forClass(Duration.class);
+    verify(actor, atLeastOnce()).schedule(delay.capture(), captor.capture());
+    assertThat(delay.getValue()).isPositive().isLessThanOrEqualTo(Duration.ofHours(1));
+    return captor.getValue();
+  }
+
+  private static Void runAction(final Runnable action) {
+    action.run();
+    return null;
+  }
+
+  private record Append(
+      long lowestPosition, long highestPosition, byte[] bytes, AppendListener listener) {
+
+    private Append(final long lowestPosition, final long highestPosition, final byte[] bytes) {
+      this(lowestPosition, highestPosition, bytes, null);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      return o instanceof final Append other
+          && lowestPosition == other.lowestPosition
+          && highestPosition == other.highestPosition
+          && Arrays.equals(bytes, other.bytes);
+    }
+
+    @Override
+    public int hashCode() {
+      return Long.hashCode(highestPosition);
+    }
+  }
+
+  private record ByteWriter(byte[] bytes) implements BufferWriter {
+
+    private ByteWriter(final int... values) {
+      this(toBytes(values));
+    }
+
+    @Override
+    public int getLength() {
+      return bytes.length;
+    }
+
+    @Override
+    public void write(final MutableDirectBuffer buffer, final int offset) {
+      buffer.putBytes(offset, bytes);
+    }
+
+    private static byte[] toBytes(final int[] values) {
+      final var bytes = new byte[values.length];
+      for (int i = 0; i < values.length; i++) {
+        bytes[i] = (byte) values[i];
+      }
+      return bytes;
+    }
+  }
+
+  private static final class RecordingLogStorage implements LogStorage {
+    private final List<Append> appends = new ArrayList<>();
+    private RuntimeException failure;
+
+    @Override
+    public LogStorageReader newReader() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void append(
+        final long lowestPosition,
+        final long highestPosition,
+        final BufferWriter bufferWriter,
+        final AppendListener listener) {
+      if (failure != null) {
+        throw failure;
+      }
+      final var buffer = new UnsafeBuffer(new byte[bufferWriter.getLength()]);
+      bufferWriter.write(buffer, 0);
+      appends.add(new Append(lowestPosition, highestPosition, buffer.byteArray(), listener));
+    }
+
+    @Override
+    public void addCommitListener(final CommitListener listener) {}
+
+    @Override
+    public void removeCommitListener(final CommitListener listener) {}
+  }
+}
@@ -8,6 +8,7 @@
 package io.camunda.zeebe.logstreams.impl.log;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 
 import io.camunda.zeebe.logstreams.impl.LogStreamMetrics;
@@ -22,10 +23,15 @@ import io.camunda.zeebe.util.buffer.BufferWriter;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.InstantSource;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
 import java.util.concurrent.locks.LockSupport;
 import java.util.function.Consumer;
 import org.assertj.core.api.Assertions;
+import org.awaitility.Awaitility;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.parallel.Execution;
 import org.junit.jupiter.api.parallel.ExecutionMode;
@@ -128,6 +134,37 @@ final class SequencerTest {
     Mockito.verify(logStorage).append(eq(1L), eq(3L), any(BufferWriter.class), any());
   }
 
+  @Test
+  void keepsPositionsContiguousWhenAppendFails() {
+    // given
+    final var logStorage = Mockito.mock(LogStorage.class);
+    final var logStreamMetrics = new LogStreamMetrics(new SimpleMeterRegistry());
+    final var sequencer =
+        new Sequencer(
+            logStorage,
+            1,
+            16,
+            InstantSource.system(),
+            new SequencerMetrics(new SimpleMeterRegistry()),
+            new FlowControl(logStreamMetrics));
+    Mockito.doThrow(new IllegalStateException("expected"))
+        .doNothing()
+        .when(logStorage)
+        .append(anyLong(), anyLong(), any(BufferWriter.class), any());
+
+    // when
+    Assertions.assertThatThrownBy(
+            () -> sequencer.tryWrite(WriteContext.internal(), TestEntry.ofDefaults()))
+        .hasMessage("expected");
+    final var result = sequencer.tryWrite(WriteContext.internal(), TestEntry.ofDefaults());
+
+    // then
+    EitherAssert.assertThat(result).isRight().right().isEqualTo(1L);
+    Mockito.verify(logStorage, Mockito.times(2))
+        .append(eq(1L), eq(1L), any(BufferWriter.class), any());
+    Assertions.assertThat(sequencer.pendingWriteCount()).isZero();
+  }
+
   @Test
   void maintainsPositionWithSingleWriterAndSingleEntry() throws InterruptedException {
     // given
@@ -247,6 +284,46 @@ final class SequencerTest {
     Assertions.assertThat(testFailures).isEmpty();
   }
 
+  @Test
+  void coalescesConcurrentBatchesIntoSingleAppend() {
+    // given
+    final var executor = Executors.newCachedThreadPool();
+    final var logStorage = new BlockingLogStorage();
+    final var logStreamMetrics = new LogStreamMetrics(new SimpleMeterRegistry());
+    final var sequencer =
+        new Sequencer(
+            logStorage,
+            1,
+            1024 * 1024,
+            InstantSource.system(),
+            new SequencerMetrics(new SimpleMeterRegistry()),
+            new FlowControl(logStreamMetrics));
+    final var entry = TestEntry.ofDefaults();
+    final var first =
+        CompletableFuture.supplyAsync(
+            () -> sequencer.tryWrite(WriteContext.internal(), entry), executor);
+    Awaitility.await("until first append is blocked").until(() -> logStorage.appends.size() == 1);
+
+    // when
+    final var second =
+        CompletableFuture.supplyAsync(
+            () -> sequencer.tryWrite(WriteContext.internal(), entry), executor);
+    final var third =
+        CompletableFuture.supplyAsync(
+            () -> sequencer.tryWrite(WriteContext.internal(), List.of(entry, entry)), executor);
+    Awaitility.await("until both writes are pending")
+        .until(() -> sequencer.pendingWriteCount() == 2);
+    logStorage.release.countDown();
+
+    // then
+    EitherAssert.assertThat(first.join()).isRight().right().isEqualTo(1L);
+    Assertions.assertThat(List.of(second.join().get(), third.join().get()))
+        .containsAnyOf(2L, 3L)
+        .contains(4L);
+    Assertions.assertThat(logStorage.appends).containsExactly(List.of(1L, 1L), List.of(2L, 4L));
+    executor.shutdownNow();
+  }
+
   private Thread newWriterThread(
       final Sequencer sequencer,
       final long initialPosition,
@@ -312,4 +389,38 @@ final class SequencerTest {
       throw new UnsupportedOperationException();
     }
   }
+
+  private static final class BlockingLogStorage implements LogStorage {
+    private final List<List<Long>> appends = new CopyOnWriteArrayList<>();
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @Override
+    public LogStorageReader newReader() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void append(
+        final long lowestPosition,
+        final long highestPosition,
+        final BufferWriter bufferWriter,
+        final AppendListener listener) {
+      appends.add(List.of(lowestPosition, highestPosition));
+      try {
+        release.await();
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+
+    @Override
+    public void addCommitListener(final CommitListener listener) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void removeCommitListener(final CommitListener listener) {
+      throw new UnsupportedOperationException();
+    }
+  }
 }
@@ -98,6 +98,11 @@ public class TestLogStream implements LogStream {
     return logStream.newLogStreamReader();
   }
 
+  @Override
+  public LogStreamReader newCatchUpLogStreamReader() {
+    return logStream.newCatchUpLogStreamReader();
+  }
+
   @Override
   public LogStreamWriter newLogStreamWriter() {
     return logStream.newLogStreamWriter();
@@ -12,7 +12,9 @@ import io.camunda.zeebe.logstreams.impl.flowcontrol.RateLimit;
 import io.camunda.zeebe.logstreams.log.LogStream;
 import io.camunda.zeebe.logstreams.log.LogStreamBuilder;
 import io.camunda.zeebe.logstreams.storage.LogStorage;
+import io.camunda.zeebe.scheduler.ConcurrencyControl;
 import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
 import java.time.InstantSource;
 
 public final class TestLogStreamBuilder implements LogStreamBuilder {
@@ -68,6 +70,13 @@ public final class TestLogStreamBuilder implements LogStreamBuilder {
     return this;
   }
 
+  @Override
+  public TestLogStreamBuilder withGroupCommitWindow(
+      final Duration groupCommitWindow, final ConcurrencyControl actor) {
+    delegate.withGroupCommitWindow(groupCommitWindow, actor);
+    return this;
+  }
+
   @Override
   public TestLogStreamBuilder withMeterRegistry(final MeterRegistry meterRegistry) {
     delegate.withMeterRegistry(meterRegistry);
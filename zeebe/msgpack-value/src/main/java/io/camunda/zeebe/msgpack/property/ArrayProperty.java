@@ -42,6 +42,7 @@ public final class ArrayProperty<T extends BaseValue> extends BaseProperty<Array
 
   @Override
   public T add() {
+    decodeLazilyReadValue();
     try {
       return value.add();
     } catch (final Exception e) {
@@ -51,6 +52,7 @@ public final class ArrayProperty<T extends BaseValue> extends BaseProperty<Array
 
   @Override
   public T add(final int index) {
+    decodeLazilyReadValue();
     try {
       return value.add(index);
     } catch (final Exception e) {
@@ -66,10 +68,17 @@ public final class ArrayProperty<T extends BaseValue> extends BaseProperty<Array
   }
 
   public boolean isEmpty() {
+    decodeLazilyReadValue();
     return value.isEmpty();
   }
 
   public int size() {
+    decodeLazilyReadValue();
     return value.size();
   }
+
+  @Override
+  protected boolean isLazilyReadable() {
+    return true;
+  }
 }
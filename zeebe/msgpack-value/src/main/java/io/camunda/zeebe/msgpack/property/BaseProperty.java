@@ -14,6 +14,7 @@ import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
 import io.camunda.zeebe.msgpack.value.BaseValue;
 import io.camunda.zeebe.msgpack.value.StringValue;
 import java.util.Objects;
+import org.agrona.concurrent.UnsafeBuffer;
 
 public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
   protected final StringValue key;
@@ -22,6 +23,11 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
   protected boolean isSet;
   protected boolean isSanitized;
 
+  // wraps the encoded value while it was read lazily and is not decoded yet
+  private UnsafeBuffer encodedValue;
+  private boolean isEncoded;
+  private MsgPackReader encodedValueReader;
+
   public BaseProperty(final T value) {
     this(StringValue.EMPTY_STRING, value);
   }
@@ -53,6 +59,7 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
   @Override
   public void reset() {
     isSet = false;
+    isEncoded = false;
     value.reset();
   }
 
@@ -66,6 +73,7 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
 
   protected T resolveValue() {
     if (isSet) {
+      decodeLazilyReadValue();
       return value;
     } else if (defaultValue != null) {
       return defaultValue;
@@ -76,15 +84,82 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
   }
 
   public int getEncodedLength() {
+    if (isEncoded) {
+      return key.getEncodedLength() + encodedValue.capacity();
+    }
+
     return key.getEncodedLength() + resolveValue().getEncodedLength();
   }
 
   public void read(final MsgPackReader reader) {
+    isEncoded = false;
     value.read(reader);
     set();
   }
 
+  /**
+   * Reads the property like {@link #read(MsgPackReader)}, but if decoding the value is expensive
+   * (see {@link #isLazilyReadable()}), only remembers where the encoded value is in the reader's
+   * buffer. The value is then decoded when it is first accessed, and written as is if it is never
+   * accessed. The buffer must therefore not be modified while the property is in use, the same as
+   * for values which wrap the buffer anyway, e.g. strings or documents.
+   *
+   * <p>Note that a malformed value is only detected when it is decoded.
+   */
+  public void readLazily(final MsgPackReader reader) {
+    if (!isLazilyReadable()) {
+      read(reader);
+      return;
+    }
+
+    final int offset = reader.getOffset();
+    reader.skipValue();
+
+    if (encodedValue == null) {
+      encodedValue = new UnsafeBuffer(0, 0);
+    }
+    encodedValue.wrap(reader.getBuffer(), offset, reader.getOffset() - offset);
+    isEncoded = true;
+    isSet = true;
+  }
+
+  /**
+   * @return true if the value is expensive to decode, e.g. because it consists of nested values,
+   *     such that it is worth to decode it only on access when reading lazily
+   */
+  protected boolean isLazilyReadable() {
+    return false;
+  }
+
+  /**
+   * Decodes the value if it was read lazily and not decoded yet. Must be called before accessing
+   * {@link #value} directly in properties which are {@link #isLazilyReadable() lazily readable}.
+   */
+  protected final void decodeLazilyReadValue() {
+    if (!isEncoded) {
+      return;
+    }
+
+    if (encodedValueReader == null) {
+      encodedValueReader = new MsgPackReader();
+    }
+
+    encodedValueReader.wrap(encodedValue, 0, encodedValue.capacity());
+    isEncoded = false;
+    try {
+      value.read(encodedValueReader);
+    } catch (final Exception e) {
+      throw new MsgpackPropertyException(key, e);
+    }
+  }
+
   public void write(final MsgPackWriter writer) {
+    if (isEncoded) {
+      key.write(writer);
+      writer.writeRaw(encodedValue);
+      return;
+    }
+
     T valueToWrite = value;
     if (!isSet) {
       valueToWrite = defaultValue;
@@ -148,6 +223,7 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
 
   @Override
   public int hashCode() {
+    decodeLazilyReadValue();
     return Objects.hash(getKey(), value, defaultValue, isSet);
   }
 
@@ -168,6 +244,7 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
 
   @Override
   public String toString() {
+    decodeLazilyReadValue();
     final StringBuilder builder = new StringBuilder();
     builder.append(key.toString());
     builder.append(" => ");
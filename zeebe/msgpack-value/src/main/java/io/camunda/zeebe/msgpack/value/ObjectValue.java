@@ -21,6 +21,8 @@ public class ObjectValue extends BaseValue {
   private final List<UndeclaredProperty> recycledProperties = new ArrayList<>(0);
 
   private final StringValue decodedKey = new StringValue();
+  private PropertyLookup propertyLookup;
+  private boolean isLazyDecoding;
 
   /**
    * Creates a new ObjectValue
@@ -37,6 +39,17 @@ public class ObjectValue extends BaseValue {
     return this;
   }
 
+  /**
+   * Enables or disables lazy decoding. When enabled, declared properties with nested values (e.g.
+   * objects or arrays) are not decoded when the object is read, but only when they are accessed;
+   * properties which are never accessed are written back as they were read. This is useful when
+   * only a few properties of large objects are read. See {@link
+   * BaseProperty#readLazily(MsgPackReader)} for the implications.
+   */
+  public void setLazyDecoding(final boolean lazyDecoding) {
+    isLazyDecoding = lazyDecoding;
+  }
+
   @Override
   public void reset() {
     for (int i = 0; i < declaredProperties.size(); ++i) {
@@ -100,29 +113,17 @@ public class ObjectValue extends BaseValue {
     for (int i = 0; i < mapSize; ++i) {
       decodedKey.read(reader);
 
-      BaseProperty<? extends BaseValue> prop = null;
-
-      for (int k = 0; k < declaredProperties.size(); ++k) {
-        // Cycle on all declared properties, but start iterating through them
-        // by starting on i:
-        // keys are serialized in the same order, so in most cases we can find the right
-        // key without having to iterate on declaredProperties at all.
-        final var index = (i + k) % declaredProperties.size();
-        final BaseProperty<?> declaredProperty = declaredProperties.get(index);
-        final StringValue declaredKey = declaredProperty.getKey();
-
-        if (declaredKey.equals(decodedKey)) {
-          prop = declaredProperty;
-          break;
-        }
-      }
-
+      BaseProperty<? extends BaseValue> prop = findDeclaredProperty(i);
       if (prop == null) {
         prop = newUndeclaredProperty(decodedKey);
       }
 
       try {
-        prop.read(reader);
+        if (isLazyDecoding) {
+          prop.readLazily(reader);
+        } else {
+          prop.read(reader);
+        }
       } catch (final Exception e) {
         throw new RuntimeException(String.format("Could not read property '%s'", prop.getKey()), e);
       }
@@ -154,6 +155,27 @@ public class ObjectValue extends BaseValue {
     return builder.toString();
   }
 
+  private BaseProperty<? extends BaseValue> findDeclaredProperty(final int position) {
+    final int declaredCount = declaredProperties.size();
+    if (declaredCount == 0) {
+      return null;
+    }
+
+    // keys are serialized in the same order, so in most cases we can find the right key without
+    // having to look it up at all
+    final var expectedProperty = declaredProperties.get(position % declaredCount);
+    if (expectedProperty.getKey().equals(decodedKey)) {
+      return expectedProperty;
+    }
+
+    if (propertyLookup == null || propertyLookup.size() != declaredCount) {
+      propertyLookup = PropertyLookup.of(declaredProperties);
+    }
+
+    final int index = propertyLookup.indexOf(decodedKey);
+    return index >= 0 ? declaredProperties.get(index) : null;
+  }
+
   private void verifyAllDeclaredPropertiesAreSet() {
     for (final BaseProperty<?> prop : declaredProperties) {
       if (!prop.hasValue()) {
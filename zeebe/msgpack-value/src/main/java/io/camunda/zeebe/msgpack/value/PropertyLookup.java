@@ -0,0 +1,109 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.msgpack.value;
+
+import io.camunda.zeebe.msgpack.property.BaseProperty;
+import java.util.Arrays;
+import java.util.List;
+import org.agrona.BitUtil;
+import org.agrona.DirectBuffer;
+
+/**
+ * A perfect hash table from the keys of the declared properties of an {@link ObjectValue} to their
+ * index. It is computed once for a set of declared properties, by searching a seed for which no two
+ * keys hash to the same slot. Looking up a key then costs a single hash and a single comparison,
+ * without any allocation, regardless of the number of declared properties.
+ */
+final class PropertyLookup {
+
+  private static final int MAX_SEEDS_PER_SIZE = 256;
+  private static final int FNV_PRIME = 0x01000193;
+
+  private final StringValue[] keys;
+  private final int[] slots;
+  private final int mask;
+  private final int seed;
+
+  private PropertyLookup(
+      final StringValue[] keys, final int[] slots, final int mask, final int seed) {
+    this.keys = keys;
+    this.slots = slots;
+    this.mask = mask;
+    this.seed = seed;
+  }
+
+  /**
+   * Builds the lookup for the given properties. If multiple properties declare the same key, only
+   * the first one can be looked up, as when scanning the properties in order.
+   */
+  static PropertyLookup of(final List<BaseProperty<? extends BaseValue>> properties) {
+    final var keys = new StringValue[properties.size()];
+    for (int i = 0; i < keys.length; i++) {
+      keys[i] = properties.get(i).getKey();
+    }
+
+    int tableSize = BitUtil.findNextPositivePowerOfTwo(Math.max(2, keys.length * 2));
+    while (true) {
+      final int[] slots = new int[tableSize];
+      final int mask = tableSize - 1;
+      for (int seed = 0; seed < MAX_SEEDS_PER_SIZE; seed++) {
+        if (tryFill(keys, slots, mask, seed)) {
+          return new PropertyLookup(keys, slots, mask, seed);
+        }
+      }
+
+      tableSize <<= 1;
+    }
+  }
+
+  int size() {
+    return keys.length;
+  }
+
+  /**
+   * @return the index of the declared property with the given key, or -1 if no property with this
+   *     key was declared
+   */
+  int indexOf(final StringValue key) {
+    final int slot = hash(key.getValue(), key.getLength(), seed) & mask;
+    final int index = slots[slot] - 1;
+    if (index >= 0 && keys[index].equals(key)) {
+      return index;
+    }
+
+    return -1;
+  }
+
+  private static boolean tryFill(
+      final StringValue[] keys, final int[] slots, final int mask, final int seed) {
+    Arrays.fill(slots, 0);
+    for (int i = 0; i < keys.length; i++) {
+      final int slot = hash(keys[i].getValue(), keys[i].getLength(), seed) & mask;
+      final int occupant = slots[slot] - 1;
+      if (occupant < 0) {
+        // slots store the index + 1, such that 0 marks an empty slot
+        slots[slot] = i + 1;
+      } else if (!keys[occupant].equals(keys[i])) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  private static int hash(final DirectBuffer bytes, final int length, final int seed) {
+    // FNV-1a, salted with the seed
+    int hash = 0x811C9DC5 ^ seed * 0x9E3779B9;
+    for (int i = 0; i < length; i++) {
+      hash ^= bytes.getByte(i);
+      hash *= FNV_PRIME;
+    }
+
+    return hash ^ (hash >>> 16);
+  }
+}
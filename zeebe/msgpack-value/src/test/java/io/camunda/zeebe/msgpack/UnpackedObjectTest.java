@@ -10,6 +10,7 @@ package io.camunda.zeebe.msgpack;
 import static io.camunda.zeebe.msgpack.MsgPackUtil.encodeMsgPack;
 import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.spy;
 
 import io.camunda.zeebe.msgpack.POJO.POJOEnum;
@@ -26,6 +27,8 @@ import io.camunda.zeebe.msgpack.property.StringProperty;
 import io.camunda.zeebe.msgpack.value.IntegerValue;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import org.agrona.DirectBuffer;
 import org.agrona.MutableDirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
@@ -140,6 +143,246 @@ public class UnpackedObjectTest {
     }
   }
 
+  @Nested
+  class PropertyLookup {
+
+    @Test
+    void shouldReadPropertiesInAnyOrder() {
+      // given
+      final DirectBuffer buffer =
+          encodeMsgPack(
+              (w) -> {
+                w.writeMapHeader(7);
+                w.writeString(wrapString("objectProp"));
+                w.writeMapHeader(1);
+                w.writeString(wrapString("foo"));
+                w.writeInteger(24L);
+                w.writeString(wrapString("binaryProp"));
+                w.writeBinary(wrapString("binary"));
+                w.writeString(wrapString("packedProp"));
+                w.writeInteger(1L);
+                w.writeString(wrapString("stringProp"));
+                w.writeString(wrapString("string"));
+                w.writeString(wrapString("intProp"));
+                w.writeInteger(123L);
+                w.writeString(wrapString("longProp"));
+                w.writeInteger(456L);
+                w.writeString(wrapString("enumProp"));
+                w.writeString(wrapString(POJOEnum.BAR.toString()));
+              });
+      final var pojo = new POJO();
+
+      // when
+      pojo.wrap(buffer);
+
+      // then
+      assertThat(pojo.getEnum()).isEqualTo(POJOEnum.BAR);
+      assertThat(pojo.getLong()).isEqualTo(456L);
+      assertThat(pojo.getInt()).isEqualTo(123);
+      assertThat(BufferUtil.bufferAsString(pojo.getString())).isEqualTo("string");
+      assertThat(BufferUtil.bufferAsString(pojo.getBinary())).isEqualTo("binary");
+      assertThat(pojo.nestedObject().getLong()).isEqualTo(24L);
+    }
+
+    @Test
+    void shouldReadUnknownKeysAsUndeclaredProperties() {
+      // given
+      final DirectBuffer buffer =
+          encodeMsgPack(
+              (w) -> {
+                w.writeMapHeader(2);
+                w.writeString(wrapString("unknown"));
+                w.writeInteger(1L);
+                w.writeString(wrapString("longProp"));
+                w.writeInteger(2L);
+              });
+      final var pojo = new MinimalPOJO();
+
+      // when
+      pojo.wrap(buffer);
+
+      // then
+      assertThat(pojo.getLongProp()).isEqualTo(2L);
+      assertThat(pojo.getLength()).isEqualTo(buffer.capacity());
+    }
+  }
+
+  @Nested
+  class LazyDecoding {
+
+    @Test
+    void shouldDecodeNestedObjectOnAccess() {
+      // given
+      final var buffer = new UnsafeBuffer(ByteBuffer.allocate(256));
+      final var pojo = createPojo();
+      pojo.write(buffer, 0);
+
+      final var lazyPojo = new POJO();
+      lazyPojo.setLazyDecoding(true);
+
+      // when
+      lazyPojo.wrap(buffer, 0, pojo.getLength());
+
+      // then
+      assertThat(lazyPojo.getLong()).isEqualTo(123L);
+      assertThat(lazyPojo.nestedObject().getLong()).isEqualTo(24L);
+    }
+
+    @Test
+    void shouldWriteUndecodedPropertiesAsRead() {
+      // given
+      final var pojo = createPojo();
+      final var buffer = new UnsafeBuffer(ByteBuffer.allocate(pojo.getLength()));
+      pojo.write(buffer, 0);
+
+      final var lazyPojo = new POJO();
+      lazyPojo.setLazyDecoding(true);
+      lazyPojo.wrap(buffer);
+
+      // when
+      final var copy = new UnsafeBuffer(ByteBuffer.allocate(lazyPojo.getLength()));
+      lazyPojo.write(copy, 0);
+
+      // then
+      assertThat(copy).isEqualTo(buffer);
+    }
+
+    @Test
+    void shouldWriteModifiedNestedObject() {
+      // given
+      final var pojo = createPojo();
+      final var buffer = new UnsafeBuffer(ByteBuffer.allocate(pojo.getLength()));
+      pojo.write(buffer, 0);
+
+      final var lazyPojo = new POJO();
+      lazyPojo.setLazyDecoding(true);
+      lazyPojo.wrap(buffer);
+
+      // when
+      lazyPojo.nestedObject().setLong(Long.MAX_VALUE);
+      final var copy = new UnsafeBuffer(ByteBuffer.allocate(lazyPojo.getLength()));
+      lazyPojo.write(copy, 0);
+
+      // then
+      final var result = new POJO();
+      result.wrap(copy);
+      assertThat(result.nestedObject().getLong()).isEqualTo(Long.MAX_VALUE);
+      assertThat(result.getLong()).isEqualTo(123L);
+    }
+
+    @Test
+    void shouldDecodeArrayOnAccess() {
+      // given
+      final var array = new POJOArray();
+      array.simpleArray().add().setLongProp(1L);
+      array.simpleArray().add().setLongProp(2L);
+      final var buffer = new UnsafeBuffer(ByteBuffer.allocate(array.getLength()));
+      array.write(buffer, 0);
+
+      final var lazyArray = new POJOArray();
+      lazyArray.setLazyDecoding(true);
+      lazyArray.wrap(buffer);
+
+      // when
+      lazyArray.simpleArray().add().setLongProp(3L);
+
+      // then
+      assertThat(lazyArray.simpleArray().stream().map(MinimalPOJO::getLongProp))
+          .containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    void shouldNotKeepUndecodedValueAfterReset() {
+      // given
+      final var pojo = createPojo();
+      final var buffer = new UnsafeBuffer(ByteBuffer.allocate(pojo.getLength()));
+      pojo.write(buffer, 0);
+
+      final var lazyPojo = new POJO();
+      lazyPojo.setLazyDecoding(true);
+      lazyPojo.wrap(buffer);
+
+      // when
+      lazyPojo.reset();
+
+      // then
+      assertThat(lazyPojo.nestedObject().getLong()).isEqualTo(-1L);
+    }
+
+    @Test
+    void shouldKeepUnreadPropertiesEncoded() {
+      // given - a nested value which can't be decoded
+      final var pojo = createPojo();
+      final var buffer = new UnsafeBuffer(ByteBuffer.allocate(pojo.getLength()));
+      pojo.write(buffer, 0);
+      buffer.putByte(nestedLongOffset(buffer), (byte) 0xa0);
+
+      final var lazyPojo = new POJO();
+      lazyPojo.setLazyDecoding(true);
+
+      // when
+      lazyPojo.wrap(buffer);
+      final var copy = new UnsafeBuffer(ByteBuffer.allocate(lazyPojo.getLength()));
+      lazyPojo.write(copy, 0);
+
+      // then
+      assertThat(lazyPojo.getLong()).isEqualTo(123L);
+      assertThat(copy).isEqualTo(buffer);
+      assertThatThrownBy(lazyPojo::nestedObject).isInstanceOf(MsgpackPropertyException.class);
+      assertThatThrownBy(() -> new POJO().wrap(buffer)).isInstanceOf(RuntimeException.class);
+    }
+
+    @Test
+    void shouldNotDecodePreviousBufferAfterWrappingAnother() {
+      // given
+      final var pojo = createPojo();
+      final var buffer = new UnsafeBuffer(ByteBuffer.allocate(pojo.getLength()));
+      pojo.write(buffer, 0);
+      pojo.nestedObject().setLong(42L);
+      final var otherBuffer = new UnsafeBuffer(ByteBuffer.allocate(pojo.getLength()));
+      pojo.write(otherBuffer, 0);
+
+      final var lazyPojo = new POJO();
+      lazyPojo.setLazyDecoding(true);
+      lazyPojo.wrap(buffer);
+
+      // when
+      lazyPojo.wrap(otherBuffer);
+      buffer.setMemory(0, buffer.capacity(), (byte) 0);
+
+      // then
+      assertThat(lazyPojo.nestedObject().getLong()).isEqualTo(42L);
+      final var copy = new UnsafeBuffer(ByteBuffer.allocate(lazyPojo.getLength()));
+      lazyPojo.write(copy, 0);
+      assertThat(copy).isEqualTo(otherBuffer);
+    }
+
+    /** Returns the offset of the encoded value of the nested long property, i.e. 24. */
+    private int nestedLongOffset(final DirectBuffer buffer) {
+      final var bytes = BufferUtil.bufferAsArray(buffer);
+      final var key = "foo".getBytes(StandardCharsets.UTF_8);
+      for (int offset = 0; offset < bytes.length - key.length; offset++) {
+        final var candidate = Arrays.copyOfRange(bytes, offset, offset + key.length);
+        if (Arrays.equals(candidate, key) && bytes[offset + key.length] == 24) {
+          return offset + key.length;
+        }
+      }
+      throw new IllegalStateException("Expected to find the nested long property");
+    }
+
+    private POJO createPojo() {
+      final var pojo = new POJO();
+      pojo.setEnum(POJOEnum.FOO);
+      pojo.setLong(123L);
+      pojo.setInt(456);
+      pojo.setString(wrapString("string"));
+      pojo.setPacked(encodeMsgPack((w) -> w.writeInteger(1L)));
+      pojo.setBinary(wrapString("binary"));
+      pojo.nestedObject().setLong(24L);
+      return pojo;
+    }
+  }
+
   @Nested
   class SanitizationTest {
 
@@ -0,0 +1,38 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.protocol;
+
+/**
+ * Describes how the entries of a Column Family are typically accessed, such that the storage can be
+ * tuned for it, e.g. by choosing block sizes, filters and compression which suit the access
+ * pattern.
+ *
+ * <p>The profile is only a hint for the storage; it never changes what is stored. A Column Family
+ * which doesn't clearly match one of the specific profiles should keep the {@link #DEFAULT}.
+ */
+public enum ColumnFamilyProfile {
+  /* Mixed access: lookups, scans and updates */
+  DEFAULT,
+  /*
+   * Entries are inserted, scanned in key order from the start, and deleted shortly after, e.g. due
+   * dates and deadlines; dominated by deletion markers of recently removed entries
+   */
+  QUEUE,
+  /* Mostly accessed by exact key, e.g. jobs or element instances by their key */
+  POINT_LOOKUP,
+  /* Written once and read often afterwards, e.g. deployed resources */
+  READ_MOSTLY;
+}
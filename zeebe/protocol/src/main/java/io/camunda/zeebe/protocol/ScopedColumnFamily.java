@@ -17,4 +17,12 @@ package io.camunda.zeebe.protocol;
 
 public interface ScopedColumnFamily {
   ColumnFamilyScope partitionScope();
+
+  /**
+   * @return how the entries of the column family are typically accessed, which the storage may use
+   *     to tune how they are stored
+   */
+  default ColumnFamilyProfile profile() {
+    return ColumnFamilyProfile.DEFAULT;
+  }
 }
@@ -15,6 +15,9 @@
  */
 package io.camunda.zeebe.protocol;
 
+import static io.camunda.zeebe.protocol.ColumnFamilyProfile.POINT_LOOKUP;
+import static io.camunda.zeebe.protocol.ColumnFamilyProfile.QUEUE;
+import static io.camunda.zeebe.protocol.ColumnFamilyProfile.READ_MOSTLY;
 import static io.camunda.zeebe.protocol.ColumnFamilyScope.GLOBAL;
 import static io.camunda.zeebe.protocol.ColumnFamilyScope.PARTITION_LOCAL;
 
@@ -38,7 +41,7 @@ public enum ZbColumnFamilies implements EnumValue, ScopedColumnFamily {
 
   // element instance
   ELEMENT_INSTANCE_PARENT_CHILD(6, PARTITION_LOCAL),
-  ELEMENT_INSTANCE_KEY(7, PARTITION_LOCAL),
+  ELEMENT_INSTANCE_KEY(7, PARTITION_LOCAL, POINT_LOOKUP),
 
   NUMBER_OF_TAKEN_SEQUENCE_FLOWS(8, PARTITION_LOCAL),
 
@@ -49,25 +52,25 @@ public enum ZbColumnFamilies implements EnumValue, ScopedColumnFamily {
   TEMPORARY_VARIABLE_STORE(11, PARTITION_LOCAL),
 
   // timer state
-  TIMERS(12, PARTITION_LOCAL),
-  TIMER_DUE_DATES(13, PARTITION_LOCAL),
+  TIMERS(12, PARTITION_LOCAL, POINT_LOOKUP),
+  TIMER_DUE_DATES(13, PARTITION_LOCAL, QUEUE),
 
   // pending deployments
   PENDING_DEPLOYMENT(14, PARTITION_LOCAL),
   DEPLOYMENT_RAW(15, PARTITION_LOCAL),
 
   // jobs
-  JOBS(16, PARTITION_LOCAL),
-  JOB_STATES(17, PARTITION_LOCAL),
-  JOB_DEADLINES(18, PARTITION_LOCAL),
+  JOBS(16, PARTITION_LOCAL, POINT_LOOKUP),
+  JOB_STATES(17, PARTITION_LOCAL, POINT_LOOKUP),
+  JOB_DEADLINES(18, PARTITION_LOCAL, QUEUE),
   @Deprecated
   DEPRECATED_JOB_ACTIVATABLE(19, PARTITION_LOCAL),
 
   // message
-  MESSAGE_KEY(20, PARTITION_LOCAL),
+  MESSAGE_KEY(20, PARTITION_LOCAL, POINT_LOOKUP),
   @Deprecated
   DEPRECATED_MESSAGES(21, PARTITION_LOCAL),
-  MESSAGE_DEADLINES(22, PARTITION_LOCAL),
+  MESSAGE_DEADLINES(22, PARTITION_LOCAL, QUEUE),
   MESSAGE_IDS(23, PARTITION_LOCAL),
   MESSAGE_CORRELATED(24, PARTITION_LOCAL),
   MESSAGE_PROCESSES_ACTIVE_BY_CORRELATION_KEY(25, PARTITION_LOCAL),
@@ -96,7 +99,7 @@ public enum ZbColumnFamilies implements EnumValue, ScopedColumnFamily {
   // migration end
 
   // incident
-  INCIDENTS(34, PARTITION_LOCAL),
+  INCIDENTS(34, PARTITION_LOCAL, POINT_LOOKUP),
   INCIDENT_PROCESS_INSTANCES(35, PARTITION_LOCAL),
   INCIDENT_JOBS(36, PARTITION_LOCAL),
 
@@ -110,7 +113,7 @@ public enum ZbColumnFamilies implements EnumValue, ScopedColumnFamily {
 
   AWAIT_WORKLOW_RESULT(41, PARTITION_LOCAL),
 
-  JOB_BACKOFF(42, PARTITION_LOCAL),
+  JOB_BACKOFF(42, PARTITION_LOCAL, QUEUE),
 
   @Deprecated
   DEPRECATED_DMN_DECISIONS(43, GLOBAL),
@@ -142,20 +145,20 @@ public enum ZbColumnFamilies implements EnumValue, ScopedColumnFamily {
 
   MIGRATIONS_STATE(56, GLOBAL),
 
-  PROCESS_VERSION(57, GLOBAL),
-  PROCESS_CACHE(58, GLOBAL),
-  PROCESS_CACHE_BY_ID_AND_VERSION(59, GLOBAL),
-  PROCESS_CACHE_DIGEST_BY_ID(60, GLOBAL),
+  PROCESS_VERSION(57, GLOBAL, READ_MOSTLY),
+  PROCESS_CACHE(58, GLOBAL, READ_MOSTLY),
+  PROCESS_CACHE_BY_ID_AND_VERSION(59, GLOBAL, READ_MOSTLY),
+  PROCESS_CACHE_DIGEST_BY_ID(60, GLOBAL, READ_MOSTLY),
 
-  DMN_DECISIONS(61, GLOBAL),
-  DMN_DECISION_REQUIREMENTS(62, GLOBAL),
+  DMN_DECISIONS(61, GLOBAL, READ_MOSTLY),
+  DMN_DECISION_REQUIREMENTS(62, GLOBAL, READ_MOSTLY),
   DMN_LATEST_DECISION_BY_ID(63, GLOBAL),
   DMN_LATEST_DECISION_REQUIREMENTS_BY_ID(64, GLOBAL),
   DMN_DECISION_KEY_BY_DECISION_REQUIREMENTS_KEY(65, GLOBAL),
   DMN_DECISION_KEY_BY_DECISION_ID_AND_VERSION(66, GLOBAL),
   DMN_DECISION_REQUIREMENTS_KEY_BY_DECISION_REQUIREMENT_ID_AND_VERSION(67, GLOBAL),
 
-  FORMS(68, GLOBAL),
+  FORMS(68, GLOBAL, READ_MOSTLY),
   FORM_VERSION(69, GLOBAL),
   FORM_BY_ID_AND_VERSION(70, GLOBAL),
 
@@ -165,13 +168,13 @@ public enum ZbColumnFamilies implements EnumValue, ScopedColumnFamily {
   MESSAGE_SUBSCRIPTION_BY_NAME_AND_CORRELATION_KEY(74, PARTITION_LOCAL),
   PROCESS_SUBSCRIPTION_BY_KEY(75, PARTITION_LOCAL),
 
-  JOB_ACTIVATABLE(76, PARTITION_LOCAL),
+  JOB_ACTIVATABLE(76, PARTITION_LOCAL, QUEUE),
 
   SIGNAL_SUBSCRIPTION_BY_NAME_AND_KEY(77, PARTITION_LOCAL),
   SIGNAL_SUBSCRIPTION_BY_KEY_AND_NAME(78, PARTITION_LOCAL),
 
-  USER_TASKS(79, PARTITION_LOCAL),
-  USER_TASK_STATES(80, PARTITION_LOCAL),
+  USER_TASKS(79, PARTITION_LOCAL, POINT_LOOKUP),
+  USER_TASK_STATES(80, PARTITION_LOCAL, POINT_LOOKUP),
   COMPENSATION_SUBSCRIPTION(81, PARTITION_LOCAL),
 
   PROCESS_DEFINITION_KEY_BY_PROCESS_ID_AND_DEPLOYMENT_KEY(82, GLOBAL),
@@ -200,11 +203,11 @@ public enum ZbColumnFamilies implements EnumValue, ScopedColumnFamily {
 
   ROUTING(96, GLOBAL),
 
-  QUEUED_DISTRIBUTION(97, PARTITION_LOCAL),
-  RETRIABLE_DISTRIBUTION(98, PARTITION_LOCAL),
+  QUEUED_DISTRIBUTION(97, PARTITION_LOCAL, QUEUE),
+  RETRIABLE_DISTRIBUTION(98, PARTITION_LOCAL, QUEUE),
   DISTRIBUTION_CONTINUATION(99, PARTITION_LOCAL),
 
-  RESOURCES(100, GLOBAL),
+  RESOURCES(100, GLOBAL, READ_MOSTLY),
   RESOURCE_VERSION(101, GLOBAL),
   RESOURCE_BY_ID_AND_VERSION(102, GLOBAL),
   RESOURCE_KEY_BY_RESOURCE_ID_AND_VERSION_TAG(103, GLOBAL),
@@ -268,6 +271,11 @@ public enum ZbColumnFamilies implements EnumValue, ScopedColumnFamily {
 
   private final int value;
   private final ColumnFamilyScope columnFamilyScope;
+  private final ColumnFamilyProfile profile;
+
+  ZbColumnFamilies(final int value, final ColumnFamilyScope columnFamilyScope) {
+    this(value, columnFamilyScope, ColumnFamilyProfile.DEFAULT);
+  }
 
   /**
    * @param value the value of the column family, which is used to identify it in the database
@@ -285,10 +293,17 @@ public enum ZbColumnFamilies implements EnumValue, ScopedColumnFamily {
    *     </ul>
    *     NOTE: The correct {@link ColumnFamilyScope} is crucial for the correctness of dynamic
    *     scaling partitions.
+   * @param profile how the entries of the column family are typically accessed, see {@link
+   *     ColumnFamilyProfile}; can be changed at any time, since it only affects how the entries are
+   *     stored, not which
    */
-  ZbColumnFamilies(final int value, final ColumnFamilyScope columnFamilyScope) {
+  ZbColumnFamilies(
+      final int value,
+      final ColumnFamilyScope columnFamilyScope,
+      final ColumnFamilyProfile profile) {
     this.value = value;
     this.columnFamilyScope = columnFamilyScope;
+    this.profile = profile;
   }
 
   @Override
@@ -300,4 +315,9 @@ public enum ZbColumnFamilies implements EnumValue, ScopedColumnFamily {
   public ColumnFamilyScope partitionScope() {
     return columnFamilyScope;
   }
+
+  @Override
+  public ColumnFamilyProfile profile() {
+    return profile;
+  }
 }
@@ -0,0 +1,294 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.restore;
+
+import io.camunda.zeebe.backup.api.Backup;
+import io.camunda.zeebe.backup.api.BackupIdentifier;
+import io.camunda.zeebe.backup.api.BackupStore;
+import io.camunda.zeebe.util.FileUtil;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Downloads backups from a {@link BackupStore} with a bounded number of concurrent downloads.
+ *
+ * <p>Downloads are started in the given order, such that the caller can restore each backup as
+ * soon as it is downloaded, while the following backups are still being downloaded. A downloaded
+ * backup stays on disk until the caller {@link #release(BackupIdentifier) releases} it, so up to
+ * {@code concurrentDownloads} backups take up disk space at the same time. To not run out of disk
+ * space, a download is only started next to other backups if the disk has enough usable space for
+ * it, estimated by the largest backup downloaded so far. Until the size of a backup is known, only
+ * one backup is downloaded at a time.
+ *
+ * <p>If a download fails, the downloads which have not been started yet are cancelled and the
+ * failed download is deleted. Closing the downloader cancels all downloads which have not been
+ * started yet, waits until the started ones are finished, and deletes all backups which were not
+ * released.
+ */
+final class BackupDownloader implements AutoCloseable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(BackupDownloader.class);
+  private static final long UNKNOWN_SIZE = -1;
+
+  private final BackupStore backupStore;
+  private final RestoreMetrics metrics;
+  private final int concurrentDownloads;
+  private final ToLongFunction<Path> usableSpace;
+  private final ExecutorService executor;
+
+  private final Object lock = new Object();
+  // guarded by lock: the target directory of each backup which is downloaded or not yet released
+  private final Map<BackupIdentifier, Path> backupsOnDisk = new HashMap<>();
+  private int downloadsInProgress;
+  private long largestBackupSize = UNKNOWN_SIZE;
+  private boolean aborted;
+
+  BackupDownloader(
+      final BackupStore backupStore, final int concurrentDownloads, final RestoreMetrics metrics) {
+    this(backupStore, concurrentDownloads, metrics, BackupDownloader::usableSpace);
+  }
+
+  BackupDownloader(
+      final BackupStore backupStore,
+      final int concurrentDownloads,
+      final RestoreMetrics metrics,
+      final ToLongFunction<Path> usableSpace) {
+    if (concurrentDownloads < 1) {
+      throw new IllegalArgumentException(
+          "Expected at least one concurrent download, but got %d".formatted(concurrentDownloads));
+    }
+    this.backupStore = backupStore;
+    this.concurrentDownloads = concurrentDownloads;
+    this.metrics = metrics;
+    this.usableSpace = usableSpace;
+    executor =
+        Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("zeebe-restore-download-", 0).factory());
+  }
+
+  /**
+   * Downloads the given backups, each into the directory returned by the given function. Each
+   * downloaded backup must be {@link #release(BackupIdentifier) released} once it is restored, to
+   * make room for the following downloads.
+   *
+   * @return a future per backup, in the same order as the given backups
+   */
+  List<CompletableFuture<Backup>> downloadAll(
+      final List<BackupIdentifier> backups,
+      final Function<BackupIdentifier, Path> targetDirectory) {
+    final var downloads = new ArrayList<CompletableFuture<Backup>>(backups.size());
+    for (int i = 0; i < backups.size(); i++) {
+      downloads.add(new CompletableFuture<>());
+    }
+
+    LOG.debug(
+        "Downloading {} backups with up to {} concurrent downloads",
+        backups.size(),
+        concurrentDownloads);
+    // a single thread starts the downloads, such that they start in the given order
+    executor.execute(
+        () -> {
+          for (int i = 0; i < backups.size(); i++) {
+            final var backup = backups.get(i);
+            final var target = targetDirectory.apply(backup);
+            final boolean started;
+            try {
+              started = awaitDownloadStart(backup, target);
+            } catch (final InterruptedException e) {
+              Thread.currentThread().interrupt();
+              cancel(downloads.subList(i, downloads.size()));
+              return;
+            }
+
+            if (!started) {
+              cancel(downloads.subList(i, downloads.size()));
+              return;
+            }
+
+            final var future = downloads.get(i);
+            executor.execute(() -> download(backup, target, future));
+          }
+        });
+
+    return downloads;
+  }
+
+  /**
+   * Deletes the given downloaded backup, which allows to start the next download. Must be called
+   * once the backup is restored.
+   */
+  void release(final BackupIdentifier id) throws IOException {
+    final Path target;
+    synchronized (lock) {
+      target = backupsOnDisk.get(id);
+    }
+
+    if (target == null) {
+      return;
+    }
+
+    try {
+      FileUtil.deleteFolderIfExists(target);
+    } finally {
+      synchronized (lock) {
+        backupsOnDisk.remove(id);
+        lock.notifyAll();
+      }
+    }
+  }
+
+  /**
+   * Waits until the download of the given backup can be started, i.e. until fewer than {@code
+   * concurrentDownloads} backups are on disk and the disk has enough space for one more.
+   *
+   * @return false if the downloads were aborted in the meantime
+   */
+  private boolean awaitDownloadStart(final BackupIdentifier id, final Path target)
+      throws InterruptedException {
+    synchronized (lock) {
+      while (!aborted && !canStartDownload(target)) {
+        lock.wait();
+      }
+
+      if (aborted) {
+        return false;
+      }
+
+      backupsOnDisk.put(id, target);
+      downloadsInProgress++;
+      return true;
+    }
+  }
+
+  private boolean canStartDownload(final Path target) {
+    if (backupsOnDisk.isEmpty()) {
+      // nothing to wait for, if the disk is too small the download fails
+      return true;
+    }
+
+    if (backupsOnDisk.size() >= concurrentDownloads || largestBackupSize == UNKNOWN_SIZE) {
+      return false;
+    }
+
+    // the downloads in progress may still need up to the size of a whole backup each
+    final var requiredSpace = largestBackupSize * (downloadsInProgress + 1);
+    final var availableSpace = usableSpace.applyAsLong(target.getParent());
+    if (availableSpace < requiredSpace) {
+      LOG.debug(
+          "Delaying next download until a backup is restored, {} bytes are required but only {} bytes are usable",
+          requiredSpace,
+          availableSpace);
+      return false;
+    }
+
+    return true;
+  }
+
+  private void download(
+      final BackupIdentifier id,
+      final Path targetDirectory,
+      final CompletableFuture<Backup> future) {
+    try {
+      future.complete(download(id, targetDirectory));
+    } catch (final Throwable e) {
+      synchronized (lock) {
+        downloadsInProgress--;
+        aborted = true;
+        lock.notifyAll();
+      }
+      deleteQuietly(id);
+      future.completeExceptionally(e);
+    }
+  }
+
+  private Backup download(final BackupIdentifier id, final Path targetDirectory)
+      throws IOException {
+    try (final var ignored = metrics.startDownload()) {
+      FileUtil.ensureDirectoryExists(targetDirectory);
+      LOG.atInfo().addKeyValue("backup", id).setMessage("Downloading backup").log();
+      final var backup = backupStore.restore(id, targetDirectory).join();
+      final var size = size(backup);
+      metrics.backupDownloaded(size);
+
+      synchronized (lock) {
+        downloadsInProgress--;
+        largestBackupSize = Math.max(largestBackupSize, size);
+        lock.notifyAll();
+      }
+      return backup;
+    }
+  }
+
+  private void deleteQuietly(final BackupIdentifier id) {
+    try {
+      release(id);
+    } catch (final IOException e) {
+      LOG.warn("Failed to delete downloaded backup {}", id, e);
+    }
+  }
+
+  private static long size(final Backup backup) {
+    return Stream.concat(backup.snapshot().files().stream(), backup.segments().files().stream())
+        .mapToLong(
+            file -> {
+              try {
+                return Files.size(file);
+              } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+              }
+            })
+        .sum();
+  }
+
+  private static long usableSpace(final Path directory) {
+    try {
+      return Files.getFileStore(directory).getUsableSpace();
+    } catch (final IOException e) {
+      LOG.warn("Failed to determine usable space of {}, ignoring it for downloads", directory, e);
+      return Long.MAX_VALUE;
+    }
+  }
+
+  private static void cancel(final List<CompletableFuture<Backup>> downloads) {
+    downloads.forEach(
+        download ->
+            download.completeExceptionally(
+                new CancellationException("Restore was aborted before the backup was downloaded")));
+  }
+
+  @Override
+  public void close() {
+    synchronized (lock) {
+      aborted = true;
+      // wakes up the thread which waits to start the next download
+      lock.notifyAll();
+    }
+    executor.close();
+
+    final List<BackupIdentifier> unreleasedBackups;
+    synchronized (lock) {
+      unreleasedBackups = List.copyOf(backupsOnDisk.keySet());
+    }
+    unreleasedBackups.forEach(this::deleteQuietly);
+  }
+}
@@ -30,14 +30,23 @@ import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.file.DirectoryNotEmptyException;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Objects;
 import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-/** Restores a backup from the given {@link io.camunda.zeebe.backup.api.BackupStore}. */
+/**
+ * Restores a backup from the given {@link io.camunda.zeebe.backup.api.BackupStore}.
+ *
+ * <p>When restoring from multiple backups, these are downloaded concurrently, while the already
+ * downloaded backups are restored in order.
+ */
 public class PartitionRestoreService {
+  /** Number of backups of a partition which are downloaded concurrently by default. */
+  public static final int DEFAULT_CONCURRENT_DOWNLOADS = 4;
+
   private static final Logger LOG = LoggerFactory.getLogger(PartitionRestoreService.class);
   final BackupStore backupStore;
   final int partitionId;
@@ -47,6 +56,8 @@ public class PartitionRestoreService {
   private final int brokerId;
   private final CRC32CChecksumProvider checksumProvider;
   private final MeterRegistry meterRegistry;
+  private final int concurrentDownloads;
+  private final RestoreMetrics metrics;
 
   public PartitionRestoreService(
       final BackupStore backupStore,
@@ -54,6 +65,25 @@ public class PartitionRestoreService {
       final int brokerId,
       final CRC32CChecksumProvider checksumProvider,
       final MeterRegistry meterRegistry) {
+    this(
+        backupStore,
+        partition,
+        brokerId,
+        checksumProvider,
+        meterRegistry,
+        DEFAULT_CONCURRENT_DOWNLOADS);
+  }
+
+  /**
+   * @param concurrentDownloads the maximum number of backups which are downloaded concurrently
+   */
+  public PartitionRestoreService(
+      final BackupStore backupStore,
+      final RaftPartition partition,
+      final int brokerId,
+      final CRC32CChecksumProvider checksumProvider,
+      final MeterRegistry meterRegistry,
+      final int concurrentDownloads) {
     this.backupStore = backupStore;
     partitionId = partition.id().id();
     rootDirectory = partition.dataDirectory().toPath();
@@ -61,6 +91,8 @@ public class PartitionRestoreService {
     this.brokerId = brokerId;
     this.checksumProvider = Objects.requireNonNull(checksumProvider);
     this.meterRegistry = meterRegistry;
+    this.concurrentDownloads = concurrentDownloads;
+    metrics = new RestoreMetrics(meterRegistry);
   }
 
   /**
@@ -88,25 +120,38 @@ public class PartitionRestoreService {
     }
     validateAndSortBackupIds(backupIds);
 
+    // find all backups before downloading any of them, such that a missing or invalid backup is
+    // detected before spending time on downloads
+    final var validBackups = new ArrayList<BackupIdentifier>(backupIds.length);
+    for (final var backupId : backupIds) {
+      validBackups.add(findValidBackup(backupId, validator));
+    }
+    metrics.setBackupsToRestore(validBackups.size());
+
+    // the downloader is closed before the journal, such that no download is in progress anymore
+    // and all downloaded backups are deleted once the restore fails
     try (final var restoredJournal =
-        SegmentedJournal.builder(partition.getMeterRegistry())
-            .withDirectory(rootDirectory.toFile())
-            .withName(partition.name())
-            .withMetaStore(new InMemory())
-            .build()) {
+            SegmentedJournal.builder(partition.getMeterRegistry())
+                .withDirectory(rootDirectory.toFile())
+                .withName(partition.name())
+                .withMetaStore(new InMemory())
+                .build();
+        final var downloader = new BackupDownloader(backupStore, concurrentDownloads, metrics)) {
+      final var downloads = downloader.downloadAll(validBackups, this::restoreTarget);
+
       Backup previousBackup = null;
-      for (final var backupId : backupIds) {
-        final var restoreTarget =
-            rootDirectory.resolve("restoring-partition" + partitionId + "-backup-" + backupId);
-        FileUtil.ensureDirectoryExists(restoreTarget);
-        final var backup = download(backupId, restoreTarget, validator);
+      for (final var download : downloads) {
+        final var backup = download.join();
+        final var restoreTarget = restoreTarget(backup.id());
         if (previousBackup == null) {
           // Only take the first snapshot, all others are redundant because we have the full log.
+          // It is moved in place right away, while the following backups are still downloaded.
           moveSnapshotFiles(backup);
         }
         copyBetweenCheckpoints(previousBackup, backup, restoreTarget, restoredJournal);
         previousBackup = backup;
-        FileUtil.deleteFolder(restoreTarget);
+        downloader.release(backup.id());
+        metrics.backupRestored();
       }
       restoredJournal.flush();
     }
@@ -235,11 +280,9 @@ public class PartitionRestoreService {
     }
   }
 
-  private Backup download(
-      final long checkpointId, final Path tempRestoringDirectory, final BackupValidator validator) {
-    final var validBackup = findValidBackup(checkpointId, validator);
-    LOG.atInfo().addKeyValue("backup", validBackup).setMessage("Restoring backup").log();
-    return backupStore.restore(validBackup, tempRestoringDirectory).join();
+  private Path restoreTarget(final BackupIdentifier backup) {
+    return rootDirectory.resolve(
+        "restoring-partition" + partitionId + "-backup-" + backup.checkpointId());
   }
 
   private BackupIdentifier findValidBackup(
@@ -51,14 +51,32 @@ public class RestoreManager {
   private final BrokerCfg configuration;
   private final BackupStore backupStore;
   private final MeterRegistry meterRegistry;
+  private final int concurrentDownloads;
 
   public RestoreManager(
       final BrokerCfg configuration,
       final BackupStore backupStore,
       final MeterRegistry meterRegistry) {
+    this(
+        configuration,
+        backupStore,
+        meterRegistry,
+        PartitionRestoreService.DEFAULT_CONCURRENT_DOWNLOADS);
+  }
+
+  /**
+   * @param concurrentDownloads the maximum number of backups which are downloaded concurrently per
+   *     partition
+   */
+  public RestoreManager(
+      final BrokerCfg configuration,
+      final BackupStore backupStore,
+      final MeterRegistry meterRegistry,
+      final int concurrentDownloads) {
     this.configuration = configuration;
     this.backupStore = backupStore;
     this.meterRegistry = meterRegistry;
+    this.concurrentDownloads = concurrentDownloads;
   }
 
   public void restore(
@@ -155,7 +173,8 @@ public class RestoreManager {
             partition.partition(),
             configuration.getCluster().getNodeId(),
             new ChecksumProviderRocksDBImpl(),
-            partition.registry());
+            partition.registry(),
+            concurrentDownloads);
     try {
       restoreService.restore(backupIds, validator);
       LOG.info(
@@ -0,0 +1,84 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.restore;
+
+import static io.camunda.zeebe.restore.RestoreMetricsDoc.*;
+
+import io.camunda.zeebe.util.CloseableSilently;
+import io.camunda.zeebe.util.micrometer.MicrometerUtil;
+import io.camunda.zeebe.util.micrometer.StatefulGauge;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Tracks the progress of restoring a partition, i.e. how many of its backups were downloaded and
+ * restored, and the throughput of downloading them from the backup store.
+ */
+final class RestoreMetrics {
+
+  private final MeterRegistry registry;
+  private final StatefulGauge backupsToRestore;
+  private final Counter backupsDownloaded;
+  private final Counter backupsRestored;
+  private final StatefulGauge downloadsInProgress;
+  private final Counter downloadedBytes;
+  private final Timer downloadLatency;
+
+  RestoreMetrics(final MeterRegistry registry) {
+    this.registry = registry;
+    backupsToRestore =
+        StatefulGauge.builder(BACKUPS_TO_RESTORE.getName())
+            .description(BACKUPS_TO_RESTORE.getDescription())
+            .register(registry);
+    backupsDownloaded =
+        Counter.builder(BACKUPS_DOWNLOADED.getName())
+            .description(BACKUPS_DOWNLOADED.getDescription())
+            .register(registry);
+    backupsRestored =
+        Counter.builder(BACKUPS_RESTORED.getName())
+            .description(BACKUPS_RESTORED.getDescription())
+            .register(registry);
+    downloadsInProgress =
+        StatefulGauge.builder(DOWNLOADS_IN_PROGRESS.getName())
+            .description(DOWNLOADS_IN_PROGRESS.getDescription())
+            .register(registry);
+    downloadedBytes =
+        Counter.builder(DOWNLOADED_BYTES.getName())
+            .description(DOWNLOADED_BYTES.getDescription())
+            .baseUnit(DOWNLOADED_BYTES.getBaseUnit())
+            .register(registry);
+    downloadLatency = MicrometerUtil.buildTimer(DOWNLOAD_LATENCY).register(registry);
+  }
+
+  void setBackupsToRestore(final int count) {
+    backupsToRestore.set(count);
+  }
+
+  /**
+   * Starts to observe the download of a single backup. The returned timer must be closed once the
+   * download completed, successfully or not.
+   */
+  CloseableSilently startDownload() {
+    downloadsInProgress.increment();
+    final var timer = MicrometerUtil.timer(downloadLatency, Timer.start(registry));
+    return () -> {
+      timer.close();
+      downloadsInProgress.decrement();
+    };
+  }
+
+  void backupDownloaded(final long bytes) {
+    backupsDownloaded.increment();
+    downloadedBytes.increment(bytes);
+  }
+
+  void backupRestored() {
+    backupsRestored.increment();
+  }
+}
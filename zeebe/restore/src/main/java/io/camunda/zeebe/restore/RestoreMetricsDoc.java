@@ -0,0 +1,173 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.restore;
+
+import io.camunda.zeebe.util.micrometer.ExtendedMeterDocumentation;
+import io.camunda.zeebe.util.micrometer.MicrometerUtil.PartitionKeyNames;
+import io.micrometer.common.docs.KeyName;
+import io.micrometer.core.instrument.Meter.Type;
+import java.time.Duration;
+import java.util.stream.Stream;
+
+@SuppressWarnings("NullableProblems")
+public enum RestoreMetricsDoc implements ExtendedMeterDocumentation {
+  /** Number of backups which are restored to the partition */
+  BACKUPS_TO_RESTORE {
+    @Override
+    public String getDescription() {
+      return "Number of backups which are restored to the partition";
+    }
+
+    @Override
+    public String getName() {
+      return "zeebe.restore.backups.to.restore";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.GAUGE;
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {PartitionKeyNames.PARTITION};
+    }
+  },
+
+  /** Number of backups which were downloaded from the backup store */
+  BACKUPS_DOWNLOADED {
+    @Override
+    public String getDescription() {
+      return "Number of backups which were downloaded from the backup store";
+    }
+
+    @Override
+    public String getName() {
+      return "zeebe.restore.backups.downloaded";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.COUNTER;
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {PartitionKeyNames.PARTITION};
+    }
+  },
+
+  /** Number of backups which were restored to the data directory of the partition */
+  BACKUPS_RESTORED {
+    @Override
+    public String getDescription() {
+      return "Number of backups which were restored to the data directory of the partition";
+    }
+
+    @Override
+    public String getName() {
+      return "zeebe.restore.backups.restored";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.COUNTER;
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {PartitionKeyNames.PARTITION};
+    }
+  },
+
+  /** Number of downloads from the backup store which are in progress */
+  DOWNLOADS_IN_PROGRESS {
+    @Override
+    public String getDescription() {
+      return "Number of downloads from the backup store which are in progress";
+    }
+
+    @Override
+    public String getName() {
+      return "zeebe.restore.downloads.in.progress";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.GAUGE;
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {PartitionKeyNames.PARTITION};
+    }
+  },
+
+  /** Number of bytes downloaded from the backup store, to compute the download throughput */
+  DOWNLOADED_BYTES {
+    @Override
+    public String getDescription() {
+      return "Number of bytes downloaded from the backup store, to compute the download throughput";
+    }
+
+    @Override
+    public String getName() {
+      return "zeebe.restore.downloaded.bytes";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.COUNTER;
+    }
+
+    @Override
+    public String getBaseUnit() {
+      return "bytes";
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {PartitionKeyNames.PARTITION};
+    }
+  },
+
+  /** Time to download a single backup from the backup store */
+  DOWNLOAD_LATENCY {
+    @Override
+    public String getDescription() {
+      return "Time to download a single backup from the backup store";
+    }
+
+    @Override
+    public String getName() {
+      return "zeebe.restore.download.latency";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.TIMER;
+    }
+
+    @Override
+    public String getBaseUnit() {
+      return "seconds";
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {PartitionKeyNames.PARTITION};
+    }
+
+    @Override
+    public Duration[] getTimerSLOs() {
+      return Stream.of(100, 1000, 10_000, 60_000, 5 * 60_000, 30 * 60_000)
+          .map(s -> Duration.ofMillis(s.longValue()))
+          .toArray(Duration[]::new);
+    }
+  }
+}
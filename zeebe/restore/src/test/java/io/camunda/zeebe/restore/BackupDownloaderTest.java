@@ -0,0 +1,289 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.restore;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.camunda.zeebe.backup.api.Backup;
+import io.camunda.zeebe.backup.api.BackupIdentifier;
+import io.camunda.zeebe.backup.api.BackupStore;
+import io.camunda.zeebe.backup.common.BackupIdentifierImpl;
+import io.camunda.zeebe.backup.common.BackupImpl;
+import io.camunda.zeebe.backup.common.NamedFileSetImpl;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToLongFunction;
+import org.junit.jupiter.api.AutoClose;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.io.TempDir;
+
+@Timeout(value = 60)
+final class BackupDownloaderTest {
+
+  private static final List<BackupIdentifier> BACKUPS =
+      List.of(
+          new BackupIdentifierImpl(1, 1, 1),
+          new BackupIdentifierImpl(1, 1, 2),
+          new BackupIdentifierImpl(1, 1, 3));
+
+  @TempDir Path restoreDirectory;
+  @AutoClose MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private final BlockingQueue<BackupIdentifier> startedDownloads = new LinkedBlockingQueue<>();
+  private final Map<BackupIdentifier, CompletableFuture<Backup>> pendingDownloads =
+      new ConcurrentHashMap<>();
+  private BackupStore backupStore;
+
+  @BeforeEach
+  void setUp() {
+    backupStore = mock(BackupStore.class);
+    when(backupStore.restore(any(), any()))
+        .thenAnswer(
+            invocation -> {
+              final BackupIdentifier id = invocation.getArgument(0);
+              final var download =
+                  pendingDownloads.computeIfAbsent(id, ignored -> new CompletableFuture<>());
+              startedDownloads.add(id);
+              return download;
+            });
+  }
+
+  @Test
+  void shouldLimitConcurrentDownloads() throws Exception {
+    // given
+    try (final var downloader = newDownloader(2)) {
+      // when
+      final var downloads = downloader.downloadAll(BACKUPS, this::targetDirectory);
+
+      // then - only one backup is downloaded until the size of a backup is known
+      assertThat(startedDownloads.poll(10, TimeUnit.SECONDS)).isEqualTo(BACKUPS.get(0));
+      assertThat(startedDownloads.poll(100, TimeUnit.MILLISECONDS)).isNull();
+
+      // when
+      completeDownload(BACKUPS.get(0));
+
+      // then - the downloaded backup is kept on disk until it is released
+      assertThat(startedDownloads.poll(10, TimeUnit.SECONDS)).isEqualTo(BACKUPS.get(1));
+      assertThat(startedDownloads.poll(100, TimeUnit.MILLISECONDS)).isNull();
+
+      // when
+      downloads.get(0).join();
+      downloader.release(BACKUPS.get(0));
+
+      // then
+      assertThat(startedDownloads.poll(10, TimeUnit.SECONDS)).isEqualTo(BACKUPS.get(2));
+      completeDownload(BACKUPS.get(1));
+      completeDownload(BACKUPS.get(2));
+    }
+  }
+
+  @Test
+  void shouldNotStartDownloadWithoutEnoughDiskSpace() throws Exception {
+    // given
+    final var usableSpace = new AtomicLong(1000);
+    try (final var downloader = newDownloader(3, path -> usableSpace.get())) {
+      final var downloads = downloader.downloadAll(BACKUPS, this::targetDirectory);
+      assertThat(startedDownloads.poll(10, TimeUnit.SECONDS)).isEqualTo(BACKUPS.get(0));
+
+      // when
+      completeDownload(BACKUPS.get(0), 1024);
+      downloads.get(0).join();
+
+      // then
+      assertThat(startedDownloads.poll(100, TimeUnit.MILLISECONDS)).isNull();
+
+      // when
+      usableSpace.set(1500);
+      downloader.release(BACKUPS.get(0));
+
+      // then - the next download only fits once no other download is in progress
+      assertThat(startedDownloads.poll(10, TimeUnit.SECONDS)).isEqualTo(BACKUPS.get(1));
+      assertThat(startedDownloads.poll(100, TimeUnit.MILLISECONDS)).isNull();
+      completeDownload(BACKUPS.get(1));
+      assertThat(startedDownloads.poll(10, TimeUnit.SECONDS)).isEqualTo(BACKUPS.get(2));
+      completeDownload(BACKUPS.get(2));
+    }
+  }
+
+  @Test
+  void shouldReturnDownloadsInOrderOfBackups() throws Exception {
+    // given
+    try (final var downloader = newDownloader(3)) {
+      final var downloads = downloader.downloadAll(BACKUPS, this::targetDirectory);
+      startedDownloads.poll(10, TimeUnit.SECONDS);
+      completeDownload(BACKUPS.get(0));
+      startedDownloads.poll(10, TimeUnit.SECONDS);
+      startedDownloads.poll(10, TimeUnit.SECONDS);
+
+      // when
+      completeDownload(BACKUPS.get(2));
+      completeDownload(BACKUPS.get(1));
+
+      // then
+      for (int i = 0; i < BACKUPS.size(); i++) {
+        assertThat(downloads.get(i))
+            .succeedsWithin(Duration.ofSeconds(10))
+            .extracting(Backup::id)
+            .isEqualTo(BACKUPS.get(i));
+      }
+    }
+  }
+
+  @Test
+  void shouldFailDownloadIfBackupStoreFails() throws InterruptedException {
+    // given
+    try (final var downloader = newDownloader(1)) {
+      final var downloads = downloader.downloadAll(BACKUPS.subList(0, 1), this::targetDirectory);
+      startedDownloads.poll(10, TimeUnit.SECONDS);
+
+      // when
+      pendingDownloads.get(BACKUPS.get(0)).completeExceptionally(new RuntimeException("expected"));
+
+      // then
+      assertThat(downloads.get(0))
+          .failsWithin(Duration.ofSeconds(10))
+          .withThrowableThat()
+          .withMessageContaining("expected");
+    }
+  }
+
+  @Test
+  void shouldCancelRemainingDownloadsAndDeleteFailedDownload() throws InterruptedException {
+    // given
+    try (final var downloader = newDownloader(1)) {
+      final var downloads = downloader.downloadAll(BACKUPS, this::targetDirectory);
+      startedDownloads.poll(10, TimeUnit.SECONDS);
+
+      // when
+      pendingDownloads.get(BACKUPS.get(0)).completeExceptionally(new RuntimeException("expected"));
+
+      // then
+      assertThat(downloads.get(0)).failsWithin(Duration.ofSeconds(10));
+      assertThatThrownBy(() -> downloads.get(1).get(10, TimeUnit.SECONDS))
+          .isInstanceOf(CancellationException.class);
+      assertThatThrownBy(() -> downloads.get(2).get(10, TimeUnit.SECONDS))
+          .isInstanceOf(CancellationException.class);
+      assertThat(targetDirectory(BACKUPS.get(0))).doesNotExist();
+      assertThat(startedDownloads).isEmpty();
+    }
+  }
+
+  @Test
+  void shouldDeleteUnreleasedBackupsOnClose() throws Exception {
+    // given
+    final var downloader = newDownloader(1);
+    final var downloads = downloader.downloadAll(BACKUPS.subList(0, 1), this::targetDirectory);
+    startedDownloads.poll(10, TimeUnit.SECONDS);
+    completeDownload(BACKUPS.get(0), 1024);
+    downloads.get(0).join();
+
+    // when
+    downloader.close();
+
+    // then
+    assertThat(targetDirectory(BACKUPS.get(0))).doesNotExist();
+  }
+
+  @Test
+  void shouldCancelDownloadsWhichAreNotStartedOnClose() throws Exception {
+    // given
+    final var downloader = newDownloader(1);
+    final var downloads = downloader.downloadAll(BACKUPS, this::targetDirectory);
+    assertThat(startedDownloads.poll(10, TimeUnit.SECONDS)).isEqualTo(BACKUPS.get(0));
+
+    // when
+    final var closed = CompletableFuture.runAsync(downloader::close);
+
+    // then
+    assertThatThrownBy(() -> downloads.get(1).get(10, TimeUnit.SECONDS))
+        .isInstanceOf(CancellationException.class);
+    assertThatThrownBy(() -> downloads.get(2).get(10, TimeUnit.SECONDS))
+        .isInstanceOf(CancellationException.class);
+
+    // the started download is awaited on close
+    assertThat(closed).isNotDone();
+    completeDownload(BACKUPS.get(0));
+    assertThat(closed).succeedsWithin(Duration.ofSeconds(10));
+    assertThat(downloads.get(0)).isCompleted();
+    assertThat(startedDownloads).isEmpty();
+    assertThat(targetDirectory(BACKUPS.get(0))).doesNotExist();
+  }
+
+  @Test
+  void shouldTrackDownloadProgress() throws Exception {
+    // given
+    try (final var downloader = newDownloader(1)) {
+      final var downloads = downloader.downloadAll(BACKUPS.subList(0, 1), this::targetDirectory);
+      startedDownloads.poll(10, TimeUnit.SECONDS);
+
+      // when
+      completeDownload(BACKUPS.get(0));
+      downloads.get(0).join();
+
+      // then
+      assertThat(meterRegistry.get(RestoreMetricsDoc.BACKUPS_DOWNLOADED.getName()).counter())
+          .returns(1.0, Counter::count);
+      assertThat(meterRegistry.get(RestoreMetricsDoc.DOWNLOAD_LATENCY.getName()).timer())
+          .returns(1L, Timer::count);
+      assertThat(meterRegistry.get(RestoreMetricsDoc.DOWNLOADS_IN_PROGRESS.getName()).gauge())
+          .returns(0.0, Gauge::value);
+    }
+  }
+
+  private BackupDownloader newDownloader(final int concurrentDownloads) {
+    return newDownloader(concurrentDownloads, path -> Long.MAX_VALUE);
+  }
+
+  private BackupDownloader newDownloader(
+      final int concurrentDownloads, final ToLongFunction<Path> usableSpace) {
+    return new BackupDownloader(
+        backupStore, concurrentDownloads, new RestoreMetrics(meterRegistry), usableSpace);
+  }
+
+  private Path targetDirectory(final BackupIdentifier id) {
+    return restoreDirectory.resolve(String.valueOf(id.checkpointId()));
+  }
+
+  private void completeDownload(final BackupIdentifier id) throws IOException {
+    completeDownload(id, 0);
+  }
+
+  private void completeDownload(final BackupIdentifier id, final int size) throws IOException {
+    final var segment = Files.write(targetDirectory(id).resolve("segment"), new byte[size]);
+    pendingDownloads
+        .get(id)
+        .complete(
+            new BackupImpl(
+                id,
+                null,
+                new NamedFileSetImpl(Map.of()),
+                new NamedFileSetImpl(Map.of("segment", segment))));
+  }
+}
@@ -73,6 +73,7 @@ class PartitionRestoreServiceTest {
   private PartitionRestoreService restoreService;
   private FileBasedSnapshotStore snapshotStore;
   private BackupService backupService;
+  private RaftPartition raftPartition;
   private final int nodeId = 1;
   private final int partitionId = 1;
 
@@ -99,7 +100,7 @@ class PartitionRestoreServiceTest {
     final var partitionMetadata =
         new PartitionMetadata(
             PartitionId.from("raft", partitionId), Set.of(), Map.of(), 1, new MemberId("1"));
-    final var raftPartition =
+    raftPartition =
         new RaftPartition(partitionMetadata, null, dataDirectoryToRestore.toFile(), meterRegistry);
     restoreService =
         new PartitionRestoreService(
@@ -176,6 +177,47 @@ class PartitionRestoreServiceTest {
         .containsExactlyInAnyOrderElementsOf(expectedSnapshotFiles);
   }
 
+  @Test
+  void shouldRestoreFromMultipleBackups() throws IOException, FlushException {
+    // given
+    appendRecord(1, "data");
+    appendRecord(2, "data");
+    appendRecord(3, "checkpoint");
+    takeSnapshot(1, 2);
+    takeBackup(1, 3);
+
+    appendRecord(4, "data");
+    appendRecord(5, "checkpoint");
+    takeBackup(2, 5);
+
+    appendRecord(6, "data");
+    appendRecord(7, "checkpoint");
+    takeBackup(3, 7);
+
+    // when
+    restoreService.restore(new long[] {3, 1, 2}, BackupValidator.none());
+
+    // then
+    try (final var restoredJournal =
+            SegmentedJournal.builder(meterRegistry)
+                .withDirectory(dataDirectoryToRestore.toFile())
+                .withName(raftPartition.name())
+                .withMetaStore(mock(JournalMetaStore.class))
+                .build();
+        final var reader = restoredJournal.openReader()) {
+      reader.seekToLast();
+      assertThat(reader.next().asqn()).isEqualTo(7);
+    }
+
+    assertThat(dataDirectoryToRestore)
+        .describedAs("All temporary restore directories are removed")
+        .isDirectoryNotContaining("glob:**/restoring-*");
+    assertThat(meterRegistry.get(RestoreMetricsDoc.BACKUPS_RESTORED.getName()).counter().count())
+        .isEqualTo(3);
+    assertThat(meterRegistry.get(RestoreMetricsDoc.BACKUPS_DOWNLOADED.getName()).counter().count())
+        .isEqualTo(3);
+  }
+
   @Test
   void shouldFailToRestoreWhenCheckpointPositionNotFound() {
     // given
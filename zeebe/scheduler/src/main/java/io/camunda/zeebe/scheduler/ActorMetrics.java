@@ -63,6 +63,12 @@ public interface ActorMetrics {
             return closeable;
           }
 
+          @Override
+          public void countCpuTime(final long cpuTimeNs) {}
+
+          @Override
+          public void observeBlockedTime(final long blockedTimeNs) {}
+
           @Override
           public boolean isEnabled() {
             return false;
@@ -75,6 +81,12 @@ public interface ActorMetrics {
 
     CloseableSilently startExecutionTimer();
 
+    /** Adds CPU time which the actor's thread spent executing the actor task. */
+    void countCpuTime(final long cpuTimeNs);
+
+    /** Observes the time the actor task was ready to run, but waited for a free thread. */
+    void observeBlockedTime(final long blockedTimeNs);
+
     static ActorMetricsScoped noop() {
       return NOOP;
     }
@@ -98,6 +98,63 @@ public enum ActorMetricsDoc implements ExtendedMeterDocumentation {
       return new KeyName[] {ActorMetricsKeyName.ACTOR_NAME};
     }
   },
+  /** CPU time spent executing a certain actor task */
+  CPU_TIME {
+    @Override
+    public String getName() {
+      return "zeebe.actor.task.cpu.time";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.COUNTER;
+    }
+
+    @Override
+    public String getDescription() {
+      return "CPU time spent executing a certain actor task (in seconds)";
+    }
+
+    @Override
+    public String getBaseUnit() {
+      return "seconds";
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {ActorMetricsKeyName.ACTOR_NAME};
+    }
+  },
+  /** Time a certain actor task was ready to run, but waited for a thread to execute it */
+  BLOCKED_TIME {
+    private static final Duration[] TIMER_SLOS =
+        MicrometerUtil.exponentialBucketDuration(10, 4, 12, ChronoUnit.MICROS);
+
+    @Override
+    public String getName() {
+      return "zeebe.actor.task.blocked.time";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.TIMER;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Time a certain actor task was ready to run, but waited for a thread to execute it";
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {ActorMetricsKeyName.ACTOR_NAME};
+    }
+
+    @Override
+    public Duration[] getTimerSLOs() {
+      return TIMER_SLOS;
+    }
+  },
   /** The length of the job queue for an actor task */
   JOB_QUEUE_LENGTH {
     @Override
@@ -56,6 +56,22 @@ final class ActorMetricsImpl implements ActorMetrics {
         .register(registry);
   }
 
+  private Counter createCpuTime(final String actorName) {
+    return Counter.builder(CPU_TIME.getName())
+        .description(CPU_TIME.getDescription())
+        .baseUnit(CPU_TIME.getBaseUnit())
+        .tag(ActorMetricsKeyName.ACTOR_NAME.asString(), actorName)
+        .register(registry);
+  }
+
+  private Timer createBlockedTime(final String actorName) {
+    return Timer.builder(BLOCKED_TIME.getName())
+        .description(BLOCKED_TIME.getDescription())
+        .tag(ActorMetricsKeyName.ACTOR_NAME.asString(), actorName)
+        .serviceLevelObjectives(BLOCKED_TIME.getTimerSLOs())
+        .register(registry);
+  }
+
   private Gauge createJobQueueLength(final String actorName, final AtomicLong value) {
     return Gauge.builder(JOB_QUEUE_LENGTH.getName(), value::get)
         .description(JOB_QUEUE_LENGTH.getDescription())
@@ -76,7 +92,9 @@ final class ActorMetricsImpl implements ActorMetrics {
         createExecutionTimer(actorName),
         createJobQueueLength(actorName, jobQueueLength),
         jobQueueLength,
-        createExecutionCount(actorName));
+        createExecutionCount(actorName),
+        createCpuTime(actorName),
+        createBlockedTime(actorName));
   }
 
   @Override
@@ -90,7 +108,9 @@ final class ActorMetricsImpl implements ActorMetrics {
       Timer executionLatency,
       Gauge jobQueueLengthGauge,
       AtomicLong jobQueueLength,
-      Counter executionCount)
+      Counter executionCount,
+      Counter cpuTime,
+      Timer blockedTime)
       implements ActorMetricsScoped {
 
     @Override
@@ -99,6 +119,8 @@ final class ActorMetricsImpl implements ActorMetrics {
       registry.remove(executionLatency);
       registry.remove(jobQueueLengthGauge);
       registry.remove(executionCount);
+      registry.remove(cpuTime);
+      registry.remove(blockedTime);
     }
 
     @Override
@@ -116,6 +138,16 @@ final class ActorMetricsImpl implements ActorMetrics {
       return MicrometerUtil.timer(executionLatency, Timer.start(registry));
     }
 
+    @Override
+    public void countCpuTime(final long cpuTimeNs) {
+      cpuTime.increment(cpuTimeNs / (double) TimeUnit.SECONDS.toNanos(1));
+    }
+
+    @Override
+    public void observeBlockedTime(final long blockedTimeNs) {
+      blockedTime.record(blockedTimeNs, TimeUnit.NANOSECONDS);
+    }
+
     @Override
     public boolean isEnabled() {
       return true;
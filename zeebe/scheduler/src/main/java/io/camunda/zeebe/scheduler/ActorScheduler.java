@@ -125,6 +125,8 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
     /** 20 ms instead of {@link BackoffIdleStrategy#DEFAULT_MAX_PARK_PERIOD_NS}. */
     public static final long DEFAULT_MAX_PARK_PERIOD_NS = 20_000_000;
 
+    public static final int DEFAULT_VIRTUAL_IO_THREAD_COUNT = 256;
+
     private String schedulerName = "";
     private ActorClock actorClock;
     private int cpuBoundThreadsCount = Math.max(1, Runtime.getRuntime().availableProcessors() - 2);
@@ -138,6 +140,10 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
     private Supplier<IdleStrategy> idleStrategySupplier =
         ActorSchedulerBuilder::defaultIdleStrategySupplier;
     private ActorMetrics actorMetrics = ActorMetrics.disabled();
+    private boolean localityAwareScheduling = false;
+    private int localityGroupSize = 0;
+    private boolean virtualIoThreads = false;
+    private int virtualIoThreadCount = DEFAULT_VIRTUAL_IO_THREAD_COUNT;
 
     public static IdleStrategy defaultIdleStrategySupplier() {
       return new BackoffIdleStrategy(
@@ -202,6 +208,60 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
       return this;
     }
 
+    public boolean isLocalityAwareScheduling() {
+      return localityAwareScheduling;
+    }
+
+    /**
+     * Enables the locality aware scheduling of the CPU bound actors: threads steal work within
+     * their locality group first, idle threads are woken up as soon as tasks queue up behind each
+     * other, and the CPU time of each actor task is measured, if the metrics are enabled.
+     */
+    public ActorSchedulerBuilder setLocalityAwareScheduling(final boolean localityAwareScheduling) {
+      this.localityAwareScheduling = localityAwareScheduling;
+      return this;
+    }
+
+    public int getLocalityGroupSize() {
+      return localityGroupSize;
+    }
+
+    /**
+     * Sets the number of CPU bound threads per locality group, e.g. the number of threads per CPU
+     * socket. The default of 0 puts all threads into a single group. Only used with locality aware
+     * scheduling.
+     */
+    public ActorSchedulerBuilder setLocalityGroupSize(final int localityGroupSize) {
+      this.localityGroupSize = localityGroupSize;
+      return this;
+    }
+
+    public boolean isVirtualIoThreads() {
+      return virtualIoThreads;
+    }
+
+    /**
+     * Runs the I/O bound actors on virtual threads instead of on the fixed pool of platform
+     * threads, see {@link VirtualIoThreadGroup}.
+     */
+    public ActorSchedulerBuilder setVirtualIoThreads(final boolean virtualIoThreads) {
+      this.virtualIoThreads = virtualIoThreads;
+      return this;
+    }
+
+    public int getVirtualIoThreadCount() {
+      return virtualIoThreadCount;
+    }
+
+    /**
+     * Sets the maximum number of virtual threads which run the I/O bound actors; they are started
+     * on demand, see {@link VirtualIoThreadGroup}. Only used with virtual I/O threads.
+     */
+    public ActorSchedulerBuilder setVirtualIoThreadCount(final int virtualIoThreadCount) {
+      this.virtualIoThreadCount = virtualIoThreadCount;
+      return this;
+    }
+
     public ActorThreadFactory getActorThreadFactory() {
       return actorThreadFactory;
     }
@@ -241,7 +301,8 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
 
     private void initIoBoundActorThreadGroup() {
       if (ioBoundActorGroup == null) {
-        ioBoundActorGroup = new IoThreadGroup(this);
+        ioBoundActorGroup =
+            virtualIoThreads ? new VirtualIoThreadGroup(this) : new IoThreadGroup(this);
       }
     }
 
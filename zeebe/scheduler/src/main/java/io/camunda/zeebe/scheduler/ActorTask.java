@@ -62,6 +62,12 @@ public class ActorTask {
 
   private ActorMetricsScoped metrics = ActorMetricsScoped.NOOP;
 
+  /**
+   * When the task was last queued to be executed, if the metrics are enabled. Written before the
+   * task is appended to a runner's queue, and read after it was taken from the queue.
+   */
+  private long queuedAtNs = -1;
+
   public ActorTask(final Actor actor) {
     this.actor = actor;
   }
@@ -546,6 +552,19 @@ public class ActorTask {
     metrics = scoped;
   }
 
+  /** Called before the task is queued to be executed by one of the threads of its group. */
+  void onQueued() {
+    queuedAtNs = metrics.isEnabled() ? System.nanoTime() : -1;
+  }
+
+  /**
+   * @return the time since the task was queued, i.e. the time it was ready to run but was blocked
+   *     waiting for a thread, or -1 if it's unknown
+   */
+  long getBlockedTimeNs(final long nowNs) {
+    return queuedAtNs >= 0 ? nowNs - queuedAtNs : -1;
+  }
+
   /** Describes an actor's scheduling state */
   public enum TaskSchedulingState {
     NOT_SCHEDULED,
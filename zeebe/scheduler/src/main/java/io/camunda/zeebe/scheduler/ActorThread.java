@@ -14,6 +14,8 @@ import io.camunda.zeebe.util.Loggers;
 import io.camunda.zeebe.util.error.FatalErrorHandler;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.VarHandle;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.locks.LockSupport;
 import java.util.function.Consumer;
@@ -26,6 +28,10 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
   private static final Logger LOG = Loggers.ACTOR_LOGGER;
   private static final FatalErrorHandler FATAL_ERROR_HANDLER = FatalErrorHandler.withLogger(LOG);
   private static final VarHandle STATE_HANDLE;
+  private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+
+  /** The actor thread running on the current virtual thread, see {@link #startVirtualRunner()}. */
+  private static final ThreadLocal<ActorThread> VIRTUAL_CURRENT = new ThreadLocal<>();
 
   static {
     try {
@@ -49,6 +55,8 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
   private final BoundedArrayQueue<ActorJob> jobs = new BoundedArrayQueue<>(2048);
   private final ActorThreadGroup actorThreadGroup;
   private volatile ActorThreadState state;
+  private volatile Thread runner = this;
+  private boolean cpuTimeAccounting;
 
   public ActorThread(
       final String name,
@@ -100,12 +108,23 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
 
     if (currentTask != null) {
       final var metrics = currentTask.getActorMetrics();
+      if (metrics.isEnabled()) {
+        final long blockedTimeNs = currentTask.getBlockedTimeNs(System.nanoTime());
+        if (blockedTimeNs >= 0) {
+          metrics.observeBlockedTime(blockedTimeNs);
+        }
+      }
+      final long cpuTimeBefore =
+          cpuTimeAccounting && metrics.isEnabled() ? THREAD_MX_BEAN.getCurrentThreadCpuTime() : -1;
       try (final var timer = metrics.startExecutionTimer()) {
         executeCurrentTask();
       } finally {
         if (metrics.isEnabled()) {
           metrics.updateJobQueueLength(currentTask.estimateQueueLength());
           metrics.countExecution();
+          if (cpuTimeBefore >= 0) {
+            metrics.countCpuTime(THREAD_MX_BEAN.getCurrentThreadCpuTime() - cpuTimeBefore);
+          }
         }
       }
     } else {
@@ -142,6 +161,11 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
     idleStrategy.hintWorkAvailable();
   }
 
+  /** @return true if this thread found no task to execute the last time it looked for one */
+  public boolean isIdle() {
+    return idleStrategy.isIdle;
+  }
+
   /** Must be called from this thread, schedules a job to be run later. */
   public void scheduleTimer(final TimerSubscription timer) {
     timerJobQueue.schedule(timer, clock);
@@ -164,10 +188,14 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
      * since they are kept in a map datastructure on the current thread.
      * This implementation takes advantage of the fact that ActorTaskRunner extends Thread
      * itself. If we can cast down, the current thread is the current ActorTaskRunner.
+     * Only actor threads which run on a virtual thread need the thread-local.
      */
-    return Thread.currentThread() instanceof ActorThread
-        ? (ActorThread) Thread.currentThread()
-        : null;
+    final Thread thread = Thread.currentThread();
+    if (thread instanceof final ActorThread actorThread) {
+      return actorThread;
+    }
+
+    return thread.isVirtual() ? VIRTUAL_CURRENT.get() : null;
   }
 
   public static ActorThread ensureCalledFromActorThread(final String methodName) {
@@ -208,16 +236,46 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
   @Override
   public synchronized void start() {
     if (STATE_HANDLE.compareAndSet(this, ActorThreadState.NEW, ActorThreadState.RUNNING)) {
-      super.start();
+      startRunner();
     } else {
       throw new IllegalStateException("Cannot start runner, not in state 'NEW'.");
     }
   }
 
+  /**
+   * Starts the thread which runs this actor thread's loop. By default, that's this thread itself;
+   * subclasses may run the loop on a virtual thread instead, see {@link #startVirtualRunner()}.
+   */
+  protected void startRunner() {
+    super.start();
+  }
+
+  /**
+   * Runs this actor thread's loop on a new virtual thread, instead of on this thread itself. Code
+   * running on the virtual thread sees this actor thread as {@link #current()}.
+   */
+  protected final void startVirtualRunner() {
+    final Thread virtualThread =
+        Thread.ofVirtual()
+            .name(getName())
+            .unstarted(
+                () -> {
+                  VIRTUAL_CURRENT.set(this);
+                  run();
+                });
+    runner = virtualThread;
+    virtualThread.start();
+  }
+
   @Override
   public void run() {
     idleStrategy.init();
     MDC.put("actor-scheduler", actorThreadGroup.getSchedulerName());
+    cpuTimeAccounting =
+        actorThreadGroup.isCpuTimeAccountingEnabled()
+            && !Thread.currentThread().isVirtual()
+            && THREAD_MX_BEAN.isCurrentThreadCpuTimeSupported()
+            && THREAD_MX_BEAN.isThreadCpuTimeEnabled();
 
     while (state == ActorThreadState.RUNNING) {
       try {
@@ -280,7 +338,8 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
 
   protected class ActorTaskRunnerIdleStrategy {
     private final IdleStrategy idleStrategy;
-    private boolean isIdle;
+    // read by the other threads of the group, to wake up idle threads when work queues up
+    private volatile boolean isIdle;
 
     protected ActorTaskRunnerIdleStrategy(final IdleStrategy idleStrategy) {
       this.idleStrategy = idleStrategy;
@@ -291,7 +350,7 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
     }
 
     public void hintWorkAvailable() {
-      LockSupport.unpark(ActorThread.this);
+      LockSupport.unpark(runner);
     }
 
     protected void onIdle() {
@@ -305,7 +364,9 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
 
     protected void onTaskExecuted() {
       idleStrategy.reset();
-      isIdle = false;
+      if (isIdle) {
+        isIdle = false;
+      }
     }
   }
 }
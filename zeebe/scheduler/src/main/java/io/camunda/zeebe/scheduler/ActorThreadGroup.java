@@ -8,7 +8,9 @@
 package io.camunda.zeebe.scheduler;
 
 import io.camunda.zeebe.scheduler.ActorScheduler.ActorSchedulerBuilder;
+import io.camunda.zeebe.scheduler.ActorScheduler.ActorThreadFactory;
 import io.camunda.zeebe.util.Loggers;
+import java.util.Arrays;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ThreadLocalRandom;
 
@@ -18,57 +20,154 @@ import java.util.concurrent.ThreadLocalRandom;
  */
 public abstract class ActorThreadGroup {
   protected final String groupName;
+  /** The threads of this group; threads which are created on demand are null until then. */
   protected final ActorThread[] threads;
   protected final WorkStealingGroup tasks;
   protected final int numOfThreads;
   private final String schedulerName;
+  private final boolean localityAware;
+  private final ActorSchedulerBuilder builder;
+  private final ActorThreadFactory threadFactory;
 
   public ActorThreadGroup(
       final String groupName,
       final int numOfThreads,
       final ActorSchedulerBuilder builder,
       final String schedulerName) {
+    this(groupName, numOfThreads, builder, schedulerName, false);
+  }
+
+  /**
+   * @param localityAware if true, the threads steal work within their locality group first (see
+   *     {@link ActorSchedulerBuilder#setLocalityGroupSize(int)}), idle threads are woken up when
+   *     tasks queue up behind each other, and the CPU time of the actor tasks is measured
+   */
+  protected ActorThreadGroup(
+      final String groupName,
+      final int numOfThreads,
+      final ActorSchedulerBuilder builder,
+      final String schedulerName,
+      final boolean localityAware) {
+    this(
+        groupName,
+        numOfThreads,
+        builder,
+        schedulerName,
+        localityAware,
+        localityAware ? builder.getLocalityGroupSize() : 0,
+        builder.getActorThreadFactory(),
+        numOfThreads);
+  }
+
+  /**
+   * @param numOfThreads the maximum number of threads
+   * @param localityGroupSize the number of threads per locality group, see {@link
+   *     WorkStealingGroup#WorkStealingGroup(int, int)}
+   * @param threadFactory creates the threads of this group
+   * @param initialThreads the number of threads which are created right away; the others are only
+   *     created on demand, see {@link #newThread(int)}
+   */
+  protected ActorThreadGroup(
+      final String groupName,
+      final int numOfThreads,
+      final ActorSchedulerBuilder builder,
+      final String schedulerName,
+      final boolean localityAware,
+      final int localityGroupSize,
+      final ActorThreadFactory threadFactory,
+      final int initialThreads) {
     this.groupName = groupName;
     this.numOfThreads = numOfThreads;
     this.schedulerName = schedulerName;
+    this.localityAware = localityAware;
+    this.builder = builder;
+    this.threadFactory = threadFactory;
 
-    tasks = new WorkStealingGroup(numOfThreads);
+    tasks = new WorkStealingGroup(numOfThreads, localityGroupSize);
 
     threads = new ActorThread[numOfThreads];
 
-    for (int t = 0; t < numOfThreads; t++) {
-      final String threadName = String.format("%s-%d", groupName, t);
-      final ActorThread thread =
-          builder
-              .getActorThreadFactory()
-              .newThread(
-                  threadName,
-                  t,
-                  this,
-                  tasks,
-                  builder.getActorClock(),
-                  builder.getActorTimerQueue(),
-                  builder.getActorMetrics(),
-                  builder.getIdleStrategySupplier().get());
-
-      threads[t] = thread;
+    for (int t = 0; t < initialThreads; t++) {
+      newThread(t);
     }
   }
 
+  /** Creates the thread with the given id, which must not have been created yet. */
+  protected final ActorThread newThread(final int id) {
+    final String threadName = String.format("%s-%d", groupName, id);
+    final ActorThread thread =
+        threadFactory.newThread(
+            threadName,
+            id,
+            this,
+            tasks,
+            builder.getActorClock(),
+            builder.getActorTimerQueue(),
+            builder.getActorMetrics(),
+            builder.getIdleStrategySupplier().get());
+
+    threads[id] = thread;
+    return thread;
+  }
+
   public void submit(final ActorTask actorTask) {
     final ActorThread current = ActorThread.current();
+    final int threadId;
     if (current != null && current.getActorThreadGroup() == this) {
-      tasks.submit(actorTask, current.getRunnerId());
+      threadId = current.getRunnerId();
     } else {
-      final int threadId = ThreadLocalRandom.current().nextInt(numOfThreads);
-      tasks.submit(actorTask, threadId);
+      threadId = ThreadLocalRandom.current().nextInt(numOfThreads);
+    }
+
+    // the task has to wait behind another one, unless an idle thread steals it
+    final boolean queuesUp = localityAware && tasks.hasQueuedTasks(threadId);
+    actorTask.onQueued();
+    tasks.submit(actorTask, threadId);
+
+    if (current == null || current.getActorThreadGroup() != this) {
       threads[threadId].hintWorkAvailable();
     }
+    if (queuesUp) {
+      wakeUpIdleThread(threadId);
+    }
+  }
+
+  boolean isCpuTimeAccountingEnabled() {
+    return localityAware;
+  }
+
+  /**
+   * Wakes up an idle thread, such that it steals the queued work of the given busy thread instead
+   * of waiting for its park period to end. Prefers the threads of the busy thread's locality group.
+   */
+  private void wakeUpIdleThread(final int busyThreadId) {
+    final int groupSize = tasks.getLocalityGroupSize();
+    final int groupStart = tasks.localityGroupOf(busyThreadId) * groupSize;
+    final int groupEnd = Math.min(groupStart + groupSize, numOfThreads);
+
+    if (wakeUpIdleThread(busyThreadId, groupStart, groupEnd)
+        || wakeUpIdleThread(busyThreadId, 0, groupStart)) {
+      return;
+    }
+    wakeUpIdleThread(busyThreadId, groupEnd, numOfThreads);
+  }
+
+  private boolean wakeUpIdleThread(final int busyThreadId, final int from, final int to) {
+    for (int t = from; t < to; t++) {
+      final ActorThread thread = threads[t];
+      if (t != busyThreadId && thread != null && thread.isIdle()) {
+        thread.hintWorkAvailable();
+        return true;
+      }
+    }
+    return false;
   }
 
   public void start() {
     for (final ActorThread actorThread : threads) {
-      actorThread.start();
+      if (actorThread != null) {
+        actorThread.start();
+      }
     }
   }
 
@@ -80,9 +179,14 @@ public abstract class ActorThreadGroup {
     Loggers.ACTOR_LOGGER.debug("Closing actor thread ground '{}'", groupName);
 
     final CompletableFuture<Void>[] terminationFutures = new CompletableFuture[numOfThreads];
+    Arrays.fill(terminationFutures, CompletableFuture.completedFuture(null));
 
     for (int i = 0; i < numOfThreads; i++) {
       final ActorThread thread = threads[i];
+      if (thread == null) {
+        continue;
+      }
+
       try {
         terminationFutures[i] = thread.close();
       } catch (final IllegalStateException e) {
@@ -0,0 +1,143 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler;
+
+import io.camunda.zeebe.scheduler.ActorScheduler.ActorSchedulerBuilder;
+import io.camunda.zeebe.scheduler.clock.ActorClock;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import org.agrona.concurrent.IdleStrategy;
+
+/**
+ * Thread group for the blocking I/O tasks, which runs its threads on virtual threads instead of
+ * platform threads. The group starts with as many threads as the {@link IoThreadGroup}, and starts
+ * another thread whenever a task is submitted while all threads are busy, up to {@link
+ * ActorSchedulerBuilder#getVirtualIoThreadCount()} threads. An actor which blocks for a long time,
+ * e.g. an exporter waiting on the network, therefore doesn't starve the other I/O actors: the tasks
+ * queued behind it are taken by another thread, and the blocked virtual thread doesn't occupy a
+ * carrier thread.
+ *
+ * <p>Threads are not stopped when they become idle again, as an idle virtual thread is cheap.
+ * Each actor task is still executed by one thread at a time, as in any other group.
+ */
+public final class VirtualIoThreadGroup extends ActorThreadGroup {
+
+  // the threads [0, startedThreads) exist; only modified while holding the lock on this group
+  private volatile int startedThreads;
+  private boolean isStarted;
+  private boolean isClosed;
+
+  public VirtualIoThreadGroup(final ActorSchedulerBuilder builder) {
+    this(builder, initialThreads(builder));
+  }
+
+  private VirtualIoThreadGroup(final ActorSchedulerBuilder builder, final int initialThreads) {
+    super(
+        "zb-virtual-io-workers",
+        Math.max(initialThreads, builder.getVirtualIoThreadCount()),
+        builder,
+        builder.getSchedulerName(),
+        false,
+        0,
+        VirtualActorThread::new,
+        initialThreads);
+    startedThreads = initialThreads;
+    tasks.setActiveRunners(initialThreads);
+  }
+
+  @Override
+  public void submit(final ActorTask actorTask) {
+    final ActorThread current = ActorThread.current();
+    final boolean isOwnThread = current != null && current.getActorThreadGroup() == this;
+    final int threadCount = startedThreads;
+    final int threadId =
+        isOwnThread ? current.getRunnerId() : ThreadLocalRandom.current().nextInt(threadCount);
+
+    // the task has to wait behind another one, unless another thread takes it
+    final boolean queuesUp = tasks.hasQueuedTasks(threadId);
+    actorTask.onQueued();
+    tasks.submit(actorTask, threadId);
+
+    if (isOwnThread && !queuesUp) {
+      // the current thread takes the task as soon as it's done with its current one
+      return;
+    }
+
+    final ActorThread thread = threads[threadId];
+    if (!isOwnThread && thread.isIdle()) {
+      thread.hintWorkAvailable();
+    } else if (!wakeUpIdleThread(threadId, threadCount)) {
+      // every thread is busy, e.g. blocked on I/O, so none would take the task any time soon
+      startThread(threadCount);
+    }
+  }
+
+  @Override
+  public synchronized void start() {
+    isStarted = true;
+    super.start();
+  }
+
+  @Override
+  public synchronized CompletableFuture<Void> closeAsync() {
+    isClosed = true;
+    return super.closeAsync();
+  }
+
+  private boolean wakeUpIdleThread(final int busyThreadId, final int threadCount) {
+    for (int t = 0; t < threadCount; t++) {
+      final ActorThread thread = threads[t];
+      if (t != busyThreadId && thread.isIdle()) {
+        thread.hintWorkAvailable();
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Starts another thread, unless another thread was started since the caller saw the given number
+   * of threads, or the maximum number of threads is reached.
+   */
+  private synchronized void startThread(final int seenThreadCount) {
+    if (isClosed || startedThreads != seenThreadCount || startedThreads == numOfThreads) {
+      return;
+    }
+
+    final ActorThread thread = newThread(startedThreads);
+    startedThreads++;
+    tasks.setActiveRunners(startedThreads);
+    if (isStarted) {
+      thread.start();
+    }
+  }
+
+  private static int initialThreads(final ActorSchedulerBuilder builder) {
+    return Math.max(1, builder.getIoBoundActorThreadCount());
+  }
+
+  private static final class VirtualActorThread extends ActorThread {
+
+    private VirtualActorThread(
+        final String name,
+        final int id,
+        final ActorThreadGroup threadGroup,
+        final TaskScheduler taskScheduler,
+        final ActorClock clock,
+        final ActorTimerQueue timerQueue,
+        final ActorMetrics actorMetrics,
+        final IdleStrategy idleStrategy) {
+      super(name, id, threadGroup, taskScheduler, clock, timerQueue, actorMetrics, idleStrategy);
+    }
+
+    @Override
+    protected void startRunner() {
+      startVirtualRunner();
+    }
+  }
+}
@@ -11,13 +11,34 @@ import static io.camunda.zeebe.scheduler.ActorTask.TaskSchedulingState.QUEUED;
 
 import java.util.concurrent.ThreadLocalRandom;
 
-/** Workstealing group maintains a queue per thread. */
+/**
+ * Workstealing group maintains a queue per thread.
+ *
+ * <p>The threads can be divided into locality groups of consecutive runners, e.g. the runners
+ * which share a CPU socket. A thief then steals from the runners of its own locality group first,
+ * and only steals from other groups if its own group has no work left.
+ */
 public final class WorkStealingGroup implements TaskScheduler {
   private final int numOfThreads;
+  private final int localityGroupSize;
   private final ActorTaskQueue[] taskQueues;
+  // the runners [0, activeRunners) take tasks; only less than all if runners are started on demand
+  private volatile int activeRunners;
 
   public WorkStealingGroup(final int numOfThreads) {
+    this(numOfThreads, numOfThreads);
+  }
+
+  /**
+   * @param numOfThreads the number of runners
+   * @param localityGroupSize the number of runners per locality group; a size of 0 or a size of at
+   *     least the number of runners puts all runners into a single group
+   */
+  public WorkStealingGroup(final int numOfThreads, final int localityGroupSize) {
     this.numOfThreads = numOfThreads;
+    this.localityGroupSize =
+        localityGroupSize > 0 ? Math.min(localityGroupSize, numOfThreads) : numOfThreads;
+    activeRunners = numOfThreads;
     taskQueues = new ActorTaskQueue[numOfThreads];
     for (int i = 0; i < numOfThreads; i++) {
       taskQueues[i] = new ActorTaskQueue();
@@ -35,6 +56,37 @@ public final class WorkStealingGroup implements TaskScheduler {
     taskQueues[threadId].append(task);
   }
 
+  /**
+   * @return true if the given runner's queue has tasks which were not taken yet; tasks which were
+   *     stolen from the queue may still be counted until the runner polls them
+   */
+  public boolean hasQueuedTasks(final int threadId) {
+    return !taskQueues[threadId].isEmpty();
+  }
+
+  /** @return the index of the locality group of the given runner */
+  public int localityGroupOf(final int threadId) {
+    return threadId / localityGroupSize;
+  }
+
+  /**
+   * Sets the number of runners which take tasks, such that thieves don't look at the queues of
+   * runners which were not started yet. Only supported without locality groups.
+   */
+  public void setActiveRunners(final int activeRunners) {
+    if (localityGroupSize < numOfThreads) {
+      throw new IllegalStateException(
+          "Expected to start runners on demand only without locality groups, but the runners are"
+              + " divided into groups of "
+              + localityGroupSize);
+    }
+    this.activeRunners = activeRunners;
+  }
+
+  public int getLocalityGroupSize() {
+    return localityGroupSize;
+  }
+
   /**
    * Attempts to acquire the next task to execute
    *
@@ -60,6 +112,28 @@ public final class WorkStealingGroup implements TaskScheduler {
    * there is more work to do than there is resources (threads) to run it.
    */
   private ActorTask trySteal(final ActorThread currentThread) {
+    if (localityGroupSize >= numOfThreads) {
+      return trySteal(currentThread.getRunnerId(), 0, activeRunners);
+    }
+
+    // steal within the own locality group first, then visit the other groups in turn
+    final int ownGroup = localityGroupOf(currentThread.getRunnerId());
+    final int numOfGroups = (numOfThreads + localityGroupSize - 1) / localityGroupSize;
+    for (int i = 0; i < numOfGroups; i++) {
+      final int groupStart = ((ownGroup + i) % numOfGroups) * localityGroupSize;
+      final int groupEnd = Math.min(groupStart + localityGroupSize, numOfThreads);
+      final ActorTask stolenActor =
+          trySteal(currentThread.getRunnerId(), groupStart, groupEnd - groupStart);
+
+      if (stolenActor != null) {
+        return stolenActor;
+      }
+    }
+
+    return null;
+  }
+
+  private ActorTask trySteal(final int thiefId, final int firstRunnerId, final int runners) {
     /*
      * This implementation uses a random offset into the runner array. The idea is to
      *
@@ -75,12 +149,12 @@ public final class WorkStealingGroup implements TaskScheduler {
      * Experimental verification of the effectiveness of the optimization has not been conducted yet.
      * Also, the optimization only makes sense if the system uses at least 3 runners.
      */
-    final int offset = ThreadLocalRandom.current().nextInt(numOfThreads);
+    final int offset = ThreadLocalRandom.current().nextInt(runners);
 
-    for (int i = offset; i < offset + numOfThreads; i++) {
-      final int runnerId = i % numOfThreads;
+    for (int i = offset; i < offset + runners; i++) {
+      final int runnerId = firstRunnerId + i % runners;
 
-      if (runnerId != currentThread.getRunnerId()) {
+      if (runnerId != thiefId) {
         final ActorTask stolenActor = taskQueues[runnerId].trySteal();
 
         if (stolenActor != null) {
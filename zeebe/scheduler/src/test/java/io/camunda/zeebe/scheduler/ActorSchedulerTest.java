@@ -12,7 +12,13 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.awaitility.Awaitility.await;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.Test;
 
 final class ActorSchedulerTest {
@@ -83,5 +89,164 @@ final class ActorSchedulerTest {
         .isInstanceOf(IllegalStateException.class);
   }
 
+  @Test
+  void shouldRunActorsWithLocalityAwareScheduling() {
+    // given
+    final var scheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(4)
+            .setIoBoundActorThreadCount(1)
+            .setLocalityAwareScheduling(true)
+            .setLocalityGroupSize(2)
+            .build();
+    scheduler.start();
+
+    final var executions = new AtomicInteger();
+    final var actors = new ArrayList<TestActor>();
+    for (int i = 0; i < 16; i++) {
+      final var actor = new TestActor();
+      actors.add(actor);
+      scheduler.submitActor(actor);
+    }
+
+    // when
+    for (final var actor : actors) {
+      for (int i = 0; i < 100; i++) {
+        actor.run(executions::incrementAndGet);
+      }
+    }
+
+    // then
+    await().untilAsserted(() -> assertThat(executions).hasValue(16 * 100));
+    assertThat(scheduler.stop()).succeedsWithin(Duration.ofSeconds(5));
+  }
+
+  @Test
+  void shouldAssignRunnersToLocalityGroups() {
+    // given
+    final var group = new WorkStealingGroup(5, 2);
+
+    // when + then
+    assertThat(group.getLocalityGroupSize()).isEqualTo(2);
+    assertThat(group.localityGroupOf(0)).isZero();
+    assertThat(group.localityGroupOf(1)).isZero();
+    assertThat(group.localityGroupOf(2)).isOne();
+    assertThat(group.localityGroupOf(4)).isEqualTo(2);
+    assertThat(new WorkStealingGroup(5, 0).localityGroupOf(4)).isZero();
+  }
+
+  @Test
+  void shouldRunIoBoundActorsOnVirtualThreads() {
+    // given
+    final var scheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(1)
+            .setVirtualIoThreads(true)
+            .setVirtualIoThreadCount(4)
+            .build();
+    scheduler.start();
+    final var testActor = new TestActor();
+    scheduler.submitActor(testActor, SchedulingHints.ioBound()).join();
+
+    // when
+    final var runsOnVirtualThread =
+        testActor.call(
+            () -> Thread.currentThread().isVirtual() && ActorThread.current() != null);
+
+    // then
+    assertThat(runsOnVirtualThread).succeedsWithin(Duration.ofSeconds(5)).isEqualTo(true);
+    assertThat(scheduler.stop()).succeedsWithin(Duration.ofSeconds(5));
+  }
+
+  @Test
+  void shouldNotStarveVirtualIoActorsWhenOneBlocks() throws InterruptedException {
+    // given - more blocking actors than the virtual I/O threads start with
+    final int ioThreads = 2;
+    final int blockingActorCount = 4 * ioThreads;
+    final int otherActorCount = 4;
+    final var scheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(1)
+            .setIoBoundActorThreadCount(ioThreads)
+            .setVirtualIoThreads(true)
+            .build();
+    scheduler.start();
+
+    final var latch = new CountDownLatch(1);
+    final var blocked = new CountDownLatch(blockingActorCount);
+    final var blockedThreads = ConcurrentHashMap.<String>newKeySet();
+    for (int i = 0; i < blockingActorCount; i++) {
+      final var blockingActor = new TestActor();
+      scheduler.submitActor(blockingActor, SchedulingHints.ioBound()).join();
+      blockingActor.run(() -> block(latch, blocked, blockedThreads));
+    }
+    // all blocking actors block at the same time, each on its own thread
+    assertThat(blocked.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(blockedThreads).hasSize(blockingActorCount);
+
+    // when
+    final var results = new ArrayList<CompletableFuture<String>>();
+    for (int i = 0; i < otherActorCount; i++) {
+      final var otherActor = new TestActor();
+      scheduler.submitActor(otherActor, SchedulingHints.ioBound()).join();
+      final var actorIndex = i;
+      results.add(otherActor.call(() -> "done-" + actorIndex).toCompletableFuture());
+    }
+
+    // then
+    for (int i = 0; i < otherActorCount; i++) {
+      assertThat(results.get(i)).succeedsWithin(Duration.ofSeconds(5)).isEqualTo("done-" + i);
+    }
+    latch.countDown();
+    assertThat(scheduler.stop()).succeedsWithin(Duration.ofSeconds(5));
+  }
+
+  @Test
+  void shouldNotStartMoreVirtualIoThreadsThanConfigured() throws InterruptedException {
+    // given
+    final int maxThreads = 2;
+    final var scheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(1)
+            .setIoBoundActorThreadCount(1)
+            .setVirtualIoThreads(true)
+            .setVirtualIoThreadCount(maxThreads)
+            .build();
+    scheduler.start();
+    final var waitingActor = new TestActor();
+    scheduler.submitActor(waitingActor, SchedulingHints.ioBound()).join();
+
+    final var latch = new CountDownLatch(1);
+    final var blocked = new CountDownLatch(maxThreads);
+    final var blockedThreads = ConcurrentHashMap.<String>newKeySet();
+    for (int i = 0; i < maxThreads; i++) {
+      final var blockingActor = new TestActor();
+      scheduler.submitActor(blockingActor, SchedulingHints.ioBound()).join();
+      blockingActor.run(() -> block(latch, blocked, blockedThreads));
+    }
+    assertThat(blocked.await(5, TimeUnit.SECONDS)).isTrue();
+
+    // when
+    final var result = waitingActor.call(() -> "done");
+
+    // then - the actor only runs once a thread is free again
+    assertThat(result).failsWithin(Duration.ofMillis(200));
+    latch.countDown();
+    assertThat(result).succeedsWithin(Duration.ofSeconds(5)).isEqualTo("done");
+    assertThat(blockedThreads).hasSize(maxThreads);
+    assertThat(scheduler.stop()).succeedsWithin(Duration.ofSeconds(5));
+  }
+
+  private static void block(
+      final CountDownLatch latch, final CountDownLatch blocked, final Set<String> blockedThreads) {
+    blockedThreads.add(Thread.currentThread().getName());
+    blocked.countDown();
+    try {
+      latch.await();
+    } catch (final InterruptedException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
   private static final class TestActor extends Actor {}
 }
@@ -8,6 +8,7 @@
 package io.camunda.zeebe.snapshots;
 
 import io.camunda.zeebe.scheduler.future.ActorFuture;
+import java.util.Collection;
 
 /**
  * A received volatile snapshot, which consist of several {@link SnapshotChunk}'s. It can be
@@ -30,4 +31,15 @@ public interface ReceivedSnapshot extends PersistableSnapshot {
    * @param chunk the {@link SnapshotChunk} which should be applied
    */
   ActorFuture<Void> apply(SnapshotChunk chunk);
+
+  /**
+   * Adds the given chunks of an already persisted snapshot to this snapshot, instead of receiving
+   * them. This is used for chunks which the sender excluded, because they are identical in both
+   * snapshots, e.g. immutable files which did not change since the earlier snapshot. In case of
+   * failure, the future will be completed with a SnapshotWriteException.
+   *
+   * @param snapshot the persisted snapshot which contains the chunks
+   * @param chunkNames the names of the chunks to reuse
+   */
+  ActorFuture<Void> reuse(PersistedSnapshot snapshot, Collection<String> chunkNames);
 }
@@ -10,6 +10,8 @@ package io.camunda.zeebe.snapshots;
 import io.camunda.zeebe.util.CloseableSilently;
 import java.nio.ByteBuffer;
 import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Represents a snapshot chunk reader, which means it is used to chunk an {@link PersistedSnapshot}
@@ -41,4 +43,27 @@ public interface SnapshotChunkReader extends Iterator<SnapshotChunk>, CloseableS
    * @param maximumChunkSize
    */
   void setMaximumChunkSize(final int maximumChunkSize);
+
+  /**
+   * Excludes the chunks which the receiver already has from the chunks still to be read, such that
+   * only the missing chunks are sent. A chunk is only excluded if its checksum matches the given
+   * one. The next chunk is never excluded, as the receiver already expects it, and neither is the
+   * last chunk, such that the receiver always gets a final chunk.
+   *
+   * <p>Readers which cannot exclude chunks do not exclude any.
+   *
+   * @param availableChecksums the checksums of the chunks the receiver already has, by chunk name
+   * @return the names of the chunks which were excluded by this call
+   */
+  default Set<String> exclude(final Map<String, Long> availableChecksums) {
+    return Set.of();
+  }
+
+  /**
+   * @return the names of all chunks which were excluded so far, and which the receiver has to
+   *     reuse from its own copy
+   */
+  default Set<String> excludedChunks() {
+    return Set.of();
+  }
 }
@@ -20,9 +20,12 @@ import io.camunda.zeebe.util.FileUtil;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Objects;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -70,6 +73,76 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
         });
   }
 
+  @Override
+  public ActorFuture<Void> reuse(
+      final PersistedSnapshot snapshot, final Collection<String> chunkNames) {
+    return actor.call(
+        () -> {
+          reuseInternal(snapshot, chunkNames);
+          return null;
+        });
+  }
+
+  private void reuseInternal(final PersistedSnapshot snapshot, final Collection<String> chunkNames)
+      throws SnapshotWriteException {
+    try {
+      FileUtil.ensureDirectoryExists(directory);
+    } catch (final IOException e) {
+      throw new SnapshotWriteException(
+          String.format("Failed to ensure that directory %s exists.", directory), e);
+    }
+
+    if (checksumCollection == null) {
+      checksumCollection = new SfvChecksumImpl();
+    }
+
+    final var checksums = snapshot.getChecksums().getChecksums();
+    for (final String chunkName : chunkNames) {
+      final Long checksum = checksums.get(chunkName);
+      if (checksum == null) {
+        throw new SnapshotWriteException(
+            String.format(
+                "Expected to reuse chunk %s of snapshot %s, but it has no such chunk",
+                chunkName, snapshot.getId()));
+      }
+
+      final var sourceFile = snapshot.getPath().resolve(chunkName);
+      final var snapshotFile = directory.resolve(chunkName);
+      try {
+        hardLinkOrCopy(sourceFile, snapshotFile);
+      } catch (final IOException e) {
+        throw new SnapshotWriteException(
+            String.format("Failed to reuse chunk %s of snapshot %s", chunkName, snapshot.getId()),
+            e);
+      }
+      checksumCollection.updateFromChecksum(snapshotFile, checksum);
+    }
+
+    try {
+      FileUtil.flushDirectory(directory);
+    } catch (final IOException e) {
+      throw new SnapshotWriteException(
+          String.format("Failed to flush directory %s after reusing chunks", directory), e);
+    }
+
+    LOGGER.debug(
+        "Reused {} chunks of snapshot {} for snapshot {}",
+        chunkNames.size(),
+        snapshot.getId(),
+        snapshotId);
+  }
+
+  private void hardLinkOrCopy(final Path sourceFile, final Path targetFile) throws IOException {
+    // files of a persisted snapshot are immutable, so both snapshots can safely share them
+    try {
+      Files.createLink(targetFile, sourceFile);
+    } catch (final IOException e) {
+      LOGGER.warn(
+          "Failed to hard-link file {} to {}; falling back to copy", sourceFile, targetFile, e);
+      Files.copy(sourceFile, targetFile, StandardCopyOption.COPY_ATTRIBUTES);
+    }
+  }
+
   private void applyInternal(final SnapshotChunk snapshotChunk) throws SnapshotWriteException {
     checkSnapshotIdIsValid(snapshotChunk.getSnapshotId());
 
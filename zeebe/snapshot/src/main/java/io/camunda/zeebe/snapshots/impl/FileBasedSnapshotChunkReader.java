@@ -15,7 +15,11 @@ import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Map;
 import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Set;
 import java.util.TreeSet;
 
 /**
@@ -26,6 +30,8 @@ import java.util.TreeSet;
 public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
   private final Path directory;
   private final NavigableSet<CharSequence> chunks;
+  private final Map<String, Long> checksums;
+  private final Set<String> excludedChunks = new TreeSet<>();
 
   private long offset;
   private NavigableSet<CharSequence> chunksView;
@@ -34,12 +40,28 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
   private long maximumChunkSize;
 
   public FileBasedSnapshotChunkReader(final Path directory) throws IOException {
-    this(directory, Long.MAX_VALUE);
+    this(directory, Map.of());
+  }
+
+  /**
+   * @param checksums the checksums of the files in the directory, by file name; files without a
+   *     checksum are never excluded
+   */
+  public FileBasedSnapshotChunkReader(final Path directory, final Map<String, Long> checksums)
+      throws IOException {
+    this(directory, Long.MAX_VALUE, checksums);
   }
 
   FileBasedSnapshotChunkReader(final Path directory, final long maximumChunkSize)
       throws IOException {
+    this(directory, maximumChunkSize, Map.of());
+  }
+
+  FileBasedSnapshotChunkReader(
+      final Path directory, final long maximumChunkSize, final Map<String, Long> checksums)
+      throws IOException {
     this.directory = directory;
+    this.checksums = checksums;
     chunks = collectChunks(directory);
     totalCount = chunks.size();
     chunksView = new TreeSet<>(chunks);
@@ -89,6 +111,33 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
     this.maximumChunkSize = maximumChunkSize;
   }
 
+  @Override
+  public Set<String> exclude(final Map<String, Long> availableChecksums) {
+    if (chunksView.isEmpty()) {
+      return Set.of();
+    }
+
+    final var candidates = chunksView.subSet(chunksView.first(), false, chunks.last(), false);
+    final var excluded = new TreeSet<String>();
+    for (final var chunk : candidates) {
+      final var fileName = chunk.toString();
+      final var checksum = checksums.get(fileName);
+      if (checksum != null && Objects.equals(checksum, availableChecksums.get(fileName))) {
+        excluded.add(fileName);
+      }
+    }
+
+    chunks.removeAll(excluded);
+    chunksView.removeAll(excluded);
+    excludedChunks.addAll(excluded);
+    return excluded;
+  }
+
+  @Override
+  public Set<String> excludedChunks() {
+    return Collections.unmodifiableSet(excludedChunks);
+  }
+
   @Override
   public void close() {
     chunks.clear();
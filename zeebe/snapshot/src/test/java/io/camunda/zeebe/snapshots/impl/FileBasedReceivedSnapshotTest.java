@@ -27,6 +27,7 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
 import org.assertj.core.api.Assertions;
@@ -347,6 +348,50 @@ public class FileBasedReceivedSnapshotTest {
     }
   }
 
+  @Test
+  public void shouldReuseChunksOfPersistedSnapshot() throws IOException {
+    // given
+    final var previousSnapshot = receiveSnapshot(takePersistedSnapshot(1L)).persist().join();
+    previousSnapshot.reserve().join();
+    final var snapshotToSend = takePersistedSnapshot(2L);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(snapshotToSend.getId()).join();
+
+    // when
+    try (final var snapshotChunkReader = snapshotToSend.newChunkReader()) {
+      snapshotChunkReader.exclude(previousSnapshot.getChecksums().getChecksums());
+      while (snapshotChunkReader.hasNext()) {
+        receivedSnapshot.apply(snapshotChunkReader.next()).join();
+      }
+      receivedSnapshot.reuse(previousSnapshot, snapshotChunkReader.excludedChunks()).join();
+    }
+    final var persistedSnapshot = receivedSnapshot.persist().join();
+
+    // then
+    assertThat(persistedSnapshot.getChecksums().sameChecksums(snapshotToSend.getChecksums()))
+        .isTrue();
+    assertThat(
+            Files.isSameFile(
+                persistedSnapshot.getPath().resolve("file2"),
+                previousSnapshot.getPath().resolve("file2")))
+        .describedAs("the unchanged file is shared with the previous snapshot")
+        .isTrue();
+  }
+
+  @Test
+  public void shouldNotReuseChunkWhichIsNotPartOfSnapshot() {
+    // given
+    final var previousSnapshot = receiveSnapshot(takePersistedSnapshot(1L)).persist().join();
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(takePersistedSnapshot(2L).getId()).join();
+
+    // when
+    final var result = receivedSnapshot.reuse(previousSnapshot, List.of("file3"));
+
+    // then
+    assertThatThrownBy(result::get).hasCauseInstanceOf(SnapshotWriteException.class);
+  }
+
   private ReceivedSnapshot receiveSnapshot(final PersistedSnapshot persistedSnapshot) {
     final var receivedSnapshot =
         receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
@@ -332,6 +332,85 @@ public final class FileBasedSnapshotChunkReaderTest {
     assertThat(chunkFromFirstSeek.getChecksum()).isEqualTo(chunkFromSecondSeek.getChecksum());
   }
 
+  @Test
+  public void shouldExcludeChunksWithSameChecksum() throws IOException {
+    // given
+    final var reader = newReader(Long.MAX_VALUE, Map.of("file1", 1L, "file2", 2L, "file3", 3L));
+
+    // when
+    final var excluded = reader.exclude(Map.of("file1", 1L, "file2", 2L, "file3", 3L));
+
+    // then - the next and the last chunk are never excluded
+    assertThat(excluded).containsExactly("file2");
+    assertThat(reader.excludedChunks()).containsExactly("file2");
+    assertThat(getAllChunks(reader))
+        .extracting(SnapshotChunk::getChunkName)
+        .containsExactly("file1", "file3");
+  }
+
+  @Test
+  public void shouldNotExcludeChunksWithDifferentChecksum() throws IOException {
+    // given
+    final var reader = newReader(Long.MAX_VALUE, Map.of("file1", 1L, "file2", 2L, "file3", 3L));
+
+    // when
+    final var excluded = reader.exclude(Map.of("file2", 4L));
+
+    // then
+    assertThat(excluded).isEmpty();
+    assertThat(getAllChunks(reader))
+        .extracting(SnapshotChunk::getChunkName)
+        .containsExactly("file1", "file2", "file3");
+  }
+
+  @Test
+  public void shouldNotExcludeNextChunk() throws IOException {
+    // given
+    final var reader = newReader(Long.MAX_VALUE, Map.of("file1", 1L, "file2", 2L, "file3", 3L));
+    reader.next();
+    final var nextId = reader.nextId();
+
+    // when
+    reader.exclude(Map.of("file2", 2L));
+    reader.seek(nextId);
+
+    // then
+    assertThat(reader.excludedChunks()).isEmpty();
+    assertThat(getAllChunks(reader))
+        .extracting(SnapshotChunk::getChunkName)
+        .containsExactly("file2", "file3");
+  }
+
+  @Test
+  public void shouldKeepExcludedChunksOnReset() throws IOException {
+    // given
+    final var reader = newReader(Long.MAX_VALUE, Map.of("file1", 1L, "file2", 2L, "file3", 3L));
+    reader.exclude(Map.of("file2", 2L));
+    reader.next();
+
+    // when
+    reader.reset();
+
+    // then
+    assertThat(getAllChunks(reader))
+        .extracting(SnapshotChunk::getChunkName)
+        .containsExactly("file1", "file3");
+  }
+
+  @Test
+  public void shouldNotExcludeChunksOfTotalCount() throws IOException {
+    // given
+    final var reader = newReader(Long.MAX_VALUE, Map.of("file1", 1L, "file2", 2L, "file3", 3L));
+
+    // when
+    reader.exclude(Map.of("file2", 2L));
+
+    // then
+    assertThat(getAllChunks(reader))
+        .extracting(SnapshotChunk::getTotalCount)
+        .containsOnly(SNAPSHOT_CHUNK.size());
+  }
+
   private List<SnapshotChunk> getAllChunks(final FileBasedSnapshotChunkReader reader) {
     final var snapshotChunks = new ArrayList<SnapshotChunk>();
 
@@ -347,6 +426,11 @@ public final class FileBasedSnapshotChunkReaderTest {
   }
 
   private FileBasedSnapshotChunkReader newReader(final long chunkSize) throws IOException {
+    return newReader(chunkSize, Map.of());
+  }
+
+  private FileBasedSnapshotChunkReader newReader(
+      final long chunkSize, final Map<String, Long> checksums) throws IOException {
     snapshotDirectory = temporaryFolder.getRoot().toPath();
 
     for (final var chunk : SNAPSHOT_CHUNK.keySet()) {
@@ -355,7 +439,7 @@ public final class FileBasedSnapshotChunkReaderTest {
       Files.writeString(path, SNAPSHOT_CHUNK.get(chunk));
     }
 
-    return new FileBasedSnapshotChunkReader(snapshotDirectory, chunkSize);
+    return new FileBasedSnapshotChunkReader(snapshotDirectory, chunkSize, checksums);
   }
 
   private FileBasedSnapshotChunkReader newReader() throws IOException {
@@ -0,0 +1,206 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.stream.impl;
+
+import io.camunda.zeebe.logstreams.impl.log.LoggedEventImpl;
+import io.camunda.zeebe.logstreams.log.LogStreamBatchReader.Batch;
+import io.camunda.zeebe.logstreams.log.LoggedEvent;
+import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
+import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
+import io.camunda.zeebe.protocol.record.RecordType;
+import java.util.ArrayDeque;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.collections.IntArrayList;
+
+/**
+ * Decodes batches of events ahead of the replay on helper threads. The replay reads a batch from
+ * the log and {@link #submit(Batch) submits} it, which copies its events, such that the helper
+ * threads can read the metadata and the record values of the events which are replayed, while the
+ * replay applies the batches which are already decoded. The decoded batches are returned in the
+ * order in which they were submitted, so the events are still applied in log order.
+ *
+ * <p>Only the submitting and polling of batches must happen on the replay's actor; the decoding
+ * itself doesn't touch any state.
+ */
+final class ReplayBatchDecoder implements AutoCloseable {
+
+  private static final String ERROR_MSG_EXPECTED_TO_READ_METADATA =
+      "Expected to read the metadata for the record '%s', but an exception was thrown.";
+
+  private final Queue<CompletableFuture<DecodedBatch>> pendingBatches = new ArrayDeque<>();
+  private final ExecutorService executor;
+  private final int capacity;
+
+  ReplayBatchDecoder(final int partitionId, final int threads) {
+    final var threadFactory =
+        Thread.ofPlatform().name("zb-replay-decoder-" + partitionId + "-", 0).daemon().factory();
+    executor = Executors.newFixedThreadPool(threads, threadFactory);
+    // keep each thread busy while the replay applies the batches decoded before
+    capacity = threads * 2;
+  }
+
+  /** @return true if no more batches can be submitted until the next batch is polled */
+  boolean isFull() {
+    return pendingBatches.size() >= capacity;
+  }
+
+  boolean isEmpty() {
+    return pendingBatches.isEmpty();
+  }
+
+  /**
+   * Copies the events of the given batch, and decodes the events which are replayed, i.e. the
+   * events caused by commands after the given snapshot position, on one of the helper threads.
+   */
+  void submit(final Batch batch, final long snapshotPosition) {
+    final var copy = new DecodedBatch();
+    batch.forEachRemaining(copy::copyEvent);
+    pendingBatches.add(
+        CompletableFuture.supplyAsync(() -> copy.decode(snapshotPosition), executor));
+  }
+
+  /** @return the batch which was submitted first, and which may not be decoded yet */
+  CompletableFuture<DecodedBatch> peek() {
+    return pendingBatches.peek();
+  }
+
+  DecodedBatch poll() {
+    return pendingBatches.remove().join();
+  }
+
+  @Override
+  public void close() {
+    pendingBatches.clear();
+    executor.shutdownNow();
+  }
+
+  /**
+   * The copied events of a batch, together with their decoded metadata and values. Iterating over
+   * the batch wraps the copied events, such that it can be replayed like a batch read from the log.
+   */
+  static final class DecodedBatch implements Batch {
+
+    private final MutableDirectBuffer buffer = new ExpandableArrayBuffer();
+    private final IntArrayList offsets = new IntArrayList();
+    private final LoggedEventImpl event = new LoggedEventImpl();
+
+    private RecordMetadata[] metadata;
+    private UnifiedRecordValue[] values;
+    private RuntimeException decodingFailure;
+    private int decodingFailureIndex = -1;
+
+    private int bufferLength;
+    private int currentIndex;
+
+    @Override
+    public void head() {
+      currentIndex = 0;
+    }
+
+    @Override
+    public LoggedEvent current() {
+      return event;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return currentIndex < offsets.size();
+    }
+
+    @Override
+    public LoggedEvent next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+
+      event.wrap(buffer, offsets.getInt(currentIndex));
+      currentIndex += 1;
+      return event;
+    }
+
+    /**
+     * @return the decoded metadata of the event returned last by {@link #next()}, or null if the
+     *     event is not replayed
+     */
+    RecordMetadata currentMetadata() {
+      throwIfDecodingFailed();
+      return metadata[currentIndex - 1];
+    }
+
+    /**
+     * @return the decoded value of the event returned last by {@link #next()}, or null if the event
+     *     is not replayed
+     */
+    UnifiedRecordValue currentValue() {
+      return values[currentIndex - 1];
+    }
+
+    private void copyEvent(final LoggedEvent loggedEvent) {
+      offsets.addInt(bufferLength);
+      loggedEvent.write(buffer, bufferLength);
+      bufferLength += loggedEvent.getLength();
+    }
+
+    private DecodedBatch decode(final long snapshotPosition) {
+      final var count = offsets.size();
+      metadata = new RecordMetadata[count];
+      values = new UnifiedRecordValue[count];
+
+      final var decodedEvent = new LoggedEventImpl();
+      for (int i = 0; i < count; i++) {
+        decodedEvent.wrap(buffer, offsets.getInt(i));
+        final var sourceEventPosition = decodedEvent.getSourceEventPosition();
+        if (sourceEventPosition <= snapshotPosition && sourceEventPosition >= 0) {
+          continue;
+        }
+
+        try {
+          decodeEvent(decodedEvent, i);
+        } catch (final RuntimeException e) {
+          // fail once the replay reaches this event, such that the events before are still applied
+          decodingFailure = e;
+          decodingFailureIndex = i;
+          break;
+        }
+      }
+
+      return this;
+    }
+
+    private void decodeEvent(final LoggedEvent decodedEvent, final int index) {
+      final var eventMetadata = new RecordMetadata();
+      try {
+        decodedEvent.readMetadata(eventMetadata);
+      } catch (final RuntimeException e) {
+        final var errorMsg = ERROR_MSG_EXPECTED_TO_READ_METADATA.formatted(decodedEvent);
+        throw new ProcessingException(errorMsg, decodedEvent, null, e);
+      }
+
+      if (eventMetadata.getRecordType() == RecordType.EVENT) {
+        final var value = UnifiedRecordValue.fromValueType(eventMetadata.getValueType());
+        if (value != null) {
+          decodedEvent.readValue(value);
+        }
+        metadata[index] = eventMetadata;
+        values[index] = value;
+      }
+    }
+
+    private void throwIfDecodingFailed() {
+      if (decodingFailure != null && currentIndex - 1 == decodingFailureIndex) {
+        throw decodingFailure;
+      }
+    }
+  }
+}
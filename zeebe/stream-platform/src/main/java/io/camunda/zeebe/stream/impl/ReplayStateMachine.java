@@ -31,6 +31,7 @@ import io.camunda.zeebe.stream.api.RecordProcessor;
 import io.camunda.zeebe.stream.api.records.TypedRecord;
 import io.camunda.zeebe.stream.api.state.KeyGeneratorControls;
 import io.camunda.zeebe.stream.api.state.MutableLastProcessedPositionState;
+import io.camunda.zeebe.stream.impl.ReplayBatchDecoder.DecodedBatch;
 import io.camunda.zeebe.stream.impl.metrics.ReplayMetrics;
 import io.camunda.zeebe.stream.impl.records.RecordValues;
 import io.camunda.zeebe.stream.impl.records.TypedRecordImpl;
@@ -63,6 +64,7 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
   private final EventFilter eventFilter = new MetadataEventFilter(REPLAY_FILTER);
 
   private final LogStreamBatchReader logStreamBatchReader;
+  private final ReplayBatchDecoder batchDecoder;
 
   private final TransactionContext transactionContext;
   private final RetryStrategy replayStrategy;
@@ -82,6 +84,7 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
   private final LogStream logStream;
 
   private State currentState = State.AWAIT_RECORD;
+  private boolean awaitingDecodedBatch;
   private final BooleanSupplier shouldPause;
   private final ReplayMetrics replayMetrics;
   private final List<RecordProcessor> recordProcessors;
@@ -107,6 +110,10 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
     streamProcessorMode = context.getProcessorMode();
     logStream = context.getLogStream();
     logStreamBatchReader = new LogStreamBatchReaderImpl(context.getLogStreamReader());
+    batchDecoder =
+        context.getReplayDecoderThreads() > 0
+            ? new ReplayBatchDecoder(partitionId, context.getReplayDecoderThreads())
+            : null;
     replayMetrics = new ReplayMetrics(context.getMeterRegistry());
   }
 
@@ -156,35 +163,18 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
     }
 
     try {
-      if (logStreamBatchReader.hasNext()) {
-        currentState = State.REPLAY_EVENT;
+      prefetchBatches();
 
-        final var replayDurationTimer = replayMetrics.startReplayDurationTimer();
-        final var batch = logStreamBatchReader.next();
-        replayStrategy
-            .runWithRetry(() -> tryToReplayBatch(batch), abortCondition)
-            .onComplete(
-                (success, failure) -> {
-                  if (failure != null) {
-                    throw new RuntimeException(
-                        "Failed to replay batch at '%s %s'"
-                            .formatted(batch.current(), typedEvent.getMetadata()),
-                        failure);
-                  } else {
-                    // observe the replay duration
-                    replayDurationTimer.close();
-                    // the position should be visible only after the batch is replayed successfully
-                    lastSourceEventPosition =
-                        Math.max(lastSourceEventPosition, batchSourceEventPosition);
-                    replayMetrics.setLastSourcePosition(lastSourceEventPosition);
-                    actor.submit(this::replayNextEvent);
-                  }
-                });
+      if (hasNextBatch()) {
+        currentState = State.REPLAY_EVENT;
+        replayNextBatch();
 
       } else if (streamProcessorMode == StreamProcessorMode.PROCESSING) {
+        replayMetrics.flushThroughput();
         onRecordsReplayed();
 
       } else {
+        replayMetrics.flushThroughput();
         currentStateDescription = "awaiting record to replay";
         currentState = State.AWAIT_RECORD;
       }
@@ -198,6 +188,67 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
     }
   }
 
+  /** Reads the next batches ahead of the replay, such that they're decoded in the meantime. */
+  private void prefetchBatches() {
+    if (batchDecoder == null) {
+      return;
+    }
+
+    while (!batchDecoder.isFull() && logStreamBatchReader.hasNext()) {
+      batchDecoder.submit(logStreamBatchReader.next(), snapshotPosition);
+    }
+  }
+
+  private boolean hasNextBatch() {
+    return batchDecoder != null ? !batchDecoder.isEmpty() : logStreamBatchReader.hasNext();
+  }
+
+  private void replayNextBatch() {
+    if (batchDecoder == null) {
+      replayBatch(logStreamBatchReader.next());
+      return;
+    }
+
+    final var nextBatch = batchDecoder.peek();
+    if (nextBatch.isDone()) {
+      replayBatch(batchDecoder.poll());
+    } else if (!awaitingDecodedBatch) {
+      // the batches are applied in log order, so we wait for the next one even if others are done
+      awaitingDecodedBatch = true;
+      currentStateDescription = "awaiting decoded batch to replay";
+      nextBatch.whenComplete(
+          (batch, error) ->
+              actor.call(
+                  () -> {
+                    awaitingDecodedBatch = false;
+                    replayNextEvent();
+                  }));
+    }
+  }
+
+  private void replayBatch(final Batch batch) {
+    final var replayDurationTimer = replayMetrics.startReplayDurationTimer();
+    replayStrategy
+        .runWithRetry(() -> tryToReplayBatch(batch), abortCondition)
+        .onComplete(
+            (success, failure) -> {
+              if (failure != null) {
+                throw new RuntimeException(
+                    "Failed to replay batch at '%s %s'"
+                        .formatted(batch.current(), typedEvent.getMetadata()),
+                    failure);
+              } else {
+                // observe the replay duration
+                replayDurationTimer.close();
+                // the position should be visible only after the batch is replayed successfully
+                lastSourceEventPosition =
+                    Math.max(lastSourceEventPosition, batchSourceEventPosition);
+                replayMetrics.setLastSourcePosition(lastSourceEventPosition);
+                actor.submit(this::replayNextEvent);
+              }
+            });
+  }
+
   private boolean tryToReplayBatch(final Batch batch) throws Exception {
     final boolean onRetry = zeebeDbTransaction != null;
     if (onRetry) {
@@ -209,7 +260,12 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
     zeebeDbTransaction = transactionContext.getCurrentTransaction();
     zeebeDbTransaction.run(
         () -> {
-          batch.forEachRemaining(this::replayEvent);
+          if (batch instanceof final DecodedBatch decodedBatch && !onRetry) {
+            decodedBatch.forEachRemaining(event -> replayDecodedEvent(decodedBatch, event));
+          } else {
+            // the appliers may have modified the decoded values, so we decode them again on retry
+            batch.forEachRemaining(this::replayEvent);
+          }
 
           if (batchSourceEventPosition > snapshotPosition) {
             lastProcessedPositionState.markAsProcessed(batchSourceEventPosition);
@@ -228,23 +284,36 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
             || currentEvent.getSourceEventPosition()
                 < 0)) { // some events might not have a source pointer
       readMetadata(currentEvent);
-      final var currentTypedEvent = readRecordValue(currentEvent);
-      LOG.trace("Replaying event {}: {}", currentTypedEvent.getPosition(), currentTypedEvent);
-      currentStateDescription = "replaying event %s".formatted(typedEvent);
-
-      final var processor =
-          recordProcessors.stream()
-              .filter(p -> p.accepts(currentTypedEvent.getValueType()))
-              .findFirst()
-              .orElseThrow(() -> NoSuchProcessorException.forRecord(currentTypedEvent));
-
-      processor.replay(currentTypedEvent);
-      lastReplayedEventPosition = currentTypedEvent.getPosition();
+      replayTypedEvent(readRecordValue(currentEvent));
     }
 
     onRecordReplayed(currentEvent);
   }
 
+  private void replayDecodedEvent(final DecodedBatch batch, final LoggedEvent currentEvent) {
+    final var decodedMetadata = batch.currentMetadata();
+    if (decodedMetadata != null) {
+      typedEvent.wrap(currentEvent, decodedMetadata, batch.currentValue());
+      replayTypedEvent(typedEvent);
+    }
+
+    onRecordReplayed(currentEvent);
+  }
+
+  private void replayTypedEvent(final TypedRecord<?> currentTypedEvent) {
+    LOG.trace("Replaying event {}: {}", currentTypedEvent.getPosition(), currentTypedEvent);
+    currentStateDescription = "replaying event %s".formatted(currentTypedEvent);
+
+    final var processor =
+        recordProcessors.stream()
+            .filter(p -> p.accepts(currentTypedEvent.getValueType()))
+            .findFirst()
+            .orElseThrow(() -> NoSuchProcessorException.forRecord(currentTypedEvent));
+
+    processor.replay(currentTypedEvent);
+    lastReplayedEventPosition = currentTypedEvent.getPosition();
+  }
+
   /**
    * Ends the replay and sets some important properties, especially completes the replay future with
    * the last processing positions.
@@ -263,6 +332,10 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
         new LastProcessingPositions(lastProcessedPosition, lastWrittenPosition);
 
     LOG.info(LOG_STMT_REPLAY_FINISHED, lastProcessingPositions);
+    if (batchDecoder != null) {
+      // processing takes over from here, so the decoder threads are not needed anymore
+      batchDecoder.close();
+    }
     recoveryFuture.complete(lastProcessingPositions);
   }
 
@@ -332,6 +405,9 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
 
   public void close() {
     logStream.removeRecordAvailableListener(this);
+    if (batchDecoder != null) {
+      batchDecoder.close();
+    }
   }
 
   private enum State {
@@ -152,7 +152,7 @@ public class StreamProcessor extends Actor implements HealthMonitorable, LogReco
 
   @Override
   protected void onActorStarting() {
-    final var reader = logStream.newLogStreamReader();
+    final var reader = logStream.newCatchUpLogStreamReader();
     logStreamReader = reader;
     streamProcessorContext.logStreamReader(reader);
   }
@@ -180,4 +180,9 @@ public final class StreamProcessorBuilder {
     streamProcessorContext.setScheduledTaskCheckInterval(scheduledTaskCheckInterval);
     return this;
   }
+
+  public StreamProcessorBuilder setReplayDecoderThreads(final int replayDecoderThreads) {
+    streamProcessorContext.setReplayDecoderThreads(replayDecoderThreads);
+    return this;
+  }
 }
@@ -57,6 +57,7 @@ public final class StreamProcessorContext implements ReadonlyStreamProcessorCont
   private ControllableStreamClock clock;
   private MeterRegistry meterRegistry;
   private Duration scheduledTaskCheckInterval = Duration.ofSeconds(1);
+  private int replayDecoderThreads;
 
   public StreamProcessorContext actor(final ActorControl actor) {
     this.actor = actor;
@@ -255,4 +256,13 @@ public final class StreamProcessorContext implements ReadonlyStreamProcessorCont
     this.scheduledTaskCheckInterval = scheduledTaskCheckInterval;
     return this;
   }
+
+  public int getReplayDecoderThreads() {
+    return replayDecoderThreads;
+  }
+
+  public StreamProcessorContext setReplayDecoderThreads(final int replayDecoderThreads) {
+    this.replayDecoderThreads = replayDecoderThreads;
+    return this;
+  }
 }
@@ -14,22 +14,31 @@ import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 
 public final class ReplayMetrics {
 
+  private static final long THROUGHPUT_WINDOW_NANOS = TimeUnit.SECONDS.toNanos(1);
+
   private final AtomicLong lastSourcePosition = new AtomicLong();
+  private final AtomicLong replayThroughput = new AtomicLong();
 
   private final Clock clock;
   private final Counter replayEventsCount;
   private final Timer replayDurationTimer;
 
+  // only accessed by the replay's actor
+  private long throughputWindowStart = -1;
+  private long throughputWindowEvents;
+
   public ReplayMetrics(final MeterRegistry registry) {
     clock = registry.config().clock();
 
     replayEventsCount = registerReplayEventsCount(registry);
     replayDurationTimer = registerReplayDuration(registry);
     registerLastSourcePosition(registry);
+    registerReplayThroughput(registry);
   }
 
   private Timer registerReplayDuration(final MeterRegistry registry) {
@@ -54,8 +63,43 @@ public final class ReplayMetrics {
         .register(registry);
   }
 
+  private void registerReplayThroughput(final MeterRegistry registry) {
+    final var meterDoc = StreamMetricsDoc.REPLAY_THROUGHPUT;
+    Gauge.builder(meterDoc.getName(), replayThroughput, AtomicLong::longValue)
+        .description(meterDoc.getDescription())
+        .register(registry);
+  }
+
   public void event() {
     replayEventsCount.increment();
+
+    final long now = clock.monotonicTime();
+    if (throughputWindowStart < 0) {
+      throughputWindowStart = now;
+    }
+    throughputWindowEvents++;
+
+    if (now - throughputWindowStart >= THROUGHPUT_WINDOW_NANOS) {
+      flushThroughput(now);
+    }
+  }
+
+  /**
+   * Reports the throughput of the events replayed since the last report. Called when the replay
+   * runs out of events to replay, such that a replay shorter than a second is reported as well.
+   */
+  public void flushThroughput() {
+    flushThroughput(clock.monotonicTime());
+  }
+
+  private void flushThroughput(final long now) {
+    final long elapsed = now - throughputWindowStart;
+    if (throughputWindowStart >= 0 && elapsed > 0) {
+      replayThroughput.set(throughputWindowEvents * TimeUnit.SECONDS.toNanos(1) / elapsed);
+    }
+
+    throughputWindowStart = -1;
+    throughputWindowEvents = 0;
   }
 
   public CloseableSilently startReplayDurationTimer() {
@@ -206,6 +206,24 @@ public enum StreamMetricsDoc implements ExtendedMeterDocumentation {
     }
   },
 
+  /** Number of events replayed per second, measured over the last second of replay */
+  REPLAY_THROUGHPUT {
+    @Override
+    public String getDescription() {
+      return "Number of events replayed per second, measured over the last second of replay";
+    }
+
+    @Override
+    public String getName() {
+      return "zeebe.replay.events.per.second";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.GAUGE;
+    }
+  },
+
   /** Number of records processed by stream processor */
   STREAM_PROCESSOR_EVENTS {
     @Override
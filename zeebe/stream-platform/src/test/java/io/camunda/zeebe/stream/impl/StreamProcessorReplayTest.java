@@ -30,6 +30,7 @@ import io.camunda.zeebe.stream.impl.StreamProcessor.Phase;
 import io.camunda.zeebe.stream.util.RecordToWrite;
 import io.camunda.zeebe.stream.util.Records;
 import io.camunda.zeebe.test.util.junit.RegressionTest;
+import java.util.ArrayList;
 import org.awaitility.Awaitility;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -164,6 +165,47 @@ final class StreamProcessorReplayTest {
     assertThat(Protocol.decodeKeyInPartition(streamPlatform.getCurrentKey())).isEqualTo(19L);
   }
 
+  @Test
+  void shouldReplayEventsInLogOrderWithDecoderThreads() {
+    // given
+    for (int i = 1; i <= 5; i++) {
+      streamPlatform.writeBatch(
+          RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(i)),
+          RecordToWrite.event()
+              .processInstance(ELEMENT_ACTIVATING, Records.processInstance(i))
+              .key(Protocol.encodePartitionId(1, i))
+              .causedBy(0));
+    }
+
+    final var replayedKeys = new ArrayList<Long>();
+    final RecordProcessor recordProcessor = streamPlatform.getDefaultMockedRecordProcessor();
+    doAnswer(
+            invocation -> {
+              final TypedRecord<?> record = invocation.getArgument(0);
+              replayedKeys.add(Protocol.decodeKeyInPartition(record.getKey()));
+              return null;
+            })
+        .when(recordProcessor)
+        .replay(any());
+
+    // when
+    final var streamProcessor =
+        streamPlatform.buildStreamProcessor(
+            streamPlatform.getLogStream(), true, cfg -> cfg.setReplayDecoderThreads(2));
+
+    // then
+    verify(recordProcessor, TIMEOUT.times(5)).replay(any());
+    assertThat(replayedKeys).containsExactly(1L, 2L, 3L, 4L, 5L);
+
+    Awaitility.await("position has to be set on processing start")
+        .untilAsserted(
+            () -> assertThat(streamProcessor.getLastProcessedPositionAsync().join()).isEqualTo(9L));
+    Awaitility.await("position has to be set on processing start")
+        .untilAsserted(
+            () -> assertThat(streamProcessor.getLastWrittenPositionAsync().join()).isEqualTo(10L));
+    assertThat(Protocol.decodeKeyInPartition(streamPlatform.getCurrentKey())).isEqualTo(5L);
+  }
+
   @Test
   void shouldRestoreFromSnapshot() throws Exception {
     // given
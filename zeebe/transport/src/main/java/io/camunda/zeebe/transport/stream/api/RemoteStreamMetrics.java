@@ -30,6 +30,14 @@ public interface RemoteStreamMetrics {
    */
   default void pushTryFailed(final ErrorCode code) {}
 
+  /**
+   * Invoked periodically with how unevenly the recent pushes were distributed over the streams of
+   * the same type: the ratio of the pushes to the busiest stream to the average pushes per stream
+   *
+   * @param skew the highest ratio of all stream types, 1 if the pushes are distributed evenly
+   */
+  default void pushDistributionSkew(final double skew) {}
+
   static RemoteStreamMetrics noop() {
     return new RemoteStreamMetrics() {};
   }
@@ -18,11 +18,18 @@ import org.agrona.DirectBuffer;
 /**
  * Keep tracks of {@link StreamConsumer}s which are logically similar.
  *
+ * @param load how busy the consumers of this stream are, see {@link StreamLoad}
  * @param <M> type of the properties
  */
-record AggregatedRemoteStream<M>(LogicalId<M> logicalId, List<StreamConsumer<M>> streamConsumers)
+record AggregatedRemoteStream<M>(
+    LogicalId<M> logicalId, List<StreamConsumer<M>> streamConsumers, StreamLoad load)
     implements RemoteStreamInfo<M> {
 
+  AggregatedRemoteStream(
+      final LogicalId<M> logicalId, final List<StreamConsumer<M>> streamConsumers) {
+    this(logicalId, streamConsumers, new StreamLoad());
+  }
+
   void addConsumer(final StreamConsumer<M> consumer) {
     streamConsumers.add(consumer);
   }
@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.transport.stream.impl;
 
+import java.util.Collection;
 import java.util.Set;
 import org.agrona.concurrent.UnsafeBuffer;
 
@@ -21,4 +22,11 @@ interface ImmutableStreamRegistry<M> {
    * @return set of streams for the given type
    */
   Set<AggregatedRemoteStream<M>> get(final UnsafeBuffer streamType);
+
+  /**
+   * Returns all streams, of all types.
+   *
+   * <p>Implementations of this must be thread-safe.
+   */
+  Collection<AggregatedRemoteStream<M>> list();
 }
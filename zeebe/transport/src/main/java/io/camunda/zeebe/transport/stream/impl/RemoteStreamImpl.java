@@ -52,8 +52,11 @@ public final class RemoteStreamImpl<M, P extends BufferWriter> implements Remote
       return;
     }
 
-    final var retryHandler = new RetryHandler(errorHandler, initialConsumer);
-    streamer.pushAsync(payload, retryHandler, initialConsumer.id());
+    final var load = stream.load();
+    final long pushStartNs = load.onPushStarted();
+    final Runnable onCompleted = () -> load.onPushCompleted(pushStartNs);
+    final var retryHandler = new RetryHandler(errorHandler, initialConsumer, onCompleted);
+    streamer.pushAsync(payload, retryHandler, initialConsumer.id(), onCompleted);
   }
 
   private StreamConsumer<M> pickInitialConsumer() {
@@ -80,11 +83,15 @@ public final class RemoteStreamImpl<M, P extends BufferWriter> implements Remote
   private final class RetryHandler implements RemoteStreamErrorHandler<P> {
     private final RemoteStreamErrorHandler<P> errorHandler;
     private final StreamConsumer<M> initialConsumer;
+    private final Runnable onCompleted;
 
     private RetryHandler(
-        final RemoteStreamErrorHandler<P> errorHandler, final StreamConsumer<M> initialConsumer) {
+        final RemoteStreamErrorHandler<P> errorHandler,
+        final StreamConsumer<M> initialConsumer,
+        final Runnable onCompleted) {
       this.errorHandler = errorHandler;
       this.initialConsumer = initialConsumer;
+      this.onCompleted = onCompleted;
     }
 
     /** Called the first time a push is retried */
@@ -113,12 +120,14 @@ public final class RemoteStreamImpl<M, P extends BufferWriter> implements Remote
       final var client = iterator.next();
       LOGGER.trace(
           "Failed to push payload (size = {}), retrying with next stream", payload.getLength());
-      streamer.pushAsync(payload, (error, data) -> retry(error, data, iterator), client.id());
+      streamer.pushAsync(
+          payload, (error, data) -> retry(error, data, iterator), client.id(), onCompleted);
     }
 
     private void onConsumersExhausted(final Throwable throwable, final P payload) {
       LOGGER.trace(
           "Failed to push payload (size = {}), no more streams to retry", payload.getLength());
+      onCompleted.run();
       errorHandler.handleError(throwable, payload);
     }
   }
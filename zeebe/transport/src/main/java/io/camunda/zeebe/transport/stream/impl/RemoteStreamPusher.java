@@ -51,12 +51,29 @@ final class RemoteStreamPusher<P extends BufferWriter> {
 
   public void pushAsync(
       final P payload, final RemoteStreamErrorHandler<P> errorHandler, final StreamId streamId) {
+    pushAsync(payload, errorHandler, streamId, () -> {});
+  }
+
+  /**
+   * Like {@link #pushAsync(BufferWriter, RemoteStreamErrorHandler, StreamId)}, but additionally
+   * runs the given callback once the push succeeded.
+   */
+  public void pushAsync(
+      final P payload,
+      final RemoteStreamErrorHandler<P> errorHandler,
+      final StreamId streamId,
+      final Runnable onSuccess) {
     Objects.requireNonNull(errorHandler, "must specify a error handler");
 
     try {
       Objects.requireNonNull(payload, "must specify a payload");
       executor.execute(
-          () -> push(payload, instrumentingErrorHandler(errorHandler, streamId), streamId));
+          () ->
+              push(
+                  payload,
+                  instrumentingErrorHandler(errorHandler, streamId),
+                  streamId,
+                  onSuccess));
     } catch (final Exception e) {
       errorHandler.handleError(e, payload);
     }
@@ -104,13 +121,17 @@ final class RemoteStreamPusher<P extends BufferWriter> {
   }
 
   private void push(
-      final P payload, final RemoteStreamErrorHandler<P> errorHandler, final StreamId streamId) {
+      final P payload,
+      final RemoteStreamErrorHandler<P> errorHandler,
+      final StreamId streamId,
+      final Runnable onSuccess) {
     final var request = new PushStreamRequest().streamId(streamId.streamId()).payload(payload);
     try {
       transport
           .send(request, streamId.receiver())
           .whenCompleteAsync(
-              (response, error) -> onPush(payload, errorHandler, response, error), executor);
+              (response, error) -> onPush(payload, errorHandler, onSuccess, response, error),
+              executor);
       LOG.trace("Pushed {} to stream {}", payload, streamId);
     } catch (final Exception e) {
       errorHandler.handleError(e, payload);
@@ -120,6 +141,7 @@ final class RemoteStreamPusher<P extends BufferWriter> {
   private void onPush(
       final P payload,
       final RemoteStreamErrorHandler<P> errorHandler,
+      final Runnable onSuccess,
       final byte[] responseBuffer,
       final Throwable error) {
     if (error != null) {
@@ -131,7 +153,11 @@ final class RemoteStreamPusher<P extends BufferWriter> {
         .decode(responseBuffer, new PushStreamResponse())
         .mapLeft(ErrorResponse::asException)
         .ifRightOrLeft(
-            ok -> metrics.pushSucceeded(), failure -> errorHandler.handleError(failure, payload));
+            ok -> {
+              metrics.pushSucceeded();
+              onSuccess.run();
+            },
+            failure -> errorHandler.handleError(failure, payload));
   }
 
   /**
@@ -138,7 +138,8 @@ public class RemoteStreamRegistry<M> implements ImmutableStreamRegistry<M> {
     logicalIdToConsumers.clear();
   }
 
-  Collection<AggregatedRemoteStream<M>> list() {
+  @Override
+  public Collection<AggregatedRemoteStream<M>> list() {
     return logicalIdToConsumers.values();
   }
 }
@@ -19,15 +19,14 @@ import io.camunda.zeebe.transport.stream.impl.messages.StreamTopics;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import io.camunda.zeebe.util.buffer.BufferWriter;
 import java.time.Duration;
-import java.util.ArrayList;
-import java.util.Collections;
+import java.util.HashMap;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.Function;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 import org.agrona.DirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 
@@ -41,11 +40,13 @@ import org.agrona.concurrent.UnsafeBuffer;
 public final class RemoteStreamerImpl<M, P extends BufferWriter> extends Actor
     implements RemoteStreamer<M, P> {
   private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(5);
+  private static final Duration PUSH_DISTRIBUTION_INTERVAL = Duration.ofSeconds(10);
 
   private final ClusterCommunicationService transport;
   private final ImmutableStreamRegistry<M> registry;
   private final RemoteStreamPusher<P> remoteStreamPusher;
   private final RemoteStreamErrorHandler<P> errorHandler;
+  private final RemoteStreamMetrics metrics;
 
   public RemoteStreamerImpl(
       final ClusterCommunicationService transport,
@@ -55,38 +56,97 @@ public final class RemoteStreamerImpl<M, P extends BufferWriter> extends Actor
     this.transport = Objects.requireNonNull(transport, "must specify a network transport");
     this.registry = Objects.requireNonNull(registry, "must specify a job stream registry");
     this.errorHandler = Objects.requireNonNull(errorHandler, "must specify an error handler");
+    this.metrics = Objects.requireNonNull(metrics, "must specify remote stream metrics");
 
     remoteStreamPusher = new RemoteStreamPusher<>(this::send, actor::run, metrics);
   }
 
+  @Override
+  protected void onActorStarted() {
+    actor.runAtFixedRate(PUSH_DISTRIBUTION_INTERVAL, this::observePushDistribution);
+  }
+
   @Override
   public Optional<RemoteStream<M, P>> streamFor(
       final DirectBuffer streamType, final Predicate<M> filter) {
     final UnsafeBuffer streamTypeBuffer = new UnsafeBuffer(streamType);
-    final var consumers =
-        registry.get(streamTypeBuffer).stream()
-            .filter(s -> filter.test(s.metadata()))
-            .collect(Collectors.toSet());
-    if (consumers.isEmpty()) {
-      return Optional.empty();
-    }
-
-    return pickStream(consumers)
+    return pickStream(registry.get(streamTypeBuffer), filter)
         .map(target -> new RemoteStreamImpl<>(target, remoteStreamPusher, errorHandler));
   }
 
+  /**
+   * Picks two random streams which match the filter and still have consumers, and returns the less
+   * loaded of both (see {@link StreamLoad#score()}). Comparing two random choices avoids that all
+   * pushes pile up on the same stream, which would happen when always picking the least loaded
+   * stream based on slightly outdated load, while still steering pushes away from saturated ones.
+   *
+   * <p>The candidates are sampled in a single pass over the streams, so picking doesn't allocate.
+   */
   private Optional<AggregatedRemoteStream<M>> pickStream(
-      final Set<AggregatedRemoteStream<M>> consumers) {
-    final var targets = new ArrayList<>(consumers);
-    Collections.shuffle(targets);
+      final Set<AggregatedRemoteStream<M>> streams, final Predicate<M> filter) {
+    final var random = ThreadLocalRandom.current();
+    AggregatedRemoteStream<M> first = null;
+    AggregatedRemoteStream<M> second = null;
+    int candidates = 0;
+
+    for (final var stream : streams) {
+      if (stream.streamConsumers().isEmpty() || !filter.test(stream.metadata())) {
+        continue;
+      }
+
+      // reservoir sampling: each candidate ends up as one of the two choices with equal chance
+      candidates++;
+      if (candidates == 1) {
+        first = stream;
+      } else if (candidates == 2) {
+        second = stream;
+      } else {
+        final int slot = random.nextInt(candidates);
+        if (slot == 0) {
+          first = stream;
+        } else if (slot == 1) {
+          second = stream;
+        }
+      }
+    }
+
+    if (second == null) {
+      return Optional.ofNullable(first);
+    }
+
+    final double firstScore = first.load().score();
+    final double secondScore = second.load().score();
+    if (firstScore == secondScore) {
+      return Optional.of(random.nextBoolean() ? first : second);
+    }
+    return Optional.of(firstScore < secondScore ? first : second);
+  }
+
+  /**
+   * Observes how evenly the recent pushes were distributed over the streams of the same type, as
+   * the ratio of the pushes to the busiest stream to the average pushes per stream. Reports the
+   * highest ratio of all types, i.e. 1 if the pushes are distributed perfectly.
+   */
+  private void observePushDistribution() {
+    // per stream type: the number of streams, the total and the maximum number of pushes
+    final var pushesByType = new HashMap<DirectBuffer, long[]>();
+    for (final var stream : registry.list()) {
+      final long pushes = stream.load().takePushCount();
+      final var typePushes = pushesByType.computeIfAbsent(stream.streamType(), t -> new long[3]);
+      typePushes[0]++;
+      typePushes[1] += pushes;
+      typePushes[2] = Math.max(typePushes[2], pushes);
+    }
 
-    for (final var target : targets) {
-      if (!target.streamConsumers().isEmpty()) {
-        return Optional.of(target);
+    double skew = 1;
+    for (final var typePushes : pushesByType.values()) {
+      if (typePushes[0] > 1 && typePushes[1] > 0) {
+        final double averagePushes = typePushes[1] / (double) typePushes[0];
+        skew = Math.max(skew, typePushes[2] / averagePushes);
       }
     }
 
-    return Optional.empty();
+    metrics.pushDistributionSkew(skew);
   }
 
   private CompletableFuture<byte[]> send(final PushStreamRequest request, final MemberId receiver) {
@@ -0,0 +1,69 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.transport.stream.impl;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tracks how busy an {@link AggregatedRemoteStream} is: how many pushes to it are in flight, and
+ * how long its recent pushes took, including their retries. Consumers which are saturated answer
+ * slowly or yield the payloads back, so both go up for them.
+ *
+ * <p>Thread safe: pushes are started on the producer's thread, and completed on the streamer's.
+ */
+final class StreamLoad {
+
+  /** The weight of the latest push latency in the moving average. */
+  private static final double LATENCY_WEIGHT = 0.2;
+
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final AtomicLong pushCount = new AtomicLong();
+
+  /** Exponentially weighted moving average of the push latency, or 0 if there was no push yet. */
+  private volatile long latencyNs;
+
+  /**
+   * @return the start of the push, to pass to {@link #onPushCompleted(long)} once it's completed
+   */
+  long onPushStarted() {
+    inFlight.incrementAndGet();
+    pushCount.incrementAndGet();
+    return System.nanoTime();
+  }
+
+  /** Called once per push, after it succeeded or after all retries failed. */
+  void onPushCompleted(final long startNs) {
+    inFlight.decrementAndGet();
+
+    final long latency = Math.max(1, System.nanoTime() - startNs);
+    final long previous = latencyNs;
+    // racing updates may drop a sample, which is fine for an average
+    latencyNs =
+        previous == 0
+            ? latency
+            : (long) (LATENCY_WEIGHT * latency + (1 - LATENCY_WEIGHT) * previous);
+  }
+
+  /**
+   * @return the expected time until a new push to this stream completes; streams without any
+   *     latency samples yet are only weighted by their in-flight pushes, so they're tried early
+   */
+  double score() {
+    return (inFlight.get() + 1) * (double) Math.max(1, latencyNs);
+  }
+
+  int inFlight() {
+    return inFlight.get();
+  }
+
+  /** @return the number of pushes started since the last call */
+  long takePushCount() {
+    return pushCount.getAndSet(0);
+  }
+}
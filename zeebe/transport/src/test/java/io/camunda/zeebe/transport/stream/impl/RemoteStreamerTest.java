@@ -21,6 +21,7 @@ import io.camunda.zeebe.util.buffer.BufferUtil;
 import io.camunda.zeebe.util.buffer.BufferWriter;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.stream.IntStream;
 import org.agrona.CloseHelper;
 import org.agrona.DirectBuffer;
 import org.agrona.MutableDirectBuffer;
@@ -123,6 +124,30 @@ final class RemoteStreamerTest {
             Mockito.any());
   }
 
+  @Test
+  void shouldPickLessLoadedStream() {
+    // given
+    final var type = new UnsafeBuffer(BufferUtil.wrapString("foo"));
+    final var busyMeta = new TestMetadata(1);
+    final var idleMeta = new TestMetadata(2);
+    registry.add(type, UUID.randomUUID(), MemberId.from("a"), busyMeta);
+    registry.add(type, UUID.randomUUID(), MemberId.from("b"), idleMeta);
+    final var busyStream =
+        registry.get(type).stream().filter(s -> s.metadata() == busyMeta).findFirst().orElseThrow();
+    for (int i = 0; i < 10; i++) {
+      busyStream.load().onPushStarted();
+    }
+
+    // when
+    final var pickedMetadata =
+        IntStream.range(0, 100)
+            .mapToObj(i -> streamer.streamFor(type).orElseThrow().metadata())
+            .toList();
+
+    // then
+    assertThat(pickedMetadata).containsOnly(idleMeta);
+  }
+
   private record TestPayload(long key) implements BufferWriter {
 
     @Override
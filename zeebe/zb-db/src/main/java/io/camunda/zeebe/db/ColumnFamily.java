@@ -8,6 +8,7 @@
 package io.camunda.zeebe.db;
 
 import io.camunda.zeebe.protocol.ScopedColumnFamily;
+import java.util.Collection;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
@@ -57,6 +58,22 @@ public interface ColumnFamily<KeyType extends DbKey, ValueType extends DbValue>
    */
   ValueType get(KeyType key, Supplier<ValueType> valueSupplier);
 
+  /**
+   * Looks up the stored values of all given keys at once, and visits the key-value pairs of the
+   * keys which exist in the column family, in the order of the given keys. Keys which don't exist
+   * are skipped. The visitor can stop visiting further pairs, see {@link KeyValuePairVisitor}.
+   *
+   * <p>This is cheaper than calling {@link #get(KeyType)} for each key, since the keys which are
+   * not written by the current transaction are read from the database with a single batched
+   * lookup. The given keys must be distinct instances, since they are all serialized before the
+   * first pair is visited. Be aware that the given DbValue wraps the stored value and reflects the
+   * current visiting step, similar to {@link #forEach(BiConsumer)}.
+   *
+   * @param keys the keys to look up
+   * @param visitor the visitor which accepts the key-value pairs
+   */
+  void getAll(Collection<KeyType> keys, KeyValuePairVisitor<KeyType, ValueType> visitor);
+
   /**
    * Visits the values, which are stored in the column family. The ordering depends on the key.
    *
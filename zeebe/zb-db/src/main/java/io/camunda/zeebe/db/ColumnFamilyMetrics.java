@@ -17,4 +17,10 @@ public interface ColumnFamilyMetrics {
   CloseableSilently measureDeleteLatency();
 
   CloseableSilently measureIterateLatency();
+
+  /** Counts a read which was served by the in-memory overlay of the column family. */
+  void countOverlayHit();
+
+  /** Counts a read which missed the in-memory overlay of the column family and went to RocksDB. */
+  void countOverlayMiss();
 }
@@ -53,6 +53,41 @@ public enum ColumnFamilyMetricsDoc implements ExtendedMeterDocumentation {
       return KEYS;
     }
 
+    @Override
+    public KeyName[] getAdditionalKeyNames() {
+      return PartitionKeyNames.values();
+    }
+  },
+
+  /** Reads per column family which were served by, or missed, the in-memory overlay */
+  OVERLAY_READS {
+    private static final KeyName[] KEYS =
+        new KeyName[] {
+          PartitionKeyNames.PARTITION,
+          ColumnFamilyMetricsKeyName.COLUMN_FAMILY,
+          ColumnFamilyMetricsKeyName.OVERLAY_RESULT
+        };
+
+    @Override
+    public String getName() {
+      return "zeebe.rocksdb.overlay.reads";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.COUNTER;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Reads per column family which were served by, or missed, the in-memory overlay";
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return KEYS;
+    }
+
     @Override
     public KeyName[] getAdditionalKeyNames() {
       return PartitionKeyNames.values();
@@ -77,6 +112,16 @@ public enum ColumnFamilyMetricsDoc implements ExtendedMeterDocumentation {
       public String asString() {
         return "operation";
       }
+    },
+    /**
+     * Whether a read was served by the overlay, with value {@link
+     * io.camunda.zeebe.db.ColumnFamilyMetricsDoc.OverlayResult}
+     */
+    OVERLAY_RESULT {
+      @Override
+      public String asString() {
+        return "result";
+      }
     }
   }
 
@@ -101,4 +146,19 @@ public enum ColumnFamilyMetricsDoc implements ExtendedMeterDocumentation {
       return name;
     }
   }
+
+  /** Whether a read was served by the in-memory overlay of a column family. */
+  public enum OverlayResult {
+    HIT("hit"),
+    MISS("miss");
+    private final String name;
+
+    OverlayResult(final String name) {
+      this.name = name;
+    }
+
+    public String getName() {
+      return name;
+    }
+  }
 }
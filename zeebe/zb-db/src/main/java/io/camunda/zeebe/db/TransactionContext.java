@@ -34,4 +34,17 @@ public interface TransactionContext {
    * @return the transaction object
    */
   ZeebeDbTransaction getCurrentTransaction();
+
+  /**
+   * Registers a listener which is notified whenever a transaction of this context is committed or
+   * rolled back.
+   *
+   * @param listener the listener to notify
+   * @throws UnsupportedOperationException if this context does not support listeners
+   */
+  default void addTransactionListener(final TransactionListener listener) {
+    throw new UnsupportedOperationException(
+        "Expected to register a transaction listener, but %s does not support listeners"
+            .formatted(getClass().getName()));
+  }
 }
@@ -0,0 +1,25 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db;
+
+/**
+ * Is notified when the transactions of a {@link TransactionContext} end. Useful to keep in-memory
+ * structures derived from the state in sync with it: changes can be collected during the
+ * transaction, applied once it is committed, and dropped when it is rolled back.
+ *
+ * <p>Listeners are called on the thread which ends the transaction, and must not access the
+ * database.
+ */
+public interface TransactionListener {
+
+  /** Called after the changes of the current transaction were committed. */
+  void onCommit();
+
+  /** Called when the changes of the current transaction are rolled back. */
+  void onRollback();
+}
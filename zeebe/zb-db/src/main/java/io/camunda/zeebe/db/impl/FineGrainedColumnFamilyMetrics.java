@@ -13,6 +13,7 @@ import io.camunda.zeebe.db.ColumnFamilyMetrics;
 import io.camunda.zeebe.protocol.EnumValue;
 import io.camunda.zeebe.util.CloseableSilently;
 import io.camunda.zeebe.util.micrometer.MicrometerUtil;
+import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import java.util.Objects;
@@ -24,12 +25,15 @@ public final class FineGrainedColumnFamilyMetrics implements ColumnFamilyMetrics
   private final Timer delete;
   private final Timer iterate;
   private final MeterRegistry registry;
+  private final String columnFamilyLabel;
+  private Counter overlayHits;
+  private Counter overlayMisses;
 
   public <ColumnFamilyNames extends Enum<? extends EnumValue> & EnumValue>
       FineGrainedColumnFamilyMetrics(
           final ColumnFamilyNames columnFamily, final MeterRegistry registry) {
     this.registry = Objects.requireNonNull(registry, "registry cannot be null");
-    final var columnFamilyLabel = columnFamily.name();
+    columnFamilyLabel = columnFamily.name();
     get = createTimer(columnFamilyLabel, OperationType.GET);
     put = createTimer(columnFamilyLabel, OperationType.PUT);
     delete = createTimer(columnFamilyLabel, OperationType.DELETE);
@@ -56,6 +60,34 @@ public final class FineGrainedColumnFamilyMetrics implements ColumnFamilyMetrics
     return MicrometerUtil.timer(iterate, Timer.start(registry));
   }
 
+  @Override
+  public void countOverlayHit() {
+    // registered lazily, as most column families have no overlay
+    if (overlayHits == null) {
+      overlayHits = createOverlayCounter(OverlayResult.HIT);
+    }
+    overlayHits.increment();
+  }
+
+  @Override
+  public void countOverlayMiss() {
+    if (overlayMisses == null) {
+      overlayMisses = createOverlayCounter(OverlayResult.MISS);
+    }
+    overlayMisses.increment();
+  }
+
+  private Counter createOverlayCounter(final OverlayResult result) {
+    return Counter.builder(OVERLAY_READS.getName())
+        .description(OVERLAY_READS.getDescription())
+        .tags(
+            ColumnFamilyMetricsKeyName.COLUMN_FAMILY.asString(),
+            columnFamilyLabel,
+            ColumnFamilyMetricsKeyName.OVERLAY_RESULT.asString(),
+            result.getName())
+        .register(registry);
+  }
+
   private Timer createTimer(final String columnFamily, final OperationType type) {
     return Timer.builder(LATENCY.getName())
         .description(LATENCY.getDescription())
@@ -31,4 +31,10 @@ public class NoopColumnFamilyMetrics implements ColumnFamilyMetrics {
   public CloseableSilently measureIterateLatency() {
     return () -> {};
   }
+
+  @Override
+  public void countOverlayHit() {}
+
+  @Override
+  public void countOverlayMiss() {}
 }
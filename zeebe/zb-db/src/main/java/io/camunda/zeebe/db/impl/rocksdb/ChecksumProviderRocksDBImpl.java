@@ -11,9 +11,17 @@ import io.camunda.zeebe.snapshots.CRC32CChecksumProvider;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
+import org.agrona.CloseHelper;
+import org.rocksdb.ColumnFamilyDescriptor;
+import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.ColumnFamilyOptions;
+import org.rocksdb.DBOptions;
 import org.rocksdb.LiveFileMetaData;
+import org.rocksdb.Options;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
 
@@ -21,15 +29,35 @@ public class ChecksumProviderRocksDBImpl implements CRC32CChecksumProvider {
 
   @Override
   public Map<String, Long> getSnapshotChecksums(final Path snapshotPath) {
-    try (final var db = RocksDB.openReadOnly(snapshotPath.toString())) {
-      return db.getLiveFilesMetaData().stream()
-          .filter(fileMetaData -> fileMetaData.fileChecksum().length != 0)
-          .collect(Collectors.toMap(this::getMetadataName, this::rocksDBChecksumAsLong));
+    final var path = snapshotPath.toString();
+    final List<ColumnFamilyHandle> handles = new ArrayList<>();
+    // the files of all column families are only listed if all of them are opened
+    try (final var options = new Options();
+        final var dbOptions = new DBOptions();
+        final var cfOptions = new ColumnFamilyOptions();
+        final var db =
+            RocksDB.openReadOnly(
+                dbOptions, path, columnFamilyDescriptors(options, cfOptions, path), handles)) {
+      try {
+        return db.getLiveFilesMetaData().stream()
+            .filter(fileMetaData -> fileMetaData.fileChecksum().length != 0)
+            .collect(Collectors.toMap(this::getMetadataName, this::rocksDBChecksumAsLong));
+      } finally {
+        CloseHelper.closeAll(handles);
+      }
     } catch (final RocksDBException e) {
       throw new RuntimeException(e);
     }
   }
 
+  private List<ColumnFamilyDescriptor> columnFamilyDescriptors(
+      final Options options, final ColumnFamilyOptions cfOptions, final String path)
+      throws RocksDBException {
+    return ProfileColumnFamilies.listColumnFamilies(options, path).stream()
+        .map(name -> new ColumnFamilyDescriptor(name, cfOptions))
+        .toList();
+  }
+
   private String getMetadataName(final LiveFileMetaData fileMetaData) {
     return fileMetaData.fileName().substring(1);
     //        there is a leading '/' which breaks interactions with the Java Path.getFileName which
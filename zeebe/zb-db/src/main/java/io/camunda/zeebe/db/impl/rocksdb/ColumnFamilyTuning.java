@@ -0,0 +1,123 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb;
+
+import io.camunda.zeebe.protocol.ColumnFamilyProfile;
+import java.util.Properties;
+
+/**
+ * The RocksDB settings of a column family which differ between the {@link ColumnFamilyProfile
+ * profiles}. All other settings are the same for all column families, see {@link
+ * ZeebeRocksDbFactory}.
+ *
+ * <p>All profiles use level compaction and skip list memtables: every column family is iterated at
+ * some point, which hash based memtables make expensive, and level compaction keeps the number of
+ * sorted runs a read has to check small.
+ *
+ * @param blockSize the size of the data blocks; smaller blocks mean less data read per lookup,
+ *     larger ones smaller indexes and better compression
+ * @param bloomBitsPerKey the bits per key of the bloom filters, which skip files without a key
+ * @param compressionPerLevel the compression of each of the levels
+ * @param compactionStyle the compaction style
+ * @param compactionPriority which files of a level are compacted first
+ * @param memtableWholeKeyFiltering whether the memtable bloom filter also covers whole keys, and
+ *     not only the extracted prefixes
+ * @param optimizeFiltersForHits whether to skip the filters of the last level, which only help
+ *     when looking up keys which don't exist
+ * @param compactOnDeletion whether files with many deletion markers are compacted early, as
+ *     iterations have to step over all deletion markers in their range until they are compacted
+ */
+record ColumnFamilyTuning(
+    long blockSize,
+    double bloomBitsPerKey,
+    String compressionPerLevel,
+    String compactionStyle,
+    String compactionPriority,
+    boolean memtableWholeKeyFiltering,
+    boolean optimizeFiltersForHits,
+    boolean compactOnDeletion) {
+
+  private static final String LEVEL_COMPACTION = "kCompactionStyleLevel";
+
+  private static final ColumnFamilyTuning DEFAULT =
+      new ColumnFamilyTuning(
+          32 * 1024L,
+          10,
+          // level 1 and 2 are uncompressed, level 3 and above are compressed using a CPU-cheap
+          // compression algo. compressed blocks are stored in the OS page cache, and uncompressed
+          // in the LRUCache. note L0 is always uncompressed
+          "kNoCompression:kNoCompression:kLZ4Compression:kLZ4Compression",
+          LEVEL_COMPACTION,
+          "kOldestSmallestSeqFirst",
+          false,
+          false,
+          false);
+
+  private static final ColumnFamilyTuning QUEUE =
+      new ColumnFamilyTuning(
+          DEFAULT.blockSize,
+          DEFAULT.bloomBitsPerKey,
+          // entries are deleted before they reach the lower levels, so compressing them is wasted
+          "kNoCompression:kNoCompression:kNoCompression:kNoCompression",
+          LEVEL_COMPACTION,
+          // the oldest files hold the range at the head of the queue, where the deletions are
+          "kOldestSmallestSeqFirst",
+          false,
+          false,
+          true);
+
+  private static final ColumnFamilyTuning POINT_LOOKUP =
+      new ColumnFamilyTuning(
+          16 * 1024L,
+          // most lookups of keys which don't exist are existence checks, e.g. before inserting,
+          // so fewer false positives save reading blocks
+          14,
+          DEFAULT.compressionPerLevel,
+          LEVEL_COMPACTION,
+          "kMinOverlappingRatio",
+          true,
+          false,
+          false);
+
+  private static final ColumnFamilyTuning READ_MOSTLY =
+      new ColumnFamilyTuning(
+          64 * 1024L,
+          DEFAULT.bloomBitsPerKey,
+          // rarely rewritten, so a stronger compression of the largest level pays off
+          "kNoCompression:kNoCompression:kLZ4Compression:kZSTD",
+          LEVEL_COMPACTION,
+          "kMinOverlappingRatio",
+          false,
+          // the keys which are looked up almost always exist
+          true,
+          false);
+
+  static ColumnFamilyTuning of(final ColumnFamilyProfile profile) {
+    return switch (profile) {
+      case DEFAULT -> DEFAULT;
+      case QUEUE -> QUEUE;
+      case POINT_LOOKUP -> POINT_LOOKUP;
+      case READ_MOSTLY -> READ_MOSTLY;
+    };
+  }
+
+  /**
+   * Adds the settings which can be set via {@link
+   * org.rocksdb.ColumnFamilyOptions#getColumnFamilyOptionsFromProps(Properties)} to the given
+   * properties.
+   */
+  void addTo(final Properties props) {
+    props.setProperty("compression_per_level", compressionPerLevel);
+    props.setProperty("compaction_style", compactionStyle);
+    props.setProperty("compaction_pri", compactionPriority);
+    props.setProperty(
+        "memtable_whole_key_filtering", RocksDbOptionsFormatter.format(memtableWholeKeyFiltering));
+    props.setProperty(
+        "optimize_filters_for_hits", RocksDbOptionsFormatter.format(optimizeFiltersForHits));
+  }
+}
@@ -19,4 +19,12 @@ public class PrefixReadOptions {
         // wise)
         .setReadaheadSize(0);
   }
+
+  /**
+   * Read options for iterations with a prefix which is shorter than the prefix extractor, which
+   * therefore can't use the prefix bloom filters and must seek in total order.
+   */
+  public static ReadOptions totalOrderReadOptions() {
+    return new ReadOptions().setTotalOrderSeek(true).setReadaheadSize(0);
+  }
 }
@@ -0,0 +1,54 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb;
+
+import io.camunda.zeebe.protocol.ColumnFamilyProfile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import org.rocksdb.Options;
+import org.rocksdb.RocksDB;
+import org.rocksdb.RocksDBException;
+
+/**
+ * Names the RocksDB column families in which the column families of a {@link ColumnFamilyProfile}
+ * are stored, when the profiles are separated; see {@link
+ * RocksDbConfiguration#isColumnFamilyProfilesEnabled()}. The {@link ColumnFamilyProfile#DEFAULT}
+ * profile is always stored in RocksDB's default column family.
+ *
+ * <p>Since RocksDB has to open all column families of a database, every database may contain any
+ * of these column families, regardless of whether the profiles are currently separated.
+ */
+public final class ProfileColumnFamilies {
+
+  private ProfileColumnFamilies() {}
+
+  public static byte[] columnFamilyName(final ColumnFamilyProfile profile) {
+    if (profile == ColumnFamilyProfile.DEFAULT) {
+      return RocksDB.DEFAULT_COLUMN_FAMILY;
+    }
+
+    return profile.name().toLowerCase(Locale.ROOT).getBytes(StandardCharsets.UTF_8);
+  }
+
+  /**
+   * @return the names of the column families of the database at the given path, or only the default
+   *     column family if there is no database yet
+   */
+  public static List<byte[]> listColumnFamilies(final Options options, final String path)
+      throws RocksDBException {
+    // every database has a CURRENT file, which points to its manifest
+    if (!Files.exists(Path.of(path, "CURRENT"))) {
+      return List.of(RocksDB.DEFAULT_COLUMN_FAMILY);
+    }
+
+    return RocksDB.listColumnFamilies(options, path);
+  }
+}
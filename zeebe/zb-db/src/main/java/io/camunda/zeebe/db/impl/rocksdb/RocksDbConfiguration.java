@@ -8,6 +8,7 @@
 package io.camunda.zeebe.db.impl.rocksdb;
 
 import java.util.Properties;
+import java.util.Set;
 
 public final class RocksDbConfiguration {
 
@@ -44,6 +45,10 @@ public final class RocksDbConfiguration {
   public static final int DEFAULT_IO_RATE_BYTES_PER_SECOND = 0;
   public static final MemoryAllocationStrategy DEFAULT_ROCKSDB_MEMORY_ALLOCATION_STRATEGY =
       MemoryAllocationStrategy.AUTO;
+  public static final long DEFAULT_OVERLAY_MAX_SIZE = 32 * 1024 * 1024L;
+  public static final TransactionType DEFAULT_TRANSACTION_TYPE = TransactionType.OPTIMISTIC;
+  public static final int DEFAULT_PREFIX_FILTER_KEY_LENGTH = Long.BYTES;
+  public static final boolean DEFAULT_COLUMN_FAMILY_PROFILES_ENABLED = false;
   private Properties columnFamilyOptions = new Properties();
   private boolean statisticsEnabled = DEFAULT_STATISTICS_ENABLED;
   private long memoryLimit = DEFAULT_MEMORY_LIMIT;
@@ -75,6 +80,47 @@ public final class RocksDbConfiguration {
   private MemoryAllocationStrategy memoryAllocationStrategy =
       DEFAULT_ROCKSDB_MEMORY_ALLOCATION_STRATEGY;
 
+  /**
+   * The names of the column families whose recently read and written entries are kept in an
+   * in-memory overlay, such that reading them again doesn't have to go through JNI into RocksDB.
+   * Empty by default, i.e. no column family has an overlay.
+   */
+  private Set<String> overlayColumnFamilies = Set.of();
+
+  /**
+   * The max size in bytes of the entries kept in the overlay of each column family, i.e. of their
+   * keys and values plus a fixed overhead per entry. Once exceeded, the least recently used entries
+   * are evicted.
+   */
+  private long overlayMaxSize = DEFAULT_OVERLAY_MAX_SIZE;
+
+  /**
+   * How the writes of a transaction are buffered until they are committed, see {@link
+   * TransactionType}.
+   */
+  private TransactionType transactionType = DEFAULT_TRANSACTION_TYPE;
+
+  /**
+   * The number of key bytes after the column family prefix which are part of the extracted prefix,
+   * from which the prefix bloom filters of the memtables and SST files are built. Iterations whose
+   * prefix covers the extracted prefix, e.g. over the children of an element instance or the
+   * subscriptions of a message name, can then skip memtables and files without matching keys.
+   * Iterations with a shorter prefix seek in total order instead.
+   *
+   * <p>The default covers a long after the column family prefix, which is the first part of the key
+   * of most column families. With 0, only the column family prefix is extracted.
+   */
+  private int prefixFilterKeyLength = DEFAULT_PREFIX_FILTER_KEY_LENGTH;
+
+  /**
+   * If enabled, the column families of each {@link io.camunda.zeebe.protocol.ColumnFamilyProfile}
+   * are stored in a separate RocksDB column family, which is tuned for the profile's access
+   * pattern. Otherwise, all column families are stored in the single default RocksDB column
+   * family. Existing entries are moved to their RocksDB column family when the database is opened,
+   * so this can be changed at any time.
+   */
+  private boolean columnFamilyProfilesEnabled = DEFAULT_COLUMN_FAMILY_PROFILES_ENABLED;
+
   public RocksDbConfiguration() {}
 
   public Properties getColumnFamilyOptions() {
@@ -169,9 +215,78 @@ public final class RocksDbConfiguration {
     return this;
   }
 
+  public Set<String> getOverlayColumnFamilies() {
+    return overlayColumnFamilies;
+  }
+
+  public RocksDbConfiguration setOverlayColumnFamilies(final Set<String> overlayColumnFamilies) {
+    this.overlayColumnFamilies = overlayColumnFamilies;
+    return this;
+  }
+
+  public long getOverlayMaxSize() {
+    return overlayMaxSize;
+  }
+
+  public RocksDbConfiguration setOverlayMaxSize(final long overlayMaxSize) {
+    this.overlayMaxSize = overlayMaxSize;
+    return this;
+  }
+
+  public TransactionType getTransactionType() {
+    return transactionType;
+  }
+
+  public RocksDbConfiguration setTransactionType(final TransactionType transactionType) {
+    this.transactionType = transactionType;
+    return this;
+  }
+
+  public int getPrefixFilterKeyLength() {
+    return prefixFilterKeyLength;
+  }
+
+  public RocksDbConfiguration setPrefixFilterKeyLength(final int prefixFilterKeyLength) {
+    this.prefixFilterKeyLength = prefixFilterKeyLength;
+    return this;
+  }
+
+  public boolean isColumnFamilyProfilesEnabled() {
+    return columnFamilyProfilesEnabled;
+  }
+
+  public RocksDbConfiguration setColumnFamilyProfilesEnabled(
+      final boolean columnFamilyProfilesEnabled) {
+    this.columnFamilyProfilesEnabled = columnFamilyProfilesEnabled;
+    return this;
+  }
+
+  /**
+   * @return the length of the extracted prefix, i.e. the column family prefix followed by {@link
+   *     #getPrefixFilterKeyLength()} bytes of the key
+   */
+  public int getPrefixExtractorLength() {
+    return Long.BYTES + Math.max(0, prefixFilterKeyLength);
+  }
+
   public enum MemoryAllocationStrategy {
     PARTITION,
     BROKER,
     AUTO
   }
+
+  public enum TransactionType {
+    /**
+     * Transactions of an optimistic transaction database, which track the written keys and detect
+     * conflicting writes of concurrent transactions on commit.
+     */
+    OPTIMISTIC,
+    /**
+     * Transactions which buffer their writes in an indexed write batch, and write it to the
+     * database on commit, without tracking keys or detecting conflicts. Only safe if no two
+     * transactions concurrently write the same keys, as is the case for the state of a partition,
+     * which is only written by its stream processor.
+     */
+    WRITE_BATCH
+  }
 }
@@ -15,6 +15,7 @@ import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.ZeebeDbException;
 import io.camunda.zeebe.db.impl.rocksdb.transaction.ColumnFamilyContext;
 import io.camunda.zeebe.db.impl.rocksdb.transaction.RawTransactionalColumnFamily;
+import io.camunda.zeebe.db.impl.rocksdb.transaction.RocksDbOptions;
 import io.camunda.zeebe.db.impl.rocksdb.transaction.ZeebeTransaction;
 import io.camunda.zeebe.db.impl.rocksdb.transaction.ZeebeTransactionDb;
 import io.camunda.zeebe.protocol.ColumnFamilyScope;
@@ -22,6 +23,7 @@ import io.camunda.zeebe.protocol.EnumValue;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
 import io.micrometer.core.instrument.MeterRegistry;
 import java.io.File;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -29,6 +31,8 @@ import java.util.Set;
 import org.agrona.CloseHelper;
 import org.agrona.collections.MutableBoolean;
 import org.rocksdb.Checkpoint;
+import org.rocksdb.ColumnFamilyDescriptor;
+import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.Options;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
@@ -40,10 +44,15 @@ final class SnapshotOnlyDb<ColumnFamilyType extends Enum<? extends EnumValue> &
   private static final Logger LOG = Loggers.DB_LOGGER;
 
   private final RocksDB db;
+  private final List<ColumnFamilyHandle> columnFamilyHandles;
   private final List<AutoCloseable> managedResources;
 
-  public SnapshotOnlyDb(final RocksDB db, final List<AutoCloseable> managedResources) {
+  public SnapshotOnlyDb(
+      final RocksDB db,
+      final List<ColumnFamilyHandle> columnFamilyHandles,
+      final List<AutoCloseable> managedResources) {
     this.db = db;
+    this.columnFamilyHandles = columnFamilyHandles;
     this.managedResources = managedResources;
   }
 
@@ -99,12 +108,25 @@ final class SnapshotOnlyDb<ColumnFamilyType extends Enum<? extends EnumValue> &
 
   static <ColumnFamilyType extends Enum<? extends EnumValue> & EnumValue>
       ZeebeDb<ColumnFamilyType> openDb(
-          final Options options, final String path, final List<AutoCloseable> managedResources)
+          final RocksDbOptions options,
+          final String path,
+          final List<AutoCloseable> managedResources)
           throws RocksDBException {
-    final RocksDB db = RocksDB.openReadOnly(options, path);
+    // the column families of separated profiles must be opened as well, since they are part of
+    // the snapshot; as the database is only read, they don't need their own options
+    final List<ColumnFamilyDescriptor> descriptors = new ArrayList<>();
+    try (final var listOptions = new Options(options.dbOptions(), options.cfOptions())) {
+      for (final var name : ProfileColumnFamilies.listColumnFamilies(listOptions, path)) {
+        descriptors.add(new ColumnFamilyDescriptor(name, options.cfOptions()));
+      }
+    }
+
+    final List<ColumnFamilyHandle> handles = new ArrayList<>();
+    final RocksDB db = RocksDB.openReadOnly(options.dbOptions(), path, descriptors, handles);
     managedResources.add(db);
+    managedResources.addAll(handles);
 
-    return new SnapshotOnlyDb<>(db, managedResources);
+    return new SnapshotOnlyDb<>(db, handles, managedResources);
   }
 
   private UnsupportedOperationException unsupported(final String operation) {
@@ -115,7 +137,9 @@ final class SnapshotOnlyDb<ColumnFamilyType extends Enum<? extends EnumValue> &
 
   public void copySnapshot(
       final ZeebeTransactionDb<ZbColumnFamilies> toDB, final Set<ColumnFamilyScope> scopes) {
-    try (final var readOptions = PrefixReadOptions.readOptions()) {
+    // each column family is iterated by its column family prefix only, which may be shorter than
+    // the prefix extractor, so the iteration must not stop at the first change of extracted prefix
+    try (final var readOptions = PrefixReadOptions.totalOrderReadOptions()) {
       final var toCtx = toDB.createContext();
       final var abort = new MutableBoolean(false);
       for (final var cf : ZbColumnFamilies.values()) {
@@ -134,29 +158,36 @@ final class SnapshotOnlyDb<ColumnFamilyType extends Enum<? extends EnumValue> &
               cfContext.withPrefixKey(
                   new DbNullKey(),
                   (prefixKey, prefixLength) -> {
-                    try (final RocksIterator iterator = db.newIterator(readOptions)) {
-                      RawTransactionalColumnFamily.forEachPreallocated(
-                          iterator,
-                          cf,
-                          prefixKey,
-                          0,
-                          prefixLength,
-                          (key, keyOffset, keyLen, value, valueOffset, valueLen) -> {
-                            try {
-                              toCf.rawPut(
-                                  toTx, key, keyOffset, keyLen, value, valueOffset, valueLen);
-                            } catch (final Exception e) {
-                              LOG.error(
-                                  "Failed to copy column family '{}' on key {} and value with length {} terminating.",
-                                  cf,
-                                  new String(key, 0, keyLen),
-                                  value.length,
-                                  e);
-                              abort.set(true);
-                              return false;
-                            }
-                            return true;
-                          });
+                    // depending on whether the profiles were separated when the snapshot was
+                    // taken, the entries may be in any of the RocksDB column families
+                    for (final var handle : columnFamilyHandles) {
+                      if (abort.get()) {
+                        break;
+                      }
+                      try (final RocksIterator iterator = db.newIterator(handle, readOptions)) {
+                        RawTransactionalColumnFamily.forEachPreallocated(
+                            iterator,
+                            cf,
+                            prefixKey,
+                            0,
+                            prefixLength,
+                            (key, keyOffset, keyLen, value, valueOffset, valueLen) -> {
+                              try {
+                                toCf.rawPut(
+                                    toTx, key, keyOffset, keyLen, value, valueOffset, valueLen);
+                              } catch (final Exception e) {
+                                LOG.error(
+                                    "Failed to copy column family '{}' on key {} and value with length {} terminating.",
+                                    cf,
+                                    new String(key, 0, keyLen),
+                                    value.length,
+                                    e);
+                                abort.set(true);
+                                return false;
+                              }
+                              return true;
+                            });
+                      }
                     }
                   });
             });
@@ -13,6 +13,7 @@ import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.ZeebeDbFactory;
 import io.camunda.zeebe.db.impl.rocksdb.transaction.RocksDbOptions;
 import io.camunda.zeebe.db.impl.rocksdb.transaction.ZeebeTransactionDb;
+import io.camunda.zeebe.protocol.ColumnFamilyProfile;
 import io.camunda.zeebe.protocol.EnumValue;
 import io.camunda.zeebe.protocol.ScopedColumnFamily;
 import io.camunda.zeebe.util.VisibleForTesting;
@@ -21,7 +22,9 @@ import java.io.File;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.function.Supplier;
@@ -33,19 +36,25 @@ import org.rocksdb.DBOptions;
 import org.rocksdb.DataBlockIndexType;
 import org.rocksdb.IndexType;
 import org.rocksdb.LRUCache;
-import org.rocksdb.Options;
 import org.rocksdb.RateLimiter;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
 import org.rocksdb.Statistics;
 import org.rocksdb.StatsLevel;
 import org.rocksdb.TableFormatConfig;
+import org.rocksdb.TablePropertiesCollectorFactory;
 import org.rocksdb.WriteBufferManager;
 
 public final class ZeebeRocksDbFactory<
         ColumnFamilyType extends Enum<? extends EnumValue> & EnumValue & ScopedColumnFamily>
     implements ZeebeDbFactory<ColumnFamilyType> {
 
+  // a file is compacted early if any 1000 consecutive entries contain 500 deletion markers, or if
+  // half of all its entries are deletion markers
+  private static final long COMPACT_ON_DELETION_WINDOW_SIZE = 1000;
+  private static final long COMPACT_ON_DELETION_TRIGGER = 500;
+  private static final double COMPACT_ON_DELETION_RATIO = 0.5;
+
   private final SharedRocksDbResources sharedRocksDbResources;
   private final RocksDbConfiguration rocksDbConfiguration;
   private final ConsistencyChecksSettings consistencyChecksSettings;
@@ -111,17 +120,15 @@ public final class ZeebeRocksDbFactory<
   public ZeebeDb<ColumnFamilyType> openSnapshotOnlyDb(final File pathName) {
     final List<AutoCloseable> managedResources = Collections.synchronizedList(new ArrayList<>());
     final var options = prepareOptions(managedResources, true);
-    final var snapshotOnlyOptions =
-        new Options(options.dbOptions(), options.cfOptions())
-            // only open existing databases
-            .setCreateIfMissing(false)
-            // this can slow down open significantly if there are many SST files
-            .setSkipCheckingSstFileSizesOnDbOpen(true);
-    managedResources.add(snapshotOnlyOptions);
+    options
+        .dbOptions()
+        // only open existing databases
+        .setCreateIfMissing(false)
+        // this can slow down open significantly if there are many SST files
+        .setSkipCheckingSstFileSizesOnDbOpen(true);
 
     try {
-      return SnapshotOnlyDb.openDb(
-          snapshotOnlyOptions, pathName.getAbsolutePath(), managedResources);
+      return SnapshotOnlyDb.openDb(options, pathName.getAbsolutePath(), managedResources);
     } catch (final RocksDBException e) {
       CloseHelper.quietCloseAll(managedResources);
       throw new IllegalStateException(
@@ -134,9 +141,22 @@ public final class ZeebeRocksDbFactory<
     // column family options have to be closed as last
     final var columnFamilyOptions = createColumnFamilyOptions(managedResources);
     managedResources.add(columnFamilyOptions);
+    final Map<ColumnFamilyProfile, ColumnFamilyOptions> profileColumnFamilyOptions =
+        new EnumMap<>(ColumnFamilyProfile.class);
+    if (rocksDbConfiguration.isColumnFamilyProfilesEnabled()) {
+      for (final var profile : ColumnFamilyProfile.values()) {
+        if (profile != ColumnFamilyProfile.DEFAULT) {
+          final var profileOptions =
+              createColumnFamilyOptions(managedResources, ColumnFamilyTuning.of(profile));
+          managedResources.add(profileOptions);
+          profileColumnFamilyOptions.put(profile, profileOptions);
+        }
+      }
+    }
+
     final var dbOptions = createDefaultDbOptions(managedResources, avoidFlush);
     managedResources.add(dbOptions);
-    return new RocksDbOptions(dbOptions, columnFamilyOptions);
+    return new RocksDbOptions(dbOptions, columnFamilyOptions, profileColumnFamilyOptions);
   }
 
   private DBOptions createDefaultDbOptions(
@@ -157,8 +177,6 @@ public final class ZeebeRocksDbFactory<
             .setMaxOpenFiles(rocksDbConfiguration.getMaxOpenFiles())
             // 1 flush, 1 compaction
             .setMaxBackgroundJobs(2)
-            // we only use the default CF
-            .setCreateMissingColumnFamilies(false)
             // may not be necessary when WAL is disabled, but nevertheless recommended to avoid
             // many small SST files
             .setAvoidFlushDuringRecovery(true)
@@ -171,6 +189,12 @@ public final class ZeebeRocksDbFactory<
             .setKeepLogFileNum(2)
             .setWriteBufferManager(sharedRocksDbResources.sharedWbm);
 
+    if (rocksDbConfiguration.isColumnFamilyProfilesEnabled()) {
+      // creates the column families of the profiles when they are separated; whether they have to
+      // be flushed atomically depends on the existing column families, see ZeebeTransactionDb
+      dbOptions.setCreateMissingColumnFamilies(true);
+    }
+
     // limit I/O writes
     if (rocksDbConfiguration.getIoRateBytesPerSecond() > 0) {
       final RateLimiter rateLimiter =
@@ -194,17 +218,27 @@ public final class ZeebeRocksDbFactory<
   }
 
   /**
-   * Creates column family options by merging user-provided options with our optimized defaults.
-   * User-provided options take precedence over defaults, ensuring users can customize behavior
-   * while still benefiting from our performance optimizations for unspecified settings.
+   * Creates the options of the default column family by merging user-provided options with our
+   * optimized defaults. User-provided options take precedence over defaults, ensuring users can
+   * customize behavior while still benefiting from our performance optimizations for unspecified
+   * settings. The options are the same whether the profiles are separated or not.
    *
    * @param closeables list to track resources that need to be closed
    * @return configured ColumnFamilyOptions with merged user and default settings
    */
   public ColumnFamilyOptions createColumnFamilyOptions(final List<AutoCloseable> closeables) {
+    return createColumnFamilyOptions(
+        closeables, ColumnFamilyTuning.of(ColumnFamilyProfile.DEFAULT));
+  }
 
+  /**
+   * Creates the options of a column family with the given tuning, see {@link
+   * #createColumnFamilyOptions(List)}. User-provided options apply to all column families.
+   */
+  ColumnFamilyOptions createColumnFamilyOptions(
+      final List<AutoCloseable> closeables, final ColumnFamilyTuning tuning) {
     final var memoryConfig = calculateMemoryConfiguration();
-    final var options = createDefaultColumnFamilyOptionsAsProperties(memoryConfig);
+    final var options = createDefaultColumnFamilyOptionsAsProperties(memoryConfig, tuning);
     // Overwrite with user-provided options
     options.putAll(rocksDbConfiguration.getColumnFamilyOptions());
 
@@ -220,8 +254,17 @@ public final class ZeebeRocksDbFactory<
     }
 
     // Apply configuration that cannot be set via Properties
-    final var tableConfig = createTableFormatConfig(closeables);
+    final var tableConfig = createTableFormatConfig(closeables, tuning);
     columnFamilyOptions.setTableFormatConfig(tableConfig);
+    if (tuning.compactOnDeletion()) {
+      final var collectorFactory =
+          TablePropertiesCollectorFactory.NewCompactOnDeletionCollectorFactory(
+              COMPACT_ON_DELETION_WINDOW_SIZE,
+              COMPACT_ON_DELETION_TRIGGER,
+              COMPACT_ON_DELETION_RATIO);
+      closeables.add(collectorFactory);
+      columnFamilyOptions.setTablePropertiesCollectorFactory(List.of(collectorFactory));
+    }
     return columnFamilyOptions;
   }
 
@@ -248,10 +291,15 @@ public final class ZeebeRocksDbFactory<
     // create
     // a filter for each memtable, allowing us to skip the prefixes if possible
     final var memtablePrefixFilterMemory = 0.15;
+    // when the profiles are separated, each of their column families has its own memtables
+    final var columnFamilyCount =
+        rocksDbConfiguration.isColumnFamilyProfilesEnabled()
+            ? ColumnFamilyProfile.values().length
+            : 1;
     final var memtableMemory =
         Math.round(
             ((totalMemoryBudgetPerPartition - blockCacheMemory)
-                    / (double) maxConcurrentMemtableCount)
+                    / (double) (maxConcurrentMemtableCount * columnFamilyCount))
                 * (1 - memtablePrefixFilterMemory));
 
     return new MemoryConfiguration(
@@ -263,7 +311,8 @@ public final class ZeebeRocksDbFactory<
    * calls from createDefaultColumnFamilyOptions to their corresponding Properties keys based on
    * RocksDB's options format.
    */
-  Properties createDefaultColumnFamilyOptionsAsProperties(final MemoryConfiguration memoryConfig) {
+  Properties createDefaultColumnFamilyOptionsAsProperties(
+      final MemoryConfiguration memoryConfig, final ColumnFamilyTuning tuning) {
     final var props = new Properties();
 
     if (rocksDbConfiguration.isSstPartitioningEnabled()) {
@@ -272,8 +321,18 @@ public final class ZeebeRocksDbFactory<
           "{id=SstPartitionerFixedPrefixFactory;length=" + Long.BYTES + ";}");
     }
 
-    // to extract our column family type (used as prefix) and seek faster
-    props.setProperty("prefix_extractor", "rocksdb.FixedPrefix." + Long.BYTES);
+    // to extract our column family type (used as prefix) and seek faster; if configured, the
+    // extracted prefix also covers the start of the key, such that the prefix bloom filters can
+    // skip memtables and files without keys of a scanned range. keys can be shorter than that, so
+    // the prefix is capped instead of fixed
+    final int prefixFilterKeyLength = rocksDbConfiguration.getPrefixFilterKeyLength();
+    if (prefixFilterKeyLength > 0) {
+      props.setProperty(
+          "prefix_extractor",
+          "rocksdb.CappedPrefix." + rocksDbConfiguration.getPrefixExtractorLength());
+    } else {
+      props.setProperty("prefix_extractor", "rocksdb.FixedPrefix." + Long.BYTES);
+    }
     props.setProperty(
         "memtable_prefix_bloom_size_ratio",
         RocksDbOptionsFormatter.format(memoryConfig.memtablePrefixFilterMemory()));
@@ -293,8 +352,6 @@ public final class ZeebeRocksDbFactory<
 
     // compaction
     props.setProperty("level_compaction_dynamic_level_bytes", RocksDbOptionsFormatter.format(true));
-    props.setProperty("compaction_pri", "kOldestSmallestSeqFirst");
-    props.setProperty("compaction_style", "kCompactionStyleLevel");
 
     // L-0 means immediately flushed memtables
     props.setProperty(
@@ -308,16 +365,12 @@ public final class ZeebeRocksDbFactory<
     props.setProperty(
         "level0_stop_writes_trigger", String.valueOf(memoryConfig.maxConcurrentMemtableCount * 2));
 
-    // configure 4 levels: L1 = 32mb, L2 = 320mb, L3 = 3.2Gb, L4 >= 3.2Gb
-    // level 1 and 2 are uncompressed, level 3 and above are compressed using a CPU-cheap
-    // compression algo. compressed blocks are stored in the OS page cache, and uncompressed in
-    // the LRUCache created above. note L0 is always uncompressed
+    // configure 4 levels: L1 = 32mb, L2 = 320mb, L3 = 3.2Gb, L4 >= 3.2Gb; their compression,
+    // as well as the compaction style and priority, depend on the tuning
     props.setProperty("num_levels", RocksDbOptionsFormatter.format(4));
     props.setProperty(
         "max_bytes_for_level_base", RocksDbOptionsFormatter.format(32 * 1024 * 1024L));
     props.setProperty("max_bytes_for_level_multiplier", RocksDbOptionsFormatter.format(10.0));
-    props.setProperty(
-        "compression_per_level", "kNoCompression:kNoCompression:kLZ4Compression:kLZ4Compression");
 
     // Target file size for compaction.
     // Defines the desired SST file size for different levels (but not guaranteed, it is usually
@@ -331,17 +384,19 @@ public final class ZeebeRocksDbFactory<
     props.setProperty("target_file_size_base", RocksDbOptionsFormatter.format(8 * 1024 * 1024L));
     props.setProperty("target_file_size_multiplier", RocksDbOptionsFormatter.format(2));
 
+    tuning.addTo(props);
     return props;
   }
 
-  private TableFormatConfig createTableFormatConfig(final List<AutoCloseable> closeables) {
-    final var filter = new BloomFilter(10, false);
+  private TableFormatConfig createTableFormatConfig(
+      final List<AutoCloseable> closeables, final ColumnFamilyTuning tuning) {
+    final var filter = new BloomFilter(tuning.bloomBitsPerKey(), false);
     closeables.add(filter);
 
     return new BlockBasedTableConfig()
         .setBlockCache(sharedRocksDbResources.sharedCache)
         // increasing block size means reducing memory usage, but increasing read iops
-        .setBlockSize(32 * 1024L)
+        .setBlockSize(tuning.blockSize())
         // full and partitioned filters use a more efficient bloom filter implementation when
         // using format 5
         .setFormatVersion(5)
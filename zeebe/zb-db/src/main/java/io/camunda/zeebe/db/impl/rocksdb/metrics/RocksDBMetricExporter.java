@@ -34,7 +34,7 @@ public final class RocksDBMetricExporter {
 
     for (final var metric : RocksDbMetricsDoc.values()) {
       final var gauge = metrics.computeIfAbsent(metric, this::registerMetric);
-      exportMetric(database, metric.propertyName(), gauge);
+      exportMetric(database, metric, gauge);
     }
 
     final long elapsedTime = System.nanoTime() - startTime;
@@ -50,8 +50,16 @@ public final class RocksDBMetricExporter {
   }
 
   private void exportMetric(
-      final RocksDB database, final String propertyName, final StatefulGauge gauge) {
+      final RocksDB database, final RocksDbMetricsDoc metric, final StatefulGauge gauge) {
+    final var propertyName = metric.propertyName();
     try {
+      // the column families of separated profiles are part of the same database, so their
+      // properties are summed up
+      if (metric.isColumnFamilyProperty()) {
+        gauge.set(database.getAggregatedLongProperty(propertyName));
+        return;
+      }
+
       final var value = database.getProperty(propertyName);
       if (value != null) {
         gauge.set(Double.parseDouble(value));
@@ -79,6 +79,11 @@ public enum RocksDbMetricsDoc implements RocksDbMeterDoc {
     public String propertyName() {
       return "rocksdb.block-cache-usage";
     }
+
+    @Override
+    public boolean isColumnFamilyProperty() {
+      return false;
+    }
   },
 
   BLOCK_CACHE_CAPACITY {
@@ -96,6 +101,11 @@ public enum RocksDbMetricsDoc implements RocksDbMeterDoc {
     public String propertyName() {
       return "rocksdb.block-cache-capacity";
     }
+
+    @Override
+    public boolean isColumnFamilyProperty() {
+      return false;
+    }
   },
 
   BLOCK_CACHE_PINNED_USAGE {
@@ -113,6 +123,11 @@ public enum RocksDbMetricsDoc implements RocksDbMeterDoc {
     public String propertyName() {
       return "rocksdb.block-cache-pinned-usage";
     }
+
+    @Override
+    public boolean isColumnFamilyProperty() {
+      return false;
+    }
   },
 
   ESTIMATE_TABLE_READERS_MEM {
@@ -232,6 +247,11 @@ public enum RocksDbMetricsDoc implements RocksDbMeterDoc {
     public String propertyName() {
       return "rocksdb.is-write-stopped";
     }
+
+    @Override
+    public boolean isColumnFamilyProperty() {
+      return false;
+    }
   },
 
   ACTUAL_DELAYED_WRITE_RATE {
@@ -249,6 +269,11 @@ public enum RocksDbMetricsDoc implements RocksDbMeterDoc {
     public String propertyName() {
       return "rocksdb.actual-delayed-write-rate";
     }
+
+    @Override
+    public boolean isColumnFamilyProperty() {
+      return false;
+    }
   },
 
   MEM_TABLE_FLUSH_PENDING {
@@ -283,6 +308,11 @@ public enum RocksDbMetricsDoc implements RocksDbMeterDoc {
     public String propertyName() {
       return "rocksdb.num-running-flushes";
     }
+
+    @Override
+    public boolean isColumnFamilyProperty() {
+      return false;
+    }
   },
 
   NUM_RUNNING_COMPACTIONS {
@@ -300,6 +330,11 @@ public enum RocksDbMetricsDoc implements RocksDbMeterDoc {
     public String propertyName() {
       return "rocksdb.num-running-compactions";
     }
+
+    @Override
+    public boolean isColumnFamilyProperty() {
+      return false;
+    }
   };
 
   private static final String ZEEBE_NAMESPACE = "zeebe";
@@ -316,6 +351,14 @@ public enum RocksDbMetricsDoc implements RocksDbMeterDoc {
       "Properties related to writes, flushes and compactions for RocksDb per column family and partition";
   private static final String WRITE_METRICS_PREFIX = "rocksdb.writes";
 
+  /**
+   * @return true if RocksDB tracks the property per column family, such that it has to be summed up
+   *     over all column families, false if it tracks it for the whole database
+   */
+  public boolean isColumnFamilyProperty() {
+    return true;
+  }
+
   protected String gaugeSuffix() {
     final var propertyName = propertyName();
 
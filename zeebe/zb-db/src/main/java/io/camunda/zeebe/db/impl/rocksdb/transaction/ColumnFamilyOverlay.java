@@ -0,0 +1,175 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * A bounded in-memory copy of the most recently read or written entries of a single column family,
+ * shared by all transaction contexts of a database. Reads of cached keys are served without going
+ * through JNI into the RocksDB transaction.
+ *
+ * <p>The overlay only ever contains committed state: writes of a transaction are collected in its
+ * own {@link PendingWrites}, which serve the reads of that same transaction, and are only published
+ * to the overlay after the transaction was committed. Rolling back a transaction simply drops its
+ * pending writes. Writes still go through to RocksDB right away, such that iterating over a column
+ * family never has to consult the overlay.
+ *
+ * <p>Besides values, the overlay also caches the absence of keys, as many writes first check that a
+ * key does not exist yet. Once the overlay grows beyond its max size, the least recently used
+ * entries are evicted.
+ */
+final class ColumnFamilyOverlay {
+
+  /** Marks a key as known to not exist. Compared by identity, never a value read from RocksDB. */
+  static final byte[] ABSENT = new byte[0];
+
+  /**
+   * Estimated heap usage of an entry besides the bytes of its key and value: the map entry, the
+   * buffer wrapping the key, and the headers of the key and value arrays. Without it, small entries
+   * like the cached absence of a key would hardly count towards the max size.
+   */
+  static final int ENTRY_OVERHEAD = 128;
+
+  private final Map<UnsafeBuffer, byte[]> entries = new LinkedHashMap<>(16, 0.75f, true);
+  private final UnsafeBuffer probe = new UnsafeBuffer(0, 0);
+  private final long maxSize;
+
+  private long size;
+  private long version;
+
+  ColumnFamilyOverlay(final long maxSize) {
+    this.maxSize = maxSize;
+  }
+
+  /**
+   * @return the cached value of the key, {@link #ABSENT} if the key is known to not exist, or null
+   *     if the key is not cached
+   */
+  synchronized byte[] get(final byte[] key, final int keyLength) {
+    probe.wrap(key, 0, keyLength);
+    return entries.get(probe);
+  }
+
+  /**
+   * @return a version which changes whenever committed writes are published; pass it to {@link
+   *     #populate(byte[], int, byte[], long)} after reading a value from RocksDB
+   */
+  synchronized long version() {
+    return version;
+  }
+
+  /**
+   * Caches a value which was read from RocksDB, unless writes were published since the given
+   * version was obtained. In that case, the value may already be outdated.
+   *
+   * @param value the value read from RocksDB, or null if the key does not exist
+   */
+  synchronized void populate(
+      final byte[] key, final int keyLength, final byte[] value, final long readVersion) {
+    if (readVersion != version) {
+      return;
+    }
+
+    put(copyKey(key, keyLength), value == null ? ABSENT : value);
+    evict();
+  }
+
+  synchronized long size() {
+    return size;
+  }
+
+  PendingWrites newPendingWrites() {
+    return new PendingWrites();
+  }
+
+  private synchronized void publish(final Map<UnsafeBuffer, byte[]> writes) {
+    version++;
+    for (final var write : writes.entrySet()) {
+      put(write.getKey(), write.getValue());
+    }
+    evict();
+  }
+
+  private void put(final UnsafeBuffer key, final byte[] value) {
+    final var previous = entries.put(key, value);
+    if (previous != null) {
+      size -= sizeOf(key, previous);
+    }
+    size += sizeOf(key, value);
+  }
+
+  private void evict() {
+    final Iterator<Entry<UnsafeBuffer, byte[]>> eldest = entries.entrySet().iterator();
+    while (size > maxSize && eldest.hasNext()) {
+      final var entry = eldest.next();
+      size -= sizeOf(entry.getKey(), entry.getValue());
+      eldest.remove();
+    }
+  }
+
+  private static long sizeOf(final UnsafeBuffer key, final byte[] value) {
+    return ENTRY_OVERHEAD + key.capacity() + value.length;
+  }
+
+  private static UnsafeBuffer copyKey(final byte[] key, final int keyLength) {
+    final var copy = new byte[keyLength];
+    System.arraycopy(key, 0, copy, 0, keyLength);
+    return new UnsafeBuffer(copy);
+  }
+
+  /**
+   * The writes of a single, not yet committed transaction to the column family of the overlay. Only
+   * ever accessed by the thread running that transaction.
+   */
+  final class PendingWrites {
+
+    private final Map<UnsafeBuffer, byte[]> writes = new HashMap<>();
+    private final UnsafeBuffer probe = new UnsafeBuffer(0, 0);
+
+    /**
+     * @return the value written by the transaction, {@link #ABSENT} if the transaction deleted the
+     *     key, or null if the transaction did not write the key
+     */
+    byte[] get(final byte[] key, final int keyLength) {
+      if (writes.isEmpty()) {
+        return null;
+      }
+
+      probe.wrap(key, 0, keyLength);
+      return writes.get(probe);
+    }
+
+    void put(final byte[] key, final int keyLength, final byte[] value, final int valueLength) {
+      final var copy = new byte[valueLength];
+      System.arraycopy(value, 0, copy, 0, valueLength);
+      writes.put(copyKey(key, keyLength), copy);
+    }
+
+    void delete(final byte[] key, final int keyLength) {
+      writes.put(copyKey(key, keyLength), ABSENT);
+    }
+
+    /** Publishes the writes to the overlay; must only be called once the transaction committed. */
+    void publish() {
+      if (!writes.isEmpty()) {
+        ColumnFamilyOverlay.this.publish(writes);
+        writes.clear();
+      }
+    }
+
+    void clear() {
+      writes.clear();
+    }
+  }
+}
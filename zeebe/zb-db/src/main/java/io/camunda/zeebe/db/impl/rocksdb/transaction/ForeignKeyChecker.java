@@ -14,6 +14,7 @@ import io.camunda.zeebe.db.ZeebeDbInconsistentException;
 import io.camunda.zeebe.db.impl.DbForeignKey;
 import io.camunda.zeebe.db.impl.ZeebeDbConstants;
 import io.camunda.zeebe.protocol.EnumValue;
+import io.camunda.zeebe.protocol.ScopedColumnFamily;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import java.nio.ByteBuffer;
 import org.agrona.ExpandableArrayBuffer;
@@ -72,7 +73,7 @@ public final class ForeignKeyChecker {
       throws Exception {
     final var exists =
         transaction.get(
-                transactionDb.getDefaultNativeHandle(),
+                transactionDb.getColumnFamilyNativeHandle(columnFamilyOf(foreignKey)),
                 transactionDb.getReadOptionsNativeHandle(),
                 key,
                 keyLength)
@@ -90,7 +91,8 @@ public final class ForeignKeyChecker {
       final int prefixLength) {
     try (final var iterator =
         transaction.newIterator(
-            transactionDb.getPrefixReadOptions(), transactionDb.getDefaultHandle())) {
+            transactionDb.getIterationReadOptions(prefixLength),
+            transactionDb.getColumnFamilyHandle(columnFamilyOf(foreignKey)))) {
 
       final ByteBuffer bufferView = ByteBuffer.wrap(prefix, 0, prefixLength);
       iterator.seek(bufferView);
@@ -108,4 +110,8 @@ public final class ForeignKeyChecker {
       }
     }
   }
+
+  private static ScopedColumnFamily columnFamilyOf(final DbForeignKey<? extends DbKey> foreignKey) {
+    return (ScopedColumnFamily) foreignKey.columnFamily();
+  }
 }
@@ -0,0 +1,130 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import java.util.ArrayDeque;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.ReadOptions;
+import org.rocksdb.RocksIterator;
+
+/**
+ * Reuses the iterators of a transaction, since creating an iterator is costly compared to the short
+ * prefix scans we mostly do. Iterators are pooled per RocksDB column family and {@link
+ * ReadOptions}.
+ *
+ * <p>An iterator is only reused as long as the transaction doesn't write, as it may not reflect
+ * writes which happened after it was created. Any write thus {@link #invalidate() invalidates} the
+ * pool: idle iterators are closed right away, and acquired iterators once they are released.
+ *
+ * <p>Not thread safe, like the transaction it belongs to.
+ */
+final class IteratorPool {
+
+  private final Map<ColumnFamilyHandle, Map<ReadOptions, ArrayDeque<PooledIterator>>>
+      idleIterators = new IdentityHashMap<>();
+  private int idleCount;
+  private int acquiredCount;
+  private long generation;
+
+  /**
+   * Returns an idle iterator over the given column family with the given options, or a new one
+   * created by the given factory. The returned iterator must be closed to give it back to the pool.
+   */
+  PooledIterator acquire(
+      final ReadOptions options,
+      final ColumnFamilyHandle handle,
+      final Function<ReadOptions, RocksIterator> iteratorFactory) {
+    final var idleOfHandle = idleIterators.get(handle);
+    final var idle = idleOfHandle == null ? null : idleOfHandle.get(options);
+    PooledIterator iterator = idle == null ? null : idle.pollFirst();
+    if (iterator != null) {
+      idleCount--;
+    } else {
+      iterator =
+          new PooledIterator(this, options, handle, iteratorFactory.apply(options), generation);
+    }
+
+    acquiredCount++;
+    return iterator;
+  }
+
+  /** Closes all idle iterators, and all acquired ones when they are released. */
+  void invalidate() {
+    if (idleCount == 0 && acquiredCount == 0) {
+      return;
+    }
+
+    generation++;
+    if (idleCount > 0) {
+      for (final var idleOfHandle : idleIterators.values()) {
+        for (final var idle : idleOfHandle.values()) {
+          idle.forEach(PooledIterator::closeIterator);
+          idle.clear();
+        }
+      }
+      idleCount = 0;
+    }
+  }
+
+  int idleCount() {
+    return idleCount;
+  }
+
+  private void release(final PooledIterator iterator) {
+    acquiredCount--;
+    if (iterator.generation != generation) {
+      iterator.closeIterator();
+      return;
+    }
+
+    idleIterators
+        .computeIfAbsent(iterator.handle, handle -> new IdentityHashMap<>())
+        .computeIfAbsent(iterator.options, options -> new ArrayDeque<>())
+        .push(iterator);
+    idleCount++;
+  }
+
+  /** An iterator of the pool, which is given back to the pool when closed. */
+  static final class PooledIterator implements AutoCloseable {
+
+    private final IteratorPool pool;
+    private final ReadOptions options;
+    private final ColumnFamilyHandle handle;
+    private final RocksIterator iterator;
+    private final long generation;
+
+    private PooledIterator(
+        final IteratorPool pool,
+        final ReadOptions options,
+        final ColumnFamilyHandle handle,
+        final RocksIterator iterator,
+        final long generation) {
+      this.pool = pool;
+      this.options = options;
+      this.handle = handle;
+      this.iterator = iterator;
+      this.generation = generation;
+    }
+
+    RocksIterator iterator() {
+      return iterator;
+    }
+
+    @Override
+    public void close() {
+      pool.release(this);
+    }
+
+    private void closeIterator() {
+      iterator.close();
+    }
+  }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import java.util.Collections;
+import java.util.List;
+import org.agrona.LangUtil;
+import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.ReadOptions;
+import org.rocksdb.RocksDBException;
+import org.rocksdb.RocksIterator;
+import org.rocksdb.Transaction;
+
+/**
+ * A {@link ZeebeTransaction} backed by a RocksDB {@link Transaction} of the {@link
+ * org.rocksdb.OptimisticTransactionDB}, which tracks the written keys to detect conflicts with
+ * other transactions on commit.
+ */
+final class OptimisticZeebeTransaction extends ZeebeTransaction {
+
+  private final long nativeHandle;
+  private final TransactionRenovator transactionRenovator;
+
+  private Transaction transaction;
+
+  OptimisticZeebeTransaction(
+      final Transaction transaction, final TransactionRenovator transactionRenovator) {
+    this.transactionRenovator = transactionRenovator;
+    this.transaction = transaction;
+    try {
+      nativeHandle = RocksDbInternal.nativeHandle.getLong(transaction);
+    } catch (final Exception ex) {
+      throw new RuntimeException(ex);
+    }
+  }
+
+  @Override
+  protected void putInternal(
+      final long columnFamilyHandle,
+      final byte[] key,
+      final int keyOffset,
+      final int keyLength,
+      final byte[] value,
+      final int valueOffset,
+      final int valueLength)
+      throws Exception {
+    try {
+      RocksDbInternal.putWithHandle.invokeExact(
+          nativeHandle,
+          key,
+          keyOffset,
+          keyLength,
+          value,
+          valueOffset,
+          valueLength,
+          columnFamilyHandle,
+          false);
+    } catch (final Throwable e) {
+      LangUtil.rethrowUnchecked(e);
+    }
+  }
+
+  @Override
+  public byte[] get(
+      final long columnFamilyHandle,
+      final long readOptionsHandle,
+      final byte[] key,
+      final int keyOffset,
+      final int keyLength)
+      throws Exception {
+    try {
+      return (byte[])
+          RocksDbInternal.getWithHandle.invokeExact(
+              nativeHandle, readOptionsHandle, key, keyOffset, keyLength, columnFamilyHandle);
+    } catch (final Throwable e) {
+      LangUtil.rethrowUnchecked(e);
+      return null; // unreachable
+    }
+  }
+
+  @Override
+  public List<byte[]> multiGet(
+      final ReadOptions options, final ColumnFamilyHandle handle, final List<byte[]> keys)
+      throws RocksDBException {
+    return transaction.multiGetAsList(options, Collections.nCopies(keys.size(), handle), keys);
+  }
+
+  @Override
+  protected void deleteInternal(
+      final long columnFamilyHandle, final byte[] key, final int keyLength) throws Exception {
+    try {
+      RocksDbInternal.removeWithHandle.invokeExact(
+          nativeHandle, key, keyLength, columnFamilyHandle, false);
+    } catch (final Throwable e) {
+      LangUtil.rethrowUnchecked(e);
+    }
+  }
+
+  @Override
+  public RocksIterator newIterator(final ReadOptions options, final ColumnFamilyHandle handle) {
+    return transaction.getIterator(options, handle);
+  }
+
+  @Override
+  protected void closeTransaction() {
+    transaction.close();
+  }
+
+  @Override
+  protected void renew() {
+    transaction = transactionRenovator.renewTransaction(transaction);
+  }
+
+  @Override
+  protected void commitWrites() throws RocksDBException {
+    transaction.commit();
+  }
+
+  @Override
+  protected void rollbackWrites() throws RocksDBException {
+    transaction.rollback();
+  }
+}
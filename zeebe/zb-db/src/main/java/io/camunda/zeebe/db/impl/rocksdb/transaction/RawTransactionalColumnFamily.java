@@ -32,6 +32,7 @@ public class RawTransactionalColumnFamily {
     this.transactionDb = transactionDb;
     this.columnFamily = columnFamily;
     columnFamilyContext = new ColumnFamilyContext(columnFamily.getValue());
+    transactionDb.ensureColumnFamiliesRelocated(columnFamily);
   }
 
   /**
@@ -48,7 +49,7 @@ public class RawTransactionalColumnFamily {
               new DbNullKey(),
               (prefixKey, prefixLength) -> {
                 try (final RocksIterator iterator =
-                    newIterator(context, transactionDb.getPrefixReadOptions())) {
+                    newIterator(context, transactionDb.getIterationReadOptions(prefixLength))) {
                   forEach(iterator, columnFamily, prefixKey, 0, prefixLength, visitor);
                 }
               });
@@ -89,7 +90,7 @@ public class RawTransactionalColumnFamily {
       final int valueLen)
       throws Exception {
     transaction.put(
-        transactionDb.getDefaultNativeHandle(),
+        transactionDb.getColumnFamilyNativeHandle(columnFamily),
         key,
         keyOffset,
         keyLen,
@@ -102,7 +103,7 @@ public class RawTransactionalColumnFamily {
       final ZeebeTransaction transaction, final byte[] key, final int keyOffset, final int keyLen)
       throws Exception {
     return transaction.get(
-        transactionDb.getDefaultNativeHandle(),
+        transactionDb.getColumnFamilyNativeHandle(columnFamily),
         transactionDb.getReadOptionsNativeHandle(),
         key,
         keyOffset,
@@ -200,7 +201,8 @@ public class RawTransactionalColumnFamily {
 
   RocksIterator newIterator(final TransactionContext context, final ReadOptions options) {
     final var currentTransaction = (ZeebeTransaction) context.getCurrentTransaction();
-    return currentTransaction.newIterator(options, transactionDb.getDefaultHandle());
+    return currentTransaction.newIterator(
+        options, transactionDb.getColumnFamilyHandle(columnFamily));
   }
 
   public interface Visitor {
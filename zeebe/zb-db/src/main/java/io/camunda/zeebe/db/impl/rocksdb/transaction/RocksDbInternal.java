@@ -19,6 +19,7 @@ import static org.rocksdb.Status.Code.TryAgain;
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 import java.util.EnumSet;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
@@ -26,6 +27,7 @@ import org.rocksdb.RocksObject;
 import org.rocksdb.Status;
 import org.rocksdb.Status.Code;
 import org.rocksdb.Transaction;
+import org.rocksdb.WriteBatchWithIndex;
 
 public final class RocksDbInternal {
 
@@ -116,8 +118,92 @@ public final class RocksDbInternal {
     }
   }
 
+  /**
+   * Resolves the given internal method of the given type, as a handle which always takes the
+   * instance of the type as first argument, regardless of whether the method is static or not.
+   * This keeps the call sites independent of how the RocksDB version declares its native methods.
+   */
+  private static MethodHandle unreflectWithReceiver(
+      final Class<?> type, final String name, final Class<?>... parameterTypes)
+      throws NoSuchMethodException {
+    final var method = type.getDeclaredMethod(name, parameterTypes);
+    method.setAccessible(true);
+    try {
+      final var handle = MethodHandles.lookup().unreflect(method);
+      return Modifier.isStatic(method.getModifiers())
+          ? MethodHandles.dropArguments(handle, 0, type)
+          : handle;
+    } catch (final IllegalAccessException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
   static boolean isRocksDbExceptionRecoverable(final RocksDBException rdbex) {
     final Status status = rdbex.getStatus();
     return RECOVERABLE_ERROR_CODES.contains(status.getCode());
   }
+
+  /**
+   * The internal methods of {@link WriteBatchWithIndex}, which accept a key and value length such
+   * that reused buffers can be passed without copying. Resolved separately, and only once the
+   * write batch transactions are used.
+   */
+  static final class WriteBatch {
+
+    /*
+     final native void put(final long handle, final byte[] key, final int keyLen,
+         final byte[] value, final int valueLen, final long cfHandle);
+    */
+    static final MethodHandle PUT_WITH_HANDLE;
+
+    /*
+     final native void delete(final long handle, final byte[] key, final int keyLen,
+         final long cfHandle) throws RocksDBException;
+    */
+    static final MethodHandle DELETE_WITH_HANDLE;
+
+    /*
+     private native byte[] getFromBatchAndDB(final long handle, final long dbHandle,
+         final long readOptHandle, final byte[] key, final int keyLen, final long cfHandle);
+    */
+    static final MethodHandle GET_FROM_BATCH_AND_DB_WITH_HANDLE;
+
+    static {
+      try {
+        PUT_WITH_HANDLE =
+            unreflectWithReceiver(
+                WriteBatchWithIndex.class,
+                "put",
+                Long.TYPE,
+                byte[].class,
+                Integer.TYPE,
+                byte[].class,
+                Integer.TYPE,
+                Long.TYPE);
+        DELETE_WITH_HANDLE =
+            unreflectWithReceiver(
+                WriteBatchWithIndex.class,
+                "delete",
+                Long.TYPE,
+                byte[].class,
+                Integer.TYPE,
+                Long.TYPE);
+        GET_FROM_BATCH_AND_DB_WITH_HANDLE =
+            unreflectWithReceiver(
+                WriteBatchWithIndex.class,
+                "getFromBatchAndDB",
+                Long.TYPE,
+                Long.TYPE,
+                Long.TYPE,
+                byte[].class,
+                Integer.TYPE,
+                Long.TYPE);
+      } catch (final NoSuchMethodException e) {
+        throw new IllegalStateException(
+            "Expected to resolve the internal methods of WriteBatchWithIndex, but failed", e);
+      }
+    }
+
+    private WriteBatch() {}
+  }
 }
@@ -7,6 +7,8 @@
  */
 package io.camunda.zeebe.db.impl.rocksdb.transaction;
 
+import io.camunda.zeebe.protocol.ColumnFamilyProfile;
+import java.util.Map;
 import org.rocksdb.ColumnFamilyOptions;
 import org.rocksdb.DBOptions;
 
@@ -15,11 +17,17 @@ import org.rocksdb.DBOptions;
  * change these depending on its own configuration. As each of the parts must be individually
  * closed, this record allows easily passing both configurations around within Zeebe.
  *
- * <p>While each column family in RocksDB can be configured differently, Zeebe only uses a single
- * RocksDB column family. We therefore don't have to differentiate further than a single database
- * options and a single column family options.
+ * <p>Zeebe stores its column families in the default RocksDB column family, unless the column
+ * families of the different {@link ColumnFamilyProfile profiles} are separated. Then, each profile
+ * has its own RocksDB column family and options.
  *
  * @param dbOptions The database options used to open the RocksDB database
- * @param cfOptions The column family options used to open the RocksDB database
+ * @param cfOptions The column family options of the default RocksDB column family, also used for
+ *     any other existing RocksDB column family without options of its own
+ * @param profileCfOptions The column family options of the RocksDB column family of each profile
+ *     which is separated from the default column family; empty if the profiles are not separated
  */
-public record RocksDbOptions(DBOptions dbOptions, ColumnFamilyOptions cfOptions) {}
+public record RocksDbOptions(
+    DBOptions dbOptions,
+    ColumnFamilyOptions cfOptions,
+    Map<ColumnFamilyProfile, ColumnFamilyOptions> profileCfOptions) {}
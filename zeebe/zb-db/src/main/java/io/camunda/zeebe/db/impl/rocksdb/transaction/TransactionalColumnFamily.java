@@ -19,9 +19,15 @@ import io.camunda.zeebe.db.KeyValuePairVisitor;
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDbInconsistentException;
 import io.camunda.zeebe.db.impl.rocksdb.DbNullKey;
+import io.camunda.zeebe.db.impl.rocksdb.transaction.IteratorPool.PooledIterator;
+import io.camunda.zeebe.protocol.ColumnFamilyProfile;
 import io.camunda.zeebe.protocol.ColumnFamilyScope;
 import io.camunda.zeebe.protocol.EnumValue;
 import io.camunda.zeebe.protocol.ScopedColumnFamily;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
@@ -29,6 +35,7 @@ import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import org.agrona.DirectBuffer;
+import org.agrona.collections.IntArrayList;
 import org.agrona.collections.MutableReference;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.rocksdb.ReadOptions;
@@ -62,6 +69,7 @@ class TransactionalColumnFamily<
   private final ColumnFamilyContext columnFamilyContext;
   private final ForeignKeyChecker foreignKeyChecker;
   private final ColumnFamilyMetrics metrics;
+  private final ColumnFamilyOverlay overlay;
 
   TransactionalColumnFamily(
       final ZeebeTransactionDb<ColumnFamilyNames> transactionDb,
@@ -70,7 +78,8 @@ class TransactionalColumnFamily<
       final TransactionContext context,
       final KeyType keyInstance,
       final ValueType valueInstance,
-      final ColumnFamilyMetrics metrics) {
+      final ColumnFamilyMetrics metrics,
+      final ColumnFamilyOverlay overlay) {
     this.transactionDb = transactionDb;
     this.consistencyChecksSettings = consistencyChecksSettings;
     this.columnFamily = columnFamily;
@@ -78,6 +87,7 @@ class TransactionalColumnFamily<
     this.keyInstance = keyInstance;
     this.valueInstance = valueInstance;
     this.metrics = metrics;
+    this.overlay = overlay;
     columnFamilyContext = new ColumnFamilyContext(columnFamily.getValue());
     foreignKeyChecker = new ForeignKeyChecker(transactionDb, consistencyChecksSettings);
   }
@@ -92,12 +102,7 @@ class TransactionalColumnFamily<
 
             assertKeyDoesNotExist(transaction);
             assertForeignKeysExist(transaction, key, value);
-            transaction.put(
-                transactionDb.getDefaultNativeHandle(),
-                columnFamilyContext.getKeyBufferArray(),
-                columnFamilyContext.getKeyLength(),
-                columnFamilyContext.getValueBufferArray(),
-                value.getLength());
+            putValue(transaction, value.getLength());
           });
     }
   }
@@ -111,12 +116,7 @@ class TransactionalColumnFamily<
             columnFamilyContext.writeValue(value);
             assertKeyExists(transaction);
             assertForeignKeysExist(transaction, key, value);
-            transaction.put(
-                transactionDb.getDefaultNativeHandle(),
-                columnFamilyContext.getKeyBufferArray(),
-                columnFamilyContext.getKeyLength(),
-                columnFamilyContext.getValueBufferArray(),
-                value.getLength());
+            putValue(transaction, value.getLength());
           });
     }
   }
@@ -129,12 +129,7 @@ class TransactionalColumnFamily<
             columnFamilyContext.writeKey(key);
             columnFamilyContext.writeValue(value);
             assertForeignKeysExist(transaction, key, value);
-            transaction.put(
-                transactionDb.getDefaultNativeHandle(),
-                columnFamilyContext.getKeyBufferArray(),
-                columnFamilyContext.getKeyLength(),
-                columnFamilyContext.getValueBufferArray(),
-                value.getLength());
+            putValue(transaction, value.getLength());
           });
     }
   }
@@ -145,13 +140,7 @@ class TransactionalColumnFamily<
       ensureInOpenTransaction(
           transaction -> {
             columnFamilyContext.writeKey(key);
-            final byte[] value =
-                transaction.get(
-                    transactionDb.getDefaultNativeHandle(),
-                    transactionDb.getReadOptionsNativeHandle(),
-                    columnFamilyContext.getKeyBufferArray(),
-                    columnFamilyContext.getKeyLength());
-            columnFamilyContext.wrapValueView(value);
+            columnFamilyContext.wrapValueView(getValue(transaction));
           });
       final var valueBuffer = columnFamilyContext.getValueView();
       if (valueBuffer != null) {
@@ -169,12 +158,7 @@ class TransactionalColumnFamily<
       ensureInOpenTransaction(
           transaction -> {
             columnFamilyContext.writeKey(key);
-            final byte[] valueBytes =
-                transaction.get(
-                    transactionDb.getDefaultNativeHandle(),
-                    transactionDb.getReadOptionsNativeHandle(),
-                    columnFamilyContext.getKeyBufferArray(),
-                    columnFamilyContext.getKeyLength());
+            final byte[] valueBytes = getValue(transaction);
             if (valueBytes != null) {
               final var newValue = valueSupplier.get();
               newValue.wrap(new UnsafeBuffer(valueBytes), 0, valueBytes.length);
@@ -185,6 +169,34 @@ class TransactionalColumnFamily<
     }
   }
 
+  @Override
+  public void getAll(
+      final Collection<KeyType> keys, final KeyValuePairVisitor<KeyType, ValueType> visitor) {
+    if (keys.isEmpty()) {
+      return;
+    }
+
+    final byte[][] values = new byte[keys.size()][];
+    try (final var timer = metrics.measureGetLatency()) {
+      ensureInOpenTransaction(transaction -> getValues(transaction, keys, values));
+    }
+
+    int index = 0;
+    for (final KeyType key : keys) {
+      final byte[] value = values[index++];
+      if (value == null) {
+        continue;
+      }
+
+      columnFamilyContext.wrapValueView(value);
+      final DirectBuffer valueBuffer = columnFamilyContext.getValueView();
+      valueInstance.wrap(valueBuffer, 0, valueBuffer.capacity());
+      if (!visitor.visit(key, valueInstance)) {
+        return;
+      }
+    }
+  }
+
   @Override
   public void forEach(final Consumer<ValueType> consumer) {
     ensureInOpenTransaction(
@@ -254,10 +266,7 @@ class TransactionalColumnFamily<
           transaction -> {
             columnFamilyContext.writeKey(key);
             assertKeyExists(transaction);
-            transaction.delete(
-                transactionDb.getDefaultNativeHandle(),
-                columnFamilyContext.getKeyBufferArray(),
-                columnFamilyContext.getKeyLength());
+            deleteValue(transaction);
           });
     }
   }
@@ -268,10 +277,7 @@ class TransactionalColumnFamily<
       ensureInOpenTransaction(
           transaction -> {
             columnFamilyContext.writeKey(key);
-            transaction.delete(
-                transactionDb.getDefaultNativeHandle(),
-                columnFamilyContext.getKeyBufferArray(),
-                columnFamilyContext.getKeyLength());
+            deleteValue(transaction);
           });
     }
   }
@@ -282,13 +288,7 @@ class TransactionalColumnFamily<
       ensureInOpenTransaction(
           transaction -> {
             columnFamilyContext.writeKey(key);
-            final byte[] value =
-                transaction.get(
-                    transactionDb.getDefaultNativeHandle(),
-                    transactionDb.getReadOptionsNativeHandle(),
-                    columnFamilyContext.getKeyBufferArray(),
-                    columnFamilyContext.getKeyLength());
-            columnFamilyContext.wrapValueView(value);
+            columnFamilyContext.wrapValueView(getValue(transaction));
           });
       return !columnFamilyContext.isValueViewEmpty();
     }
@@ -335,12 +335,7 @@ class TransactionalColumnFamily<
     if (!consistencyChecksSettings.enablePreconditions()) {
       return;
     }
-    final var value =
-        transaction.get(
-            transactionDb.getDefaultNativeHandle(),
-            transactionDb.getReadOptionsNativeHandle(),
-            columnFamilyContext.getKeyBufferArray(),
-            columnFamilyContext.getKeyLength());
+    final var value = getValue(transaction);
     if (value != null) {
       throw new ZeebeDbInconsistentException(
           "Key " + keyInstance + " in ColumnFamily " + columnFamily + " already exists");
@@ -351,18 +346,146 @@ class TransactionalColumnFamily<
     if (!consistencyChecksSettings.enablePreconditions()) {
       return;
     }
-    final var value =
-        transaction.get(
-            transactionDb.getDefaultNativeHandle(),
-            transactionDb.getReadOptionsNativeHandle(),
-            columnFamilyContext.getKeyBufferArray(),
-            columnFamilyContext.getKeyLength());
+    final var value = getValue(transaction);
     if (value == null) {
       throw new ZeebeDbInconsistentException(
           "Key " + keyInstance + " in ColumnFamily " + columnFamily + " does not exist");
     }
   }
 
+  /**
+   * Reads the value of the key currently written to the column family context, or null if there is
+   * no such key. If the column family has an overlay, the writes of the current transaction and
+   * then the overlay are consulted first, and the value is only read from RocksDB if neither
+   * contains the key.
+   */
+  private byte[] getValue(final ZeebeTransaction transaction) throws Exception {
+    final byte[] key = columnFamilyContext.getKeyBufferArray();
+    final int keyLength = columnFamilyContext.getKeyLength();
+    if (overlay == null) {
+      return readValue(transaction, key, keyLength);
+    }
+
+    final byte[] value = getOverlayValue(transaction, key, keyLength);
+    if (value != null) {
+      return value == ColumnFamilyOverlay.ABSENT ? null : value;
+    }
+
+    final long readVersion = overlay.version();
+    final byte[] readValue = readValue(transaction, key, keyLength);
+    overlay.populate(key, keyLength, readValue, readVersion);
+    return readValue;
+  }
+
+  /**
+   * Reads the values of the given keys into the given array, in the same order, with null for each
+   * key which doesn't exist. Like {@link #getValue(ZeebeTransaction)}, keys are looked up in the
+   * overlay first, if any; all remaining keys are then read from RocksDB with a single multi get.
+   */
+  private void getValues(
+      final ZeebeTransaction transaction, final Collection<KeyType> keys, final byte[][] values)
+      throws Exception {
+    final List<byte[]> keysToRead = new ArrayList<>(keys.size());
+    final IntArrayList indexesToRead = new IntArrayList(keys.size(), -1);
+    final long readVersion = overlay == null ? 0 : overlay.version();
+
+    int index = 0;
+    for (final KeyType key : keys) {
+      columnFamilyContext.writeKey(key);
+      final byte[] keyBytes = columnFamilyContext.getKeyBufferArray();
+      final int keyLength = columnFamilyContext.getKeyLength();
+      final byte[] value =
+          overlay == null ? null : getOverlayValue(transaction, keyBytes, keyLength);
+      if (value != null) {
+        values[index] = value == ColumnFamilyOverlay.ABSENT ? null : value;
+      } else {
+        // multi get requires each key in its own array of the exact key length
+        keysToRead.add(Arrays.copyOf(keyBytes, keyLength));
+        indexesToRead.addInt(index);
+      }
+      index++;
+    }
+
+    if (keysToRead.isEmpty()) {
+      return;
+    }
+
+    final List<byte[]> readValues =
+        transaction.multiGet(
+            transactionDb.getDefaultReadOptions(),
+            transactionDb.getColumnFamilyHandle(columnFamily),
+            keysToRead);
+    for (int i = 0; i < keysToRead.size(); i++) {
+      final byte[] value = readValues.get(i);
+      values[indexesToRead.getInt(i)] = value;
+      if (overlay != null) {
+        final byte[] key = keysToRead.get(i);
+        overlay.populate(key, key.length, value, readVersion);
+      }
+    }
+  }
+
+  /**
+   * Looks up the given key in the writes of the current transaction and then in the overlay.
+   *
+   * @return the value, {@link ColumnFamilyOverlay#ABSENT} if the key is known to not exist, or null
+   *     if neither contains the key
+   */
+  private byte[] getOverlayValue(
+      final ZeebeTransaction transaction, final byte[] key, final int keyLength) {
+    byte[] value = transaction.getPendingWrites(overlay).get(key, keyLength);
+    if (value == null) {
+      value = overlay.get(key, keyLength);
+    }
+
+    if (value != null) {
+      metrics.countOverlayHit();
+    } else {
+      metrics.countOverlayMiss();
+    }
+    return value;
+  }
+
+  private byte[] readValue(final ZeebeTransaction transaction, final byte[] key, final int length)
+      throws Exception {
+    return transaction.get(
+        transactionDb.getColumnFamilyNativeHandle(columnFamily),
+        transactionDb.getReadOptionsNativeHandle(),
+        key,
+        length);
+  }
+
+  private void putValue(final ZeebeTransaction transaction, final int valueLength)
+      throws Exception {
+    transaction.put(
+        transactionDb.getColumnFamilyNativeHandle(columnFamily),
+        columnFamilyContext.getKeyBufferArray(),
+        columnFamilyContext.getKeyLength(),
+        columnFamilyContext.getValueBufferArray(),
+        valueLength);
+    if (overlay != null) {
+      transaction
+          .getPendingWrites(overlay)
+          .put(
+              columnFamilyContext.getKeyBufferArray(),
+              columnFamilyContext.getKeyLength(),
+              columnFamilyContext.getValueBufferArray(),
+              valueLength);
+    }
+  }
+
+  private void deleteValue(final ZeebeTransaction transaction) throws Exception {
+    transaction.delete(
+        transactionDb.getColumnFamilyNativeHandle(columnFamily),
+        columnFamilyContext.getKeyBufferArray(),
+        columnFamilyContext.getKeyLength());
+    if (overlay != null) {
+      transaction
+          .getPendingWrites(overlay)
+          .delete(columnFamilyContext.getKeyBufferArray(), columnFamilyContext.getKeyLength());
+    }
+  }
+
   /**
    * Make sure to use this method in all public methods of this class to ensure that all operations
    * on the column family occur inside a transaction. Within private methods we can assume that a
@@ -375,7 +498,20 @@ class TransactionalColumnFamily<
 
   RocksIterator newIterator(final TransactionContext context, final ReadOptions options) {
     final var currentTransaction = (ZeebeTransaction) context.getCurrentTransaction();
-    return currentTransaction.newIterator(options, transactionDb.getDefaultHandle());
+    return currentTransaction.newIterator(
+        options, transactionDb.getColumnFamilyHandle(columnFamily));
+  }
+
+  /**
+   * Acquires an iterator of the current transaction to iterate over keys with a common prefix of
+   * the given length. Closing the iterator gives it back to the transaction for reuse.
+   */
+  private PooledIterator acquireIterator(final int prefixLength) {
+    final var currentTransaction = (ZeebeTransaction) context.getCurrentTransaction();
+    return currentTransaction.acquireIterator(
+        transactionDb.getIterationReadOptions(prefixLength),
+        transactionDb.getColumnFamilyHandle(columnFamily),
+        options -> newIterator(context, options));
   }
 
   /**
@@ -420,9 +556,8 @@ class TransactionalColumnFamily<
       columnFamilyContext.withPrefixKey(
           prefix,
           (prefixKey, prefixLength) -> {
-            try (final RocksIterator iterator =
-                newIterator(context, transactionDb.getPrefixReadOptions())) {
-
+            try (final PooledIterator pooledIterator = acquireIterator(prefixLength)) {
+              final RocksIterator iterator = pooledIterator.iterator();
               boolean shouldVisitNext = true;
 
               for (iterator.seek(columnFamilyContext.keyWithColumnFamily(seekTarget));
@@ -467,9 +602,8 @@ class TransactionalColumnFamily<
     columnFamilyContext.withPrefixKey(
         prefix,
         (prefixKey, prefixLength) -> {
-          try (final RocksIterator iterator =
-              newIterator(context, transactionDb.getPrefixReadOptions())) {
-
+          try (final PooledIterator pooledIterator = acquireIterator(prefixLength)) {
+            final RocksIterator iterator = pooledIterator.iterator();
             for (iterator.seek(columnFamilyContext.keyWithColumnFamily(seekTarget));
                 iterator.isValid();
                 iterator.next()) {
@@ -508,4 +642,9 @@ class TransactionalColumnFamily<
   public ColumnFamilyScope partitionScope() {
     return columnFamily.partitionScope();
   }
+
+  @Override
+  public ColumnFamilyProfile profile() {
+    return columnFamily.profile();
+  }
 }
@@ -0,0 +1,156 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import io.camunda.zeebe.db.impl.rocksdb.transaction.RocksDbInternal.WriteBatch;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.agrona.LangUtil;
+import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.ReadOptions;
+import org.rocksdb.RocksDB;
+import org.rocksdb.RocksDBException;
+import org.rocksdb.RocksIterator;
+import org.rocksdb.WriteBatchWithIndex;
+import org.rocksdb.WriteOptions;
+
+/**
+ * A {@link ZeebeTransaction} which buffers its writes in a {@link WriteBatchWithIndex}, and applies
+ * them with a single write to the database on commit. Reads see the writes of the batch on top of
+ * the database, but unlike {@link OptimisticZeebeTransaction}, written keys are not tracked and
+ * conflicts with other transactions are not detected.
+ *
+ * <p>This is only safe if no two transactions concurrently write the same keys, which holds for the
+ * state of a partition, which is only written by its stream processor. In exchange, there is no
+ * per key bookkeeping, and no conflict validation on commit.
+ */
+final class WriteBatchZeebeTransaction extends ZeebeTransaction {
+
+  private final RocksDB db;
+  private final long dbHandle;
+  private final WriteOptions writeOptions;
+  private final WriteBatchWithIndex batch;
+  private final long batchHandle;
+
+  WriteBatchZeebeTransaction(final RocksDB db, final WriteOptions writeOptions) {
+    this.db = db;
+    this.writeOptions = writeOptions;
+    dbHandle = ZeebeTransactionDb.getNativeHandle(db);
+    // overwrite keys such that the batch keeps only the latest write per key, which reads and
+    // iterators need to see the writes of the batch correctly
+    batch = new WriteBatchWithIndex(true);
+    batchHandle = ZeebeTransactionDb.getNativeHandle(batch);
+  }
+
+  @Override
+  protected void putInternal(
+      final long columnFamilyHandle,
+      final byte[] key,
+      final int keyOffset,
+      final int keyLength,
+      final byte[] value,
+      final int valueOffset,
+      final int valueLength)
+      throws Exception {
+    // the batch only accepts buffers which start at offset 0, which is the case for all but raw
+    // writes
+    final var keyBytes = withoutOffset(key, keyOffset, keyLength);
+    final var valueBytes = withoutOffset(value, valueOffset, valueLength);
+    try {
+      WriteBatch.PUT_WITH_HANDLE.invokeExact(
+          batch, batchHandle, keyBytes, keyLength, valueBytes, valueLength, columnFamilyHandle);
+    } catch (final Throwable e) {
+      LangUtil.rethrowUnchecked(e);
+    }
+  }
+
+  @Override
+  public byte[] get(
+      final long columnFamilyHandle,
+      final long readOptionsHandle,
+      final byte[] key,
+      final int keyOffset,
+      final int keyLength)
+      throws Exception {
+    final var keyBytes = withoutOffset(key, keyOffset, keyLength);
+    try {
+      return (byte[])
+          WriteBatch.GET_FROM_BATCH_AND_DB_WITH_HANDLE.invokeExact(
+              batch,
+              batchHandle,
+              dbHandle,
+              readOptionsHandle,
+              keyBytes,
+              keyLength,
+              columnFamilyHandle);
+    } catch (final Throwable e) {
+      LangUtil.rethrowUnchecked(e);
+      return null; // unreachable
+    }
+  }
+
+  @Override
+  public List<byte[]> multiGet(
+      final ReadOptions options, final ColumnFamilyHandle handle, final List<byte[]> keys)
+      throws Exception {
+    // the indexed write batch offers no batched lookup which includes its own writes, so the keys
+    // are read one by one
+    final long columnFamilyHandle = ZeebeTransactionDb.getNativeHandle(handle);
+    final long readOptionsHandle = ZeebeTransactionDb.getNativeHandle(options);
+    final List<byte[]> values = new ArrayList<>(keys.size());
+    for (final byte[] key : keys) {
+      values.add(get(columnFamilyHandle, readOptionsHandle, key, 0, key.length));
+    }
+    return values;
+  }
+
+  @Override
+  protected void deleteInternal(
+      final long columnFamilyHandle, final byte[] key, final int keyLength) throws Exception {
+    try {
+      WriteBatch.DELETE_WITH_HANDLE.invokeExact(
+          batch, batchHandle, key, keyLength, columnFamilyHandle);
+    } catch (final Throwable e) {
+      LangUtil.rethrowUnchecked(e);
+    }
+  }
+
+  @Override
+  public RocksIterator newIterator(final ReadOptions options, final ColumnFamilyHandle handle) {
+    return batch.newIteratorWithBase(handle, db.newIterator(handle, options), options);
+  }
+
+  @Override
+  protected void closeTransaction() {
+    batch.close();
+  }
+
+  @Override
+  protected void renew() {
+    batch.clear();
+  }
+
+  @Override
+  protected void commitWrites() throws RocksDBException {
+    try {
+      db.write(writeOptions, batch);
+    } finally {
+      batch.clear();
+    }
+  }
+
+  @Override
+  protected void rollbackWrites() {
+    batch.clear();
+  }
+
+  private static byte[] withoutOffset(final byte[] bytes, final int offset, final int length) {
+    return offset == 0 ? bytes : Arrays.copyOfRange(bytes, offset, offset + length);
+  }
+}
@@ -9,34 +9,34 @@ package io.camunda.zeebe.db.impl.rocksdb.transaction;
 
 import static io.camunda.zeebe.db.impl.rocksdb.transaction.RocksDbInternal.isRocksDbExceptionRecoverable;
 
+import io.camunda.zeebe.db.TransactionListener;
 import io.camunda.zeebe.db.TransactionOperation;
 import io.camunda.zeebe.db.ZeebeDbException;
 import io.camunda.zeebe.db.ZeebeDbTransaction;
-import org.agrona.LangUtil;
+import io.camunda.zeebe.db.impl.rocksdb.transaction.ColumnFamilyOverlay.PendingWrites;
+import io.camunda.zeebe.db.impl.rocksdb.transaction.IteratorPool.PooledIterator;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksDBException;
 import org.rocksdb.RocksIterator;
-import org.rocksdb.Transaction;
 
-public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
+/**
+ * A transaction on a {@link ZeebeTransactionDb}, which is reused: once committed or rolled back, it
+ * is reset to begin the next transaction. Implementations differ in how writes are buffered until
+ * the commit; reads always see the writes of the current transaction.
+ */
+public abstract class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
 
-  private final long nativeHandle;
-  private final TransactionRenovator transactionRenovator;
+  private final Map<ColumnFamilyOverlay, PendingWrites> pendingWrites = new IdentityHashMap<>();
+  private final IteratorPool iterators = new IteratorPool();
+  private final List<TransactionListener> listeners = new ArrayList<>();
 
   private boolean inCurrentTransaction;
-  private Transaction transaction;
-
-  public ZeebeTransaction(
-      final Transaction transaction, final TransactionRenovator transactionRenovator) {
-    this.transactionRenovator = transactionRenovator;
-    this.transaction = transaction;
-    try {
-      nativeHandle = RocksDbInternal.nativeHandle.getLong(transaction);
-    } catch (final Exception ex) {
-      throw new RuntimeException(ex);
-    }
-  }
 
   public void put(
       final long columnFamilyHandle,
@@ -47,20 +47,8 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
       final int valueOffset,
       final int valueLength)
       throws Exception {
-    try {
-      RocksDbInternal.putWithHandle.invokeExact(
-          nativeHandle,
-          key,
-          keyOffset,
-          keyLength,
-          value,
-          valueOffset,
-          valueLength,
-          columnFamilyHandle,
-          false);
-    } catch (final Throwable e) {
-      LangUtil.rethrowUnchecked(e);
-    }
+    iterators.invalidate();
+    putInternal(columnFamilyHandle, key, keyOffset, keyLength, value, valueOffset, valueLength);
   }
 
   public void put(
@@ -82,40 +70,64 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
     return get(columnFamilyHandle, readOptionsHandle, key, 0, keyLength);
   }
 
-  public byte[] get(
+  public abstract byte[] get(
       final long columnFamilyHandle,
       final long readOptionsHandle,
       final byte[] key,
       final int keyOffset,
       final int keyLength)
-      throws Exception {
-    try {
-      return (byte[])
-          RocksDbInternal.getWithHandle.invokeExact(
-              nativeHandle, readOptionsHandle, key, keyOffset, keyLength, columnFamilyHandle);
-    } catch (final Throwable e) {
-      LangUtil.rethrowUnchecked(e);
-      return null; // unreachable
-    }
-  }
+      throws Exception;
+
+  /**
+   * Reads the values of all given keys of the column family at once, including the writes of the
+   * current transaction.
+   *
+   * @return the values in the order of the given keys, with null for each key which doesn't exist
+   */
+  public abstract List<byte[]> multiGet(
+      final ReadOptions options, final ColumnFamilyHandle handle, final List<byte[]> keys)
+      throws Exception;
 
   public void delete(final long columnFamilyHandle, final byte[] key, final int keyLength)
       throws Exception {
-    try {
-      RocksDbInternal.removeWithHandle.invokeExact(
-          nativeHandle, key, keyLength, columnFamilyHandle, false);
-    } catch (final Throwable e) {
-      LangUtil.rethrowUnchecked(e);
-    }
+    iterators.invalidate();
+    deleteInternal(columnFamilyHandle, key, keyLength);
+  }
+
+  public abstract RocksIterator newIterator(
+      final ReadOptions options, final ColumnFamilyHandle handle);
+
+  /**
+   * Returns an iterator of this transaction over the given column family with the given options,
+   * which is reused if possible. Closing the returned iterator gives it back to the transaction, see
+   * {@link IteratorPool}.
+   *
+   * @param iteratorFactory creates a new iterator if there is no idle one
+   */
+  PooledIterator acquireIterator(
+      final ReadOptions options,
+      final ColumnFamilyHandle handle,
+      final Function<ReadOptions, RocksIterator> iteratorFactory) {
+    return iterators.acquire(options, handle, iteratorFactory);
   }
 
-  public RocksIterator newIterator(final ReadOptions options, final ColumnFamilyHandle handle) {
-    return transaction.getIterator(options, handle);
+  /**
+   * @return the writes of this transaction to the column family of the given overlay, which are
+   *     published to the overlay on commit and dropped on rollback
+   */
+  PendingWrites getPendingWrites(final ColumnFamilyOverlay overlay) {
+    return pendingWrites.computeIfAbsent(overlay, ColumnFamilyOverlay::newPendingWrites);
+  }
+
+  void addListener(final TransactionListener listener) {
+    listeners.add(listener);
   }
 
   void resetTransaction() {
-    transaction = transactionRenovator.renewTransaction(transaction);
+    iterators.invalidate();
+    renew();
     inCurrentTransaction = true;
+    pendingWrites.values().forEach(PendingWrites::clear);
   }
 
   boolean isInCurrentTransaction() {
@@ -163,16 +175,48 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
 
   void commitInternal() throws RocksDBException {
     inCurrentTransaction = false;
-    transaction.commit();
+    iterators.invalidate();
+    commitWrites();
+    pendingWrites.values().forEach(PendingWrites::publish);
+    listeners.forEach(TransactionListener::onCommit);
   }
 
   void rollbackInternal() throws RocksDBException {
     inCurrentTransaction = false;
-    transaction.rollback();
+    iterators.invalidate();
+    pendingWrites.values().forEach(PendingWrites::clear);
+    listeners.forEach(TransactionListener::onRollback);
+    rollbackWrites();
   }
 
   @Override
   public void close() {
-    transaction.close();
+    iterators.invalidate();
+    closeTransaction();
   }
+
+  protected abstract void putInternal(
+      final long columnFamilyHandle,
+      final byte[] key,
+      final int keyOffset,
+      final int keyLength,
+      final byte[] value,
+      final int valueOffset,
+      final int valueLength)
+      throws Exception;
+
+  protected abstract void deleteInternal(
+      final long columnFamilyHandle, final byte[] key, final int keyLength) throws Exception;
+
+  /** Releases the native resources of this transaction. */
+  protected abstract void closeTransaction();
+
+  /** Begins a new transaction, after the previous one was committed or rolled back. */
+  protected abstract void renew();
+
+  /** Atomically applies all writes of the current transaction to the database. */
+  protected abstract void commitWrites() throws RocksDBException;
+
+  /** Discards all writes of the current transaction. */
+  protected abstract void rollbackWrites() throws RocksDBException;
 }
@@ -21,8 +21,11 @@ import io.camunda.zeebe.db.impl.NoopColumnFamilyMetrics;
 import io.camunda.zeebe.db.impl.rocksdb.DbNullKey;
 import io.camunda.zeebe.db.impl.rocksdb.Loggers;
 import io.camunda.zeebe.db.impl.rocksdb.PrefixReadOptions;
+import io.camunda.zeebe.db.impl.rocksdb.ProfileColumnFamilies;
 import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration.TransactionType;
 import io.camunda.zeebe.db.impl.rocksdb.metrics.RocksDBMetricExporter;
+import io.camunda.zeebe.protocol.ColumnFamilyProfile;
 import io.camunda.zeebe.protocol.EnumValue;
 import io.camunda.zeebe.protocol.ScopedColumnFamily;
 import io.camunda.zeebe.util.micrometer.MicrometerUtil;
@@ -31,18 +34,25 @@ import java.io.File;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 import org.rocksdb.Checkpoint;
 import org.rocksdb.ColumnFamilyDescriptor;
 import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.FlushOptions;
 import org.rocksdb.OptimisticTransactionDB;
+import org.rocksdb.Options;
 import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
 import org.rocksdb.RocksObject;
 import org.rocksdb.Transaction;
+import org.rocksdb.WriteBatch;
 import org.rocksdb.WriteOptions;
 import org.slf4j.Logger;
 
@@ -53,37 +63,76 @@ public class ZeebeTransactionDb<
   private static final Logger LOG = Loggers.DB_LOGGER;
   private static final String ERROR_MESSAGE_CLOSE_RESOURCE =
       "Expected to close RocksDB resource successfully, but exception was thrown. Will continue to close remaining resources.";
+  private static final int RELOCATION_BATCH_SIZE = 1000;
   private final OptimisticTransactionDB optimisticTransactionDB;
   private final List<AutoCloseable> closables;
   private final ReadOptions prefixReadOptions;
+  private final ReadOptions totalOrderReadOptions;
+  private final int prefixExtractorLength;
   private final ReadOptions defaultReadOptions;
   private final WriteOptions defaultWriteOptions;
   private final ColumnFamilyHandle defaultHandle;
-  private final long defaultNativeHandle;
+  private final List<ColumnFamilyHandle> columnFamilyHandles;
+  // column families of profiles which are no longer separated, dropped once they are relocated
+  private final List<ColumnFamilyHandle> unusedColumnFamilyHandles;
+  private final ColumnFamilyHandle[] profileHandles;
+  private final long[] profileNativeHandles;
+  private volatile boolean columnFamiliesRelocated;
   private final ConsistencyChecksSettings consistencyChecksSettings;
   private final AccessMetricsConfiguration accessMetricsConfiguration;
   private final MeterRegistry meterRegistry;
   private final RocksDBMetricExporter metricExporter;
+  private final Set<String> overlayColumnFamilies;
+  private final long overlayMaxSize;
+  private final TransactionType transactionType;
+  private final Map<ColumnFamilyNames, ColumnFamilyOverlay> overlays = new ConcurrentHashMap<>();
 
+  /**
+   * @param columnFamilyHandles the handles of all RocksDB column families of the database, starting
+   *     with the default column family
+   * @param profileHandles the handles of the RocksDB column families of the separated profiles;
+   *     the column families of all other profiles are stored in the default column family
+   */
   protected ZeebeTransactionDb(
-      final ColumnFamilyHandle defaultHandle,
+      final List<ColumnFamilyHandle> columnFamilyHandles,
+      final Map<ColumnFamilyProfile, ColumnFamilyHandle> profileHandles,
       final OptimisticTransactionDB optimisticTransactionDB,
       final List<AutoCloseable> closables,
       final RocksDbConfiguration rocksDbConfiguration,
       final ConsistencyChecksSettings consistencyChecksSettings,
       final AccessMetricsConfiguration accessMetricsConfiguration,
       final MeterRegistry meterRegistry) {
-    this.defaultHandle = defaultHandle;
-    defaultNativeHandle = getNativeHandle(defaultHandle);
+    this.columnFamilyHandles = columnFamilyHandles;
+    defaultHandle = columnFamilyHandles.getFirst();
+    final var profiles = ColumnFamilyProfile.values();
+    this.profileHandles = new ColumnFamilyHandle[profiles.length];
+    profileNativeHandles = new long[profiles.length];
+    for (final var profile : profiles) {
+      final var handle = profileHandles.getOrDefault(profile, defaultHandle);
+      this.profileHandles[profile.ordinal()] = handle;
+      profileNativeHandles[profile.ordinal()] = getNativeHandle(handle);
+    }
+    unusedColumnFamilyHandles =
+        columnFamilyHandles.stream()
+            .filter(handle -> handle != defaultHandle && !profileHandles.containsValue(handle))
+            .toList();
+    // nothing to relocate if everything is stored in the default column family
+    columnFamiliesRelocated = columnFamilyHandles.size() == 1;
     this.optimisticTransactionDB = optimisticTransactionDB;
     this.closables = closables;
     this.consistencyChecksSettings = consistencyChecksSettings;
     this.accessMetricsConfiguration = accessMetricsConfiguration;
     this.meterRegistry = meterRegistry;
     metricExporter = new RocksDBMetricExporter(meterRegistry);
+    overlayColumnFamilies = rocksDbConfiguration.getOverlayColumnFamilies();
+    overlayMaxSize = rocksDbConfiguration.getOverlayMaxSize();
+    transactionType = rocksDbConfiguration.getTransactionType();
 
+    prefixExtractorLength = rocksDbConfiguration.getPrefixExtractorLength();
     prefixReadOptions = PrefixReadOptions.readOptions();
     closables.add(prefixReadOptions);
+    totalOrderReadOptions = PrefixReadOptions.totalOrderReadOptions();
+    closables.add(totalOrderReadOptions);
     defaultReadOptions = new ReadOptions();
     closables.add(defaultReadOptions);
     defaultWriteOptions = new WriteOptions().setDisableWAL(rocksDbConfiguration.isWalDisabled());
@@ -101,28 +150,61 @@ public class ZeebeTransactionDb<
           final AccessMetricsConfiguration metrics,
           final Supplier<MeterRegistry> meterRegistryFactory)
           throws RocksDBException {
-    final var cfDescriptors =
-        Arrays.asList( // todo: could consider using List.of
-            new ColumnFamilyDescriptor(RocksDB.DEFAULT_COLUMN_FAMILY, options.cfOptions()));
+    final List<ColumnFamilyDescriptor> cfDescriptors = new ArrayList<>();
+    cfDescriptors.add(
+        new ColumnFamilyDescriptor(RocksDB.DEFAULT_COLUMN_FAMILY, options.cfOptions()));
+    options
+        .profileCfOptions()
+        .forEach(
+            (profile, cfOptions) ->
+                cfDescriptors.add(
+                    new ColumnFamilyDescriptor(
+                        ProfileColumnFamilies.columnFamilyName(profile), cfOptions)));
+    // all existing column families must be opened, even those of profiles which are no longer
+    // separated; their entries are moved back to the default column family
+    for (final var name : listColumnFamilies(options, path)) {
+      final var isOpened =
+          cfDescriptors.stream().anyMatch(descriptor -> Arrays.equals(descriptor.getName(), name));
+      if (!isOpened) {
+        cfDescriptors.add(new ColumnFamilyDescriptor(name, options.cfOptions()));
+      }
+    }
+    // without a WAL, multiple column families must be flushed together to stay consistent with each
+    // other; this includes the column families of profiles which are no longer separated, until
+    // their entries are moved back and they are dropped
+    if (cfDescriptors.size() > 1) {
+      options.dbOptions().setAtomicFlush(true);
+    }
+
     final List<ColumnFamilyHandle> cfHandles = new ArrayList<>();
     final OptimisticTransactionDB optimisticTransactionDB =
         OptimisticTransactionDB.open(options.dbOptions(), path, cfDescriptors, cfHandles);
     closables.add(optimisticTransactionDB);
+    closables.addAll(cfHandles);
 
-    if (cfHandles.size() != 1) {
+    if (cfHandles.size() != cfDescriptors.size()) {
       throw new IllegalStateException(
-          "Expected a handle for the default column family but found %d handles"
-              .formatted(cfHandles.size()));
+          "Expected a handle for each of the %d column families but found %d handles"
+              .formatted(cfDescriptors.size(), cfHandles.size()));
     }
 
-    final ColumnFamilyHandle defaultColumnFamilyHandle = cfHandles.getFirst();
-    closables.add(defaultColumnFamilyHandle);
+    final Map<ColumnFamilyProfile, ColumnFamilyHandle> profileHandles =
+        new EnumMap<>(ColumnFamilyProfile.class);
+    for (final var profile : options.profileCfOptions().keySet()) {
+      final var name = ProfileColumnFamilies.columnFamilyName(profile);
+      for (int i = 0; i < cfDescriptors.size(); i++) {
+        if (Arrays.equals(cfDescriptors.get(i).getName(), name)) {
+          profileHandles.put(profile, cfHandles.get(i));
+        }
+      }
+    }
 
     final var meterRegistry = meterRegistryFactory.get();
     closables.add(() -> MicrometerUtil.close(meterRegistry));
 
     return new ZeebeTransactionDb<>(
-        defaultColumnFamilyHandle,
+        cfHandles,
+        profileHandles,
         optimisticTransactionDB,
         closables,
         rocksDbConfiguration,
@@ -131,6 +213,13 @@ public class ZeebeTransactionDb<
         meterRegistry);
   }
 
+  private static List<byte[]> listColumnFamilies(final RocksDbOptions options, final String path)
+      throws RocksDBException {
+    try (final var listOptions = new Options(options.dbOptions(), options.cfOptions())) {
+      return ProfileColumnFamilies.listColumnFamilies(listOptions, path);
+    }
+  }
+
   static long getNativeHandle(final RocksObject object) {
     try {
       return RocksDbInternal.nativeHandle.getLong(object);
@@ -140,20 +229,33 @@ public class ZeebeTransactionDb<
     }
   }
 
-  protected ReadOptions getPrefixReadOptions() {
-    return prefixReadOptions;
+  /**
+   * Returns the read options to iterate over the keys with a common prefix of the given length,
+   * including the column family prefix. Only prefixes which are at least as long as the prefix
+   * extractor can make use of the prefix bloom filters; shorter ones have to be iterated in total
+   * order, since a prefix iteration stops at the first key with a different extracted prefix.
+   */
+  protected ReadOptions getIterationReadOptions(final int prefixLength) {
+    return prefixLength >= prefixExtractorLength ? prefixReadOptions : totalOrderReadOptions;
   }
 
-  protected ColumnFamilyHandle getDefaultHandle() {
-    return defaultHandle;
+  /**
+   * @return the handle of the RocksDB column family in which the given column family is stored
+   */
+  protected ColumnFamilyHandle getColumnFamilyHandle(final ScopedColumnFamily columnFamily) {
+    return profileHandles[columnFamily.profile().ordinal()];
   }
 
-  protected long getReadOptionsNativeHandle() {
-    return getNativeHandle(defaultReadOptions);
+  protected long getColumnFamilyNativeHandle(final ScopedColumnFamily columnFamily) {
+    return profileNativeHandles[columnFamily.profile().ordinal()];
   }
 
-  protected long getDefaultNativeHandle() {
-    return defaultNativeHandle;
+  protected ReadOptions getDefaultReadOptions() {
+    return defaultReadOptions;
+  }
+
+  protected long getReadOptionsNativeHandle() {
+    return getNativeHandle(defaultReadOptions);
   }
 
   @Override
@@ -163,6 +265,7 @@ public class ZeebeTransactionDb<
           final TransactionContext context,
           final KeyType keyInstance,
           final ValueType valueInstance) {
+    ensureColumnFamiliesRelocated(columnFamily);
     final var metrics =
         switch (accessMetricsConfiguration.kind()) {
           case NONE -> new NoopColumnFamilyMetrics();
@@ -175,7 +278,119 @@ public class ZeebeTransactionDb<
         context,
         keyInstance,
         valueInstance,
-        metrics);
+        metrics,
+        getOverlay(columnFamily));
+  }
+
+  /**
+   * Moves the entries of all column families to the RocksDB column family of their profile, if they
+   * are stored in another one. This is the case after separating the profiles or merging them back
+   * into the default column family, or after changing the profile of a column family. It's done
+   * when the first column family is created, before it can be used, as only then all column
+   * families are known. Afterwards, the RocksDB column families of profiles which are no longer
+   * separated are empty and dropped, such that they don't have to be flushed atomically anymore.
+   */
+  void ensureColumnFamiliesRelocated(final ColumnFamilyNames columnFamily) {
+    if (columnFamiliesRelocated) {
+      return;
+    }
+
+    synchronized (this) {
+      if (columnFamiliesRelocated) {
+        return;
+      }
+
+      @SuppressWarnings("unchecked")
+      final var columnFamilies =
+          (ColumnFamilyNames[]) columnFamily.getDeclaringClass().getEnumConstants();
+      try {
+        for (final var otherColumnFamily : columnFamilies) {
+          relocate(otherColumnFamily);
+        }
+        dropUnusedColumnFamilies();
+      } catch (final RocksDBException e) {
+        throw new ZeebeDbException("Failed to move column families to their profile", e);
+      }
+      columnFamiliesRelocated = true;
+    }
+  }
+
+  private void relocate(final ColumnFamilyNames columnFamily) throws RocksDBException {
+    final var target = getColumnFamilyHandle(columnFamily);
+    final var prefix = new ColumnFamilyContext(columnFamily.getValue());
+    final var prefixKey = prefix.keyWithColumnFamily(DbNullKey.INSTANCE).array();
+
+    for (final var source : columnFamilyHandles) {
+      if (source == target) {
+        continue;
+      }
+
+      long relocated = 0;
+      try (final var iterator =
+              optimisticTransactionDB.newIterator(source, getIterationReadOptions(Long.BYTES));
+          final var batch = new WriteBatch()) {
+        for (iterator.seek(prefixKey); iterator.isValid(); iterator.next()) {
+          final var key = iterator.key();
+          if (!startsWith(prefixKey, key)) {
+            break;
+          }
+
+          batch.put(target, key, iterator.value());
+          batch.delete(source, key);
+          relocated++;
+          if (batch.count() >= 2 * RELOCATION_BATCH_SIZE) {
+            optimisticTransactionDB.write(defaultWriteOptions, batch);
+            batch.clear();
+          }
+        }
+        iterator.status();
+        if (batch.count() > 0) {
+          optimisticTransactionDB.write(defaultWriteOptions, batch);
+        }
+      }
+
+      if (relocated > 0) {
+        LOG.info(
+            "Moved {} entries of column family {} to the RocksDB column family of profile {}",
+            relocated,
+            columnFamily,
+            columnFamily.profile());
+      }
+    }
+  }
+
+  private void dropUnusedColumnFamilies() throws RocksDBException {
+    if (unusedColumnFamilyHandles.isEmpty()) {
+      return;
+    }
+
+    // the relocated entries must be persisted before their source column families are gone, as
+    // there may be no WAL to recover them from
+    try (final var flushOptions = new FlushOptions().setWaitForFlush(true)) {
+      optimisticTransactionDB.flush(flushOptions, columnFamilyHandles);
+    }
+    optimisticTransactionDB.dropColumnFamilies(unusedColumnFamilyHandles);
+    LOG.info(
+        "Dropped {} RocksDB column families of profiles which are no longer separated",
+        unusedColumnFamilyHandles.size());
+  }
+
+  private static boolean startsWith(final byte[] prefix, final byte[] key) {
+    return key.length >= prefix.length
+        && Arrays.equals(prefix, 0, prefix.length, key, 0, prefix.length);
+  }
+
+  /**
+   * @return the overlay of the given column family, shared by all column family instances and
+   *     transaction contexts of this database, or null if the column family has no overlay
+   */
+  private ColumnFamilyOverlay getOverlay(final ColumnFamilyNames columnFamily) {
+    if (!overlayColumnFamilies.contains(columnFamily.name())) {
+      return null;
+    }
+
+    return overlays.computeIfAbsent(
+        columnFamily, ignored -> new ColumnFamilyOverlay(overlayMaxSize));
   }
 
   @Override
@@ -203,8 +418,14 @@ public class ZeebeTransactionDb<
 
   @Override
   public TransactionContext createContext() {
-    final Transaction transaction = optimisticTransactionDB.beginTransaction(defaultWriteOptions);
-    final ZeebeTransaction zeebeTransaction = new ZeebeTransaction(transaction, this);
+    final ZeebeTransaction zeebeTransaction =
+        switch (transactionType) {
+          case OPTIMISTIC ->
+              new OptimisticZeebeTransaction(
+                  optimisticTransactionDB.beginTransaction(defaultWriteOptions), this);
+          case WRITE_BATCH ->
+              new WriteBatchZeebeTransaction(optimisticTransactionDB, defaultWriteOptions);
+        };
     closables.add(zeebeTransaction);
     return new DefaultTransactionContext(zeebeTransaction);
   }
@@ -11,6 +11,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.ZeebeDbFactory;
 import io.camunda.zeebe.db.ZeebeDbInconsistentException;
@@ -28,6 +29,7 @@ public final class ColumnFamilyTest {
   private final ZeebeDbFactory<DefaultColumnFamily> dbFactory =
       DefaultZeebeDbFactory.getDefaultFactory();
   private ZeebeDb<DefaultColumnFamily> zeebeDb;
+  private TransactionContext context;
   private ColumnFamily<DbLong, DbLong> columnFamily;
   private DbLong key;
   private DbLong value;
@@ -39,9 +41,8 @@ public final class ColumnFamilyTest {
 
     key = new DbLong();
     value = new DbLong();
-    columnFamily =
-        zeebeDb.createColumnFamily(
-            DefaultColumnFamily.DEFAULT, zeebeDb.createContext(), key, value);
+    context = zeebeDb.createContext();
+    columnFamily = zeebeDb.createColumnFamily(DefaultColumnFamily.DEFAULT, context, key, value);
   }
 
   @Test
@@ -521,6 +522,101 @@ public final class ColumnFamilyTest {
     assertThat(result2.getValue()).isEqualTo(4);
   }
 
+  @Test
+  public void shouldSeeWritesOfTransactionInSubsequentIteration() {
+    // given
+    upsertKeyValuePair(1, 10);
+    final List<Long> valuesBeforeWrite = new ArrayList<>();
+    final List<Long> valuesAfterWrite = new ArrayList<>();
+
+    // when
+    context.runInTransaction(
+        () -> {
+          columnFamily.forEach(v -> valuesBeforeWrite.add(v.getValue()));
+          upsertKeyValuePair(2, 20);
+          columnFamily.forEach(v -> valuesAfterWrite.add(v.getValue()));
+        });
+
+    // then
+    assertThat(valuesBeforeWrite).containsExactly(10L);
+    assertThat(valuesAfterWrite).containsExactly(10L, 20L);
+  }
+
+  @Test
+  public void shouldGetAllExistingValuesInRequestedOrder() {
+    // given
+    upsertKeyValuePair(1, 10);
+    upsertKeyValuePair(2, 20);
+    upsertKeyValuePair(4, 40);
+
+    // when
+    final List<Long> keys = new ArrayList<>();
+    final List<Long> values = new ArrayList<>();
+    columnFamily.getAll(
+        List.of(newKey(4), newKey(3), newKey(1)),
+        (k, v) -> {
+          keys.add(k.getValue());
+          values.add(v.getValue());
+          return true;
+        });
+
+    // then
+    assertThat(keys).containsExactly(4L, 1L);
+    assertThat(values).containsExactly(40L, 10L);
+  }
+
+  @Test
+  public void shouldStopGetAllWhenVisitorReturnsFalse() {
+    // given
+    upsertKeyValuePair(1, 10);
+    upsertKeyValuePair(2, 20);
+
+    // when
+    final List<Long> values = new ArrayList<>();
+    columnFamily.getAll(
+        List.of(newKey(1), newKey(2)),
+        (k, v) -> {
+          values.add(v.getValue());
+          return false;
+        });
+
+    // then
+    assertThat(values).containsExactly(10L);
+  }
+
+  @Test
+  public void shouldGetAllUncommittedWrites() {
+    // given
+    upsertKeyValuePair(1, 10);
+    upsertKeyValuePair(3, 30);
+    final List<Long> values = new ArrayList<>();
+
+    // when
+    context.runInTransaction(
+        () -> {
+          upsertKeyValuePair(1, 11);
+          upsertKeyValuePair(2, 20);
+          key.wrapLong(3);
+          columnFamily.deleteExisting(key);
+
+          columnFamily.getAll(
+              List.of(newKey(1), newKey(2), newKey(3)),
+              (k, v) -> {
+                values.add(v.getValue());
+                return true;
+              });
+        });
+
+    // then
+    assertThat(values).containsExactly(11L, 20L);
+  }
+
+  private DbLong newKey(final long key) {
+    final var dbKey = new DbLong();
+    dbKey.wrapLong(key);
+    return dbKey;
+  }
+
   private void upsertKeyValuePair(final int key, final int value) {
     this.key.wrapLong(key);
     this.value.wrapLong(value);
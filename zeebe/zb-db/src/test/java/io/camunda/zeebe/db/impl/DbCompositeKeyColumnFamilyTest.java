@@ -613,6 +613,34 @@ public final class DbCompositeKeyColumnFamilyTest {
     assertThat(count).describedAs("Only counts entries matching 'foo'").isEqualTo(2);
   }
 
+  @Test
+  public void shouldIterateOverPrefixesShorterAndLongerThanPrefixFilter() {
+    // given - the prefix filter covers the column family prefix and 8 bytes of the key, i.e. the
+    // length of the string and its first 4 characters
+    upsertKeyValuePair("ab", 1, "short");
+    upsertKeyValuePair("ab", 2, "short");
+    upsertKeyValuePair("abcdefgh", 3, "long");
+    upsertKeyValuePair("abcdefgh", 4, "long");
+    upsertKeyValuePair("abcdefgi", 5, "other");
+
+    // when
+    final List<Long> shortPrefixKeys = new ArrayList<>();
+    firstKey.wrapString("ab");
+    columnFamily.whileEqualPrefix(firstKey, (k, v) -> shortPrefixKeys.add(k.second().getValue()));
+    final List<Long> longPrefixKeys = new ArrayList<>();
+    firstKey.wrapString("abcdefgh");
+    columnFamily.whileEqualPrefix(firstKey, (k, v) -> longPrefixKeys.add(k.second().getValue()));
+    final List<Long> missingPrefixKeys = new ArrayList<>();
+    firstKey.wrapString("abcdefgj");
+    columnFamily.whileEqualPrefix(
+        firstKey, (k, v) -> missingPrefixKeys.add(k.second().getValue()));
+
+    // then
+    assertThat(shortPrefixKeys).containsExactly(1L, 2L);
+    assertThat(longPrefixKeys).containsExactly(3L, 4L);
+    assertThat(missingPrefixKeys).isEmpty();
+  }
+
   private void upsertKeyValuePair(final String firstKey, final long secondKey, final String value) {
     this.firstKey.wrapString(firstKey);
     this.secondKey.wrapLong(secondKey);
@@ -0,0 +1,214 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.AccessMetricsConfiguration.Kind;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DbString;
+import io.camunda.zeebe.protocol.ColumnFamilyProfile;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.rocksdb.BlockBasedTableConfig;
+import org.rocksdb.CompactionPriority;
+import org.rocksdb.Options;
+
+final class ColumnFamilyProfilesTest {
+
+  private final DbLong key = new DbLong();
+  private final DbString value = new DbString();
+
+  @Test
+  void shouldTuneColumnFamilyOptionsPerProfile() {
+    // given
+    final var factory = createFactory(true);
+
+    // when
+    final var pointLookup =
+        factory.createColumnFamilyOptions(
+            new ArrayList<>(), ColumnFamilyTuning.of(ColumnFamilyProfile.POINT_LOOKUP));
+    final var readMostly =
+        factory.createColumnFamilyOptions(
+            new ArrayList<>(), ColumnFamilyTuning.of(ColumnFamilyProfile.READ_MOSTLY));
+
+    // then
+    assertThat(((BlockBasedTableConfig) pointLookup.tableFormatConfig()).blockSize())
+        .isEqualTo(16L * 1024);
+    assertThat(pointLookup.compactionPriority()).isEqualTo(CompactionPriority.MinOverlappingRatio);
+    assertThat(pointLookup.memtableWholeKeyFiltering()).isTrue();
+    assertThat(((BlockBasedTableConfig) readMostly.tableFormatConfig()).blockSize())
+        .isEqualTo(64L * 1024);
+    assertThat(readMostly.optimizeFiltersForHits()).isTrue();
+
+    pointLookup.close();
+    readMostly.close();
+  }
+
+  @Test
+  void shouldCreateColumnFamilyPerProfile(final @TempDir File path) throws Exception {
+    // given
+    final var factory = createFactory(true);
+
+    // when
+    try (final var db = factory.createDb(path)) {
+      insert(db, ZbColumnFamilies.JOBS, 1L, "job");
+    }
+
+    // then
+    try (final var options = new Options()) {
+      assertThat(ProfileColumnFamilies.listColumnFamilies(options, path.getAbsolutePath()))
+          .extracting(name -> new String(name, StandardCharsets.UTF_8))
+          .contains("default", "queue", "point_lookup", "read_mostly");
+    }
+  }
+
+  @Test
+  void shouldRelocateEntriesWhenEnablingProfiles(final @TempDir File path) throws Exception {
+    // given
+    try (final var db = createFactory(false).createDb(path)) {
+      insert(db, ZbColumnFamilies.JOBS, 1L, "job");
+      insert(db, ZbColumnFamilies.TIMER_DUE_DATES, 2L, "timer");
+      insert(db, ZbColumnFamilies.KEY, 3L, "key");
+    }
+
+    // when
+    try (final var db = createFactory(true).createDb(path)) {
+      // then
+      assertThat(get(db, ZbColumnFamilies.JOBS, 1L)).isEqualTo("job");
+      assertThat(get(db, ZbColumnFamilies.TIMER_DUE_DATES, 2L)).isEqualTo("timer");
+      assertThat(get(db, ZbColumnFamilies.KEY, 3L)).isEqualTo("key");
+      assertThat(count(db, ZbColumnFamilies.JOBS)).isOne();
+    }
+  }
+
+  @Test
+  void shouldRelocateEntriesWhenDisablingProfiles(final @TempDir File path) throws Exception {
+    // given
+    try (final var db = createFactory(true).createDb(path)) {
+      insert(db, ZbColumnFamilies.JOBS, 1L, "job");
+      insert(db, ZbColumnFamilies.PROCESS_CACHE, 2L, "process");
+    }
+
+    // when
+    try (final var db = createFactory(false).createDb(path)) {
+      // then
+      assertThat(get(db, ZbColumnFamilies.JOBS, 1L)).isEqualTo("job");
+      assertThat(get(db, ZbColumnFamilies.PROCESS_CACHE, 2L)).isEqualTo("process");
+      assertThat(count(db, ZbColumnFamilies.PROCESS_CACHE)).isOne();
+    }
+  }
+
+  @Test
+  void shouldDropColumnFamiliesWhenDisablingProfiles(final @TempDir File path) throws Exception {
+    // given
+    try (final var db = createFactory(true).createDb(path)) {
+      insert(db, ZbColumnFamilies.JOBS, 1L, "job");
+      insert(db, ZbColumnFamilies.KEY, 2L, "key");
+    }
+
+    // when
+    try (final var db = createFactory(false).createDb(path)) {
+      insert(db, ZbColumnFamilies.TIMER_DUE_DATES, 3L, "timer");
+    }
+
+    // then
+    try (final var options = new Options()) {
+      assertThat(ProfileColumnFamilies.listColumnFamilies(options, path.getAbsolutePath()))
+          .extracting(name -> new String(name, StandardCharsets.UTF_8))
+          .containsExactly("default");
+    }
+    try (final var db = createFactory(false).createDb(path)) {
+      assertThat(get(db, ZbColumnFamilies.JOBS, 1L)).isEqualTo("job");
+      assertThat(get(db, ZbColumnFamilies.KEY, 2L)).isEqualTo("key");
+      assertThat(get(db, ZbColumnFamilies.TIMER_DUE_DATES, 3L)).isEqualTo("timer");
+    }
+  }
+
+  @Test
+  void shouldKeepEntriesWhenReenablingProfiles(final @TempDir File path) throws Exception {
+    // given
+    try (final var db = createFactory(true).createDb(path)) {
+      insert(db, ZbColumnFamilies.JOBS, 1L, "job");
+    }
+    try (final var db = createFactory(false).createDb(path)) {
+      insert(db, ZbColumnFamilies.PROCESS_CACHE, 2L, "process");
+    }
+
+    // when
+    try (final var db = createFactory(true).createDb(path)) {
+      // then
+      assertThat(get(db, ZbColumnFamilies.JOBS, 1L)).isEqualTo("job");
+      assertThat(get(db, ZbColumnFamilies.PROCESS_CACHE, 2L)).isEqualTo("process");
+      assertThat(count(db, ZbColumnFamilies.JOBS)).isOne();
+    }
+  }
+
+  @Test
+  void shouldCopySnapshotOfAllColumnFamilies(final @TempDir File path, final @TempDir File tempDir)
+      throws Exception {
+    // given
+    final var factory = createFactory(true);
+    try (final var db = factory.createDb(path, false)) {
+      insert(db, ZbColumnFamilies.JOBS, 1L, "job");
+      insert(db, ZbColumnFamilies.KEY, 2L, "key");
+    }
+
+    // when
+    final var snapshotPath = new File(tempDir, "snapshot");
+    try (final var db = factory.openSnapshotOnlyDb(path)) {
+      db.createSnapshot(snapshotPath);
+    }
+
+    // then
+    try (final var db = factory.createDb(snapshotPath)) {
+      assertThat(get(db, ZbColumnFamilies.JOBS, 1L)).isEqualTo("job");
+      assertThat(get(db, ZbColumnFamilies.KEY, 2L)).isEqualTo("key");
+    }
+  }
+
+  private ZeebeRocksDbFactory<ZbColumnFamilies> createFactory(final boolean profilesEnabled) {
+    return new ZeebeRocksDbFactory<>(
+        new RocksDbConfiguration().setColumnFamilyProfilesEnabled(profilesEnabled),
+        new ConsistencyChecksSettings(),
+        new AccessMetricsConfiguration(Kind.NONE, 1),
+        SimpleMeterRegistry::new);
+  }
+
+  private void insert(
+      final ZeebeDb<ZbColumnFamilies> db,
+      final ZbColumnFamilies columnFamily,
+      final long keyValue,
+      final String valueString) {
+    final var column = db.createColumnFamily(columnFamily, db.createContext(), key, value);
+    key.wrapLong(keyValue);
+    value.wrapString(valueString);
+    column.insert(key, value);
+  }
+
+  private String get(
+      final ZeebeDb<ZbColumnFamilies> db, final ZbColumnFamilies columnFamily, final long keyValue) {
+    final var column = db.createColumnFamily(columnFamily, db.createContext(), key, value);
+    key.wrapLong(keyValue);
+    final var found = column.get(key);
+    return found == null ? null : found.toString();
+  }
+
+  private long count(final ZeebeDb<ZbColumnFamilies> db, final ZbColumnFamilies columnFamily) {
+    final var column = db.createColumnFamily(columnFamily, db.createContext(), key, value);
+    return column.count();
+  }
+}
@@ -0,0 +1,239 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.AccessMetricsConfiguration.Kind;
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.ColumnFamilyMetricsDoc;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DefaultColumnFamily;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class ColumnFamilyOverlayTest {
+
+  // an entry consists of the column family prefix and the key, and the value, each a long
+  private static final int ENTRY_SIZE = ColumnFamilyOverlay.ENTRY_OVERHEAD + 3 * Long.BYTES;
+  private static final int MAX_ENTRIES = 3;
+
+  @TempDir private Path path;
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private ZeebeTransactionDb<DefaultColumnFamily> db;
+  private TransactionContext context;
+  private ColumnFamily<DbLong, DbLong> columnFamily;
+  private final DbLong key = new DbLong();
+  private final DbLong value = new DbLong();
+
+  @BeforeEach
+  void beforeEach() {
+    final var configuration =
+        new RocksDbConfiguration()
+            .setOverlayColumnFamilies(Set.of(DefaultColumnFamily.DEFAULT.name()))
+            .setOverlayMaxSize(MAX_ENTRIES * ENTRY_SIZE);
+    final ZeebeRocksDbFactory<DefaultColumnFamily> factory =
+        new ZeebeRocksDbFactory<>(
+            configuration,
+            new ConsistencyChecksSettings(true, true),
+            new AccessMetricsConfiguration(Kind.FINE, 1),
+            () -> meterRegistry);
+    db = factory.createDb(path.toFile());
+    context = db.createContext();
+    columnFamily = db.createColumnFamily(DefaultColumnFamily.DEFAULT, context, key, value);
+  }
+
+  @AfterEach
+  void afterEach() {
+    db.close();
+  }
+
+  @Test
+  void shouldServeCommittedWritesFromOverlay() {
+    // given
+    upsert(columnFamily, 1, 10);
+
+    // when
+    final var result = get(columnFamily, 1);
+
+    // then
+    assertThat(result).hasValue(10L);
+    assertThat(overlayReads(ColumnFamilyMetricsDoc.OverlayResult.HIT)).isOne();
+    assertThat(overlayReads(ColumnFamilyMetricsDoc.OverlayResult.MISS)).isZero();
+  }
+
+  @Test
+  void shouldReadOwnUncommittedWrites() throws Exception {
+    // given
+    final var transaction = context.getCurrentTransaction();
+    upsert(columnFamily, 1, 10);
+
+    // when
+    final var result = get(columnFamily, 1);
+    transaction.commit();
+
+    // then
+    assertThat(result).hasValue(10L);
+    assertThat(overlayReads(ColumnFamilyMetricsDoc.OverlayResult.HIT)).isOne();
+  }
+
+  @Test
+  void shouldDropUncommittedWritesOnRollback() throws Exception {
+    // given
+    upsert(columnFamily, 1, 10);
+    final var transaction = context.getCurrentTransaction();
+    upsert(columnFamily, 1, 20);
+    delete(columnFamily, 1);
+    upsert(columnFamily, 2, 20);
+
+    // when
+    transaction.rollback();
+
+    // then
+    assertThat(get(columnFamily, 1)).hasValue(10L);
+    assertThat(get(columnFamily, 2)).isEmpty();
+  }
+
+  @Test
+  void shouldPublishCommittedWritesToOtherContexts() {
+    // given
+    final var otherColumnFamily =
+        db.createColumnFamily(
+            DefaultColumnFamily.DEFAULT, db.createContext(), new DbLong(), new DbLong());
+    upsert(columnFamily, 1, 10);
+    assertThat(get(otherColumnFamily, 1)).hasValue(10L);
+
+    // when
+    upsert(columnFamily, 1, 20);
+    upsert(columnFamily, 2, 30);
+    delete(columnFamily, 1);
+
+    // then
+    assertThat(get(otherColumnFamily, 1)).isEmpty();
+    assertThat(get(otherColumnFamily, 2)).hasValue(30L);
+  }
+
+  @Test
+  void shouldCacheAbsentKeys() {
+    // given
+    assertThat(get(columnFamily, 1)).isEmpty();
+
+    // when
+    final var result = get(columnFamily, 1);
+
+    // then
+    assertThat(result).isEmpty();
+    assertThat(overlayReads(ColumnFamilyMetricsDoc.OverlayResult.MISS)).isOne();
+    assertThat(overlayReads(ColumnFamilyMetricsDoc.OverlayResult.HIT)).isOne();
+  }
+
+  @Test
+  void shouldGetAllFromOverlayAndPopulateMissingKeys() {
+    // given
+    upsert(columnFamily, 1, 10);
+    final var otherColumnFamily =
+        db.createColumnFamily(
+            DefaultColumnFamily.DEFAULT, db.createContext(), new DbLong(), new DbLong());
+    final var first = new DbLong();
+    first.wrapLong(1);
+    final var second = new DbLong();
+    second.wrapLong(2);
+
+    // when
+    final List<Long> values = new ArrayList<>();
+    otherColumnFamily.getAll(
+        List.of(first, second),
+        (k, v) -> {
+          values.add(v.getValue());
+          return true;
+        });
+
+    // then
+    assertThat(values).containsExactly(10L);
+    assertThat(overlayReads(ColumnFamilyMetricsDoc.OverlayResult.HIT)).isOne();
+    assertThat(overlayReads(ColumnFamilyMetricsDoc.OverlayResult.MISS)).isOne();
+    assertThat(get(columnFamily, 2)).isEmpty();
+    assertThat(overlayReads(ColumnFamilyMetricsDoc.OverlayResult.HIT)).isEqualTo(2);
+  }
+
+  @Test
+  void shouldEvictLeastRecentlyUsedEntries() {
+    // given
+    for (int i = 1; i <= MAX_ENTRIES + 1; i++) {
+      upsert(columnFamily, i, i * 10);
+    }
+
+    // when
+    final var evicted = get(columnFamily, 1);
+    final var retained = get(columnFamily, MAX_ENTRIES + 1);
+
+    // then
+    assertThat(evicted).hasValue(10L);
+    assertThat(retained).hasValue((MAX_ENTRIES + 1) * 10L);
+    assertThat(overlayReads(ColumnFamilyMetricsDoc.OverlayResult.MISS)).isOne();
+    assertThat(overlayReads(ColumnFamilyMetricsDoc.OverlayResult.HIT)).isOne();
+  }
+
+  @Test
+  void shouldEvictAbsentKeysOnceMaxSizeIsExceeded() {
+    // given - absent keys have no value, but still count towards the max size
+    for (int i = 1; i <= MAX_ENTRIES + 1; i++) {
+      assertThat(get(columnFamily, i)).isEmpty();
+    }
+
+    // when
+    final var evicted = get(columnFamily, 1);
+
+    // then
+    assertThat(evicted).isEmpty();
+    assertThat(overlayReads(ColumnFamilyMetricsDoc.OverlayResult.MISS)).isEqualTo(MAX_ENTRIES + 2);
+    assertThat(overlayReads(ColumnFamilyMetricsDoc.OverlayResult.HIT)).isZero();
+  }
+
+  private void upsert(final ColumnFamily<DbLong, DbLong> columnFamily, final long k, final long v) {
+    key.wrapLong(k);
+    value.wrapLong(v);
+    columnFamily.upsert(key, value);
+  }
+
+  private void delete(final ColumnFamily<DbLong, DbLong> columnFamily, final long k) {
+    key.wrapLong(k);
+    columnFamily.deleteExisting(key);
+  }
+
+  private Optional<Long> get(final ColumnFamily<DbLong, DbLong> columnFamily, final long k) {
+    final var lookupKey = new DbLong();
+    lookupKey.wrapLong(k);
+    return Optional.ofNullable(columnFamily.get(lookupKey)).map(DbLong::getValue);
+  }
+
+  private double overlayReads(final ColumnFamilyMetricsDoc.OverlayResult result) {
+    final Counter counter =
+        meterRegistry
+            .find(ColumnFamilyMetricsDoc.OVERLAY_READS.getName())
+            .tag(
+                ColumnFamilyMetricsDoc.ColumnFamilyMetricsKeyName.OVERLAY_RESULT.asString(),
+                result.getName())
+            .counter();
+    return counter == null ? 0 : counter.count();
+  }
+}
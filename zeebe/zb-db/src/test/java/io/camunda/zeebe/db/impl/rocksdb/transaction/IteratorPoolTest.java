@@ -0,0 +1,120 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.ReadOptions;
+import org.rocksdb.RocksIterator;
+
+final class IteratorPoolTest {
+
+  private final IteratorPool pool = new IteratorPool();
+  private final ReadOptions options = mock(ReadOptions.class);
+  private final ColumnFamilyHandle handle = mock(ColumnFamilyHandle.class);
+  private final List<RocksIterator> createdIterators = new ArrayList<>();
+
+  @Test
+  void shouldReuseReleasedIterator() {
+    // given
+    final var first = pool.acquire(options, handle, this::newIterator);
+    first.close();
+
+    // when
+    final var second = pool.acquire(options, handle, this::newIterator);
+
+    // then
+    assertThat(second.iterator()).isSameAs(first.iterator());
+    assertThat(createdIterators).hasSize(1);
+    verify(first.iterator(), never()).close();
+  }
+
+  @Test
+  void shouldNotShareAcquiredIterators() {
+    // given
+    final var outer = pool.acquire(options, handle, this::newIterator);
+
+    // when
+    final var inner = pool.acquire(options, handle, this::newIterator);
+
+    // then
+    assertThat(inner.iterator()).isNotSameAs(outer.iterator());
+    assertThat(createdIterators).hasSize(2);
+  }
+
+  @Test
+  void shouldPoolIteratorsPerReadOptions() {
+    // given
+    final var otherOptions = mock(ReadOptions.class);
+    pool.acquire(options, handle, this::newIterator).close();
+
+    // when
+    final var iterator = pool.acquire(otherOptions, handle, this::newIterator);
+
+    // then
+    assertThat(iterator.iterator()).isNotSameAs(createdIterators.getFirst());
+    assertThat(createdIterators).hasSize(2);
+  }
+
+  @Test
+  void shouldPoolIteratorsPerColumnFamily() {
+    // given
+    final var otherHandle = mock(ColumnFamilyHandle.class);
+    pool.acquire(options, handle, this::newIterator).close();
+
+    // when
+    final var iterator = pool.acquire(options, otherHandle, this::newIterator);
+
+    // then
+    assertThat(iterator.iterator()).isNotSameAs(createdIterators.getFirst());
+    assertThat(createdIterators).hasSize(2);
+  }
+
+  @Test
+  void shouldCloseIdleIteratorsOnInvalidate() {
+    // given
+    final var first = pool.acquire(options, handle, this::newIterator);
+    first.close();
+
+    // when
+    pool.invalidate();
+    final var second = pool.acquire(options, handle, this::newIterator);
+
+    // then
+    verify(first.iterator()).close();
+    assertThat(second.iterator()).isNotSameAs(first.iterator());
+    assertThat(pool.idleCount()).isZero();
+  }
+
+  @Test
+  void shouldCloseAcquiredIteratorOnReleaseAfterInvalidate() {
+    // given
+    final var iterator = pool.acquire(options, handle, this::newIterator);
+
+    // when
+    pool.invalidate();
+    iterator.close();
+
+    // then
+    verify(iterator.iterator()).close();
+    assertThat(pool.idleCount()).isZero();
+  }
+
+  private RocksIterator newIterator(final ReadOptions options) {
+    final var iterator = mock(RocksIterator.class);
+    createdIterators.add(iterator);
+    return iterator;
+  }
+}
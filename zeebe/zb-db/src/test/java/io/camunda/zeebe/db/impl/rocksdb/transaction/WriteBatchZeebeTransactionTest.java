@@ -0,0 +1,199 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.AccessMetricsConfiguration.Kind;
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DefaultColumnFamily;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration.TransactionType;
+import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class WriteBatchZeebeTransactionTest {
+
+  @TempDir private Path path;
+  private ZeebeTransactionDb<DefaultColumnFamily> db;
+  private TransactionContext context;
+  private ColumnFamily<DbLong, DbLong> columnFamily;
+  private final DbLong key = new DbLong();
+  private final DbLong value = new DbLong();
+
+  @BeforeEach
+  void beforeEach() {
+    final ZeebeRocksDbFactory<DefaultColumnFamily> factory =
+        new ZeebeRocksDbFactory<>(
+            new RocksDbConfiguration().setTransactionType(TransactionType.WRITE_BATCH),
+            new ConsistencyChecksSettings(true, true),
+            new AccessMetricsConfiguration(Kind.NONE, 1),
+            SimpleMeterRegistry::new);
+    db = factory.createDb(path.toFile());
+    context = db.createContext();
+    columnFamily = db.createColumnFamily(DefaultColumnFamily.DEFAULT, context, key, value);
+  }
+
+  @AfterEach
+  void afterEach() {
+    db.close();
+  }
+
+  @Test
+  void shouldUseWriteBatchTransaction() {
+    // when
+    final var transaction = context.getCurrentTransaction();
+
+    // then
+    assertThat(transaction).isInstanceOf(WriteBatchZeebeTransaction.class);
+  }
+
+  @Test
+  void shouldReadOwnUncommittedWrites() throws Exception {
+    // given
+    upsert(1, 10);
+    final var transaction = context.getCurrentTransaction();
+    upsert(1, 20);
+    upsert(2, 30);
+    delete(1);
+
+    // when
+    final var deleted = get(columnFamily, 1);
+    final var written = get(columnFamily, 2);
+    transaction.commit();
+
+    // then
+    assertThat(deleted).isEmpty();
+    assertThat(written).hasValue(30L);
+  }
+
+  @Test
+  void shouldNotExposeUncommittedWritesToOtherContexts() throws Exception {
+    // given
+    final var otherColumnFamily =
+        db.createColumnFamily(
+            DefaultColumnFamily.DEFAULT, db.createContext(), new DbLong(), new DbLong());
+    final var transaction = context.getCurrentTransaction();
+    upsert(1, 10);
+    assertThat(get(otherColumnFamily, 1)).isEmpty();
+
+    // when
+    transaction.commit();
+
+    // then
+    assertThat(get(otherColumnFamily, 1)).hasValue(10L);
+  }
+
+  @Test
+  void shouldDiscardWritesOnRollback() throws Exception {
+    // given
+    upsert(1, 10);
+    final var transaction = context.getCurrentTransaction();
+    upsert(1, 20);
+    upsert(2, 30);
+
+    // when
+    transaction.rollback();
+
+    // then
+    assertThat(get(columnFamily, 1)).hasValue(10L);
+    assertThat(get(columnFamily, 2)).isEmpty();
+  }
+
+  @Test
+  void shouldDiscardWritesOfFailedOperation() {
+    // when
+    assertThatThrownBy(
+            () ->
+                context.runInTransaction(
+                    () -> {
+                      upsert(1, 10);
+                      throw new IllegalStateException("expected");
+                    }))
+        .isInstanceOf(IllegalStateException.class);
+
+    // then
+    assertThat(get(columnFamily, 1)).isEmpty();
+  }
+
+  @Test
+  void shouldGetAllCommittedAndUncommittedWrites() throws Exception {
+    // given
+    upsert(1, 10);
+    upsert(3, 30);
+    final var transaction = context.getCurrentTransaction();
+    upsert(2, 20);
+    delete(3);
+
+    // when
+    final List<Long> values = new ArrayList<>();
+    columnFamily.getAll(
+        List.of(newKey(1), newKey(2), newKey(3)),
+        (k, v) -> {
+          values.add(v.getValue());
+          return true;
+        });
+    transaction.rollback();
+
+    // then
+    assertThat(values).containsExactly(10L, 20L);
+  }
+
+  @Test
+  void shouldIterateOverCommittedAndUncommittedWrites() throws Exception {
+    // given
+    upsert(1, 10);
+    upsert(3, 30);
+    final var transaction = context.getCurrentTransaction();
+    upsert(2, 20);
+    delete(3);
+    upsert(4, 40);
+
+    // when
+    final List<Long> values = new ArrayList<>();
+    columnFamily.forEach(v -> values.add(v.getValue()));
+    transaction.rollback();
+
+    // then
+    assertThat(values).containsExactly(10L, 20L, 40L);
+  }
+
+  private void upsert(final long k, final long v) {
+    key.wrapLong(k);
+    value.wrapLong(v);
+    columnFamily.upsert(key, value);
+  }
+
+  private void delete(final long k) {
+    key.wrapLong(k);
+    columnFamily.deleteExisting(key);
+  }
+
+  private Optional<Long> get(final ColumnFamily<DbLong, DbLong> columnFamily, final long k) {
+    return Optional.ofNullable(columnFamily.get(newKey(k))).map(DbLong::getValue);
+  }
+
+  private DbLong newKey(final long k) {
+    final var lookupKey = new DbLong();
+    lookupKey.wrapLong(k);
+    return lookupKey;
+  }
+}